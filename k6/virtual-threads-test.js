@@ -0,0 +1,72 @@
+import http from 'k6/http';
+import { check, sleep, group } from 'k6';
+import { SharedArray } from 'k6/data';
+
+// 플랫폼 스레드와 가상 스레드 모드의 동시 접속 처리량 비교
+// 1) VIRTUAL_THREADS_ENABLED=false 로 서버 기동 후: k6 run -e MODE=platform k6/virtual-threads-test.js
+// 2) VIRTUAL_THREADS_ENABLED=true  로 서버 기동 후: k6 run -e MODE=virtual  k6/virtual-threads-test.js
+// 두 실행의 요약은 실행 디렉터리의 virtual-threads-<MODE>.json 에 저장되므로 http_req_duration p95/p99, http_req_failed, 처리량을 비교합니다.
+// 같은 Hikari 풀(50)과 데이터셋에서 실행해야 스레드 모델 차이만 비교됩니다.
+
+const tokens = new SharedArray('user tokens', function () {
+    return open('./tokens.csv').split('\n').map(t => t.trim()).filter(t => t.length > 0);
+});
+
+const MODE = __ENV.MODE || 'platform';
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/v1';
+
+export const options = {
+    stages: [
+        { duration: '1m', target: 500 },    // 1단계: 워밍업
+        { duration: '2m', target: 2000 },   // 2단계: 톰캣 스레드 상한(200)의 10배까지 램프업
+        { duration: '3m', target: 2500 },   // 3단계: 2500명 유지 (비교 구간)
+        { duration: '30s', target: 0 },     // 4단계: 서서히 종료
+    ],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        http_req_duration: ['p(95)<1000', 'p(99)<3000'],
+    },
+    summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+    tags: { mode: MODE },
+};
+
+export default function () {
+    const token = tokens[(__VU - 1) % tokens.length];
+    const params = {
+        headers: {
+            'Content-Type': 'application/json',
+            'Authorization': `Bearer ${token}`,
+        },
+        responseCallback: http.expectedStatuses({ min: 200, max: 499 }),
+    };
+    const productOptionId = (__VU % 10) + 1;
+
+    group('Blocking Reads', function () {
+        // MySQL 조회
+        const bidsRes = http.get(`${BASE_URL}/bids?productOptionId=${productOptionId}`, params);
+        check(bidsRes, { '옵션별 입찰 조회 성공': (r) => r.status === 200 });
+
+        const notifyRes = http.get(`${BASE_URL}/notification`, params);
+        check(notifyRes, { '알림 목록 조회 성공': (r) => r.status === 200 });
+    });
+
+    group('Bid Registration', function () {
+        // MySQL 쓰기 + Redis 대기열 + 매칭 샤드 제출
+        const type = (__VU % 2 === 0) ? 'BUY' : 'SELL';
+        const price = (Math.floor(Math.random() * 21) + 490) * 1000;
+        const regRes = http.post(`${BASE_URL}/bids`, JSON.stringify({ productOptionId, price, type }), params);
+        check(regRes, { '입찰 등록 응답': (r) => [200, 201, 400, 403, 408, 429].includes(r.status) });
+    });
+
+    sleep(1);
+}
+
+export function handleSummary(data) {
+    return {
+        [`virtual-threads-${MODE}.json`]: JSON.stringify(data, null, 2),
+        stdout: `\n[${MODE}] p95=${data.metrics.http_req_duration.values['p(95)'].toFixed(1)}ms `
+            + `p99=${data.metrics.http_req_duration.values['p(99)'].toFixed(1)}ms `
+            + `failed=${(data.metrics.http_req_failed.values.rate * 100).toFixed(2)}% `
+            + `rps=${data.metrics.http_reqs.values.rate.toFixed(1)}\n`,
+    };
+}
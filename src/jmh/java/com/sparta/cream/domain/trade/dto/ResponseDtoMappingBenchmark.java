@@ -0,0 +1,108 @@
+package com.sparta.cream.domain.trade.dto;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sparta.cream.domain.bid.dto.BidResponseDto;
+import com.sparta.cream.domain.bid.entity.Bid;
+import com.sparta.cream.domain.bid.entity.BidStatus;
+import com.sparta.cream.domain.bid.entity.BidType;
+import com.sparta.cream.domain.trade.entity.Trade;
+import com.sparta.cream.entity.Product;
+import com.sparta.cream.entity.ProductOption;
+import com.sparta.cream.entity.Users;
+
+/**
+ * 입찰/거래 조회 API의 엔티티 → 응답 DTO 변환 비용을 측정하는 벤치마크입니다.
+ * 연관 엔티티가 모두 적재된 상태를 가정하여 순수 매핑 비용만 측정합니다.
+ * ResponseDtoMappingBenchmark.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseDtoMappingBenchmark {
+
+	private Bid purchaseBid;
+	private Trade trade;
+	private Long buyerId;
+
+	@Setup
+	public void setUp() throws ReflectiveOperationException {
+		Product product = Product.builder()
+			.name("Nike Dunk Low Retro Black")
+			.modelNumber("DD1391-100")
+			.brandName("Nike")
+			.retailPrice(BigDecimal.valueOf(129_000L))
+			.build();
+		setId(product, 10L);
+
+		ProductOption option = ProductOption.builder().product(product).size("270").build();
+		setId(option, 100L);
+
+		Users buyer = new Users("buyer@test.com", "password", "buyer", "010-0000-0001");
+		Users seller = new Users("seller@test.com", "password", "seller", "010-0000-0002");
+		setId(buyer, 1L);
+		setId(seller, 2L);
+		buyerId = buyer.getId();
+
+		purchaseBid = Bid.builder()
+			.id(1_000L)
+			.user(buyer)
+			.productOption(option)
+			.price(250_000L)
+			.type(BidType.BUY)
+			.status(BidStatus.MATCHED)
+			.expiresAt(LocalDateTime.now().plusDays(7))
+			.build();
+		Bid saleBid = Bid.builder()
+			.id(1_001L)
+			.user(seller)
+			.productOption(option)
+			.price(250_000L)
+			.type(BidType.SELL)
+			.status(BidStatus.MATCHED)
+			.expiresAt(LocalDateTime.now().plusDays(7))
+			.build();
+
+		trade = new Trade(purchaseBid, saleBid, 250_000L);
+		setId(trade, 500L);
+	}
+
+	@Benchmark
+	public BidResponseDto bidResponseDto() {
+		return new BidResponseDto(purchaseBid);
+	}
+
+	@Benchmark
+	public TradeResponseDto tradeResponseDto() {
+		return TradeResponseDto.from(trade, buyerId);
+	}
+
+	/**
+	 * 식별자를 DB가 발급하는 엔티티에 테스트용 ID를 주입합니다.
+	 */
+	private static void setId(Object entity, Long id) throws ReflectiveOperationException {
+		Field field = entity.getClass().getDeclaredField("id");
+		field.setAccessible(true);
+		field.set(entity, id);
+	}
+}
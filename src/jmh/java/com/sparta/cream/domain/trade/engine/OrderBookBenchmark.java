@@ -0,0 +1,127 @@
+package com.sparta.cream.domain.trade.engine;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sparta.cream.domain.bid.entity.BidType;
+
+/**
+ * 인메모리 호가창({@link OrderBook})의 등록/체결/취소 비용을 호가창 깊이별로 측정하는 벤치마크입니다.
+ * 구매 입찰은 기준가 아래, 판매 입찰은 기준가 위의 1,000원 단위 호가에 분포시켜 교차하지 않는 호가창을 구성하며,
+ * 각 벤치마크는 측정 후 호가창 깊이가 그대로 유지되도록 변경을 되돌립니다.
+ * - bestOpposite: 신규 입찰의 최우선 상대 주문 조회
+ * - bestOppositeExcludingOwner: 자기 체결 방지를 위해 신규 입찰 소유자의 주문을 건너뛰는 최우선 상대 주문 조회
+ * - insertAndCancel: 새 입찰 등록 후 취소
+ * - matchBestAndRefill: 최우선 주문 체결 제거 후 같은 가격으로 재등록
+ * - cancelRandomAndRefill: 임의 주문 취소 후 재등록
+ * OrderBookBenchmark.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderBookBenchmark {
+
+	private static final long MID_PRICE = 250_000L;
+	private static final long TICK = 1_000L;
+	private static final int LEVELS_PER_SIDE = 200;
+	private static final int USERS = 10_000;
+
+	@Param({"10", "1000", "100000", "1000000"})
+	private int depth;
+
+	private OrderBook orderBook;
+	private long[] restingBidIds;
+	private long[] newOrderPrices;
+	private BidType[] newOrderTypes;
+	private long[] newOrderUserIds;
+	private long nextBidId;
+	private int cursor;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		SplittableRandom random = new SplittableRandom(42L);
+		SplittableRandom userRandom = new SplittableRandom(7L);
+		orderBook = new OrderBook(1L);
+		restingBidIds = new long[depth];
+		for (int i = 0; i < depth; i++) {
+			long bidId = i + 1L;
+			BidType type = (i % 2 == 0) ? BidType.BUY : BidType.SELL;
+			orderBook.add(new RestingOrder(bidId, randomPrice(random, type), type, randomUserId(userRandom)));
+			restingBidIds[i] = bidId;
+		}
+		nextBidId = depth + 1L;
+
+		newOrderPrices = new long[1024];
+		newOrderTypes = new BidType[1024];
+		newOrderUserIds = new long[1024];
+		for (int i = 0; i < newOrderPrices.length; i++) {
+			newOrderTypes[i] = (i % 2 == 0) ? BidType.BUY : BidType.SELL;
+			newOrderPrices[i] = randomPrice(random, newOrderTypes[i]);
+			newOrderUserIds[i] = randomUserId(userRandom);
+		}
+	}
+
+	@Benchmark
+	public RestingOrder bestOpposite() {
+		return orderBook.bestOpposite(newOrderTypes[next() & 1023]);
+	}
+
+	@Benchmark
+	public RestingOrder bestOppositeExcludingOwner() {
+		int index = next() & 1023;
+		return orderBook.bestOpposite(newOrderTypes[index], newOrderUserIds[index]);
+	}
+
+	@Benchmark
+	public RestingOrder insertAndCancel() {
+		int index = next() & 1023;
+		long bidId = nextBidId++;
+		orderBook.add(new RestingOrder(bidId, newOrderPrices[index], newOrderTypes[index], newOrderUserIds[index]));
+		return orderBook.remove(bidId);
+	}
+
+	@Benchmark
+	public boolean matchBestAndRefill() {
+		RestingOrder best = orderBook.bestOpposite(newOrderTypes[next() & 1023]);
+		orderBook.remove(best.bidId(), BookEventType.MATCH);
+		return orderBook.add(best);
+	}
+
+	@Benchmark
+	public boolean cancelRandomAndRefill() {
+		RestingOrder removed = orderBook.remove(restingBidIds[(int)((next() * 0x9E3779B1L) % depth)]);
+		return orderBook.add(removed);
+	}
+
+	private int next() {
+		return cursor++ & Integer.MAX_VALUE;
+	}
+
+	private static long randomUserId(SplittableRandom random) {
+		return random.nextInt(USERS) + 1L;
+	}
+
+	private static long randomPrice(SplittableRandom random, BidType type) {
+		long offset = (random.nextInt(LEVELS_PER_SIDE) + 1) * TICK;
+		return type == BidType.BUY ? MID_PRICE - offset : MID_PRICE + offset;
+	}
+}
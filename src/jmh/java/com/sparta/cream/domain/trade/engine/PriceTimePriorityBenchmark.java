@@ -0,0 +1,74 @@
+package com.sparta.cream.domain.trade.engine;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sparta.cream.domain.bid.entity.BidType;
+
+/**
+ * 가격-시간 우선순위 연산({@link PriceTimePriority})의 비용을 측정하는 벤치마크입니다.
+ * Redis ZSet 점수 변환, 호가창 정렬 비교, 체결 가능 여부 판단(기존 isMatchable)을 대상으로 하며,
+ * 상수 폴딩을 피하기 위해 미리 생성한 가격 배열을 순환하며 입력으로 사용합니다.
+ * PriceTimePriorityBenchmark.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceTimePriorityBenchmark {
+
+	private static final int SIZE = 1024;
+
+	private final long[] prices = new long[SIZE];
+	private final long[] otherPrices = new long[SIZE];
+	private final BidType[] types = new BidType[SIZE];
+	private int cursor;
+
+	@Setup
+	public void setUp() {
+		SplittableRandom random = new SplittableRandom(42L);
+		for (int i = 0; i < SIZE; i++) {
+			prices[i] = 1_000L * random.nextInt(50, 5_000);
+			otherPrices[i] = 1_000L * random.nextInt(50, 5_000);
+			types[i] = random.nextBoolean() ? BidType.BUY : BidType.SELL;
+		}
+	}
+
+	@Benchmark
+	public double redisScore() {
+		int index = next();
+		return PriceTimePriority.redisScore(types[index], prices[index]);
+	}
+
+	@Benchmark
+	public int comparePrice() {
+		int index = next();
+		return PriceTimePriority.comparePrice(types[index], prices[index], otherPrices[index]);
+	}
+
+	@Benchmark
+	public boolean crosses() {
+		int index = next();
+		return PriceTimePriority.crosses(types[index], prices[index], otherPrices[index]);
+	}
+
+	private int next() {
+		return cursor++ & (SIZE - 1);
+	}
+}
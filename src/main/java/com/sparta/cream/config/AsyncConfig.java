@@ -1,39 +1,161 @@
 package com.sparta.cream.config;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
-import java.util.concurrent.Executor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * 애플리케이션의 비동기 실행 설정을 담당하는 설정 클래스입니다.
- * 특히 TradeService의 매칭 로직이 사용자 응답 스레드와 분리되어
- * 별도의 스레드 풀에서 안전하게 실행되도록 관리합니다.
+ * 하나의 공유 스레드 풀 대신 작업 성격별로 크기와 거절 정책이 다른 전용 실행기를 둡니다.
+ * 한쪽 작업이 포화되어도 다른 작업의 스레드와 큐를 잠식하지 않도록 서로 격리합니다.
+ * - {@link #NOTIFICATION_EXECUTOR}: 알림 생성 팬아웃. 큐가 가득 차면 호출 스레드에서 실행하여 유실 없이 생산 속도를 늦춥니다.
+ * - {@link #OUTBOUND_IO_EXECUTOR}: Redis Pub/Sub 발행 등 외부 I/O. 큐가 가득 차면 호출 스레드에서 실행하여
+ *   실시간 푸시를 잃지 않고, 알림을 커밋한 스레드를 늦추는 배압으로 동작합니다.
+ * - {@link #ORDER_BOOK_RECOVERY_EXECUTOR}: 기동 직후 호가창 복원. 기동당 한 번만 실행되는 단일 스레드입니다.
+ * 매칭은 옵션별 단일 작성자 샤드인 {@code MatchingExecutor}에서 별도로 실행됩니다.
+ * 각 실행기의 큐 깊이와 활성 스레드 수는 {@code executor.queued}, {@code executor.active} 게이지로,
+ * 거절 건수는 {@code cream.executor.rejected} 카운터로 {@code name} 태그와 함께 노출됩니다.
+ * {@code spring.threads.virtual.enabled}가 켜지면 같은 크기와 거절 정책을 유지한 채 작업 스레드만 가상 스레드로 생성하므로,
+ * 블로킹 I/O 중에는 캐리어 스레드를 반납하면서도 큐 상한에 의한 배압은 그대로 동작합니다.
  * AsyncConfig.java
  *
  * @author kimsehyun
  * @since 2026. 02. 10.
  */
+@Slf4j
 @Configuration
 @EnableAsync
-public class AsyncConfig {
+@RequiredArgsConstructor
+public class AsyncConfig implements AsyncConfigurer {
+
+	public static final String NOTIFICATION_EXECUTOR = "notificationExecutor";
+	public static final String OUTBOUND_IO_EXECUTOR = "outboundIoExecutor";
+	public static final String ORDER_BOOK_RECOVERY_EXECUTOR = "orderBookRecoveryExecutor";
+
+	private final MeterRegistry meterRegistry;
+
+	@Value("${spring.threads.virtual.enabled:false}")
+	private boolean virtualThreads;
+
+	@Value("${async.notification.core-size:4}")
+	private int notificationCoreSize;
+
+	@Value("${async.notification.max-size:8}")
+	private int notificationMaxSize;
+
+	@Value("${async.notification.queue-capacity:1000}")
+	private int notificationQueueCapacity;
+
+	@Value("${async.outbound-io.core-size:8}")
+	private int outboundIoCoreSize;
+
+	@Value("${async.outbound-io.max-size:16}")
+	private int outboundIoMaxSize;
+
+	@Value("${async.outbound-io.queue-capacity:2000}")
+	private int outboundIoQueueCapacity;
+
+	/**
+	 * 알림 생성 팬아웃 전용 실행기를 생성합니다.
+	 * 큐가 가득 차면 이벤트를 발행한 스레드에서 직접 실행하여, 알림을 잃지 않고 발행 측을 늦추는 배압으로 동작합니다.
+	 * @return 알림 실행기
+	 */
+	@Bean(name = NOTIFICATION_EXECUTOR)
+	public ThreadPoolTaskExecutor notificationExecutor() {
+		return boundedExecutor("notification", "Notification-",
+			notificationCoreSize, notificationMaxSize, notificationQueueCapacity,
+			new ThreadPoolExecutor.CallerRunsPolicy());
+	}
+
+	/**
+	 * 외부 I/O(Redis Pub/Sub 발행 등) 전용 실행기를 생성합니다.
+	 * 외부 시스템이 느려져 큐가 가득 차면 넘친 작업은 호출 스레드에서 실행하여 푸시를 잃지 않습니다.
+	 * 발행은 알림 트랜잭션이 커밋된 뒤 그 트랜잭션을 커밋한 스레드에서 제출되므로, 배압이 걸리는 스레드는 다음과 같습니다.
+	 * - 아웃박스 릴레이 스레드(입찰, 체결, 결제 알림)
+	 * - 알림 실행기 스레드(거래 취소 알림)
+	 * - 알림 실행기까지 포화된 경우, 거래 취소 이벤트를 발행한 요청 스레드(알림 실행기의 호출 스레드 실행 정책)
+	 * 매칭 샤드는 알림을 만들지 않으므로 붙잡지 않습니다.
+	 * @return 외부 I/O 실행기
+	 */
+	@Bean(name = OUTBOUND_IO_EXECUTOR)
+	public ThreadPoolTaskExecutor outboundIoExecutor() {
+		return boundedExecutor("outbound-io", "OutboundIo-",
+			outboundIoCoreSize, outboundIoMaxSize, outboundIoQueueCapacity,
+			new ThreadPoolExecutor.CallerRunsPolicy());
+	}
 
 	/**
-	 * 비동기 작업 처리를 위한 ThreadPoolTaskExecutor를 생성합니다.
-	 * 입찰 및 체결 매칭 엔진이 고부하 상황에서도 안정적으로 동작하도록 자원을 할당합니다.
-	 *
-	 * @return 설정된 TaskExecutor 인스턴스
+	 * 기동 직후 호가창 복원 전용 실행기를 생성합니다.
+	 * 복원은 스냅샷 읽기와 저널 재생으로 오래 걸릴 수 있으므로, 공용 ForkJoinPool이나 다른 실행기의 스레드를 점유하지 않도록 분리합니다.
+	 * @return 호가창 복원 실행기
 	 */
-	@Bean(name = "taskExecutor")
-	public Executor taskExecutor() {
+	@Bean(name = ORDER_BOOK_RECOVERY_EXECUTOR)
+	public ThreadPoolTaskExecutor orderBookRecoveryExecutor() {
+		return boundedExecutor("order-book-recovery", "OrderBookRecovery-",
+			1, 1, 1,
+			new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	/**
+	 * 실행기를 지정하지 않은 {@code @Async}가 무제한 스레드를 만드는 기본 실행기로 떨어지지 않도록
+	 * 알림 실행기를 기본값으로 사용합니다.
+	 */
+	@Override
+	public Executor getAsyncExecutor() {
+		return notificationExecutor();
+	}
+
+	@Override
+	public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+		return (e, method, params) ->
+			log.error("비동기 작업 실패: {}, 사유: {}", method.getName(), e.getMessage(), e);
+	}
+
+	private ThreadPoolTaskExecutor boundedExecutor(
+		String name,
+		String threadNamePrefix,
+		int coreSize,
+		int maxSize,
+		int queueCapacity,
+		RejectedExecutionHandler rejectionPolicy
+	) {
+		Counter rejected = Counter.builder("cream.executor.rejected")
+			.description("큐가 가득 차 거절 정책으로 처리된 비동기 작업 수")
+			.tag("name", name)
+			.register(meterRegistry);
+
 		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-		executor.setCorePoolSize(50);
-		executor.setMaxPoolSize(100);
-		executor.setQueueCapacity(500);
-		executor.setThreadNamePrefix("Async-");
+		executor.setCorePoolSize(coreSize);
+		executor.setMaxPoolSize(maxSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix(threadNamePrefix);
+		if (virtualThreads) {
+			executor.setThreadFactory(Thread.ofVirtual().name(threadNamePrefix, 1).factory());
+		}
+		executor.setRejectedExecutionHandler((task, pool) -> {
+			rejected.increment();
+			rejectionPolicy.rejectedExecution(task, pool);
+		});
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(10);
 		executor.initialize();
+
+		new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), name, Tags.empty()).bindTo(meterRegistry);
 		return executor;
 	}
 }
@@ -20,6 +20,9 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sparta.cream.domain.market.stream.MarketDeltaMessage;
+import com.sparta.cream.domain.market.stream.MarketStreamPublisher;
+import com.sparta.cream.domain.market.stream.MarketStreamSubscriber;
 import com.sparta.cream.domain.notification.dto.NotificationResponseDto;
 
 /**
@@ -66,17 +69,21 @@ public class RedisConfig {
 	 * Redis 메시지 리스너 컨테이너 설정
 	 * Redis의 pup/sup 기능을 이용하여 notificationChannel로부터부터
 	 * 발생되는 메시지를 비동기적으로 수신하는 컨테이너를 관리합니다.
+	 * 상품별 실시간 시세 증분이 발행되는 marketChannel도 함께 구독합니다.
 	 * @param connectionFactory Redis 연결 팩토리
 	 * @param listenerAdapter 메시지를 처리할 리스터 어뎁터
+	 * @param marketStreamSubscriber 시세 증분 메시지를 처리할 리스너
 	 * @return RedisMessageListenerContainer 인스턴스
 	 */
 	@Bean
 	public RedisMessageListenerContainer redisMessageListenerContainer(
 		RedisConnectionFactory connectionFactory,
-		MessageListenerAdapter listenerAdapter) {
+		MessageListenerAdapter listenerAdapter,
+		MarketStreamSubscriber marketStreamSubscriber) {
 		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
 		container.setConnectionFactory(connectionFactory);
 		container.addMessageListener(listenerAdapter, new ChannelTopic("notificationChannel"));
+		container.addMessageListener(marketStreamSubscriber, new ChannelTopic(MarketStreamPublisher.CHANNEL));
 		return container;
 	}
 
@@ -124,6 +131,30 @@ public class RedisConfig {
 		return template;
 	}
 
+	/**
+	 * 시세 스트림 전용 RedisTemplate 설정
+	 * 상품별 시세 증분 메시지({@link MarketDeltaMessage})를 marketChannel로 발행/수신할 때 사용하는 템플릿입니다.
+	 * 알림 템플릿과 같은 이유로 메시지 타입에 특화된 {@link Jackson2JsonRedisSerializer}를 적용하였습니다.
+	 * @param connectionFactory Redis 연결 팩토리
+	 * @return MarketDeltaMessage 전용 RedisTemplate 인스턴스
+	 */
+	@Bean
+	public RedisTemplate<String, MarketDeltaMessage> marketRedisTemplate(
+		RedisConnectionFactory connectionFactory
+	) {
+		RedisTemplate<String, MarketDeltaMessage> template = new RedisTemplate<>();
+		template.setConnectionFactory(connectionFactory);
+
+		Jackson2JsonRedisSerializer<MarketDeltaMessage> serializer =
+			new Jackson2JsonRedisSerializer<>(new ObjectMapper(), MarketDeltaMessage.class);
+
+		template.setKeySerializer(new StringRedisSerializer());
+		template.setValueSerializer(serializer);
+		template.afterPropertiesSet();
+
+		return template;
+	}
+
 	/**
 	 * Redis 연결 팩토리 Bean 등록
 	 * 호스트, 포트, 비밀번호를 설정하여 Redis에 연결합니다.
@@ -8,8 +8,10 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import com.sparta.cream.idempotency.IdempotencyFilter;
 import com.sparta.cream.jwt.JwtProperties;
 import com.sparta.cream.jwt.JwtTokenProvider;
 import com.sparta.cream.security.JwtAuthenticationFilter;
@@ -60,6 +62,7 @@ public class SecurityConfig {
 	public SecurityFilterChain filterChain(
 			HttpSecurity http,
 			JwtAuthenticationFilter jwtAuthenticationFilter,
+			IdempotencyFilter idempotencyFilter,
 			SecurityErrorHandlers securityErrorHandlers) throws Exception {
 		http
 				.cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -81,6 +84,7 @@ public class SecurityConfig {
 						.anyRequest().authenticated());
 
 		http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+		http.addFilterAfter(idempotencyFilter, AuthorizationFilter.class);
 
 		return http.build();
 	}
@@ -16,6 +16,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.sparta.cream.domain.bid.dto.BidBatchRequestDto;
+import com.sparta.cream.domain.bid.dto.BidBatchResponseDto;
 import com.sparta.cream.domain.bid.dto.BidCancelResponseDto;
 import com.sparta.cream.domain.bid.dto.BidRequestDto;
 import com.sparta.cream.domain.bid.dto.BidResponseDto;
@@ -62,6 +64,24 @@ public class BidController {
 		return ResponseEntity.ok(response);
 	}
 
+	/**
+	 * 여러 입찰을 한 번에 등록합니다.
+	 * 페널티 검증과 저장, 매칭 예약을 요청 단위로 한 번씩만 수행하며,
+	 * 존재하지 않는 상품 옵션 등 항목별 실패는 요청 순서(index)와 함께 결과에 담아 반환합니다.
+	 * @param requestDto 입찰 요청 목록 (최대 50건)
+	 * @return 항목별 등록 결과를 담은 응답 DTO
+	 */
+	@PostMapping("/batch")
+	public ResponseEntity<BidBatchResponseDto> createBids(
+		@AuthenticationPrincipal CustomUserDetails userDetails,
+		@Valid @RequestBody BidBatchRequestDto requestDto) {
+
+		Long userId = userDetails.getId();
+		BidBatchResponseDto response = bidLockFacade.createBidsWithLock(userId, requestDto.getBids());
+
+		return ResponseEntity.ok(response);
+	}
+
 	/**
 	 * 현재 로그인한 사용자의 압찰 내역 목록을 조회합니다.
 	 * @return 사용자의 입찰 정보 목록
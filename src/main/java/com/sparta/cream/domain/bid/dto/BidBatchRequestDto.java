@@ -0,0 +1,31 @@
+package com.sparta.cream.domain.bid.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 입찰 일괄 등록 요청을 위한 DTO 클래스입니다.
+ * 여러 사이즈를 한 번에 등록하는 판매자를 위해 입찰 요청 목록을 한 요청으로 전달합니다.
+ * 각 항목은 단건 등록과 같은 {@link BidRequestDto} 검증 규칙을 따릅니다.
+ * BidBatchRequestDto.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BidBatchRequestDto {
+
+	public static final int MAX_BATCH_SIZE = 50;
+
+	@NotEmpty(message = "입찰 목록은 비어 있을 수 없습니다.")
+	@Size(max = MAX_BATCH_SIZE, message = "한 번에 등록할 수 있는 입찰은 최대 50건입니다.")
+	private List<@Valid BidRequestDto> bids;
+}
@@ -0,0 +1,55 @@
+package com.sparta.cream.domain.bid.dto;
+
+import java.util.List;
+
+import com.sparta.cream.exception.BaseCode;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 입찰 일괄 등록 결과 응답 DTO 클래스입니다.
+ * 요청 순서(index)대로 항목별 성공 여부와 등록된 입찰 정보 또는 실패 사유를 함께 반환합니다.
+ * BidBatchResponseDto.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Getter
+@AllArgsConstructor
+public class BidBatchResponseDto {
+	private int requested;
+	private int succeeded;
+	private List<Item> results;
+
+	/**
+	 * 항목별 결과 목록으로 응답을 생성합니다.
+	 * @param results 요청 순서대로 정렬된 항목별 결과
+	 * @return 일괄 등록 응답 DTO
+	 */
+	public static BidBatchResponseDto of(List<Item> results) {
+		int succeeded = (int)results.stream().filter(Item::isSuccess).count();
+		return new BidBatchResponseDto(results.size(), succeeded, results);
+	}
+
+	/**
+	 * 요청 항목 하나의 처리 결과를 담는 내부 DTO
+	 */
+	@Getter
+	@AllArgsConstructor
+	public static class Item {
+		private int index;
+		private boolean success;
+		private BidResponseDto bid;
+		private String errorCode;
+		private String message;
+
+		public static Item success(int index, BidResponseDto bid) {
+			return new Item(index, true, bid, null, null);
+		}
+
+		public static Item failure(int index, BaseCode errorCode) {
+			return new Item(index, false, null, errorCode.toString(), errorCode.getMessage());
+		}
+	}
+}
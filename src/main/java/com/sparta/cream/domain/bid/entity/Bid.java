@@ -106,6 +106,16 @@ public class Bid extends BaseEntity {
 		this.type = type;
 	}
 
+	/**
+	 * 상품 옵션과 타입은 그대로 두고 입찰 가격만 정정합니다.
+	 * 같은 가격이면 값이 바뀌지 않으므로 변경 감지에 의한 UPDATE도 발생하지 않습니다.
+	 * @param price 정정 후 입찰 가격
+	 */
+	public void amendPrice(Long price) {
+		validatePending();
+		this.price = price;
+	}
+
 	/**
 	 * 입찰을 취소 상태로 변경합니다.
 	 * 다음 조건을 만족하는 경우에만 취소가 가능합니다/
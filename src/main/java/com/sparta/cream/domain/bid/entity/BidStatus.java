@@ -16,7 +16,8 @@ public enum BidStatus {
 	PENDING("대기 중"),
 	MATCHED("체결 완료"),
 	CANCELED("취소됨"),
-	ADMIN_CANCELED("관리자 권한으로 취소됨");
+	ADMIN_CANCELED("관리자 권한으로 취소됨"),
+	EXPIRED("기간 만료");
 
 	private final String description;
 }
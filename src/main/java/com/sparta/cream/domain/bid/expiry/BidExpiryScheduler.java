@@ -0,0 +1,156 @@
+package com.sparta.cream.domain.bid.expiry;
+
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.sparta.cream.domain.bid.repository.BidRepository;
+import com.sparta.cream.domain.bid.service.BidExpiryService;
+
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+
+/**
+ * 입찰의 만료 시각({@code Bid.expiresAt})을 관리하고 주기적으로 만료 처리를 실행하는 스케줄러입니다.
+ * 만료 예정 입찰은 {@link HashedTimingWheel}에 보관되어 등록/취소가 O(1)로 처리되며,
+ * 매 틱마다 경과한 슬롯만 확인하므로 전체 대기 입찰을 스캔하지 않습니다.
+ * 1. 기동 시: bids 테이블로부터 휠을 재구성합니다.
+ * 2. 매 틱: 마지막으로 적재한 입찰 ID 이후의 입찰을 추가로 적재하여,
+ *    다른 서버 노드에서 등록된 입찰도 휠에 반영합니다.
+ * 3. 만료된 입찰은 {@link BidExpiryService}를 통해 일괄 만료 처리합니다.
+ * 틱 실행은 ShedLock으로 보호되어 클러스터에서 한 노드만 만료 처리를 수행하며,
+ * 만료 UPDATE는 대기 상태 조건을 포함하므로 노드 간 휠 내용이 달라도 중복 처리되지 않습니다.
+ * BidExpiryScheduler.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Slf4j
+@Component
+public class BidExpiryScheduler {
+
+	private static final int REFILL_PAGE_SIZE = 1000;
+
+	/**
+	 * IDENTITY 키는 발급 순서와 커밋 순서가 다를 수 있으므로,
+	 * 커서 직전 구간을 겹쳐 다시 조회하여 늦게 커밋된 입찰이 누락되지 않도록 합니다.
+	 */
+	private static final long REFILL_OVERLAP = 100L;
+
+	private final BidRepository bidRepository;
+	private final BidExpiryService bidExpiryService;
+	private final HashedTimingWheel<ExpiringBid> wheel;
+
+	/**
+	 * 기동 시 재구성과 틱 실행의 적재가 겹치지 않도록 보호합니다.
+	 * 적재 중 DB 조회가 있으므로 가상 스레드 모드에서 캐리어 스레드를 점유하지 않도록 모니터 대신 사용합니다.
+	 */
+	private final ReentrantLock refillLock = new ReentrantLock();
+	private long lastLoadedBidId = 0L;
+
+	public BidExpiryScheduler(
+		BidRepository bidRepository,
+		BidExpiryService bidExpiryService,
+		@Value("${bid.expiry.wheel-size:512}") int wheelSize,
+		@Value("${bid.expiry.tick-ms:60000}") long tickMillis
+	) {
+		this.bidRepository = bidRepository;
+		this.bidExpiryService = bidExpiryService;
+		this.wheel = new HashedTimingWheel<>(wheelSize, tickMillis, System.currentTimeMillis());
+	}
+
+	/**
+	 * 애플리케이션 기동 직후 bids 테이블로부터 타이밍 휠을 재구성합니다.
+	 * 이미 만료 시각이 지난 대기 입찰은 다음 틱에 바로 만료됩니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		try {
+			int loaded = refill();
+			log.info("입찰 만료 휠 재구성 완료: {}건", loaded);
+		} catch (Exception e) {
+			log.error("입찰 만료 휠 재구성 실패: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 휠을 현재 시각까지 진행하고 만료된 입찰을 일괄 만료 처리합니다.
+	 * 처리에 실패한 입찰은 휠에 다시 등록되어 다음 틱에 재시도됩니다.
+	 */
+	@Scheduled(fixedDelayString = "${bid.expiry.tick-ms:60000}", initialDelayString = "${bid.expiry.tick-ms:60000}")
+	@SchedulerLock(
+		name = "bid_expiry_lock",
+		lockAtLeastFor = "10s",
+		lockAtMostFor = "5m"
+	)
+	public void expireDueBids() {
+		refill();
+
+		List<ExpiringBid> dueBids = wheel.advance(System.currentTimeMillis());
+		if (dueBids.isEmpty()) {
+			return;
+		}
+
+		try {
+			int expired = bidExpiryService.expire(dueBids);
+			log.info("입찰 만료 처리 완료: 대상 {}건, 만료 {}건", dueBids.size(), expired);
+		} catch (Exception e) {
+			log.error("입찰 만료 처리 실패, 다음 틱에 재시도합니다: {}", e.getMessage());
+			dueBids.forEach(this::schedule);
+		}
+	}
+
+	/**
+	 * 체결 취소로 다시 대기 상태가 된 입찰을 휠에 등록합니다.
+	 * 적재 커서보다 앞선 ID라 주기적인 적재로는 다시 읽히지 않으므로, 복원한 노드가 직접 등록하며
+	 * 다른 노드의 휠에는 재기동 시 재구성으로 반영됩니다.
+	 * @param bid 대기 상태로 복원된 입찰
+	 */
+	public void register(ExpiringBid bid) {
+		schedule(bid);
+	}
+
+	/**
+	 * 취소된 입찰을 휠에서 제거합니다.
+	 * @param bidId 입찰 ID
+	 */
+	public void cancel(Long bidId) {
+		wheel.cancel(bidId);
+	}
+
+	private int refill() {
+		refillLock.lock();
+		try {
+			int loaded = 0;
+			long cursor = Math.max(0L, lastLoadedBidId - REFILL_OVERLAP);
+			while (true) {
+				List<ExpiringBid> page = bidRepository.findExpiryCandidatesAfter(
+					cursor, PageRequest.of(0, REFILL_PAGE_SIZE));
+				page.forEach(this::schedule);
+				loaded += page.size();
+
+				if (!page.isEmpty()) {
+					cursor = page.get(page.size() - 1).bidId();
+					lastLoadedBidId = Math.max(lastLoadedBidId, cursor);
+				}
+				if (page.size() < REFILL_PAGE_SIZE) {
+					return loaded;
+				}
+			}
+		} finally {
+			refillLock.unlock();
+		}
+	}
+
+	private void schedule(ExpiringBid bid) {
+		long deadline = bid.expiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+		wheel.schedule(bid.bidId(), deadline, bid);
+	}
+}
@@ -0,0 +1,22 @@
+package com.sparta.cream.domain.bid.expiry;
+
+import java.time.LocalDateTime;
+
+import com.sparta.cream.domain.bid.entity.BidType;
+
+/**
+ * 만료 대상 입찰을 타이밍 휠에 보관하기 위한 최소 정보입니다.
+ * 만료 처리 시 엔티티 조회 없이 호가창과 Redis 대기열을 정리할 수 있도록
+ * 상품 옵션 ID와 입찰 타입을 함께 보관합니다.
+ * ExpiringBid.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+public record ExpiringBid(
+	Long bidId,
+	Long productOptionId,
+	BidType type,
+	LocalDateTime expiresAt
+) {
+}
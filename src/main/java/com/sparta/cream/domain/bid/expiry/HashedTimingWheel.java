@@ -0,0 +1,111 @@
+package com.sparta.cream.domain.bid.expiry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 만료 시각이 정해진 항목을 관리하는 해시드 타이밍 휠(Hashed Timing Wheel)입니다.
+ * 고정 개수의 슬롯을 원형으로 두고, 각 항목은 만료 틱을 슬롯 수로 나눈 나머지 슬롯에 보관됩니다.
+ * 휠 한 바퀴보다 먼 만료 시각은 같은 슬롯에 함께 보관되며, 해당 슬롯을 지날 때 만료 틱을 비교하여 걸러냅니다.
+ * - 등록/취소: 슬롯과 ID 인덱스에 대한 해시 연산만 수행하므로 O(1)
+ * - 진행: 경과한 틱의 슬롯만 순회하므로 전체 항목 수가 아닌 해당 슬롯의 항목 수에 비례
+ * 만료 시각이 이미 지난 항목은 다음 진행 시 바로 만료되도록 현재 틱에 배치됩니다.
+ * HashedTimingWheel.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+public class HashedTimingWheel<T> {
+
+	private final long tickMillis;
+	private final List<Map<Long, Entry<T>>> slots;
+	private final Map<Long, Entry<T>> index = new HashMap<>();
+	private long currentTick;
+
+	/**
+	 * @param wheelSize 슬롯 개수
+	 * @param tickMillis 슬롯 하나가 담당하는 시간(밀리초)
+	 * @param startMillis 휠의 시작 시각(밀리초)
+	 */
+	public HashedTimingWheel(int wheelSize, long tickMillis, long startMillis) {
+		this.tickMillis = tickMillis;
+		this.slots = new ArrayList<>(wheelSize);
+		for (int i = 0; i < wheelSize; i++) {
+			slots.add(new LinkedHashMap<>());
+		}
+		this.currentTick = startMillis / tickMillis;
+	}
+
+	/**
+	 * 항목을 만료 시각에 맞춰 등록합니다. 같은 ID가 이미 있으면 새 만료 시각으로 교체합니다.
+	 * @param id 항목 ID
+	 * @param deadlineMillis 만료 시각(밀리초)
+	 * @param value 만료 시 반환할 값
+	 */
+	public synchronized void schedule(long id, long deadlineMillis, T value) {
+		cancel(id);
+		long deadlineTick = Math.max(deadlineMillis / tickMillis, currentTick);
+		int slot = slotOf(deadlineTick);
+		Entry<T> entry = new Entry<>(deadlineTick, slot, value);
+		slots.get(slot).put(id, entry);
+		index.put(id, entry);
+	}
+
+	/**
+	 * 등록된 항목을 취소합니다.
+	 * @param id 항목 ID
+	 * @return 취소된 항목이 있으면 true
+	 */
+	public synchronized boolean cancel(long id) {
+		Entry<T> entry = index.remove(id);
+		if (entry == null) {
+			return false;
+		}
+		slots.get(entry.slot()).remove(id);
+		return true;
+	}
+
+	/**
+	 * 휠을 지정한 시각까지 진행하고, 그 사이 만료된 항목을 반환합니다.
+	 * 진행 간격이 휠 한 바퀴보다 길면 모든 슬롯을 한 번씩만 확인합니다.
+	 * @param nowMillis 현재 시각(밀리초)
+	 * @return 만료된 항목의 값 목록 (만료 틱 순서)
+	 */
+	public synchronized List<T> advance(long nowMillis) {
+		long nowTick = nowMillis / tickMillis;
+		List<T> expired = new ArrayList<>();
+		if (nowTick < currentTick) {
+			return expired;
+		}
+
+		long lastTick = Math.min(nowTick, currentTick + slots.size() - 1);
+		for (long tick = currentTick; tick <= lastTick; tick++) {
+			Iterator<Map.Entry<Long, Entry<T>>> iterator = slots.get(slotOf(tick)).entrySet().iterator();
+			while (iterator.hasNext()) {
+				Map.Entry<Long, Entry<T>> slotEntry = iterator.next();
+				if (slotEntry.getValue().deadlineTick() <= nowTick) {
+					iterator.remove();
+					index.remove(slotEntry.getKey());
+					expired.add(slotEntry.getValue().value());
+				}
+			}
+		}
+		currentTick = nowTick + 1;
+		return expired;
+	}
+
+	public synchronized int size() {
+		return index.size();
+	}
+
+	private int slotOf(long tick) {
+		return (int)Math.floorMod(tick, (long)slots.size());
+	}
+
+	private record Entry<T>(long deadlineTick, int slot, T value) {
+	}
+}
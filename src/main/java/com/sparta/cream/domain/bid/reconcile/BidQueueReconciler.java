@@ -0,0 +1,327 @@
+package com.sparta.cream.domain.bid.reconcile;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.redisson.api.BatchResult;
+import org.redisson.api.RBatch;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.sparta.cream.domain.bid.entity.BidStatus;
+import com.sparta.cream.domain.bid.repository.BidRepository;
+import com.sparta.cream.domain.trade.engine.BookDrift;
+import com.sparta.cream.domain.trade.engine.MatchingExecutor;
+import com.sparta.cream.domain.trade.engine.OrderBookRegistry;
+import com.sparta.cream.domain.trade.service.MatchingService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+
+/**
+ * 매칭 호가창과 Redis 입찰 대기열(ZSet)을 bids 테이블의 대기 입찰과 주기적으로 대조하여 어긋난 항목을 복구하는 작업입니다.
+ * 매칭은 각 노드의 인메모리 호가창({@link OrderBookRegistry})만 읽으며,
+ * Redis 대기열은 매칭 경로에서 읽지 않고 기록만 하는 보조 구조(외부 조회, 재시작 진단용)입니다.
+ * 따라서 매칭 정확성에 영향을 주는 불일치는 호가창 쪽이며, 호가창 대조는 노드마다 별도로 수행합니다.
+ * 0. 호가창: 적재된 각 호가창을 해당 옵션의 매칭 샤드에서 DB 대기 입찰과 대조하여 누락된 주문은 등록하고,
+ *    더 이상 대기 상태가 아닌 주문은 제거하며, 가격이 다르면 정정한 뒤 교차된 호가를 정리합니다.
+ * 1. DB → Redis: 대기 입찰을 (상품 옵션 ID, 입찰 ID) 키셋 커서로 배치 크기만큼 읽고,
+ *    대기열 키별로 묶어 한 번의 배치(ZMSCORE 파이프라인)로 점수를 조회합니다. 누락되었거나 점수가 다른 입찰은 다시 추가합니다.
+ * 2. Redis → DB: 대기열 키를 SCAN으로, 각 대기열의 멤버를 ZSCAN으로 배치 크기만큼 읽어
+ *    더 이상 대기 상태가 아니거나 다른 대기열에 속한 입찰을 제거합니다.
+ * 3. 복구는 해당 상품 옵션의 매칭 샤드에서 DB 상태를 다시 확인한 뒤 수행하므로 같은 옵션의 매칭, 입찰 수정과 겹치지 않습니다.
+ * 두 방향 모두 배치 크기만큼만 메모리에 올리므로 전체 입찰 수와 관계없이 사용 메모리가 일정하며,
+ * 어긋난 건수는 {@code cream.bid.reconcile.drift} 지표로 기록됩니다.
+ * Redis 대기열 대조는 공유 저장소를 다루므로 ShedLock으로 보호되어 클러스터에서 한 노드만 수행하고,
+ * 호가창은 노드별 메모리에 있으므로 잠금 없이 모든 노드가 각자 수행합니다.
+ * BidQueueReconciler.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Slf4j
+@Component
+public class BidQueueReconciler {
+
+	private static final String BUY_KEY_PREFIX = "bids:buy:";
+	private static final String SELL_KEY_PREFIX = "bids:sell:";
+
+	/**
+	 * 입찰 등록은 커밋 전에 대기열에 먼저 추가되고 IDENTITY 키는 발급 순서와 커밋 순서가 다를 수 있으므로,
+	 * 실행 시점의 최대 입찰 ID 직전 구간은 제거 대상에서 제외하여 아직 커밋되지 않은 입찰을 지우지 않도록 합니다.
+	 */
+	private static final long RECENT_BID_MARGIN = 100L;
+
+	private final BidRepository bidRepository;
+	private final RedissonClient redissonClient;
+	private final MatchingExecutor matchingExecutor;
+	private final MatchingService matchingService;
+	private final OrderBookRegistry orderBookRegistry;
+	private final int batchSize;
+	private final Counter bookMissingDrift;
+	private final Counter bookStaleDrift;
+	private final Counter bookPriceDrift;
+	private final Counter missingDrift;
+	private final Counter scoreDrift;
+	private final Counter staleDrift;
+	private final Counter restored;
+	private final Counter removed;
+	private final Timer duration;
+
+	public BidQueueReconciler(
+		BidRepository bidRepository,
+		RedissonClient redissonClient,
+		MatchingExecutor matchingExecutor,
+		MatchingService matchingService,
+		OrderBookRegistry orderBookRegistry,
+		MeterRegistry meterRegistry,
+		@Value("${bid.reconcile.batch-size:500}") int batchSize
+	) {
+		this.bidRepository = bidRepository;
+		this.redissonClient = redissonClient;
+		this.matchingExecutor = matchingExecutor;
+		this.matchingService = matchingService;
+		this.orderBookRegistry = orderBookRegistry;
+		this.batchSize = batchSize;
+		this.bookMissingDrift = drift(meterRegistry, "book_missing", "대기 상태지만 호가창에 없던 입찰 수");
+		this.bookStaleDrift = drift(meterRegistry, "book_stale", "대기 상태가 아니지만 호가창에 남아 있던 주문 수");
+		this.bookPriceDrift = drift(meterRegistry, "book_price", "호가창의 가격이 입찰가와 달랐던 주문 수");
+		this.missingDrift = drift(meterRegistry, "missing", "대기 상태지만 Redis 대기열에 없던 입찰 수");
+		this.scoreDrift = drift(meterRegistry, "score", "Redis 대기열의 점수가 입찰가와 달랐던 입찰 수");
+		this.staleDrift = drift(meterRegistry, "stale", "대기 상태가 아니지만 Redis 대기열에 남아 있던 입찰 수");
+		this.restored = repaired(meterRegistry, "restored", "Redis 대기열에 다시 추가하거나 점수를 바로잡은 입찰 수");
+		this.removed = repaired(meterRegistry, "removed", "Redis 대기열에서 제거한 입찰 수");
+		this.duration = Timer.builder("cream.bid.reconcile.duration")
+			.description("Redis 대기열 정합성 검사 한 회의 소요 시간")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 이 노드에 적재된 호가창을 bids 테이블의 대기 입찰과 대조하여 복구합니다.
+	 * 호가창은 노드별 메모리에 있으므로 ShedLock 없이 모든 노드에서 실행되며,
+	 * 대조와 보정은 옵션의 매칭 샤드에서 수행되어 같은 옵션의 매칭과 겹치지 않습니다.
+	 * 실패한 상품 옵션은 다음 실행에서 다시 대조됩니다.
+	 */
+	@Scheduled(fixedDelayString = "${bid.reconcile.interval-ms:300000}", initialDelayString = "${bid.reconcile.interval-ms:300000}")
+	public void reconcileOrderBooks() {
+		for (Long productOptionId : orderBookRegistry.loadedProductOptionIds()) {
+			try {
+				BookDrift drift = matchingExecutor.submit(productOptionId,
+					() -> matchingService.reconcile(productOptionId)).join();
+				bookMissingDrift.increment(drift.missing());
+				bookStaleDrift.increment(drift.stale());
+				bookPriceDrift.increment(drift.repriced());
+			} catch (CompletionException e) {
+				log.error("호가창 정합성 복구 실패: 상품 옵션 {}, {}", productOptionId, e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Redis 대기열과 bids 테이블을 대조하여 양방향으로 복구합니다.
+	 * 실패한 상품 옵션은 다음 실행에서 다시 대조됩니다.
+	 */
+	@Scheduled(fixedDelayString = "${bid.reconcile.interval-ms:300000}", initialDelayString = "${bid.reconcile.interval-ms:300000}")
+	@SchedulerLock(
+		name = "bid_reconcile_lock",
+		lockAtLeastFor = "10s",
+		lockAtMostFor = "30m"
+	)
+	public void reconcile() {
+		long startedAt = System.nanoTime();
+		try {
+			long watermark = bidRepository.findMaxId().orElse(0L) - RECENT_BID_MARGIN;
+			int restoredCount = restoreMissing();
+			int removedCount = removeStale(BUY_KEY_PREFIX, watermark) + removeStale(SELL_KEY_PREFIX, watermark);
+			if (restoredCount > 0 || removedCount > 0) {
+				log.warn("입찰 대기열 정합성 복구: 추가/갱신 {}건, 제거 {}건", restoredCount, removedCount);
+			}
+		} catch (Exception e) {
+			log.error("입찰 대기열 정합성 검사 실패: {}", e.getMessage());
+		} finally {
+			duration.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/**
+	 * 대기 입찰을 키셋 커서로 끝까지 읽으며 Redis 대기열에 없거나 점수가 다른 입찰을 다시 추가합니다.
+	 * @return 복구한 입찰 수
+	 */
+	private int restoreMissing() {
+		int restoredCount = 0;
+		long optionCursor = 0L;
+		long bidCursor = 0L;
+		while (true) {
+			List<QueuedBid> page = bidRepository.findPendingQueuedAfter(
+				optionCursor, bidCursor, PageRequest.of(0, batchSize));
+			if (page.isEmpty()) {
+				return restoredCount;
+			}
+			restoredCount += restoreMissing(page);
+
+			QueuedBid last = page.get(page.size() - 1);
+			optionCursor = last.productOptionId();
+			bidCursor = last.bidId();
+			if (page.size() < batchSize) {
+				return restoredCount;
+			}
+		}
+	}
+
+	private int restoreMissing(List<QueuedBid> page) {
+		Map<String, List<QueuedBid>> bidsByKey = page.stream()
+			.collect(Collectors.groupingBy(QueuedBid::zSetKey, LinkedHashMap::new, Collectors.toList()));
+
+		RBatch batch = redissonClient.createBatch();
+		bidsByKey.forEach((key, bids) ->
+			batch.<Long>getScoredSortedSet(key).getScoreAsync(bids.stream().map(QueuedBid::bidId).toList()));
+		BatchResult<?> result = batch.execute();
+
+		Map<Long, List<Long>> driftedByOption = new LinkedHashMap<>();
+		int index = 0;
+		for (List<QueuedBid> bids : bidsByKey.values()) {
+			List<?> scores = (List<?>)result.getResponses().get(index++);
+			for (int i = 0; i < bids.size(); i++) {
+				QueuedBid bid = bids.get(i);
+				Double score = (Double)scores.get(i);
+				if (score != null && score == bid.score()) {
+					continue;
+				}
+				(score == null ? missingDrift : scoreDrift).increment();
+				driftedByOption.computeIfAbsent(bid.productOptionId(), optionId -> new ArrayList<>()).add(bid.bidId());
+			}
+		}
+
+		int restoredCount = 0;
+		for (Map.Entry<Long, List<Long>> entry : driftedByOption.entrySet()) {
+			restoredCount += repairOnShard(entry.getKey(), () -> addPending(entry.getValue()));
+		}
+		restored.increment(restoredCount);
+		return restoredCount;
+	}
+
+	/**
+	 * DB에서 여전히 대기 상태인 입찰만 다시 확인하여 대기열에 올바른 점수로 추가합니다.
+	 */
+	private int addPending(List<Long> bidIds) {
+		List<QueuedBid> pending = bidRepository.findPendingQueuedByIds(bidIds);
+		if (pending.isEmpty()) {
+			return 0;
+		}
+		RBatch batch = redissonClient.createBatch();
+		pending.forEach(bid -> batch.<Long>getScoredSortedSet(bid.zSetKey()).addAsync(bid.score(), bid.bidId()));
+		batch.execute();
+		return pending.size();
+	}
+
+	/**
+	 * 접두사에 해당하는 대기열을 SCAN/ZSCAN으로 순회하며 대기 상태가 아닌 입찰을 제거합니다.
+	 * @param keyPrefix 대기열 키 접두사
+	 * @param watermark 이 ID 이하의 입찰만 제거 대상으로 판단
+	 * @return 제거한 입찰 수
+	 */
+	private int removeStale(String keyPrefix, long watermark) {
+		int removedCount = 0;
+		for (String key : redissonClient.getKeys().getKeysByPattern(keyPrefix + "*", batchSize)) {
+			Long productOptionId = parseOptionId(key, keyPrefix);
+			if (productOptionId == null) {
+				continue;
+			}
+
+			RScoredSortedSet<Long> zset = redissonClient.getScoredSortedSet(key);
+			Iterator<Long> members = zset.iterator(batchSize);
+			List<Long> chunk = new ArrayList<>(batchSize);
+			while (members.hasNext()) {
+				chunk.add(members.next());
+				if (chunk.size() == batchSize || !members.hasNext()) {
+					removedCount += removeStale(key, productOptionId, chunk, watermark);
+					chunk = new ArrayList<>(batchSize);
+				}
+			}
+		}
+		removed.increment(removedCount);
+		return removedCount;
+	}
+
+	private int removeStale(String key, Long productOptionId, List<Long> members, long watermark) {
+		List<Long> candidates = staleOf(key, members, watermark);
+		if (candidates.isEmpty()) {
+			return 0;
+		}
+		staleDrift.increment(candidates.size());
+
+		return repairOnShard(productOptionId, () -> {
+			List<Long> stale = staleOf(key, candidates, watermark);
+			if (!stale.isEmpty()) {
+				redissonClient.<Long>getScoredSortedSet(key).removeAll(stale);
+			}
+			return stale.size();
+		});
+	}
+
+	/**
+	 * 대기열 멤버 중 이 대기열에 속한 {@link BidStatus#PENDING} 입찰이 아닌 것을 골라냅니다.
+	 */
+	private List<Long> staleOf(String key, List<Long> members, long watermark) {
+		Set<Long> pending = new HashSet<>();
+		for (QueuedBid bid : bidRepository.findPendingQueuedByIds(members)) {
+			if (bid.zSetKey().equals(key)) {
+				pending.add(bid.bidId());
+			}
+		}
+		return members.stream()
+			.filter(bidId -> bidId <= watermark && !pending.contains(bidId))
+			.toList();
+	}
+
+	/**
+	 * 복구 작업을 상품 옵션의 매칭 샤드에서 실행합니다.
+	 * 한 옵션의 복구가 실패해도 나머지 옵션의 대조는 계속 진행합니다.
+	 */
+	private int repairOnShard(Long productOptionId, Supplier<Integer> repair) {
+		try {
+			return matchingExecutor.submit(productOptionId, repair).join();
+		} catch (CompletionException e) {
+			log.error("입찰 대기열 복구 실패: 상품 옵션 {}, {}", productOptionId, e.getMessage());
+			return 0;
+		}
+	}
+
+	private static Long parseOptionId(String key, String keyPrefix) {
+		try {
+			return Long.valueOf(key.substring(keyPrefix.length()));
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private static Counter drift(MeterRegistry meterRegistry, String kind, String description) {
+		return Counter.builder("cream.bid.reconcile.drift")
+			.description(description)
+			.tag("kind", kind)
+			.register(meterRegistry);
+	}
+
+	private static Counter repaired(MeterRegistry meterRegistry, String action, String description) {
+		return Counter.builder("cream.bid.reconcile.repaired")
+			.description(description)
+			.tag("action", action)
+			.register(meterRegistry);
+	}
+}
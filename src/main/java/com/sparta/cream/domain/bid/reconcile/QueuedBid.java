@@ -0,0 +1,36 @@
+package com.sparta.cream.domain.bid.reconcile;
+
+import com.sparta.cream.domain.bid.entity.BidType;
+import com.sparta.cream.domain.trade.engine.PriceTimePriority;
+
+/**
+ * Redis 대기열과 bids 테이블을 대조하기 위한 대기 입찰의 최소 정보입니다.
+ * 엔티티를 적재하지 않고 대기열 키와 정렬 점수를 계산할 수 있는 값만 조회합니다.
+ * QueuedBid.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+public record QueuedBid(
+	Long bidId,
+	Long productOptionId,
+	BidType type,
+	Long price
+) {
+
+	/**
+	 * 입찰이 속해야 하는 Redis 대기열(ZSet) 키를 반환합니다.
+	 * @return bids:buy:{optionId} 또는 bids:sell:{optionId}
+	 */
+	public String zSetKey() {
+		return (type == BidType.BUY ? "bids:buy:" : "bids:sell:") + productOptionId;
+	}
+
+	/**
+	 * 대기열에 저장되어야 하는 정렬 점수를 반환합니다.
+	 * @return ZSet 점수
+	 */
+	public double score() {
+		return PriceTimePriority.redisScore(type, price);
+	}
+}
@@ -1,5 +1,6 @@
 package com.sparta.cream.domain.bid.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -7,12 +8,15 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.sparta.cream.domain.bid.entity.Bid;
 import com.sparta.cream.domain.bid.entity.BidStatus;
 import com.sparta.cream.domain.bid.entity.BidType;
+import com.sparta.cream.domain.bid.expiry.ExpiringBid;
+import com.sparta.cream.domain.bid.reconcile.QueuedBid;
 
 import jakarta.persistence.LockModeType;
 
@@ -33,6 +37,15 @@ public interface BidRepository extends JpaRepository<Bid, Long> , BidRepositoryC
 	@Query("SELECT b FROM Bid b WHERE b.user.id = :userId")
 	Page<Bid> findAllByUserId(@Param("userId") Long userId, Pageable pageable);
 
+	/**
+	 * 입찰이 현재 속한 상품 옵션 ID만 조회합니다.
+	 * 입찰 수정을 해당 상품 옵션의 매칭 샤드에서 실행하기 위해, 엔티티를 적재하지 않고 대상 샤드를 결정할 때 사용합니다.
+	 * @param bidId 입찰 식별자
+	 * @return 상품 옵션 식별자
+	 */
+	@Query("SELECT b.productOption.id FROM Bid b WHERE b.id = :bidId")
+	Optional<Long> findProductOptionIdById(@Param("bidId") Long bidId);
+
 	/**
 	 * 특정 상품 옵션에 등록된 모든 입찰 내역을 입찰가 내림차순으로 조회합니다.
 	 * @param productOptionId 상품옵션(사이즈에 대해 정의한 ID)
@@ -56,6 +69,101 @@ public interface BidRepository extends JpaRepository<Bid, Long> , BidRepositoryC
 	 */
 	List<Bid> findByTypeAndStatusOrderByCreatedAtAsc(BidType type, BidStatus status);
 
+	/**
+	 * 특정 상품 옵션의 대기 중인 입찰을 등록 순서대로 조회합니다.
+	 * 인메모리 호가창을 최초 적재할 때 가격-시간 우선순위를 복원하기 위해 사용합니다.
+	 * @param productOptionId 상품 옵션 식별자
+	 * @return 등록 순(ID 오름차순)으로 정렬된 대기 입찰 리스트
+	 */
+	@Query("SELECT b FROM Bid b WHERE b.productOption.id = :productOptionId AND b.status = 'PENDING' ORDER BY b.id ASC")
+	List<Bid> findPendingByProductOptionId(@Param("productOptionId") Long productOptionId);
+
+	/**
+	 * 대기 중인 입찰이 하나 이상 있는 상품 옵션 ID 목록을 조회합니다.
+	 * 재시작 시 스냅샷에 없는 옵션의 호가창을 DB에서 적재하는 데 사용됩니다.
+	 * @return 대기 입찰이 있는 상품 옵션 ID 리스트
+	 */
+	@Query("SELECT DISTINCT b.productOption.id FROM Bid b WHERE b.status = 'PENDING'")
+	List<Long> findPendingProductOptionIds();
+
+	/**
+	 * Redis 대기열 정합성 검사를 위해 대기 중인 입찰을 (상품 옵션 ID, 입찰 ID) 순으로 조회합니다.
+	 * 엔티티 대신 대기열 키와 점수 계산에 필요한 값만 조회하며, 마지막으로 읽은 위치 이후부터 읽는 키셋 커서 방식입니다.
+	 * @param productOptionId 마지막으로 읽은 입찰의 상품 옵션 ID (키셋 커서)
+	 * @param lastId 마지막으로 읽은 입찰 ID (키셋 커서)
+	 * @param pageable 조회 개수 제한
+	 * @return 대기 입찰 목록
+	 */
+	@Query("SELECT new com.sparta.cream.domain.bid.reconcile.QueuedBid(b.id, b.productOption.id, b.type, b.price) "
+		+ "FROM Bid b WHERE b.status = 'PENDING' "
+		+ "AND (b.productOption.id > :productOptionId OR (b.productOption.id = :productOptionId AND b.id > :lastId)) "
+		+ "ORDER BY b.productOption.id ASC, b.id ASC")
+	List<QueuedBid> findPendingQueuedAfter(
+		@Param("productOptionId") Long productOptionId,
+		@Param("lastId") Long lastId,
+		Pageable pageable
+	);
+
+	/**
+	 * 주어진 입찰 중 대기 상태인 입찰의 대기열 정보만 조회합니다.
+	 * @param bidIds 입찰 ID 목록
+	 * @return 대기 입찰 목록
+	 */
+	@Query("SELECT new com.sparta.cream.domain.bid.reconcile.QueuedBid(b.id, b.productOption.id, b.type, b.price) "
+		+ "FROM Bid b WHERE b.id IN :bidIds AND b.status = 'PENDING'")
+	List<QueuedBid> findPendingQueuedByIds(@Param("bidIds") Collection<Long> bidIds);
+
+	/**
+	 * 현재까지 발급된 가장 큰 입찰 ID를 조회합니다.
+	 * @return 최대 입찰 ID (입찰이 없으면 빈 값)
+	 */
+	@Query("SELECT MAX(b.id) FROM Bid b")
+	Optional<Long> findMaxId();
+
+	/**
+	 * 만료 타이밍 휠에 등록할 대기 중인 입찰을 입찰 ID 오름차순으로 조회합니다.
+	 * 체결 취소로 다시 대기 상태가 된 입찰은 커서보다 앞선 ID이므로, 복원 시점에 휠에 직접 등록합니다.
+	 * @param lastId 이 ID 이후의 입찰만 조회 (키셋 커서)
+	 * @param pageable 조회 개수 제한
+	 * @return 만료 대상 입찰 목록
+	 */
+	@Query("SELECT new com.sparta.cream.domain.bid.expiry.ExpiringBid(b.id, b.productOption.id, b.type, b.expiresAt) "
+		+ "FROM Bid b WHERE b.id > :lastId AND b.status = 'PENDING' "
+		+ "ORDER BY b.id ASC")
+	List<ExpiringBid> findExpiryCandidatesAfter(
+		@Param("lastId") Long lastId,
+		Pageable pageable
+	);
+
+	/**
+	 * 주어진 입찰 중 여전히 대기 상태인 입찰의 ID를 행 잠금과 함께 조회합니다.
+	 * 같은 트랜잭션의 {@link #expirePendingBids}가 정확히 이 입찰들만 만료 처리하므로,
+	 * 커밋 이후 호가창과 대기열에서 실제로 만료된 입찰만 제거할 수 있습니다.
+	 * 진행 중인 매칭이 먼저 잠근 입찰은 그 트랜잭션이 끝난 뒤의 상태로 판단합니다.
+	 * @param bidIds 만료 시각이 지난 입찰 ID 목록
+	 * @return 대기 상태인 입찰 ID 목록
+	 */
+	@Query(value = "SELECT id FROM bids WHERE id IN (:bidIds) AND status = 'PENDING' FOR UPDATE", nativeQuery = true)
+	List<Long> lockPendingBidIds(@Param("bidIds") List<Long> bidIds);
+
+	/**
+	 * 주어진 입찰 중 여전히 대기 상태인 입찰만 한 번의 UPDATE로 만료 처리합니다.
+	 * 조건절에 상태를 포함하므로 그사이 체결/취소된 입찰은 변경되지 않으며,
+	 * 진행 중인 매칭과의 경합은 버전 증가로 낙관적 락 충돌이 발생하도록 합니다.
+	 * @param bidIds 만료 처리할 입찰 ID 목록
+	 * @param expired 변경할 상태 (EXPIRED)
+	 * @param pending 변경 대상 상태 (PENDING)
+	 * @return 실제로 만료 처리된 입찰 수
+	 */
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE Bid b SET b.status = :expired, b.version = b.version + 1 "
+		+ "WHERE b.id IN :bidIds AND b.status = :pending")
+	int expirePendingBids(
+		@Param("bidIds") List<Long> bidIds,
+		@Param("expired") BidStatus expired,
+		@Param("pending") BidStatus pending
+	);
+
 	/**
 	 * 구매 입찰 발생시, 체결 가능한 최적의 판매 입찰을 조회합니다.
 	 * 매칭 우선순위:
@@ -4,6 +4,8 @@ import com.sparta.cream.domain.bid.entity.Bid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 /**
  * 관리자 입찰(Bid) 모니터링을 위한 커스텀 조회 기능을 정의하는ㄴ 인터페이스 입니다
  * 다양한 필터 조건을 조합하여 입찰 데이터를 조회하기 위해
@@ -27,4 +29,12 @@ public interface BidRepositoryCustom {
 	 * @return 필터 조건이 맞는 입찰 목록 결과
 	 */
 	Page<Bid> findAllByMonitoringFilter(Long productId, Long categoryId, String status, String type, Pageable pageable , Long userId);
+
+	/**
+	 * 여러 입찰을 JDBC 배치 INSERT 한 번으로 저장하고, 생성된 입찰 ID를 입력 순서대로 반환합니다.
+	 * IDENTITY 전략의 엔티티는 하이버네이트가 INSERT를 배치로 묶지 못하므로 일괄 등록 전용으로 사용합니다.
+	 * @param bids 저장할 입찰 목록 (영속화되지 않은 엔티티)
+	 * @return 생성된 입찰 ID 목록
+	 */
+	List<Long> insertAllInBatch(List<Bid> bids);
 }
@@ -11,10 +11,19 @@ import com.sparta.cream.domain.bid.entity.Bid;
 import com.sparta.cream.domain.bid.entity.BidStatus;
 import com.sparta.cream.domain.bid.entity.BidType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -30,7 +39,12 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BidRepositoryImpl implements BidRepositoryCustom {
 
+	private static final String INSERT_BID_SQL =
+		"INSERT INTO bids (user_id, product_option_id, price, status, type, version, expires_at, created_at, updated_at) "
+			+ "VALUES (?, ?, ?, ?, ?, 0, ?, ?, ?)";
+
 	private final JPAQueryFactory queryFactory;
+	private final JdbcTemplate jdbcTemplate;
 
 	/**
 	 * 관리자 입찰 모니터링 조건에 따라 입찰 목록을 조회합니다
@@ -79,6 +93,52 @@ public class BidRepositoryImpl implements BidRepositoryCustom {
 		return new PageImpl<>(content, pageable, total != null ? total : 0L);
 	}
 
+	/**
+	 * 여러 입찰을 하나의 PreparedStatement 배치로 저장합니다.
+	 * 현재 트랜잭션의 커넥션을 그대로 사용하므로 JPA 작업과 함께 커밋/롤백되며,
+	 * MySQL 드라이버의 {@code rewriteBatchedStatements} 옵션이 켜져 있으면 다중 행 INSERT 한 문장으로 전송됩니다.
+	 * 생성 시각과 수정 시각은 JPA Auditing을 거치지 않으므로 직접 기록합니다.
+	 *
+	 * @param bids 저장할 입찰 목록 (영속화되지 않은 엔티티)
+	 * @return 생성된 입찰 ID 목록 (입력 순서)
+	 */
+	@Override
+	public List<Long> insertAllInBatch(List<Bid> bids) {
+		if (bids.isEmpty()) {
+			return List.of();
+		}
+
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		return jdbcTemplate.execute((ConnectionCallback<List<Long>>)connection -> {
+			try (PreparedStatement ps = connection.prepareStatement(INSERT_BID_SQL, Statement.RETURN_GENERATED_KEYS)) {
+				for (Bid newBid : bids) {
+					ps.setLong(1, newBid.getUser().getId());
+					ps.setLong(2, newBid.getProductOption().getId());
+					ps.setLong(3, newBid.getPrice());
+					ps.setString(4, newBid.getStatus().name());
+					ps.setString(5, newBid.getType().name());
+					ps.setTimestamp(6, Timestamp.valueOf(newBid.getExpiresAt()));
+					ps.setTimestamp(7, now);
+					ps.setTimestamp(8, now);
+					ps.addBatch();
+				}
+				ps.executeBatch();
+
+				List<Long> ids = new ArrayList<>(bids.size());
+				try (ResultSet keys = ps.getGeneratedKeys()) {
+					while (keys.next()) {
+						ids.add(keys.getLong(1));
+					}
+				}
+				if (ids.size() != bids.size()) {
+					throw new InvalidDataAccessApiUsageException(
+						"생성된 입찰 ID 수가 요청 건수와 다릅니다. expected=" + bids.size() + ", actual=" + ids.size());
+				}
+				return ids;
+			}
+		});
+	}
+
 	/**
 	 * 입찰 상태 필터 조건
 	 * @param status 입찰 상태 문자열
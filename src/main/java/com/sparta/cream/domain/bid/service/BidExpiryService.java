@@ -0,0 +1,133 @@
+package com.sparta.cream.domain.bid.service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.redisson.api.RBatch;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.sparta.cream.domain.bid.entity.BidStatus;
+import com.sparta.cream.domain.bid.entity.BidType;
+import com.sparta.cream.domain.bid.expiry.ExpiringBid;
+import com.sparta.cream.domain.bid.repository.BidRepository;
+import com.sparta.cream.domain.trade.engine.MatchingExecutor;
+import com.sparta.cream.domain.trade.engine.OrderBookRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 만료 시각이 지난 입찰을 일괄 만료 처리하는 서비스입니다.
+ * 1. 대기 중인 입찰을 배치 크기 단위의 UPDATE로 {@link BidStatus#EXPIRED} 상태로 변경합니다.
+ * 2. 커밋 이후 상품 옵션별로 묶어 인메모리 호가창에서 제거하며, 제거는 해당 옵션의 매칭 샤드에서 수행됩니다.
+ * 3. Redis 대기열과 입찰 목록 캐시는 하나의 배치(파이프라인)로 한 번에 정리합니다.
+ * BidExpiryService.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Slf4j
+@Service
+public class BidExpiryService {
+
+	private final BidRepository bidRepository;
+	private final OrderBookRegistry orderBookRegistry;
+	private final MatchingExecutor matchingExecutor;
+	private final RedissonClient redissonClient;
+	private final int batchSize;
+
+	public BidExpiryService(
+		BidRepository bidRepository,
+		OrderBookRegistry orderBookRegistry,
+		MatchingExecutor matchingExecutor,
+		RedissonClient redissonClient,
+		@Value("${bid.expiry.batch-size:500}") int batchSize
+	) {
+		this.bidRepository = bidRepository;
+		this.orderBookRegistry = orderBookRegistry;
+		this.matchingExecutor = matchingExecutor;
+		this.redissonClient = redissonClient;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * 만료 시각이 지난 입찰들을 일괄 만료 처리합니다.
+	 * 배치마다 대기 상태인 입찰을 잠근 뒤 그 입찰만 만료하므로, 그사이 체결되거나 취소된 입찰은 변경되지 않고
+	 * 커밋 이후 정리 대상에서도 빠집니다.
+	 *
+	 * @param dueBids 만료 시각이 지난 입찰 목록
+	 * @return 실제로 만료 처리된 입찰 수
+	 */
+	@Transactional
+	public int expire(List<ExpiringBid> dueBids) {
+		List<Long> bidIds = dueBids.stream().map(ExpiringBid::bidId).toList();
+
+		Set<Long> expiredIds = new HashSet<>();
+		for (int from = 0; from < bidIds.size(); from += batchSize) {
+			List<Long> chunk = bidIds.subList(from, Math.min(from + batchSize, bidIds.size()));
+			List<Long> pendingIds = bidRepository.lockPendingBidIds(chunk);
+			if (pendingIds.isEmpty()) {
+				continue;
+			}
+			bidRepository.expirePendingBids(pendingIds, BidStatus.EXPIRED, BidStatus.PENDING);
+			expiredIds.addAll(pendingIds);
+		}
+
+		List<ExpiringBid> expiredBids = dueBids.stream()
+			.filter(bid -> expiredIds.contains(bid.bidId()))
+			.toList();
+		if (!expiredBids.isEmpty()) {
+			registerCleanupAfterCommit(expiredBids);
+		}
+		return expiredBids.size();
+	}
+
+	/**
+	 * 커밋 이후 실제로 만료된 입찰만 호가창과 Redis에서 일괄 제거하도록 예약합니다.
+	 * 만료 시각이 지났더라도 체결 취소로 다시 대기열에 오른 입찰처럼 만료되지 않은 입찰은 건드리지 않습니다.
+	 *
+	 * @param expiredBids 만료 처리된 입찰 목록
+	 */
+	private void registerCleanupAfterCommit(List<ExpiringBid> expiredBids) {
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				removeFromOrderBooks(expiredBids);
+				removeFromRedis(expiredBids);
+			}
+		});
+	}
+
+	private void removeFromOrderBooks(List<ExpiringBid> dueBids) {
+		Map<Long, List<Long>> bidIdsByOption = dueBids.stream()
+			.collect(Collectors.groupingBy(
+				ExpiringBid::productOptionId,
+				Collectors.mapping(ExpiringBid::bidId, Collectors.toList())));
+
+		bidIdsByOption.forEach((optionId, bidIds) ->
+			orderBookRegistry.find(optionId).ifPresent(orderBook ->
+				matchingExecutor.execute(optionId, () -> bidIds.forEach(orderBook::remove))));
+	}
+
+	private void removeFromRedis(List<ExpiringBid> dueBids) {
+		Map<String, List<Long>> bidIdsByKey = dueBids.stream()
+			.collect(Collectors.groupingBy(
+				bid -> (bid.type() == BidType.BUY ? "bids:buy:" : "bids:sell:") + bid.productOptionId(),
+				Collectors.mapping(ExpiringBid::bidId, Collectors.toList())));
+
+		RBatch batch = redissonClient.createBatch();
+		bidIdsByKey.forEach((key, bidIds) -> batch.getScoredSortedSet(key).removeAllAsync(bidIds));
+		dueBids.stream()
+			.map(ExpiringBid::productOptionId)
+			.distinct()
+			.forEach(optionId -> batch.getBucket("productBids::" + optionId).deleteAsync());
+		batch.execute();
+	}
+}
@@ -1,8 +1,12 @@
 package com.sparta.cream.domain.bid.service;
 
+import com.sparta.cream.domain.bid.dto.BidBatchResponseDto;
 import com.sparta.cream.domain.bid.dto.BidCancelResponseDto;
 import com.sparta.cream.domain.bid.dto.BidRequestDto;
 import com.sparta.cream.domain.bid.dto.BidResponseDto;
+import com.sparta.cream.domain.bid.repository.BidRepository;
+import com.sparta.cream.domain.trade.engine.MatchingExecutor;
+import com.sparta.cream.exception.BidErrorCode;
 import com.sparta.cream.exception.BusinessException;
 import com.sparta.cream.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -10,7 +14,13 @@ import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * 입찰 작업에 대한 분산 락을 관리하는 퍼사드 클래스입니다.
@@ -27,6 +37,8 @@ public class BidLockFacade {
 
 	private final RedissonClient redissonClient;
 	private final BidService bidService;
+	private final BidRepository bidRepository;
+	private final MatchingExecutor matchingExecutor;
 
 	/**
 	 * 상품 옵션별 분산 락을 획득하여 새로운 입찰을 등록합니다.
@@ -52,9 +64,49 @@ public class BidLockFacade {
 	}
 
 	/**
-	 * 상품 옵션별 분산 락을 획득하여 기존 입찰 정보를 수정합니다.
-	 * 수정 중인 입찰이 동시에 취소 되거나 체결되는 것을 방지하기 위해
-	 * 해당 입찰 고유 식별자로 락을 획득합니다.
+	 * 요청에 포함된 모든 상품 옵션의 분산 락을 한 번에 획득하여 입찰을 일괄 등록합니다.
+	 * 단건 등록과 같은 옵션 락({@code lock:option:{id}})을 멀티 락으로 묶어 전부 획득하거나 전부 실패하므로,
+	 * 단건 등록과 일괄 등록이 섞여 들어와도 옵션 단위의 상호 배제가 유지됩니다.
+	 * 멀티 락은 {@code isHeldByCurrentThread}를 지원하지 않으므로 획득 여부를 직접 기록하여 해제합니다.
+	 *
+	 * @param userId 입찰 등록 사용자 ID
+	 * @param requests 입찰 요청 목록
+	 * @return 항목별 등록 결과
+	 */
+	public BidBatchResponseDto createBidsWithLock(Long userId, List<BidRequestDto> requests) {
+		RLock[] optionLocks = requests.stream()
+			.map(BidRequestDto::getProductOptionId)
+			.distinct()
+			.sorted()
+			.map(optionId -> redissonClient.getLock("lock:option:" + optionId))
+			.toArray(RLock[]::new);
+		RLock lock = redissonClient.getMultiLock(optionLocks);
+		boolean locked = false;
+		try {
+			locked = lock.tryLock(3, 5, TimeUnit.SECONDS);
+			if (!locked) {
+				throw new BusinessException(ErrorCode.LOCK_ACQUISITION_FAILED);
+			}
+			return bidService.createBids(userId, requests);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+		} finally {
+			if (locked) lock.unlock();
+		}
+	}
+
+	/**
+	 * 입찰이 속한 상품 옵션의 분산 락을 획득한 뒤, 해당 옵션의 매칭 샤드에서 입찰 정보를 수정합니다.
+	 * 1. 입찰 단위 락 대신 등록과 같은 상품 옵션 락({@code lock:option:{id}})을 사용하여 다른 노드의 등록/수정과 직렬화합니다.
+	 * 2. 실제 수정은 {@link MatchingExecutor#submit}으로 매칭과 같은 샤드 스레드에서 실행되므로,
+	 *  수정과 호가창 정정이 진행 중인 매칭과 경합하지 않습니다.
+	 * 3. 락을 기다리는 사이 다른 수정으로 입찰의 상품 옵션이 바뀌었다면 {@link BidErrorCode#BID_AMEND_CONFLICT}로 거절합니다.
+	 * 4. 샤드 대기가 길어져 제한 시간을 넘기면, 아직 시작되지 않은 수정만 취소하고 실패로 응답합니다.
+	 *  이미 시작된 수정은 커밋될 수 있으므로 끝날 때까지 기다려 실제 결과를 응답합니다.
+	 *  샤드 큐가 가득 차 수정이 거절된 경우에도 아무것도 반영되지 않았으므로 같은 실패로 응답합니다.
+	 * 수정이 끝나기 전에 락이 풀리지 않도록 임대 시간을 고정하지 않고 Redisson 워치독으로 락을 연장하며,
+	 * 어떤 경로로 종료되든 시작된 수정이 끝난 뒤에 락을 해제합니다.
 	 *
 	 * @param userId 수정 요청 사용자 ID
 	 * @param bidId 수정할 입찰 ID
@@ -62,36 +114,81 @@ public class BidLockFacade {
 	 * @return 수정된 입찰 정보
 	 */
 	public BidResponseDto updateBidWithLock(Long userId, Long bidId, BidRequestDto requestDto) {
-		RLock lock = redissonClient.getLock("lock:bid:update:" + bidId);
+		Long productOptionId = bidRepository.findProductOptionIdById(bidId)
+			.orElseThrow(() -> new BusinessException(BidErrorCode.BID_NOT_FOUND));
+		RLock lock = redissonClient.getLock("lock:option:" + productOptionId);
+		CompletableFuture<BidResponseDto> result = null;
 		try {
-			if (lock.tryLock(3, 5, TimeUnit.SECONDS)) {
+			if (!lock.tryLock(3, TimeUnit.SECONDS)) {
+				throw new BusinessException(ErrorCode.LOCK_ACQUISITION_FAILED);
+			}
+			result = matchingExecutor.submit(productOptionId, () -> {
+				Long currentOptionId = bidRepository.findProductOptionIdById(bidId)
+					.orElseThrow(() -> new BusinessException(BidErrorCode.BID_NOT_FOUND));
+				if (!currentOptionId.equals(productOptionId)) {
+					throw new BusinessException(BidErrorCode.BID_AMEND_CONFLICT);
+				}
 				return bidService.updateBid(userId, bidId, requestDto);
-			} else {
+			});
+			try {
+				return result.get(3, TimeUnit.SECONDS);
+			} catch (TimeoutException e) {
+				if (result.cancel(false)) {
+					throw new BusinessException(ErrorCode.LOCK_ACQUISITION_FAILED);
+				}
+				return result.join();
+			}
+		} catch (ExecutionException | CompletionException e) {
+			if (e.getCause() instanceof RejectedExecutionException) {
 				throw new BusinessException(ErrorCode.LOCK_ACQUISITION_FAILED);
 			}
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
 		} catch (InterruptedException e) {
 			Thread.currentThread().interrupt();
 			throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
 		} finally {
+			awaitStarted(result);
 			if (lock.isHeldByCurrentThread()) lock.unlock();
 		}
 	}
 
 	/**
-	 * 특정 입찰 ID 기반으로 락을 획득하여 입찰을 취소합니다.
-	 * 락 범위를 개별 입찰(Bid)로 좁혀 상품 옵션 전체에 대한 병목 현상을 최소화합니다.
+	 * 샤드에 제출한 작업이 아직 시작되지 않았다면 취소하고, 이미 시작되었다면 끝날 때까지 기다립니다.
+	 * 호출 스레드가 인터럽트되어도 작업이 끝나기 전에 락을 해제하지 않도록 인터럽트 없이 기다립니다.
+	 */
+	private void awaitStarted(CompletableFuture<?> result) {
+		if (result != null && !result.cancel(false)) {
+			result.handle((value, e) -> null).join();
+		}
+	}
+
+	/**
+	 * 입찰이 속한 상품 옵션의 분산 락을 획득하여 입찰을 취소합니다.
+	 * 등록/수정과 같은 상품 옵션 락({@code lock:option:{id}})을 사용하므로, 같은 입찰에 대한 수정과 취소가
+	 * 서로 다른 노드에서 동시에 진행되지 않습니다. 호가창에서의 제거는 커밋 후 해당 옵션의 매칭 샤드에서 수행됩니다.
+	 * 락을 기다리는 사이 수정으로 입찰의 상품 옵션이 바뀌었다면 {@link BidErrorCode#BID_AMEND_CONFLICT}로 거절합니다.
 	 *
 	 * @param userId 취소 요청 사용자 ID
 	 * @param bidId 취소할 입찰 ID
 	 * @return 취소 결과 응답
 	 */
 	public BidCancelResponseDto cancelBidWithLock(Long userId, Long bidId) {
-		RLock lock = redissonClient.getLock("lock:bid:cancel:" + bidId);
+		Long productOptionId = bidRepository.findProductOptionIdById(bidId)
+			.orElseThrow(() -> new BusinessException(BidErrorCode.BID_NOT_FOUND));
+		RLock lock = redissonClient.getLock("lock:option:" + productOptionId);
 
 		try {
 			if (!lock.tryLock(15, TimeUnit.SECONDS)) {
 				throw new BusinessException(ErrorCode.LOCK_ACQUISITION_FAILED);
 			}
+			Long currentOptionId = bidRepository.findProductOptionIdById(bidId)
+				.orElseThrow(() -> new BusinessException(BidErrorCode.BID_NOT_FOUND));
+			if (!currentOptionId.equals(productOptionId)) {
+				throw new BusinessException(BidErrorCode.BID_AMEND_CONFLICT);
+			}
 			return bidService.cancelBid(userId, bidId);
 
 		} catch (InterruptedException e) {
@@ -1,9 +1,16 @@
 package com.sparta.cream.domain.bid.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.redisson.api.RBatch;
 import org.redisson.api.RScoredSortedSet;
 import org.redisson.api.RedissonClient;
 import org.springframework.cache.annotation.CacheEvict;
@@ -21,6 +28,7 @@ import com.sparta.cream.domain.bid.dto.AdminBidCancelRequestDto;
 import com.sparta.cream.domain.bid.dto.AdminBidCancelResponseDto;
 import com.sparta.cream.domain.bid.dto.AdminBidMonitoringResponseDto;
 import com.sparta.cream.domain.bid.dto.AdminBidPagingResponseDto;
+import com.sparta.cream.domain.bid.dto.BidBatchResponseDto;
 import com.sparta.cream.domain.bid.dto.BidCancelResponseDto;
 import com.sparta.cream.domain.bid.dto.BidRequestDto;
 import com.sparta.cream.domain.bid.dto.BidResponseDto;
@@ -28,10 +36,15 @@ import com.sparta.cream.domain.bid.entity.Bid;
 import com.sparta.cream.domain.bid.entity.BidStatus;
 import com.sparta.cream.domain.bid.entity.BidType;
 import com.sparta.cream.domain.bid.event.BidChangedEvent;
+import com.sparta.cream.domain.bid.expiry.BidExpiryScheduler;
 import com.sparta.cream.domain.bid.repository.BidRepository;
 import com.sparta.cream.domain.notification.entity.NotificationType;
 import com.sparta.cream.domain.trade.dto.AdminTradeMonitoringResponseDto;
 import com.sparta.cream.domain.trade.dto.AdminTradePagingResponseDto;
+import com.sparta.cream.domain.trade.engine.OrderBook;
+import com.sparta.cream.domain.trade.engine.MatchingExecutor;
+import com.sparta.cream.domain.trade.engine.OrderBookRegistry;
+import com.sparta.cream.domain.trade.engine.PriceTimePriority;
 import com.sparta.cream.domain.trade.entity.Trade;
 import com.sparta.cream.domain.trade.repository.TradeRepository;
 import com.sparta.cream.domain.trade.service.TradeService;
@@ -68,6 +81,9 @@ public class BidService {
 	private final TradeRepository tradeRepository;
 	private final ApplicationEventPublisher eventPublisher;
 	private final RedissonClient redissonClient;
+	private final OrderBookRegistry orderBookRegistry;
+	private final MatchingExecutor matchingExecutor;
+	private final BidExpiryScheduler bidExpiryScheduler;
 
 	/**
 	 * 새로운 입찰을 등록하고 매칭 엔진을 비동기적으로 가동합니다.
@@ -75,7 +91,7 @@ public class BidService {
 	 * 2. 데이터 영속화: 입찰 정보를 저장하고, 빠른 조회를 위해 Redis Sorted Set에 추가합니다.
 	 * 3. 캐시 일관성: 해당 상품의 기존 입찰 목록 캐시({@code productBids})를 제거하여 데이터 최신성을 유지합니다.
 	 * 4. 비동기 매칭 예약: DB 트랜잭션이 성공적으로 커밋된 직후({@code afterCommit}),
-	 *  매칭 엔진({@link TradeService#handleMatchingInternal(Long)})을 호출하여 체결 프로세스를 시작합니다.
+	 *  매칭 엔진({@link TradeService#handleMatchingInternal(Long, Long)})을 호출하여 체결 프로세스를 시작합니다.
 	 *
 	 * @param userId 입찰을 등록하는 사용자의 고유 식별자
 	 * @param requestDto 입찰 가격, 타입(구매/판매), 상품 옵션 정보를 담은 DTO
@@ -109,13 +125,87 @@ public class BidService {
 			NotificationType.BID_REGISTERED,
 			"입찰 등록 완료",
 			String.format("[%s] %d원에 입찰 등록 완료", bid.getType(), bid.getPrice()),
-			null
+			null,
+			productIdOf(productOption)
 		));
-		registerMatchingSync(savedBid.getId());
+		registerMatchingSync(savedBid);
 
 		return new BidResponseDto(savedBid);
 	}
 
+	/**
+	 * 여러 입찰을 한 트랜잭션에서 일괄 등록하고, 상품 옵션별로 한 번의 매칭 패스를 예약합니다.
+	 * 1. 페널티 및 사용자 검증은 요청 전체에 대해 한 번만 수행하며, 실패 시 요청 전체가 거절됩니다.
+	 * 2. 상품 옵션은 한 번의 IN 조회로 불러오고, 존재하지 않는 옵션의 항목은 실패 결과로 기록한 뒤 나머지만 등록합니다.
+	 * 3. 입찰은 {@link BidRepository#insertAllInBatch(List)}로 JDBC 배치 INSERT 후 한 번의 조회로 다시 불러옵니다.
+	 * 4. Redis 대기열 추가와 입찰 목록 캐시 제거는 하나의 {@link RBatch}로 전송합니다.
+	 * 5. 커밋 직후 상품 옵션마다 {@link TradeService#handleMatchingBatch(Long, List)}로 매칭 작업을 하나씩만 제출합니다.
+	 *
+	 * @param userId 입찰을 등록하는 사용자의 고유 식별자
+	 * @param requests 등록할 입찰 요청 목록
+	 * @return 요청 순서대로 항목별 결과가 담긴 {@link BidBatchResponseDto}
+	 */
+	@Transactional
+	public BidBatchResponseDto createBids(Long userId, List<BidRequestDto> requests) {
+		validateUserPenalty(userId);
+
+		Users user = userRepository.findById(userId)
+			.orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND));
+
+		List<Long> optionIds = requests.stream().map(BidRequestDto::getProductOptionId).distinct().toList();
+		Map<Long, ProductOption> options = productOptionRepository.findAllById(optionIds).stream()
+			.collect(Collectors.toMap(ProductOption::getId, Function.identity()));
+
+		BidBatchResponseDto.Item[] results = new BidBatchResponseDto.Item[requests.size()];
+		List<Integer> acceptedIndexes = new ArrayList<>();
+		List<Bid> newBids = new ArrayList<>();
+		LocalDateTime expiresAt = LocalDateTime.now().plusDays(7);
+
+		for (int i = 0; i < requests.size(); i++) {
+			BidRequestDto request = requests.get(i);
+			ProductOption productOption = options.get(request.getProductOptionId());
+			if (productOption == null) {
+				results[i] = BidBatchResponseDto.Item.failure(i, BidErrorCode.PRODUCT_OPTION_NOT_FOUND);
+				continue;
+			}
+
+			acceptedIndexes.add(i);
+			newBids.add(Bid.builder()
+				.user(user)
+				.productOption(productOption)
+				.price(request.getPrice())
+				.type(request.getType())
+				.status(BidStatus.PENDING)
+				.expiresAt(expiresAt)
+				.build());
+		}
+
+		if (!newBids.isEmpty()) {
+			List<Long> savedIds = bidRepository.insertAllInBatch(newBids);
+			Map<Long, Bid> savedById = bidRepository.findAllById(savedIds).stream()
+				.collect(Collectors.toMap(Bid::getId, Function.identity()));
+			List<Bid> savedBids = savedIds.stream().map(savedById::get).toList();
+
+			addAllToRedisZSet(savedBids);
+			for (int i = 0; i < savedBids.size(); i++) {
+				Bid savedBid = savedBids.get(i);
+				eventPublisher.publishEvent(new BidChangedEvent(
+					userId,
+					NotificationType.BID_REGISTERED,
+					"입찰 등록 완료",
+					String.format("[%s] %d원에 입찰 등록 완료", savedBid.getType(), savedBid.getPrice()),
+					savedBid.getId(),
+					productIdOf(savedBid.getProductOption())
+				));
+				results[acceptedIndexes.get(i)] = BidBatchResponseDto.Item.success(
+					acceptedIndexes.get(i), new BidResponseDto(savedBid));
+			}
+			registerBatchMatchingSync(savedBids);
+		}
+
+		return BidBatchResponseDto.of(Arrays.asList(results));
+	}
+
 	/**
 	 * 특정 사용자가 등록한 모든 입찰 내역을 페이지 단위로 조회합니다.
 	 * 1.페이징 적용:요청된 페이지 번호와 사이즈에 맞춰 필요한 만큼의 데이터만 효율적으로 가져옵니다.
@@ -167,10 +257,12 @@ public class BidService {
 	/**
 	 * 기존에 등록된 입찰 정보를 수정하고, 변경된 조건으로 매칭을 다시 시도합니다.
 	 * 1. 권한 및 페널티 검증: 사용자의 입찰 제한 여부와 해당 입찰의 소유권을 확인합니다.
-	 * 2. Redis 동기화 (Remove): 정보가 수정되기 전, 기존 조건으로 정렬되어 있던 Redis ZSet 데이터를 먼저 제거합니다.
-	 * 3. 데이터 업데이트: 입찰 가격, 상품 옵션, 타입 등의 정보를 새롭게 갱신합니다.
-	 * 4. Redis 동기화 (Add): 변경된 가격과 조건에 맞춰 Redis ZSet에 새로운 스코어로 데이터를 추가합니다.
-	 * 5. 비동기 매칭 재가동: 수정 사항이 DB에 최종 커밋된 후, 변경된 조건으로 즉시 체결이 가능한지 매칭 엔진을 호출합니다.
+	 * 2. 상품 옵션과 타입이 그대로인 수정은 {@link #amendBid(Long, Bid, Long)}로 호가창 안에서 가격만 정정합니다.
+	 * 3. Redis 동기화 (Remove): 정보가 수정되기 전, 기존 조건으로 정렬되어 있던 Redis ZSet 데이터를 먼저 제거합니다.
+	 * 4. 데이터 업데이트: 입찰 가격, 상품 옵션, 타입 등의 정보를 새롭게 갱신합니다.
+	 * 5. Redis 동기화 (Add): 변경된 가격과 조건에 맞춰 Redis ZSet에 새로운 스코어로 데이터를 추가합니다.
+	 * 6. 비동기 매칭 재가동: 수정 사항이 DB에 최종 커밋된 후, 변경된 조건으로 즉시 체결이 가능한지 매칭 엔진을 호출합니다.
+	 * {@link BidLockFacade}를 통해 호출되면 입찰이 속한 상품 옵션의 매칭 샤드에서 실행되므로 같은 옵션의 매칭과 경합하지 않습니다.
 	 *
 	 * @param userId 수정을 요청한 사용자의 ID
 	 * @param bidId 수정할 입찰의 고유 식별자
@@ -191,10 +283,16 @@ public class BidService {
 		}
 
 
+		if (bid.getProductOption().getId().equals(requestDto.getProductOptionId())
+			&& bid.getType() == requestDto.getType()) {
+			return amendBid(userId, bid, requestDto.getPrice());
+		}
+
 		Long oldPrice = bid.getPrice();
 		BidType oldType = bid.getType();
 
 		removeFromRedisZSet(bid);
+		removeFromOrderBook(bid);
 
 		ProductOption newOption = productOptionRepository.findById(requestDto.getProductOptionId())
 			.orElseThrow(() -> new BusinessException(BidErrorCode.PRODUCT_OPTION_NOT_FOUND));
@@ -203,24 +301,66 @@ public class BidService {
 
 		addToRedisZSet(bid);
 
-		registerMatchingSync(bid.getId());
+		registerMatchingSync(bid);
 
+		publishUpdatedEvent(userId, bid, oldPrice, oldType);
+
+		return new BidResponseDto(bid);
+	}
+
+	/**
+	 * 상품 옵션과 타입이 그대로인 수정을 제거/재등록 없이 가격 정정(Amend)으로 처리합니다.
+	 * 1. 가격이 같으면 대기 상태만 확인하고 아무것도 변경하지 않으므로, 시간 우선순위가 유지되고 재매칭도 하지 않습니다.
+	 * 2. 가격이 바뀌면 Redis ZSet은 같은 멤버의 점수만 갱신하고, 커밋 후 호가창에서 {@link OrderBook#amend(long, long)}로 정정합니다.
+	 * 3. 더 공격적인 가격(구매 인상, 판매 인하)은 시간 우선순위를 잃고 반대편과 새로 교차할 수 있으므로 재매칭을 예약합니다.
+	 *  덜 공격적인 가격은 우선순위를 유지하며, 새로 교차할 수 없으므로 재매칭하지 않습니다.
+	 *
+	 * @param userId 수정을 요청한 사용자의 ID
+	 * @param bid 정정할 입찰
+	 * @param newPrice 정정 후 가격
+	 * @return 정정된 입찰 정보 응답 DTO
+	 */
+	private BidResponseDto amendBid(Long userId, Bid bid, Long newPrice) {
+		Long oldPrice = bid.getPrice();
+		bid.amendPrice(newPrice);
+		if (oldPrice.equals(newPrice)) {
+			return new BidResponseDto(bid);
+		}
+
+		addToRedisZSet(bid);
+		amendInOrderBook(bid);
+		if (PriceTimePriority.comparePrice(bid.getType(), newPrice, oldPrice) < 0) {
+			registerMatchingSync(bid);
+		}
+
+		publishUpdatedEvent(userId, bid, oldPrice, bid.getType());
+
+		return new BidResponseDto(bid);
+	}
+
+	/**
+	 * 입찰 수정 완료 이벤트를 발행합니다.
+	 * @param userId 수정을 요청한 사용자의 ID
+	 * @param bid 수정된 입찰
+	 * @param oldPrice 수정 전 가격
+	 * @param oldType 수정 전 타입
+	 */
+	private void publishUpdatedEvent(Long userId, Bid bid, Long oldPrice, BidType oldType) {
 		eventPublisher.publishEvent(new BidChangedEvent(
 			userId,
 			NotificationType.BID_UPDATED,
 			"입찰 수정 완료",
 			String.format(
 				"입찰이 수정되었습니다.\n옵션: %s\n가격: %,d원 → %,d원\n유형: %s → %s",
-				newOption.getSize(),
+				bid.getProductOption().getSize(),
 				oldPrice,
 				bid.getPrice(),
 				oldType,
 				bid.getType()
 			),
-			bid.getId()
+			bid.getId(),
+			productIdOf(bid.getProductOption())
 		));
-
-		return new BidResponseDto(bid);
 	}
 
 	/**
@@ -250,6 +390,8 @@ public class BidService {
 
 		bid.cancel(userId);
 		removeFromRedisZSet(bid);
+		removeFromOrderBook(bid);
+		cancelExpiry(bid);
 
 		eventPublisher.publishEvent(new BidChangedEvent(
 			userId,
@@ -261,7 +403,8 @@ public class BidService {
 				bid.getProductOption().getProduct().getName(),
 				bid.getProductOption().getSize()
 			),
-			bid.getId()
+			bid.getId(),
+			productIdOf(bid.getProductOption())
 		));
 
 		return BidCancelResponseDto.from(bid);
@@ -295,6 +438,8 @@ public class BidService {
 		bid.cancelByAdmin(admin,request.getReasonCode(), request.getComment());
 
 		removeFromRedisZSet(bid);
+		removeFromOrderBook(bid);
+		cancelExpiry(bid);
 
 		String cacheKey = "productBids::" + bid.getProductOption().getId();
 		redissonClient.getBucket(cacheKey).delete();
@@ -428,24 +573,47 @@ public class BidService {
 	/**
 	 * DB 트랜잭션이 최종 커밋된 실시간 매칭 엔진을 호출하도록 예약합니다
 	 * {@link TransactionSynchronizationManager}를 사용하여 현재 트랜잭션이 성공적으로 커밋된 시점({@code afterCommit})에
-	 * {@link TradeService#handleMatchingInternal(Long)}을 비동기적으로 가동합니다
+	 * {@link TradeService#handleMatchingInternal(Long, Long)}을 통해 상품 옵션에 배정된 매칭 샤드로 작업을 제출합니다
 	 * 이를 통해 데이터가 DB에 완전히 반영되지 않은 상태에서 매칭이 시도되는 정합성 문제를 방지합니다.
 	 *
-	 * @param bidId 매칭 엔진에 전달할 입찰의 고유 식별자
+	 * @param bid 매칭 엔진에 전달할 입찰
+	 */
+	private void registerMatchingSync(Bid bid) {
+		final Long bidId = bid.getId();
+		final Long productOptionId = bid.getProductOption().getId();
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				tradeService.handleMatchingInternal(bidId, productOptionId);
+			}
+		});
+	}
+
+	/**
+	 * 일괄 등록된 입찰을 상품 옵션별로 묶어, 커밋 직후 옵션마다 하나의 매칭 작업만 제출하도록 예약합니다.
+	 * 각 옵션의 입찰 ID는 등록 순서를 유지하므로 같은 가격 안의 선착순도 단건 등록과 동일합니다.
+	 *
+	 * @param bids 매칭 엔진에 전달할 입찰 목록 (등록 순서)
 	 */
-	private void registerMatchingSync(final Long bidId) {
+	private void registerBatchMatchingSync(List<Bid> bids) {
+		final Map<Long, List<Long>> bidIdsByOption = bids.stream()
+			.collect(Collectors.groupingBy(
+				bid -> bid.getProductOption().getId(),
+				LinkedHashMap::new,
+				Collectors.mapping(Bid::getId, Collectors.toList())));
 		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
 			@Override
 			public void afterCommit() {
-				tradeService.handleMatchingInternal(bidId);
+				bidIdsByOption.forEach(tradeService::handleMatchingBatch);
 			}
 		});
 	}
 
 	/**
 	 * 입찰 정보를 Redis Sorted Set(ZSet)에 추가하여 실시간 매칭 대기열에 등록합니다.
-	 * 1. 가격운선: 구매입찰은 높은 가격순, 판매 입찰은 낮은 가격순 정렬됩니다.
-	 * 2.시간 우선: 가격이 동일한 경우, 먼저 등록된 입찰이 우선권을 갖도록 등록 시간 가중치를 더합니다.
+	 * 1. 가격 우선: 구매입찰은 높은 가격순, 판매 입찰은 낮은 가격순 정렬됩니다.
+	 * 2. 점수는 {@link PriceTimePriority#redisScore(BidType, long)}로 계산한 정확한 정수 가격이며,
+	 *  같은 가격 안의 선착순은 인메모리 호가창의 등록 순서가 보장합니다.
 	 *
 	 * @param bid Redis 대기열에 추가할 입찰 객체
 	 */
@@ -453,15 +621,26 @@ public class BidService {
 		String key = (bid.getType() == BidType.BUY ? "bids:buy:" : "bids:sell:") + bid.getProductOption().getId();
 		RScoredSortedSet<Long> zset = redissonClient.getScoredSortedSet(key);
 
-		double timeWeight = System.currentTimeMillis() / 10000000000000.0;
-		double score;
-		if (bid.getType() == BidType.BUY) {
-			score = -bid.getPrice().doubleValue() + timeWeight;
-		} else {
-			score = bid.getPrice().doubleValue() + timeWeight;
-		}
+		zset.add(PriceTimePriority.redisScore(bid.getType(), bid.getPrice()), bid.getId());
+	}
 
-		zset.add(score, bid.getId());
+	/**
+	 * 일괄 등록된 입찰을 Redis 대기열에 추가하고 해당 상품 옵션들의 입찰 목록 캐시를 제거합니다.
+	 * 모든 명령을 하나의 {@link RBatch}로 묶어 입찰 건수와 관계없이 Redis 왕복은 한 번만 발생합니다.
+	 *
+	 * @param bids Redis 대기열에 추가할 입찰 목록
+	 */
+	private void addAllToRedisZSet(List<Bid> bids) {
+		RBatch batch = redissonClient.createBatch();
+		bids.forEach(bid -> {
+			String key = (bid.getType() == BidType.BUY ? "bids:buy:" : "bids:sell:") + bid.getProductOption().getId();
+			batch.getScoredSortedSet(key).addAsync(PriceTimePriority.redisScore(bid.getType(), bid.getPrice()), bid.getId());
+		});
+		bids.stream()
+			.map(bid -> bid.getProductOption().getId())
+			.distinct()
+			.forEach(optionId -> batch.getBucket("productBids::" + optionId).deleteAsync());
+		batch.execute();
 	}
 
 	/**
@@ -474,4 +653,67 @@ public class BidService {
 		redissonClient.getScoredSortedSet(key).remove(bid.getId());
 	}
 
+	/**
+	 * 트랜잭션이 커밋된 이후 인메모리 호가창에서 입찰을 제거하도록 예약합니다.
+	 * 커밋 전에 제거하면 롤백 시 호가창에서만 입찰이 사라지므로,
+	 * DB 반영이 확정된 시점({@code afterCommit})에 제거합니다.
+	 * 취소는 요청 스레드에서 커밋되므로, 제거는 해당 옵션의 매칭 샤드에 제출하여 진행 중인 매칭이나 정정과 겹치지 않도록 합니다.
+	 * 샤드 큐가 가득 차 거절되면 샤드의 재대조가 DB 기준으로 주문을 제거합니다.
+	 * 수정의 경우 이전 상품 옵션의 호가창에서 제거되어야 하므로 변경 전에 호출합니다.
+	 * @param bid 제거할 입찰 객체
+	 */
+	private void removeFromOrderBook(Bid bid) {
+		final Long productOptionId = bid.getProductOption().getId();
+		final Long bidId = bid.getId();
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				matchingExecutor.execute(productOptionId, () ->
+					orderBookRegistry.find(productOptionId).ifPresent(orderBook -> orderBook.remove(bidId)));
+			}
+		});
+	}
+
+	/**
+	 * 트랜잭션이 커밋된 이후 인메모리 호가창에서 입찰 가격을 정정하도록 예약합니다.
+	 * 호가창이 아직 적재되지 않았거나 입찰이 아직 호가창에 없으면(매칭 대기 중) 정정하지 않으며,
+	 * 이후 적재나 매칭 시 DB의 정정된 가격으로 등록됩니다.
+	 * @param bid 가격이 정정된 입찰 객체
+	 */
+	private void amendInOrderBook(Bid bid) {
+		final Long productOptionId = bid.getProductOption().getId();
+		final Long bidId = bid.getId();
+		final long price = bid.getPrice();
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				orderBookRegistry.find(productOptionId).ifPresent(orderBook -> orderBook.amend(bidId, price));
+			}
+		});
+	}
+
+	/**
+	 * 트랜잭션이 커밋된 이후 취소된 입찰을 만료 타이밍 휠에서 제거하도록 예약합니다.
+	 * 제거하지 않더라도 만료 UPDATE의 상태 조건에 걸려 변경되지 않지만, 휠에 불필요한 항목이 남지 않도록 정리합니다.
+	 * @param bid 취소된 입찰 객체
+	 */
+	private void cancelExpiry(Bid bid) {
+		final Long bidId = bid.getId();
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				bidExpiryScheduler.cancel(bidId);
+			}
+		});
+	}
+
+	/**
+	 * 입찰 이벤트에 담을 상품 ID를 조회합니다. 연관 상품이 없으면 null을 반환합니다.
+	 * @param productOption 입찰의 상품 옵션
+	 * @return 상품 ID
+	 */
+	private Long productIdOf(ProductOption productOption) {
+		return productOption.getProduct() == null ? null : productOption.getProduct().getId();
+	}
+
 }
@@ -0,0 +1,102 @@
+package com.sparta.cream.domain.market.candle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 체결을 받아 상품 옵션별·상품별 1분/1시간/1일 캔들을 증분 집계하는 인메모리 집계기입니다.
+ * 대상·단위마다 {@link CandleBuffer} 링 버퍼를 두어 최근 구간은 메모리에서 바로 조회하고,
+ * 집계된 체결분은 {@link CandleRollupWriter}가 주기적으로 꺼내 롤업 테이블에 병합합니다.
+ * 기동 이전의 체결은 메모리에 없으므로, 기동 시각이 속한 구간부터는 롤업 테이블을 기준으로 조회해야 합니다.
+ * CandleAggregator.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Component
+public class CandleAggregator {
+
+	private final Map<SeriesKey, CandleBuffer> buffers = new ConcurrentHashMap<>();
+	private final List<CandleDelta> requeued = new ArrayList<>();
+	private final long startedAt = System.currentTimeMillis();
+
+	/**
+	 * 체결 한 건을 상품 옵션과 상품의 모든 단위 캔들에 반영합니다.
+	 * @param productOptionId 상품 옵션 ID
+	 * @param productId 상품 ID (알 수 없으면 null)
+	 * @param price 체결가
+	 * @param tradeAt 체결 시각(epoch millis)
+	 */
+	public void record(Long productOptionId, Long productId, long price, long tradeAt) {
+		for (CandleInterval interval : CandleInterval.values()) {
+			buffer(CandleScope.OPTION, productOptionId, interval).apply(price, tradeAt);
+			if (productId != null) {
+				buffer(CandleScope.PRODUCT, productId, interval).apply(price, tradeAt);
+			}
+		}
+	}
+
+	/**
+	 * 메모리에 보관된 캔들을 시간순으로 조회합니다.
+	 * @param scope 집계 범위
+	 * @param targetId 상품 옵션 ID 또는 상품 ID
+	 * @param interval 집계 단위
+	 * @param fromOpenTime 시작 구간(포함)
+	 * @param toOpenTime 마지막 구간(포함)
+	 * @return 시간순 캔들 목록
+	 */
+	public List<CandleView> recent(CandleScope scope, Long targetId, CandleInterval interval,
+		long fromOpenTime, long toOpenTime) {
+		CandleBuffer buffer = buffers.get(new SeriesKey(scope, targetId, interval));
+		return buffer == null ? List.of() : buffer.snapshot(fromOpenTime, toOpenTime);
+	}
+
+	/**
+	 * 메모리만으로 완전한 캔들을 제공할 수 있는 첫 구간을 계산합니다.
+	 * 기동 시각이 속한 구간은 기동 이전 체결이 빠져 있고, 링 버퍼 크기보다 오래된 구간은 밀려났으므로 제외합니다.
+	 * @param interval 집계 단위
+	 * @param now 현재 시각(epoch millis)
+	 * @return 메모리로 조회 가능한 첫 구간 시작 시각
+	 */
+	public long memoryCoveredFrom(CandleInterval interval, long now) {
+		long afterStart = interval.startOf(startedAt) + interval.getMillis();
+		long oldestInRing = interval.startOf(now) - (long)(interval.getCapacity() - 1) * interval.getMillis();
+		return Math.max(afterStart, oldestInRing);
+	}
+
+	/**
+	 * 마지막 반영 이후 집계된 체결분을 모두 꺼냅니다.
+	 * @return 반영할 체결분 목록
+	 */
+	public List<CandleDelta> drain() {
+		List<CandleDelta> drained = new ArrayList<>();
+		synchronized (requeued) {
+			drained.addAll(requeued);
+			requeued.clear();
+		}
+		buffers.values().forEach(buffer -> buffer.drainTo(drained));
+		return drained;
+	}
+
+	/**
+	 * 반영에 실패한 체결분을 다음 반영 때 다시 꺼내도록 되돌립니다.
+	 * @param deltas 반영에 실패한 체결분
+	 */
+	public void requeue(List<CandleDelta> deltas) {
+		synchronized (requeued) {
+			requeued.addAll(deltas);
+		}
+	}
+
+	private CandleBuffer buffer(CandleScope scope, Long targetId, CandleInterval interval) {
+		return buffers.computeIfAbsent(new SeriesKey(scope, targetId, interval),
+			key -> new CandleBuffer(scope, targetId, interval));
+	}
+
+	private record SeriesKey(CandleScope scope, Long targetId, CandleInterval interval) {
+	}
+}
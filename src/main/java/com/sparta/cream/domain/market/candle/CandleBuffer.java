@@ -0,0 +1,148 @@
+package com.sparta.cream.domain.market.candle;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 한 집계 대상·단위의 최근 캔들을 보관하는 고정 크기 링 버퍼입니다.
+ * 구간 시작 시각으로 슬롯 위치가 정해지므로 체결 반영은 O(1)이며, 슬롯은 처음 체결될 때만 생성됩니다.
+ * 각 슬롯은 전체 캔들과 함께 마지막 반영 이후의 체결분(delta)을 따로 유지하고,
+ * 반영되지 않은 체결분이 있는 슬롯이 다음 구간에 재사용되면 그 체결분을 대기열로 옮겨 유실되지 않도록 합니다.
+ * CandleBuffer.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+class CandleBuffer {
+
+	private final CandleScope scope;
+	private final long targetId;
+	private final CandleInterval interval;
+	private final Slot[] slots;
+	private final List<CandleDelta> evicted = new ArrayList<>();
+
+	CandleBuffer(CandleScope scope, long targetId, CandleInterval interval) {
+		this.scope = scope;
+		this.targetId = targetId;
+		this.interval = interval;
+		this.slots = new Slot[interval.getCapacity()];
+	}
+
+	/**
+	 * 체결 한 건을 해당 구간의 캔들에 반영합니다.
+	 * 이미 링 버퍼에서 밀려난 과거 구간의 체결은 메모리에 남기지 않고 반영 대기열에만 추가합니다.
+	 * @param price 체결가
+	 * @param tradeAt 체결 시각(epoch millis)
+	 */
+	synchronized void apply(long price, long tradeAt) {
+		long openTime = interval.startOf(tradeAt);
+		int index = (int)Math.floorMod(Math.floorDiv(openTime, interval.getMillis()), (long)slots.length);
+		Slot slot = slots[index];
+		if (slot != null && openTime < slot.openTime) {
+			Slot late = new Slot(openTime);
+			late.apply(price, tradeAt);
+			evicted.add(late.drain(this));
+			return;
+		}
+		if (slot == null || slot.openTime != openTime) {
+			if (slot != null && slot.pendingVolume > 0) {
+				evicted.add(slot.drain(this));
+			}
+			slot = new Slot(openTime);
+			slots[index] = slot;
+		}
+		slot.apply(price, tradeAt);
+	}
+
+	/**
+	 * 지정한 구간 범위의 캔들을 시간순으로 반환합니다.
+	 * @param fromOpenTime 시작 구간(포함)
+	 * @param toOpenTime 마지막 구간(포함)
+	 * @return 시간순 캔들 목록
+	 */
+	synchronized List<CandleView> snapshot(long fromOpenTime, long toOpenTime) {
+		List<CandleView> candles = new ArrayList<>();
+		for (Slot slot : slots) {
+			if (slot != null && slot.openTime >= fromOpenTime && slot.openTime <= toOpenTime) {
+				candles.add(new CandleView(slot.openTime, slot.open, slot.high, slot.low, slot.close, slot.volume));
+			}
+		}
+		candles.sort(Comparator.comparingLong(CandleView::openTime));
+		return candles;
+	}
+
+	/**
+	 * 마지막 반영 이후의 체결분을 모두 꺼내고 초기화합니다.
+	 * @param drained 꺼낸 체결분을 담을 목록
+	 */
+	synchronized void drainTo(List<CandleDelta> drained) {
+		drained.addAll(evicted);
+		evicted.clear();
+		for (Slot slot : slots) {
+			if (slot != null && slot.pendingVolume > 0) {
+				drained.add(slot.drain(this));
+			}
+		}
+	}
+
+	/**
+	 * 구간 하나의 전체 캔들과 반영 대기 중인 체결분입니다.
+	 */
+	private static class Slot {
+		private final long openTime;
+		private long open;
+		private long high;
+		private long low;
+		private long close;
+		private long volume;
+		private long firstTradeAt;
+		private long lastTradeAt;
+
+		private long pendingOpen;
+		private long pendingHigh;
+		private long pendingLow;
+		private long pendingClose;
+		private long pendingVolume;
+		private long pendingFirstTradeAt;
+		private long pendingLastTradeAt;
+
+		Slot(long openTime) {
+			this.openTime = openTime;
+		}
+
+		void apply(long price, long tradeAt) {
+			if (volume == 0 || tradeAt < firstTradeAt) {
+				open = price;
+				firstTradeAt = tradeAt;
+			}
+			if (volume == 0 || tradeAt >= lastTradeAt) {
+				close = price;
+				lastTradeAt = tradeAt;
+			}
+			high = volume == 0 ? price : Math.max(high, price);
+			low = volume == 0 ? price : Math.min(low, price);
+			volume++;
+
+			if (pendingVolume == 0 || tradeAt < pendingFirstTradeAt) {
+				pendingOpen = price;
+				pendingFirstTradeAt = tradeAt;
+			}
+			if (pendingVolume == 0 || tradeAt >= pendingLastTradeAt) {
+				pendingClose = price;
+				pendingLastTradeAt = tradeAt;
+			}
+			pendingHigh = pendingVolume == 0 ? price : Math.max(pendingHigh, price);
+			pendingLow = pendingVolume == 0 ? price : Math.min(pendingLow, price);
+			pendingVolume++;
+		}
+
+		CandleDelta drain(CandleBuffer buffer) {
+			CandleDelta delta = new CandleDelta(buffer.scope, buffer.targetId, buffer.interval, openTime,
+				pendingOpen, pendingHigh, pendingLow, pendingClose, pendingVolume,
+				pendingFirstTradeAt, pendingLastTradeAt);
+			pendingVolume = 0;
+			return delta;
+		}
+	}
+}
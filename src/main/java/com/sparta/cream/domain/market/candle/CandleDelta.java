@@ -0,0 +1,25 @@
+package com.sparta.cream.domain.market.candle;
+
+/**
+ * 마지막 반영 이후 한 구간에 새로 집계된 체결분입니다.
+ * 롤업 테이블에는 덮어쓰지 않고 병합하므로(시가는 더 이른 체결, 종가는 더 늦은 체결, 거래량은 합산),
+ * 같은 구간이 여러 번 또는 여러 서버에서 반영되어도 결과가 같습니다.
+ * CandleDelta.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+public record CandleDelta(
+	CandleScope scope,
+	long targetId,
+	CandleInterval interval,
+	long openTime,
+	long open,
+	long high,
+	long low,
+	long close,
+	long volume,
+	long firstTradeAt,
+	long lastTradeAt
+) {
+}
@@ -0,0 +1,71 @@
+package com.sparta.cream.domain.market.candle;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 캔들(OHLCV) 집계 단위입니다.
+ * 구간은 서버 시간대 기준으로 정렬되므로 일 캔들은 자정부터 다음 자정까지를 하나의 구간으로 봅니다.
+ * 각 단위는 최근 구간을 보관할 인메모리 링 버퍼의 크기를 함께 정의합니다.
+ * CandleInterval.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+public enum CandleInterval {
+
+	MINUTE("1m", Duration.ofMinutes(1), 240),
+	HOUR("1h", Duration.ofHours(1), 168),
+	DAY("1d", Duration.ofDays(1), 90);
+
+	private static final ZoneId ZONE = ZoneId.systemDefault();
+
+	private final String code;
+	private final long millis;
+	private final int capacity;
+
+	CandleInterval(String code, Duration duration, int capacity) {
+		this.code = code;
+		this.millis = duration.toMillis();
+		this.capacity = capacity;
+	}
+
+	public String getCode() {
+		return code;
+	}
+
+	public long getMillis() {
+		return millis;
+	}
+
+	/**
+	 * @return 인메모리 링 버퍼에 보관할 최근 구간 수
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * 시각이 속한 구간의 시작 시각을 계산합니다.
+	 * @param epochMillis 시각(epoch millis)
+	 * @return 구간 시작 시각(epoch millis)
+	 */
+	public long startOf(long epochMillis) {
+		long offset = ZONE.getRules().getOffset(Instant.ofEpochMilli(epochMillis)).getTotalSeconds() * 1000L;
+		return Math.floorDiv(epochMillis + offset, millis) * millis - offset;
+	}
+
+	/**
+	 * 요청 파라미터 값(1m, 1h, 1d)으로 집계 단위를 찾습니다.
+	 * @param code 집계 단위 코드
+	 * @return 집계 단위, 없으면 빈 값
+	 */
+	public static Optional<CandleInterval> fromCode(String code) {
+		return Arrays.stream(values())
+			.filter(interval -> interval.code.equals(code))
+			.findFirst();
+	}
+}
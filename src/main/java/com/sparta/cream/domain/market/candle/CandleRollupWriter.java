@@ -0,0 +1,76 @@
+package com.sparta.cream.domain.market.candle;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sparta.cream.domain.market.repository.CandleRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link CandleAggregator}에 집계된 체결분을 주기적으로 롤업 테이블(candles)에 병합합니다.
+ * 병합은 덮어쓰기가 아니므로 같은 구간이 여러 주기에 걸쳐 반영되어도 결과가 같으며,
+ * 반영에 실패한 체결분은 다음 주기에 다시 반영합니다. 애플리케이션 종료 시에도 남은 체결분을 반영합니다.
+ * CandleRollupWriter.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CandleRollupWriter {
+
+	private final CandleAggregator candleAggregator;
+	private final CandleRepository candleRepository;
+
+	/**
+	 * 집계된 체결분을 한 트랜잭션에서 롤업 테이블에 병합합니다.
+	 */
+	@Scheduled(fixedDelayString = "${market.candle.flush-ms:5000}")
+	@Transactional
+	public void flush() {
+		List<CandleDelta> deltas = candleAggregator.drain();
+		if (deltas.isEmpty()) {
+			return;
+		}
+		try {
+			deltas.forEach(delta -> candleRepository.merge(
+				delta.scope().name(),
+				delta.targetId(),
+				delta.interval().name(),
+				toDateTime(delta.openTime()),
+				delta.open(),
+				delta.high(),
+				delta.low(),
+				delta.close(),
+				delta.volume(),
+				toDateTime(delta.firstTradeAt()),
+				toDateTime(delta.lastTradeAt())
+			));
+		} catch (RuntimeException e) {
+			candleAggregator.requeue(deltas);
+			throw e;
+		}
+		log.debug("캔들 롤업 반영: {}건", deltas.size());
+	}
+
+	@EventListener(ContextClosedEvent.class)
+	@Transactional
+	public void flushOnShutdown() {
+		flush();
+	}
+
+	static LocalDateTime toDateTime(long epochMillis) {
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+	}
+}
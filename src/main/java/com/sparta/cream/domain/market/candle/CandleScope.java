@@ -0,0 +1,14 @@
+package com.sparta.cream.domain.market.candle;
+
+/**
+ * 캔들 집계 대상의 범위입니다.
+ * OPTION은 상품 옵션(사이즈) 단위, PRODUCT는 상품의 모든 사이즈를 합친 단위입니다.
+ * CandleScope.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+public enum CandleScope {
+	OPTION,
+	PRODUCT
+}
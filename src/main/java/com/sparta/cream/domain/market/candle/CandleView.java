@@ -0,0 +1,18 @@
+package com.sparta.cream.domain.market.candle;
+
+/**
+ * 구간 하나의 시가/고가/저가/종가/거래량입니다.
+ * CandleView.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+public record CandleView(
+	long openTime,
+	long open,
+	long high,
+	long low,
+	long close,
+	long volume
+) {
+}
@@ -0,0 +1,181 @@
+package com.sparta.cream.domain.market.controller;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.sparta.cream.domain.market.candle.CandleScope;
+import com.sparta.cream.domain.market.dto.BookSnapshotResponseDto;
+import com.sparta.cream.domain.market.dto.CandleResponseDto;
+import com.sparta.cream.domain.market.dto.DepthResponseDto;
+import com.sparta.cream.domain.market.dto.MarketSnapshotResponseDto;
+import com.sparta.cream.domain.market.dto.RecentTradeResponseDto;
+import com.sparta.cream.domain.market.dto.TickerResponseDto;
+import com.sparta.cream.domain.market.service.MarketService;
+import com.sparta.cream.domain.market.service.MarketSnapshotCache;
+import com.sparta.cream.domain.market.stream.MarketStreamHub;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 시세 조회 API를 처리하는 컨트롤러입니다.
+ * MarketController.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@RestController
+@RequestMapping("/v1/products")
+@RequiredArgsConstructor
+public class MarketController {
+
+	private final MarketService marketService;
+	private final MarketStreamHub marketStreamHub;
+
+	/**
+	 * 상품의 모든 사이즈에 대한 즉시 구매가/즉시 판매가를 조회합니다.
+	 * @param productId 상품 ID
+	 * @return 옵션별 시세 목록
+	 */
+	@GetMapping("/{productId}/tickers")
+	public ResponseEntity<List<TickerResponseDto>> getTickers(@PathVariable Long productId) {
+		return ResponseEntity.ok(marketService.getTickers(productId));
+	}
+
+	/**
+	 * 상품 상세 화면의 시세 요약(사이즈별 즉시 구매가/즉시 판매가, 마지막 체결, 24시간 체결 수)을 조회합니다.
+	 * 응답에는 스냅샷 버전이 강한 ETag로 포함되며, {@code If-None-Match}가 현재 버전과 같으면
+	 * 본문 없이 304 Not Modified를 반환합니다.
+	 * @param productId 상품 ID
+	 * @param ifNoneMatch 클라이언트가 보관한 ETag 목록
+	 * @return 시세 요약 또는 304 응답
+	 */
+	@GetMapping("/{productId}/market")
+	public ResponseEntity<MarketSnapshotResponseDto> getMarket(
+		@PathVariable Long productId,
+		@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+		MarketSnapshotCache.MarketSnapshot snapshot = marketService.getMarketSnapshot(productId);
+		if (matches(ifNoneMatch, snapshot.etag())) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.etag()).build();
+		}
+		return ResponseEntity.ok().eTag(snapshot.etag()).body(snapshot.body());
+	}
+
+	/**
+	 * 상품의 실시간 시세 스트림(호가 레벨 변경, 체결)을 구독합니다.
+	 * 각 이벤트는 상품별 순번({@code id})을 가지며, 클라이언트는 다음 순서로 호가창을 유지합니다.
+	 * 1. 스트림을 먼저 구독하고 수신한 이벤트를 보관합니다.
+	 * 2. 스냅샷을 조회한 뒤, 스냅샷 순번 이하의 이벤트는 버리고 나머지를 적용합니다.
+	 * 3. 순번이 건너뛰거나 {@code resync}가 true인 이벤트를 받으면 스냅샷을 다시 조회합니다.
+	 * @param productId 상품 ID
+	 * @return 상품 토픽에 등록된 {@link SseEmitter} 객체
+	 */
+	@GetMapping(value = "/{productId}/stream", produces = "text/event-stream;charset=UTF-8")
+	public SseEmitter subscribe(@PathVariable Long productId) {
+		return marketStreamHub.subscribe(productId);
+	}
+
+	/**
+	 * 실시간 시세 스트림의 기준점이 되는 상품 전체 호가창 스냅샷을 조회합니다.
+	 * @param productId 상품 ID
+	 * @return 스트림 순번과 옵션별 호가창
+	 */
+	@GetMapping("/{productId}/book")
+	public ResponseEntity<BookSnapshotResponseDto> getBookSnapshot(@PathVariable Long productId) {
+		return ResponseEntity.ok(marketService.getBookSnapshot(productId));
+	}
+
+	/**
+	 * 상품 옵션의 호가 깊이를 조회합니다.
+	 * 개별 입찰 목록 대신 가격 구간별 수량만 반환하므로 대기 입찰 수와 무관하게 응답 크기가 제한됩니다.
+	 * @param productOptionId 상품 옵션 ID
+	 * @param levels 방향별 최대 가격 구간 수
+	 * @param tick 가격 구간 단위 (0이면 가격별)
+	 * @return 호가 깊이
+	 */
+	@GetMapping("/options/{productOptionId}/depth")
+	public ResponseEntity<DepthResponseDto> getDepth(
+		@PathVariable Long productOptionId,
+		@RequestParam(defaultValue = "10") int levels,
+		@RequestParam(defaultValue = "0") long tick) {
+
+		return ResponseEntity.ok(marketService.getDepth(productOptionId, levels, tick));
+	}
+
+	/**
+	 * 상품 옵션의 최근 체결 내역을 최신순으로 조회합니다.
+	 * @param productOptionId 상품 옵션 ID
+	 * @param limit 최대 조회 건수
+	 * @return 최근 체결 목록
+	 */
+	@GetMapping("/options/{productOptionId}/trades")
+	public ResponseEntity<List<RecentTradeResponseDto>> getRecentTrades(
+		@PathVariable Long productOptionId,
+		@RequestParam(defaultValue = "20") int limit) {
+
+		return ResponseEntity.ok(marketService.getRecentTrades(productOptionId, limit));
+	}
+
+	/**
+	 * 상품(전체 사이즈 합산)의 캔들을 조회합니다.
+	 * @param productId 상품 ID
+	 * @param interval 캔들 단위 (1m, 1h, 1d)
+	 * @param to 조회 기준 시각 (생략 시 현재)
+	 * @param count 최대 구간 수
+	 * @return 시간순 캔들 목록
+	 */
+	@GetMapping("/{productId}/candles")
+	public ResponseEntity<List<CandleResponseDto>> getProductCandles(
+		@PathVariable Long productId,
+		@RequestParam(defaultValue = "1d") String interval,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+		@RequestParam(defaultValue = "100") int count) {
+
+		return ResponseEntity.ok(marketService.getCandles(CandleScope.PRODUCT, productId, interval, to, count));
+	}
+
+	/**
+	 * 상품 옵션(사이즈)의 캔들을 조회합니다.
+	 * @param productOptionId 상품 옵션 ID
+	 * @param interval 캔들 단위 (1m, 1h, 1d)
+	 * @param to 조회 기준 시각 (생략 시 현재)
+	 * @param count 최대 구간 수
+	 * @return 시간순 캔들 목록
+	 */
+	@GetMapping("/options/{productOptionId}/candles")
+	public ResponseEntity<List<CandleResponseDto>> getOptionCandles(
+		@PathVariable Long productOptionId,
+		@RequestParam(defaultValue = "1d") String interval,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+		@RequestParam(defaultValue = "100") int count) {
+
+		return ResponseEntity.ok(marketService.getCandles(CandleScope.OPTION, productOptionId, interval, to, count));
+	}
+
+	private boolean matches(String ifNoneMatch, String etag) {
+		if (ifNoneMatch == null) {
+			return false;
+		}
+		for (String candidate : ifNoneMatch.split(",")) {
+			String tag = candidate.trim();
+			if (tag.startsWith("W/")) {
+				tag = tag.substring(2);
+			}
+			if (tag.equals("*") || tag.equals(etag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,22 @@
+package com.sparta.cream.domain.market.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 상품의 모든 옵션 호가창 스냅샷 응답 DTO입니다.
+ * 실시간 시세 스트림을 이어 받기 위한 기준점으로, {@code sequence} 이하의 증분은 이미 반영되어 있습니다.
+ * BookSnapshotResponseDto.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Getter
+@Builder
+public class BookSnapshotResponseDto {
+	private final Long productId;
+	private final long sequence;
+	private final List<DepthResponseDto> options;
+}
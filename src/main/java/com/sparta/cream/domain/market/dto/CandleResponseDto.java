@@ -0,0 +1,37 @@
+package com.sparta.cream.domain.market.dto;
+
+import java.time.LocalDateTime;
+
+import com.sparta.cream.domain.market.candle.CandleView;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 캔들(OHLCV) 응답 DTO입니다.
+ * CandleResponseDto.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Getter
+@Builder
+public class CandleResponseDto {
+	private final LocalDateTime openTime;
+	private final Long open;
+	private final Long high;
+	private final Long low;
+	private final Long close;
+	private final Long volume;
+
+	public static CandleResponseDto from(CandleView candle, LocalDateTime openTime) {
+		return CandleResponseDto.builder()
+			.openTime(openTime)
+			.open(candle.open())
+			.high(candle.high())
+			.low(candle.low())
+			.close(candle.close())
+			.volume(candle.volume())
+			.build();
+	}
+}
@@ -0,0 +1,25 @@
+package com.sparta.cream.domain.market.dto;
+
+import java.util.List;
+
+import com.sparta.cream.domain.trade.engine.DepthLevel;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 상품 옵션의 호가 깊이 응답 DTO입니다.
+ * 구매 호가는 높은 가격순, 판매 호가는 낮은 가격순이며, 각 방향은 요청한 구간 수를 넘지 않습니다.
+ * DepthResponseDto.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Getter
+@Builder
+public class DepthResponseDto {
+	private final Long productOptionId;
+	private final long tick;
+	private final List<DepthLevel> buyLevels;
+	private final List<DepthLevel> sellLevels;
+}
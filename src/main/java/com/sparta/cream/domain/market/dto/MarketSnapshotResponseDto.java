@@ -0,0 +1,24 @@
+package com.sparta.cream.domain.market.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 상품 상세 화면의 시세 요약 응답 DTO입니다.
+ * 사이즈별 즉시 구매가/즉시 판매가, 상품 전체의 마지막 체결, 최근 24시간 체결 수를 담습니다.
+ * 마지막 체결이 없으면 {@code lastTrade}는 null입니다.
+ * MarketSnapshotResponseDto.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Getter
+@Builder
+public class MarketSnapshotResponseDto {
+	private final Long productId;
+	private final List<TickerResponseDto> tickers;
+	private final RecentTradeResponseDto lastTrade;
+	private final long volume24h;
+}
@@ -0,0 +1,31 @@
+package com.sparta.cream.domain.market.dto;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import com.sparta.cream.domain.market.history.TradeTick;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 상품 옵션의 최근 체결 응답 DTO입니다.
+ * RecentTradeResponseDto.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Getter
+@Builder
+public class RecentTradeResponseDto {
+	private final Long price;
+	private final LocalDateTime matchedAt;
+
+	public static RecentTradeResponseDto from(TradeTick tick) {
+		return RecentTradeResponseDto.builder()
+			.price(tick.price())
+			.matchedAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(tick.matchedAtMillis()), ZoneId.systemDefault()))
+			.build();
+	}
+}
@@ -0,0 +1,43 @@
+package com.sparta.cream.domain.market.dto;
+
+import com.sparta.cream.domain.trade.engine.TopOfBook;
+import com.sparta.cream.entity.ProductOption;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 상품 옵션(사이즈)별 시세 응답 DTO입니다.
+ * 즉시 구매가는 최저 판매 입찰가, 즉시 판매가는 최고 구매 입찰가이며, 대기 입찰이 없으면 null입니다.
+ * TickerResponseDto.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Getter
+@Builder
+public class TickerResponseDto {
+	private final Long productOptionId;
+	private final String size;
+	private final Long instantBuyPrice;
+	private final int instantBuyCount;
+	private final Long instantSellPrice;
+	private final int instantSellCount;
+
+	/**
+	 * 상품 옵션과 최우선 호가로 시세 응답을 생성합니다.
+	 * @param option 상품 옵션
+	 * @param topOfBook 옵션의 최우선 호가
+	 * @return 시세 응답 DTO
+	 */
+	public static TickerResponseDto of(ProductOption option, TopOfBook topOfBook) {
+		return TickerResponseDto.builder()
+			.productOptionId(option.getId())
+			.size(option.getSize())
+			.instantBuyPrice(topOfBook.bestSellPrice())
+			.instantBuyCount(topOfBook.bestSellCount())
+			.instantSellPrice(topOfBook.bestBuyPrice())
+			.instantSellCount(topOfBook.bestBuyCount())
+			.build();
+	}
+}
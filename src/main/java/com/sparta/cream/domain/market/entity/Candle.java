@@ -0,0 +1,79 @@
+package com.sparta.cream.domain.market.entity;
+
+import java.time.LocalDateTime;
+
+import com.sparta.cream.domain.market.candle.CandleInterval;
+import com.sparta.cream.domain.market.candle.CandleScope;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 링 버퍼에서 반영된 캔들(OHLCV) 롤업 엔티티입니다.
+ * 집계 범위·대상·단위·구간 시작 시각마다 한 행이며, 행은 {@code CandleRepository#merge}로만 생성/병합됩니다.
+ * 시가/종가 병합 기준이 되는 구간 내 첫/마지막 체결 시각을 함께 보관합니다.
+ * Candle.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+	name = "candles",
+	uniqueConstraints = {
+		@UniqueConstraint(columnNames = {"scope", "target_id", "interval_type", "open_time"})
+	}
+)
+public class Candle {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 10)
+	private CandleScope scope;
+
+	@Column(name = "target_id", nullable = false)
+	private Long targetId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "interval_type", nullable = false, length = 10)
+	private CandleInterval interval;
+
+	@Column(name = "open_time", nullable = false)
+	private LocalDateTime openTime;
+
+	@Column(nullable = false)
+	private Long openPrice;
+
+	@Column(nullable = false)
+	private Long highPrice;
+
+	@Column(nullable = false)
+	private Long lowPrice;
+
+	@Column(nullable = false)
+	private Long closePrice;
+
+	@Column(nullable = false)
+	private Long volume;
+
+	@Column(nullable = false)
+	private LocalDateTime firstTradeAt;
+
+	@Column(nullable = false)
+	private LocalDateTime lastTradeAt;
+}
@@ -0,0 +1,318 @@
+package com.sparta.cream.domain.market.history;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 옵션별 체결 내역을 일 단위로 분할하여 기록하는 추가 전용(Append-only) 시계열 저장소입니다.
+ * {@code {dir}/{yyyy-MM-dd}/option-{상품 옵션 ID}.bin} 파일에 24바이트 고정 길이 레코드를 체결 순서대로 덧붙이므로,
+ * 최근 체결 조회는 파일 끝에서 필요한 레코드만, 기간 조회는 해당 일자의 파일만 읽으며 trade 테이블과 bids 조인을 거치지 않습니다.
+ * - [0, 8) 거래 ID, [8, 16) 체결가, [16, 24) 체결 시각(epoch millis)
+ * 파일을 열 때 레코드 크기의 배수로 잘라내어, 비정상 종료로 일부만 기록된 마지막 레코드는 버립니다.
+ * 보관 기간이 지난 일자 디렉터리는 매일 삭제됩니다.
+ * TradeHistoryStore.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Slf4j
+@Component
+public class TradeHistoryStore implements DisposableBean {
+
+	static final int RECORD_SIZE = 24;
+	private static final String FILE_PREFIX = "option-";
+	private static final String FILE_SUFFIX = ".bin";
+
+	private final Path directory;
+	private final int retentionDays;
+	private final ZoneId zone = ZoneId.systemDefault();
+	private final Map<Long, Partition> partitions = new ConcurrentHashMap<>();
+	private volatile boolean enabled;
+
+	/**
+	 * @param enabled 저장소 사용 여부 ({@code market.history.enabled})
+	 * @param directory 시계열 파일을 보관할 디렉터리 ({@code market.history.dir})
+	 * @param retentionDays 일자 디렉터리 보관 일수 ({@code market.history.retention-days})
+	 */
+	public TradeHistoryStore(
+		@Value("${market.history.enabled:true}") boolean enabled,
+		@Value("${market.history.dir:./data/trade-history}") String directory,
+		@Value("${market.history.retention-days:400}") int retentionDays
+	) {
+		this.directory = Path.of(directory);
+		this.retentionDays = retentionDays;
+		this.enabled = enabled && open();
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 한 상품 옵션의 체결을 순서대로 기록합니다.
+	 * 같은 옵션의 기록은 옵션별 파티션 잠금으로 직렬화되고, 서로 다른 옵션은 동시에 기록됩니다.
+	 * @param productOptionId 상품 옵션 ID
+	 * @param ticks 체결 순서의 체결 목록
+	 */
+	public void append(Long productOptionId, List<TradeTick> ticks) {
+		if (!enabled || ticks.isEmpty()) {
+			return;
+		}
+		Partition partition = partitions.computeIfAbsent(productOptionId, Partition::new);
+		ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+		synchronized (partition) {
+			try {
+				for (TradeTick tick : ticks) {
+					FileChannel channel = partition.channelFor(dayOf(tick.matchedAtMillis()));
+					record.clear();
+					record.putLong(tick.tradeId()).putLong(tick.price()).putLong(tick.matchedAtMillis()).flip();
+					while (record.hasRemaining()) {
+						channel.write(record);
+					}
+				}
+			} catch (IOException e) {
+				log.error("체결 시계열 기록 실패: 옵션 {}, 사유: {}", productOptionId, e.getMessage());
+				partition.close();
+			}
+		}
+	}
+
+	/**
+	 * 상품 옵션의 최근 체결을 최신순으로 조회합니다.
+	 * 최신 일자부터 거슬러 올라가며 각 파일의 끝에서 필요한 레코드만 읽습니다.
+	 * @param productOptionId 상품 옵션 ID
+	 * @param limit 최대 조회 건수
+	 * @return 최신순 체결 목록
+	 */
+	public List<TradeTick> recent(Long productOptionId, int limit) {
+		List<TradeTick> recent = new ArrayList<>(limit);
+		if (!enabled) {
+			return recent;
+		}
+		try {
+			for (LocalDate day : days()) {
+				Path file = partitionPath(day, productOptionId);
+				if (!Files.exists(file)) {
+					continue;
+				}
+				List<TradeTick> ticks = read(file, limit - recent.size());
+				Collections.reverse(ticks);
+				recent.addAll(ticks);
+				if (recent.size() >= limit) {
+					break;
+				}
+			}
+		} catch (IOException e) {
+			log.error("최근 체결 조회 실패: 옵션 {}, 사유: {}", productOptionId, e.getMessage());
+		}
+		return recent;
+	}
+
+	/**
+	 * 상품 옵션의 체결을 기간 안에서 체결 순서대로 조회합니다.
+	 * 기간에 포함된 일자의 파일만 읽습니다.
+	 * @param productOptionId 상품 옵션 ID
+	 * @param fromMillis 시작 시각(포함, epoch millis)
+	 * @param toMillis 종료 시각(미포함, epoch millis)
+	 * @return 체결 순서의 체결 목록
+	 */
+	public List<TradeTick> range(Long productOptionId, long fromMillis, long toMillis) {
+		List<TradeTick> range = new ArrayList<>();
+		if (!enabled || fromMillis >= toMillis) {
+			return range;
+		}
+		try {
+			LocalDate last = dayOf(toMillis - 1);
+			for (LocalDate day = dayOf(fromMillis); !day.isAfter(last); day = day.plusDays(1)) {
+				Path file = partitionPath(day, productOptionId);
+				if (!Files.exists(file)) {
+					continue;
+				}
+				read(file, Integer.MAX_VALUE).stream()
+					.filter(tick -> tick.matchedAtMillis() >= fromMillis && tick.matchedAtMillis() < toMillis)
+					.forEach(range::add);
+			}
+		} catch (IOException e) {
+			log.error("기간 체결 조회 실패: 옵션 {}, 사유: {}", productOptionId, e.getMessage());
+		}
+		return range;
+	}
+
+	/**
+	 * 지난 일자의 파일 핸들을 닫고, 보관 기간이 지난 일자 디렉터리를 삭제합니다.
+	 */
+	@Scheduled(cron = "${market.history.cleanup-cron:0 10 0 * * *}")
+	public void cleanUp() {
+		if (!enabled) {
+			return;
+		}
+		LocalDate today = LocalDate.now(zone);
+		partitions.values().forEach(partition -> {
+			synchronized (partition) {
+				if (partition.day != null && partition.day.isBefore(today)) {
+					partition.close();
+				}
+			}
+		});
+
+		LocalDate expiredBefore = today.minusDays(retentionDays);
+		try {
+			for (LocalDate day : days()) {
+				if (day.isBefore(expiredBefore)) {
+					deleteDay(day);
+				}
+			}
+		} catch (IOException e) {
+			log.warn("체결 시계열 정리 실패: {}", e.getMessage());
+		}
+	}
+
+	@Override
+	public void destroy() {
+		partitions.values().forEach(partition -> {
+			synchronized (partition) {
+				partition.close();
+			}
+		});
+	}
+
+	private List<TradeTick> read(Path file, int maxRecords) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			long records = channel.size() / RECORD_SIZE;
+			long first = Math.max(0, records - maxRecords);
+			ByteBuffer buffer = ByteBuffer.allocate((int)((records - first) * RECORD_SIZE));
+			long position = first * RECORD_SIZE;
+			while (buffer.hasRemaining()) {
+				int read = channel.read(buffer, position + buffer.position());
+				if (read < 0) {
+					break;
+				}
+			}
+			buffer.flip();
+
+			List<TradeTick> ticks = new ArrayList<>(buffer.remaining() / RECORD_SIZE);
+			while (buffer.remaining() >= RECORD_SIZE) {
+				ticks.add(new TradeTick(buffer.getLong(), buffer.getLong(), buffer.getLong()));
+			}
+			return ticks;
+		}
+	}
+
+	private boolean open() {
+		try {
+			Files.createDirectories(directory);
+			log.info("체결 시계열 저장소 열기 완료: {}", directory);
+			return true;
+		} catch (IOException e) {
+			log.error("체결 시계열 저장소를 열 수 없어 비활성화합니다: {}", e.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * 일자 디렉터리를 최신순으로 반환합니다.
+	 */
+	private List<LocalDate> days() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files
+				.filter(Files::isDirectory)
+				.map(path -> parseDay(path.getFileName().toString()))
+				.filter(Objects::nonNull)
+				.sorted(Comparator.reverseOrder())
+				.toList();
+		}
+	}
+
+	private void deleteDay(LocalDate day) throws IOException {
+		Path dayDirectory = directory.resolve(day.toString());
+		try (Stream<Path> files = Files.list(dayDirectory)) {
+			for (Path file : files.toList()) {
+				Files.deleteIfExists(file);
+			}
+		}
+		Files.deleteIfExists(dayDirectory);
+		log.info("보관 기간이 지난 체결 시계열 삭제: {}", day);
+	}
+
+	private LocalDate parseDay(String name) {
+		try {
+			return LocalDate.parse(name);
+		} catch (DateTimeParseException e) {
+			return null;
+		}
+	}
+
+	private LocalDate dayOf(long epochMillis) {
+		return LocalDate.ofInstant(Instant.ofEpochMilli(epochMillis), zone);
+	}
+
+	private Path partitionPath(LocalDate day, Long productOptionId) {
+		return directory.resolve(day.toString()).resolve(FILE_PREFIX + productOptionId + FILE_SUFFIX);
+	}
+
+	/**
+	 * 상품 옵션 하나의 현재 기록 중인 일자 파일입니다.
+	 * 기록할 체결의 일자가 바뀌면 기존 파일을 닫고 새 일자의 파일을 엽니다.
+	 */
+	private class Partition {
+		private final Long productOptionId;
+		private LocalDate day;
+		private FileChannel channel;
+
+		Partition(Long productOptionId) {
+			this.productOptionId = productOptionId;
+		}
+
+		FileChannel channelFor(LocalDate day) throws IOException {
+			if (channel != null && day.equals(this.day)) {
+				return channel;
+			}
+			close();
+			Path file = partitionPath(day, productOptionId);
+			Files.createDirectories(file.getParent());
+			FileChannel opened = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+			long size = opened.size();
+			opened.truncate(size - size % RECORD_SIZE);
+			opened.position(opened.size());
+			this.channel = opened;
+			this.day = day;
+			return opened;
+		}
+
+		void close() {
+			if (channel == null) {
+				return;
+			}
+			try {
+				channel.close();
+			} catch (IOException e) {
+				log.warn("체결 시계열 파일 닫기 실패: 옵션 {}, 사유: {}", productOptionId, e.getMessage());
+			}
+			channel = null;
+			day = null;
+		}
+	}
+}
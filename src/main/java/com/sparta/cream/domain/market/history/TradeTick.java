@@ -0,0 +1,15 @@
+package com.sparta.cream.domain.market.history;
+
+/**
+ * 거래 시계열 저장소에 기록되는 체결 한 건입니다.
+ * TradeTick.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+public record TradeTick(
+	long tradeId,
+	long price,
+	long matchedAtMillis
+) {
+}
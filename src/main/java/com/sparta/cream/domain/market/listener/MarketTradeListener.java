@@ -0,0 +1,60 @@
+package com.sparta.cream.domain.market.listener;
+
+import java.time.ZoneId;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.sparta.cream.domain.market.candle.CandleAggregator;
+import com.sparta.cream.domain.market.history.TradeHistoryStore;
+import com.sparta.cream.domain.market.history.TradeTick;
+import com.sparta.cream.domain.market.service.LastMatchedPriceWriter;
+import com.sparta.cream.domain.market.service.MarketSnapshotCache;
+import com.sparta.cream.domain.market.stream.MarketStreamPublisher;
+import com.sparta.cream.domain.trade.event.TradeMatchedBatchEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 체결 이벤트를 구독하여 시세 데이터(체결 시계열, 최근 체결가, 캔들)를 갱신하고 실시간 시세 스트림에 체결을 알리는 리스너입니다.
+ * 커밋된 체결만 반영하며, 매칭 샤드 스레드에서 동기적으로 실행되어 같은 옵션의 체결이 순서대로 기록됩니다.
+ * 파일 덧붙이기와 메모리 갱신, 발행 대기열 추가만 수행하므로 DB 왕복은 발생하지 않습니다.
+ * MarketTradeListener.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Component
+@RequiredArgsConstructor
+public class MarketTradeListener {
+
+	private final TradeHistoryStore tradeHistoryStore;
+	private final LastMatchedPriceWriter lastMatchedPriceWriter;
+	private final CandleAggregator candleAggregator;
+	private final MarketStreamPublisher marketStreamPublisher;
+	private final MarketSnapshotCache marketSnapshotCache;
+
+	/**
+	 * 일괄 체결된 거래를 체결 시계열과 옵션/상품 캔들에 반영하고, 마지막 체결가를 최근 체결가로 기록합니다.
+	 * @param event 거래 일괄 체결 이벤트
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleTradeMatched(TradeMatchedBatchEvent event) {
+		if (event.trades().isEmpty()) {
+			return;
+		}
+		long matchedAtMillis = event.matchedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+		List<TradeTick> ticks = event.trades().stream()
+			.map(trade -> new TradeTick(trade.tradeId(), trade.price(), matchedAtMillis))
+			.toList();
+
+		tradeHistoryStore.append(event.productOptionId(), ticks);
+		ticks.forEach(tick -> candleAggregator.record(
+			event.productOptionId(), event.productId(), tick.price(), tick.matchedAtMillis()));
+		marketSnapshotCache.recordTrade(event.productOptionId(), ticks.get(ticks.size() - 1));
+		marketStreamPublisher.publishTrades(event.productOptionId(), event.productId(), ticks);
+		lastMatchedPriceWriter.record(event.productOptionId(), ticks.get(ticks.size() - 1).price());
+	}
+}
@@ -0,0 +1,65 @@
+package com.sparta.cream.domain.market.listener;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.sparta.cream.domain.bid.event.BidChangedEvent;
+import com.sparta.cream.domain.market.ranking.ProductPopularityRanking;
+import com.sparta.cream.domain.notification.entity.NotificationType;
+import com.sparta.cream.domain.trade.event.TradeMatchedBatchEvent;
+import com.sparta.cream.outbox.OutboxDelivery;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 체결과 입찰 이벤트를 구독하여 상품 인기도 순위를 증분 갱신하는 리스너입니다.
+ * 커밋 이후 아웃박스 릴레이가 전달한 이벤트만 반영하므로 Redis 갱신이 매칭 샤드나 요청 스레드를 지연시키지 않습니다.
+ * 인기도 갱신에 실패하더라도 다른 소비자의 전달에 영향을 주지 않도록 예외는 기록만 합니다.
+ * 다른 소비자의 실패로 이벤트가 다시 전달되면 중복 반영될 수 있으나, 시간에 따라 감쇠하는 순위이므로 허용합니다.
+ * ProductPopularityListener.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductPopularityListener {
+
+	private final ProductPopularityRanking productPopularityRanking;
+
+	/**
+	 * 일괄 체결된 거래 건수를 상품 인기도에 반영합니다.
+	 * @param delivery 아웃박스로 전달된 거래 일괄 체결 이벤트
+	 */
+	@EventListener
+	public void handleTradeMatched(OutboxDelivery<TradeMatchedBatchEvent> delivery) {
+		TradeMatchedBatchEvent event = delivery.event();
+		if (event.trades().isEmpty()) {
+			return;
+		}
+		try {
+			productPopularityRanking.recordTrades(event.productId(), event.trades().size());
+		} catch (RuntimeException e) {
+			log.warn("상품 인기도 반영 실패: 상품 {} - {}", event.productId(), e.getMessage());
+		}
+	}
+
+	/**
+	 * 입찰 등록/수정을 상품 인기도에 반영합니다. 취소는 반영하지 않습니다.
+	 * @param delivery 아웃박스로 전달된 입찰 변경 이벤트
+	 */
+	@EventListener
+	public void handleBidChanged(OutboxDelivery<BidChangedEvent> delivery) {
+		BidChangedEvent event = delivery.event();
+		if (event.type() != NotificationType.BID_REGISTERED && event.type() != NotificationType.BID_UPDATED) {
+			return;
+		}
+		try {
+			productPopularityRanking.recordBid(event.productId());
+		} catch (RuntimeException e) {
+			log.warn("상품 인기도 반영 실패: 상품 {} - {}", event.productId(), e.getMessage());
+		}
+	}
+}
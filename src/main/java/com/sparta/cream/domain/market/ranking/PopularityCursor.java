@@ -0,0 +1,51 @@
+package com.sparta.cream.domain.market.ranking;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.sparta.cream.exception.BusinessException;
+import com.sparta.cream.exception.ProductErrorCode;
+
+/**
+ * 인기순 상품 목록의 다음 페이지 위치를 나타내는 커서입니다.
+ * 마지막으로 반환한 상품의 점수와 ID를 담으며, 클라이언트에는 URL-safe Base64 문자열로 전달합니다.
+ * PopularityCursor.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+public record PopularityCursor(
+	double score,
+	long productId
+) {
+
+	public static PopularityCursor of(RankedProduct rankedProduct) {
+		return new PopularityCursor(rankedProduct.score(), rankedProduct.productId());
+	}
+
+	/**
+	 * 커서 문자열을 해석합니다.
+	 * @param cursor 커서 문자열 (null 또는 빈 값이면 첫 페이지)
+	 * @return 해석된 커서, 첫 페이지이면 null
+	 * @throws BusinessException 형식이 올바르지 않은 커서일 경우 발생
+	 */
+	public static PopularityCursor decode(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return null;
+		}
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int separator = decoded.indexOf(':');
+			return new PopularityCursor(
+				Double.parseDouble(decoded.substring(0, separator)),
+				Long.parseLong(decoded.substring(separator + 1)));
+		} catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+			throw new BusinessException(ProductErrorCode.PRODUCT_INVALID_CURSOR);
+		}
+	}
+
+	public String encode() {
+		return Base64.getUrlEncoder().withoutPadding()
+			.encodeToString((score + ":" + productId).getBytes(StandardCharsets.UTF_8));
+	}
+}
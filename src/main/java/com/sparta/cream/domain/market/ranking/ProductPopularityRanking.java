@@ -0,0 +1,152 @@
+package com.sparta.cream.domain.market.ranking;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.ScoredEntry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 체결과 입찰 흐름으로부터 상품 인기도를 지수 감쇠 점수로 유지하는 Redis Sorted Set 순위입니다.
+ * 점수는 반감기마다 절반으로 줄어드는 가중합이며, 매번 모든 상품을 다시 계산하지 않도록 전방 감쇠(forward decay)를 사용합니다.
+ * 즉 이벤트 가중치에 2^((발생 시각 - 기준 시각) / 반감기)를 곱해 더하므로, 시간이 흘러도 기존 점수는 바뀌지 않고 상대 순서가 그대로 유지됩니다.
+ * 값이 계속 커지는 것을 막기 위해 주기적으로 모든 점수를 현재 시각 기준으로 환산하고, 충분히 작아진 상품은 순위에서 제외합니다.
+ * 점수 증가와 환산은 Lua 스크립트로 기준 시각과 함께 원자적으로 처리되므로 여러 노드가 동시에 갱신해도 어긋나지 않습니다.
+ * 목록 조회 시에는 GROUP BY 없이 이 순위를 점수 내림차순으로 커서 이동하며 읽습니다.
+ * ProductPopularityRanking.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Slf4j
+@Component
+public class ProductPopularityRanking {
+
+	static final String RANKING_KEY = "product:popularity";
+	static final String EPOCH_KEY = "product:popularity:epoch";
+
+	private static final String INCREMENT_SCRIPT = """
+		local epoch = tonumber(redis.call('GET', KEYS[2]))
+		if not epoch then
+			epoch = tonumber(ARGV[1])
+			redis.call('SET', KEYS[2], ARGV[1])
+		end
+		local delta = tonumber(ARGV[3]) * math.pow(2, (tonumber(ARGV[1]) - epoch) / tonumber(ARGV[2]))
+		return redis.call('ZINCRBY', KEYS[1], delta, ARGV[4])
+		""";
+
+	private static final String REBASE_SCRIPT = """
+		local epoch = tonumber(redis.call('GET', KEYS[2]))
+		if not epoch then
+			return 0
+		end
+		local factor = math.pow(2, (epoch - tonumber(ARGV[1])) / tonumber(ARGV[2]))
+		redis.call('ZUNIONSTORE', KEYS[1], 1, KEYS[1], 'WEIGHTS', factor)
+		redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[3])
+		redis.call('SET', KEYS[2], ARGV[1])
+		return 1
+		""";
+
+	private final RedissonClient redissonClient;
+	private final long halfLifeMillis;
+	private final double tradeWeight;
+	private final double bidWeight;
+	private final double minScore;
+
+	public ProductPopularityRanking(
+		RedissonClient redissonClient,
+		@Value("${market.popularity.half-life-hours:24}") long halfLifeHours,
+		@Value("${market.popularity.trade-weight:3}") double tradeWeight,
+		@Value("${market.popularity.bid-weight:1}") double bidWeight,
+		@Value("${market.popularity.min-score:0.01}") double minScore
+	) {
+		this.redissonClient = redissonClient;
+		this.halfLifeMillis = halfLifeHours * 60 * 60 * 1000L;
+		this.tradeWeight = tradeWeight;
+		this.bidWeight = bidWeight;
+		this.minScore = minScore;
+	}
+
+	/**
+	 * 상품의 체결을 인기도에 반영합니다.
+	 * @param productId 상품 ID
+	 * @param tradeCount 체결 건수
+	 */
+	public void recordTrades(Long productId, int tradeCount) {
+		increment(productId, tradeWeight * tradeCount);
+	}
+
+	/**
+	 * 상품의 입찰 등록/수정을 인기도에 반영합니다.
+	 * @param productId 상품 ID
+	 */
+	public void recordBid(Long productId) {
+		increment(productId, bidWeight);
+	}
+
+	/**
+	 * 커서 다음 위치부터 점수 내림차순으로 순위를 읽습니다.
+	 * 같은 점수 안에서는 Redis의 정렬 순서(ID 문자열 역순)를 따르며, 커서와 같거나 앞선 항목은 건너뜁니다.
+	 * @param cursor 이전 페이지의 마지막 위치 (null이면 처음부터)
+	 * @param count 최대 조회 개수
+	 * @return 점수 내림차순 상품 목록
+	 */
+	public List<RankedProduct> after(PopularityCursor cursor, int count) {
+		double maxScore = cursor == null ? Double.POSITIVE_INFINITY : cursor.score();
+		String cursorMember = cursor == null ? null : String.valueOf(cursor.productId());
+		List<RankedProduct> ranked = new ArrayList<>(count);
+		int offset = 0;
+		while (ranked.size() < count) {
+			Collection<ScoredEntry<String>> entries = ranking()
+				.entryRangeReversed(Double.NEGATIVE_INFINITY, true, maxScore, true, offset, count);
+			if (entries.isEmpty()) {
+				break;
+			}
+			for (ScoredEntry<String> entry : entries) {
+				offset++;
+				if (cursor != null && entry.getScore() == cursor.score() && entry.getValue().compareTo(cursorMember) >= 0) {
+					continue;
+				}
+				ranked.add(new RankedProduct(Long.parseLong(entry.getValue()), entry.getScore()));
+				if (ranked.size() == count) {
+					break;
+				}
+			}
+		}
+		return ranked;
+	}
+
+	/**
+	 * 모든 점수를 현재 시각 기준으로 환산하고, {@code market.popularity.min-score}보다 작아진 상품을 제외합니다.
+	 */
+	@Scheduled(cron = "${market.popularity.rebase-cron:0 0 4 * * *}")
+	public void rebase() {
+		Long rebased = redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, REBASE_SCRIPT,
+			RScript.ReturnType.INTEGER, List.<Object>of(RANKING_KEY, EPOCH_KEY),
+			String.valueOf(System.currentTimeMillis()), String.valueOf(halfLifeMillis), String.valueOf(minScore));
+		log.info("상품 인기도 기준 시각 환산: {}, 남은 상품 {}개", rebased != null && rebased == 1L, ranking().size());
+	}
+
+	private void increment(Long productId, double weight) {
+		if (productId == null || weight <= 0) {
+			return;
+		}
+		redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, INCREMENT_SCRIPT,
+			RScript.ReturnType.VALUE, List.<Object>of(RANKING_KEY, EPOCH_KEY),
+			String.valueOf(System.currentTimeMillis()), String.valueOf(halfLifeMillis),
+			String.valueOf(weight), String.valueOf(productId));
+	}
+
+	private RScoredSortedSet<String> ranking() {
+		return redissonClient.getScoredSortedSet(RANKING_KEY, StringCodec.INSTANCE);
+	}
+}
@@ -0,0 +1,15 @@
+package com.sparta.cream.domain.market.ranking;
+
+/**
+ * 인기도 순위에 올라 있는 상품 하나와 그 점수입니다.
+ * 점수는 순위 기준 시각으로 환산된 값이므로 같은 순위 안에서 비교하는 용도로만 사용합니다.
+ * RankedProduct.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+public record RankedProduct(
+	long productId,
+	double score
+) {
+}
@@ -0,0 +1,70 @@
+package com.sparta.cream.domain.market.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.sparta.cream.domain.market.candle.CandleInterval;
+import com.sparta.cream.domain.market.candle.CandleScope;
+import com.sparta.cream.domain.market.entity.Candle;
+
+public interface CandleRepository extends JpaRepository<Candle, Long> {
+
+	/**
+	 * 한 집계 대상·단위의 캔들을 구간 범위 안에서 시간순으로 조회합니다.
+	 * @param scope 집계 범위
+	 * @param targetId 상품 옵션 ID 또는 상품 ID
+	 * @param interval 집계 단위
+	 * @param from 시작 구간(포함)
+	 * @param to 종료 구간(미포함)
+	 * @return 시간순 캔들 목록
+	 */
+	@Query("SELECT c FROM Candle c WHERE c.scope = :scope AND c.targetId = :targetId AND c.interval = :interval "
+		+ "AND c.openTime >= :from AND c.openTime < :to ORDER BY c.openTime")
+	List<Candle> findSeries(
+		@Param("scope") CandleScope scope,
+		@Param("targetId") Long targetId,
+		@Param("interval") CandleInterval interval,
+		@Param("from") LocalDateTime from,
+		@Param("to") LocalDateTime to
+	);
+
+	/**
+	 * 구간의 체결분을 롤업 행에 병합합니다. 행이 없으면 그대로 생성합니다.
+	 * 시가는 더 이른 첫 체결, 종가는 더 늦은 마지막 체결의 가격을 따르고, 고가/저가는 극값, 거래량은 합산합니다.
+	 * MySQL은 할당을 왼쪽부터 적용하므로 시가/종가를 첫/마지막 체결 시각보다 먼저 갱신합니다.
+	 * @return 영향받은 행 수
+	 */
+	@Modifying
+	@Query(value = """
+		INSERT INTO candles (scope, target_id, interval_type, open_time, open_price, high_price, low_price,
+			close_price, volume, first_trade_at, last_trade_at)
+		VALUES (:scope, :targetId, :interval, :openTime, :open, :high, :low, :close, :volume,
+			:firstTradeAt, :lastTradeAt)
+		ON DUPLICATE KEY UPDATE
+			open_price = CASE WHEN VALUES(first_trade_at) < first_trade_at THEN VALUES(open_price) ELSE open_price END,
+			close_price = CASE WHEN VALUES(last_trade_at) >= last_trade_at THEN VALUES(close_price) ELSE close_price END,
+			first_trade_at = LEAST(first_trade_at, VALUES(first_trade_at)),
+			last_trade_at = GREATEST(last_trade_at, VALUES(last_trade_at)),
+			high_price = GREATEST(high_price, VALUES(high_price)),
+			low_price = LEAST(low_price, VALUES(low_price)),
+			volume = volume + VALUES(volume)
+		""", nativeQuery = true)
+	int merge(
+		@Param("scope") String scope,
+		@Param("targetId") Long targetId,
+		@Param("interval") String interval,
+		@Param("openTime") LocalDateTime openTime,
+		@Param("open") Long open,
+		@Param("high") Long high,
+		@Param("low") Long low,
+		@Param("close") Long close,
+		@Param("volume") Long volume,
+		@Param("firstTradeAt") LocalDateTime firstTradeAt,
+		@Param("lastTradeAt") LocalDateTime lastTradeAt
+	);
+}
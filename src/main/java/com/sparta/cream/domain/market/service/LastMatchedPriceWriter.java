@@ -0,0 +1,80 @@
+package com.sparta.cream.domain.market.service;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sparta.cream.repository.ProductOptionRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 옵션의 최근 체결가({@code ProductOption.lastMatchedPrice})를 지연 기록(Write-behind)합니다.
+ * 체결 시에는 옵션별 최신 체결가만 메모리에 덮어쓰고, 주기적으로 모아 한 트랜잭션에서 반영하므로
+ * 매칭 트랜잭션에 UPDATE가 추가되지 않으며 같은 옵션의 연속 체결은 한 번의 UPDATE로 합쳐집니다.
+ * 반영에 실패한 값은 그 사이 더 최신 체결가가 기록되지 않았다면 다음 주기에 다시 반영합니다.
+ * 커밋 단계의 실패도 되돌릴 수 있도록 트랜잭션은 {@code @Transactional} 프록시 대신 {@link TransactionTemplate}으로 메서드 안에서 엽니다.
+ * LastMatchedPriceWriter.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Slf4j
+@Component
+public class LastMatchedPriceWriter {
+
+	private final ProductOptionRepository productOptionRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+
+	public LastMatchedPriceWriter(
+		ProductOptionRepository productOptionRepository,
+		PlatformTransactionManager transactionManager
+	) {
+		this.productOptionRepository = productOptionRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	/**
+	 * 상품 옵션의 최신 체결가를 기록 대기열에 덮어씁니다.
+	 * @param productOptionId 상품 옵션 ID
+	 * @param price 체결가
+	 */
+	public void record(Long productOptionId, long price) {
+		pending.put(productOptionId, price);
+	}
+
+	/**
+	 * 대기 중인 최신 체결가를 한 트랜잭션에서 반영합니다.
+	 * UPDATE 실행뿐 아니라 커밋이 실패해도 꺼낸 값을 대기열에 되돌립니다.
+	 */
+	@Scheduled(fixedDelayString = "${market.last-price.flush-ms:1000}")
+	public void flush() {
+		if (pending.isEmpty()) {
+			return;
+		}
+		Map<Long, Long> drained = new HashMap<>();
+		for (Long productOptionId : List.copyOf(pending.keySet())) {
+			Long price = pending.remove(productOptionId);
+			if (price != null) {
+				drained.put(productOptionId, price);
+			}
+		}
+
+		try {
+			transactionTemplate.executeWithoutResult(status -> drained.forEach((productOptionId, price) ->
+				productOptionRepository.updateLastMatchedPrice(productOptionId, BigDecimal.valueOf(price))));
+		} catch (RuntimeException e) {
+			drained.forEach(pending::putIfAbsent);
+			throw e;
+		}
+		log.debug("최근 체결가 반영: 옵션 {}개", drained.size());
+	}
+}
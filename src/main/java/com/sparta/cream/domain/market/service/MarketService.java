@@ -0,0 +1,307 @@
+package com.sparta.cream.domain.market.service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sparta.cream.domain.bid.entity.BidType;
+import com.sparta.cream.domain.market.candle.CandleAggregator;
+import com.sparta.cream.domain.market.candle.CandleInterval;
+import com.sparta.cream.domain.market.candle.CandleScope;
+import com.sparta.cream.domain.market.candle.CandleView;
+import com.sparta.cream.domain.market.dto.BookSnapshotResponseDto;
+import com.sparta.cream.domain.market.dto.CandleResponseDto;
+import com.sparta.cream.domain.market.dto.DepthResponseDto;
+import com.sparta.cream.domain.market.dto.MarketSnapshotResponseDto;
+import com.sparta.cream.domain.market.dto.RecentTradeResponseDto;
+import com.sparta.cream.domain.market.dto.TickerResponseDto;
+import com.sparta.cream.domain.market.history.TradeHistoryStore;
+import com.sparta.cream.domain.market.history.TradeTick;
+import com.sparta.cream.domain.market.repository.CandleRepository;
+import com.sparta.cream.domain.market.stream.MarketStreamHub;
+import com.sparta.cream.domain.trade.engine.OrderBook;
+import com.sparta.cream.domain.trade.engine.OrderBookRegistry;
+import com.sparta.cream.domain.trade.engine.TopOfBook;
+import com.sparta.cream.entity.ProductOption;
+import com.sparta.cream.exception.BidErrorCode;
+import com.sparta.cream.exception.BusinessException;
+import com.sparta.cream.exception.MarketErrorCode;
+import com.sparta.cream.exception.ProductErrorCode;
+import com.sparta.cream.repository.ProductOptionRepository;
+import com.sparta.cream.repository.ProductRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 상세 화면의 시세 조회를 담당하는 서비스입니다.
+ * 시세는 입찰 테이블이 아닌 {@link MarketTickerCache}에서 읽으므로 대기 입찰 수와 무관하게 일정한 시간에 응답합니다.
+ * 호가 깊이는 인메모리 호가창의 가격 레벨에서 앞쪽 구간만 읽으므로 응답 크기가 구간 수로 제한됩니다.
+ * 최근 체결은 trade 테이블 대신 {@link TradeHistoryStore}의 체결 시계열에서 읽습니다.
+ * 캔들은 최근 구간은 {@link CandleAggregator}의 링 버퍼에서, 그보다 오래된 구간은 롤업 테이블에서 읽습니다.
+ * 상품 시세 요약은 {@link MarketSnapshotCache}에 버전과 함께 보관되어, 변경이 없으면 DB 조회 없이 응답합니다.
+ * 호가창 스냅샷은 실시간 시세 스트림({@link MarketStreamHub})의 순번과 함께 반환되어 증분을 이어 받는 기준점이 됩니다.
+ * MarketService.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Service
+@RequiredArgsConstructor
+public class MarketService {
+
+	private static final long VOLUME_WINDOW_MILLIS = 24 * 60 * 60 * 1000L;
+
+	private final ProductRepository productRepository;
+	private final ProductOptionRepository productOptionRepository;
+	private final OrderBookRegistry orderBookRegistry;
+	private final MarketTickerCache marketTickerCache;
+	private final TradeHistoryStore tradeHistoryStore;
+	private final CandleAggregator candleAggregator;
+	private final CandleRepository candleRepository;
+	private final MarketStreamHub marketStreamHub;
+	private final MarketSnapshotCache marketSnapshotCache;
+	@Value("${market.depth.max-levels:50}")
+	private int maxDepthLevels;
+	@Value("${market.history.max-recent:100}")
+	private int maxRecentTrades;
+	@Value("${market.candle.max-count:500}")
+	private int maxCandleCount;
+
+	/**
+	 * 상품의 모든 옵션(사이즈)에 대한 즉시 구매가/즉시 판매가를 한 번에 조회합니다.
+	 * 1. 상품의 옵션 목록만 DB에서 조회합니다.
+	 * 2. 각 옵션의 최우선 호가는 시세 캐시에서 O(1)로 읽습니다.
+	 * 3. 아직 호가창이 적재되지 않은 옵션은 최초 한 번만 호가창을 적재하며, 이후에는 캐시에서 읽습니다.
+	 *
+	 * @param productId 상품 ID
+	 * @return 옵션별 시세 목록
+	 * @throws BusinessException 존재하지 않는 상품일 경우 발생
+	 */
+	@Transactional(readOnly = true)
+	public List<TickerResponseDto> getTickers(Long productId) {
+		List<ProductOption> options = productOptionRepository.findAllByProductId(productId);
+		if (options.isEmpty() && !productRepository.existsById(productId)) {
+			throw new BusinessException(ProductErrorCode.PRODUCT_NOT_FOUND_ID);
+		}
+
+		return options.stream()
+			.map(option -> TickerResponseDto.of(option, topOfBook(option.getId())))
+			.toList();
+	}
+
+	/**
+	 * 상품 상세 화면의 시세 요약(사이즈별 시세, 마지막 체결, 24시간 체결 수)을 버전과 함께 조회합니다.
+	 * 마지막 생성 이후 호가나 체결 변경이 없으면 캐시된 스냅샷을 그대로 반환하므로 DB와 체결 시계열을 읽지 않습니다.
+	 * 트랜잭션을 열지 않아 캐시 적중 시에는 커넥션도 획득하지 않습니다.
+	 *
+	 * @param productId 상품 ID
+	 * @return 버전이 부여된 시세 요약
+	 * @throws BusinessException 존재하지 않는 상품일 경우 발생
+	 */
+	public MarketSnapshotCache.MarketSnapshot getMarketSnapshot(Long productId) {
+		return marketSnapshotCache.getOrBuild(productId, this::buildMarketSnapshot);
+	}
+
+	/**
+	 * 상품 옵션의 호가 깊이를 가격 구간별 수량으로 조회합니다.
+	 * 1. 구간 수는 1 이상 {@code market.depth.max-levels} 이하, 가격 단위는 0 이상이어야 합니다.
+	 * 2. 적재된 호가창이 있으면 DB 조회 없이 응답하고, 없으면 옵션 존재 여부를 확인한 뒤 한 번 적재합니다.
+	 *
+	 * @param productOptionId 상품 옵션 ID
+	 * @param levels 방향별 최대 가격 구간 수
+	 * @param tick 가격 구간 단위 (0 또는 1이면 가격별)
+	 * @return 호가 깊이 응답 DTO
+	 * @throws BusinessException 구간 수나 가격 단위가 유효하지 않거나, 존재하지 않는 상품 옵션일 경우 발생
+	 */
+	@Transactional(readOnly = true)
+	public DepthResponseDto getDepth(Long productOptionId, int levels, long tick) {
+		if (levels < 1 || levels > maxDepthLevels || tick < 0) {
+			throw new BusinessException(MarketErrorCode.INVALID_DEPTH_REQUEST);
+		}
+
+		OrderBook orderBook = orderBookRegistry.find(productOptionId)
+			.orElseGet(() -> loadOrderBook(productOptionId));
+
+		return DepthResponseDto.builder()
+			.productOptionId(productOptionId)
+			.tick(tick)
+			.buyLevels(orderBook.depth(BidType.BUY, levels, tick))
+			.sellLevels(orderBook.depth(BidType.SELL, levels, tick))
+			.build();
+	}
+
+	/**
+	 * 실시간 시세 스트림의 기준점이 되는 상품 전체 호가창 스냅샷을 조회합니다.
+	 * 1. 이 노드가 마지막으로 수신한 스트림 순번을 먼저 읽습니다.
+	 * 2. 그 뒤 옵션별 호가창을 방향별 최대 {@code market.depth.max-levels}개 가격 레벨까지 읽습니다.
+	 * 순번보다 호가창을 나중에 읽으므로 순번 이하의 증분은 모두 반영되어 있으며,
+	 * 그 이후의 증분이 일부 반영되어 있더라도 레벨 증분은 변경 후 주문 수이므로 다시 적용해도 결과가 같습니다.
+	 *
+	 * @param productId 상품 ID
+	 * @return 스트림 순번과 옵션별 호가창
+	 * @throws BusinessException 존재하지 않는 상품일 경우 발생
+	 */
+	@Transactional(readOnly = true)
+	public BookSnapshotResponseDto getBookSnapshot(Long productId) {
+		long sequence = marketStreamHub.lastSequence(productId);
+		List<ProductOption> options = productOptionRepository.findAllByProductId(productId);
+		if (options.isEmpty() && !productRepository.existsById(productId)) {
+			throw new BusinessException(ProductErrorCode.PRODUCT_NOT_FOUND_ID);
+		}
+
+		List<DepthResponseDto> books = options.stream()
+			.map(option -> {
+				OrderBook orderBook = orderBookRegistry.getOrLoad(option.getId());
+				return DepthResponseDto.builder()
+					.productOptionId(option.getId())
+					.tick(0)
+					.buyLevels(orderBook.depth(BidType.BUY, maxDepthLevels, 0))
+					.sellLevels(orderBook.depth(BidType.SELL, maxDepthLevels, 0))
+					.build();
+			})
+			.toList();
+
+		return BookSnapshotResponseDto.builder()
+			.productId(productId)
+			.sequence(sequence)
+			.options(books)
+			.build();
+	}
+
+	/**
+	 * 상품 옵션의 최근 체결 내역을 최신순으로 조회합니다.
+	 * 체결 내역이 없을 때만 상품 옵션 존재 여부를 확인합니다.
+	 *
+	 * @param productOptionId 상품 옵션 ID
+	 * @param limit 최대 조회 건수 (1 이상 {@code market.history.max-recent} 이하)
+	 * @return 최신순 체결 목록
+	 * @throws BusinessException 조회 건수가 유효하지 않거나, 존재하지 않는 상품 옵션일 경우 발생
+	 */
+	@Transactional(readOnly = true)
+	public List<RecentTradeResponseDto> getRecentTrades(Long productOptionId, int limit) {
+		if (limit < 1 || limit > maxRecentTrades) {
+			throw new BusinessException(MarketErrorCode.INVALID_TRADE_HISTORY_REQUEST);
+		}
+
+		List<TradeTick> ticks = tradeHistoryStore.recent(productOptionId, limit);
+		if (ticks.isEmpty() && !productOptionRepository.existsById(productOptionId)) {
+			throw new BusinessException(BidErrorCode.PRODUCT_OPTION_NOT_FOUND);
+		}
+
+		return ticks.stream()
+			.map(RecentTradeResponseDto::from)
+			.toList();
+	}
+
+	/**
+	 * 상품 옵션 또는 상품의 캔들을 시간순으로 조회합니다.
+	 * 1. {@code to}가 속한 구간부터 과거로 최대 {@code count}개 구간을 조회 범위로 잡습니다.
+	 * 2. 메모리(링 버퍼)로 완전한 구간은 메모리에서, 그 이전 구간은 롤업 테이블에서 읽어 합칩니다.
+	 * 3. 체결이 없는 구간은 응답에 포함하지 않습니다.
+	 *
+	 * @param scope 집계 범위 (상품 옵션 / 상품)
+	 * @param targetId 상품 옵션 ID 또는 상품 ID
+	 * @param intervalCode 캔들 단위 (1m, 1h, 1d)
+	 * @param to 조회 기준 시각 (null이면 현재)
+	 * @param count 최대 구간 수
+	 * @return 시간순 캔들 목록
+	 * @throws BusinessException 단위나 개수가 유효하지 않거나, 존재하지 않는 대상일 경우 발생
+	 */
+	@Transactional(readOnly = true)
+	public List<CandleResponseDto> getCandles(CandleScope scope, Long targetId, String intervalCode,
+		LocalDateTime to, int count) {
+		CandleInterval interval = CandleInterval.fromCode(intervalCode)
+			.orElseThrow(() -> new BusinessException(MarketErrorCode.INVALID_CANDLE_REQUEST));
+		if (count < 1 || count > maxCandleCount) {
+			throw new BusinessException(MarketErrorCode.INVALID_CANDLE_REQUEST);
+		}
+
+		ZoneId zone = ZoneId.systemDefault();
+		long now = System.currentTimeMillis();
+		long lastOpenTime = interval.startOf(to == null ? now : to.atZone(zone).toInstant().toEpochMilli());
+		long firstOpenTime = lastOpenTime - (long)(count - 1) * interval.getMillis();
+		long coveredFrom = candleAggregator.memoryCoveredFrom(interval, now);
+
+		Map<Long, CandleView> candles = new TreeMap<>();
+		if (firstOpenTime < coveredFrom) {
+			long dbTo = Math.min(lastOpenTime + 1, coveredFrom);
+			candleRepository.findSeries(scope, targetId, interval, toDateTime(firstOpenTime, zone), toDateTime(dbTo, zone))
+				.forEach(candle -> {
+					long openTime = candle.getOpenTime().atZone(zone).toInstant().toEpochMilli();
+					candles.put(openTime, new CandleView(openTime, candle.getOpenPrice(), candle.getHighPrice(),
+						candle.getLowPrice(), candle.getClosePrice(), candle.getVolume()));
+				});
+		}
+		if (lastOpenTime >= coveredFrom) {
+			candleAggregator.recent(scope, targetId, interval, Math.max(firstOpenTime, coveredFrom), lastOpenTime)
+				.forEach(candle -> candles.put(candle.openTime(), candle));
+		}
+
+		if (candles.isEmpty() && !targetExists(scope, targetId)) {
+			throw new BusinessException(scope == CandleScope.OPTION
+				? BidErrorCode.PRODUCT_OPTION_NOT_FOUND
+				: ProductErrorCode.PRODUCT_NOT_FOUND_ID);
+		}
+
+		return candles.values().stream()
+			.map(candle -> CandleResponseDto.from(candle, toDateTime(candle.openTime(), zone)))
+			.toList();
+	}
+
+	private MarketSnapshotResponseDto buildMarketSnapshot(Long productId) {
+		List<ProductOption> options = productOptionRepository.findAllByProductId(productId);
+		if (options.isEmpty() && !productRepository.existsById(productId)) {
+			throw new BusinessException(ProductErrorCode.PRODUCT_NOT_FOUND_ID);
+		}
+
+		long now = System.currentTimeMillis();
+		long volume24h = 0;
+		TradeTick lastTrade = null;
+		for (ProductOption option : options) {
+			volume24h += tradeHistoryStore.range(option.getId(), now - VOLUME_WINDOW_MILLIS, now + 1).size();
+			TradeTick optionLast = marketSnapshotCache.lastTrade(option.getId())
+				.orElseGet(() -> tradeHistoryStore.recent(option.getId(), 1).stream().findFirst().orElse(null));
+			if (optionLast != null && (lastTrade == null || optionLast.matchedAtMillis() > lastTrade.matchedAtMillis())) {
+				lastTrade = optionLast;
+			}
+		}
+
+		return MarketSnapshotResponseDto.builder()
+			.productId(productId)
+			.tickers(options.stream()
+				.map(option -> TickerResponseDto.of(option, topOfBook(option.getId())))
+				.toList())
+			.lastTrade(lastTrade == null ? null : RecentTradeResponseDto.from(lastTrade))
+			.volume24h(volume24h)
+			.build();
+	}
+
+	private boolean targetExists(CandleScope scope, Long targetId) {
+		return scope == CandleScope.OPTION
+			? productOptionRepository.existsById(targetId)
+			: productRepository.existsById(targetId);
+	}
+
+	private LocalDateTime toDateTime(long epochMillis, ZoneId zone) {
+		return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), zone);
+	}
+
+	private OrderBook loadOrderBook(Long productOptionId) {
+		if (!productOptionRepository.existsById(productOptionId)) {
+			throw new BusinessException(BidErrorCode.PRODUCT_OPTION_NOT_FOUND);
+		}
+		return orderBookRegistry.getOrLoad(productOptionId);
+	}
+
+	private TopOfBook topOfBook(Long productOptionId) {
+		return marketTickerCache.find(productOptionId)
+			.orElseGet(() -> orderBookRegistry.getOrLoad(productOptionId).topOfBook());
+	}
+}
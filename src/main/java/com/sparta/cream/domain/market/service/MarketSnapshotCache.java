@@ -0,0 +1,127 @@
+package com.sparta.cream.domain.market.service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.sparta.cream.domain.market.dto.MarketSnapshotResponseDto;
+import com.sparta.cream.domain.market.dto.TickerResponseDto;
+import com.sparta.cream.domain.market.history.TradeTick;
+import com.sparta.cream.domain.trade.engine.OrderBookListener;
+import com.sparta.cream.domain.trade.engine.TopOfBook;
+
+/**
+ * 상품별 시세 요약({@link MarketSnapshotResponseDto})을 버전과 함께 보관하는 인메모리 캐시입니다.
+ * 최우선 호가 변경과 체결이 일어날 때마다 옵션별 변경 시점을 전역 시계로 기록하고,
+ * 조회 시 스냅샷 생성 이후 옵션 중 하나라도 바뀌었을 때만 다시 생성합니다.
+ * 24시간 체결 수가 시간 경과로 바뀌는 것을 반영하기 위해 {@code market.snapshot.max-age-ms}가 지나도 다시 생성합니다.
+ * 스냅샷은 생성 후 바뀌지 않으므로 버전을 강한 ETag로 사용하며, 재기동 후에도 겹치지 않도록 기동 시각을 포함합니다.
+ * MarketSnapshotCache.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Component
+public class MarketSnapshotCache implements OrderBookListener {
+
+	private final AtomicLong clock = new AtomicLong();
+	private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+	private final Map<Long, Long> optionStamps = new ConcurrentHashMap<>();
+	private final Map<Long, TradeTick> lastTrades = new ConcurrentHashMap<>();
+	private final Map<Long, MarketSnapshot> snapshots = new ConcurrentHashMap<>();
+	private final long maxAgeMillis;
+
+	public MarketSnapshotCache(@Value("${market.snapshot.max-age-ms:60000}") long maxAgeMillis) {
+		this.maxAgeMillis = maxAgeMillis;
+	}
+
+	@Override
+	public void onTopOfBookChanged(Long productOptionId, TopOfBook topOfBook) {
+		touch(productOptionId);
+	}
+
+	@Override
+	public void onReset(Long productOptionId) {
+		touch(productOptionId);
+	}
+
+	/**
+	 * 옵션의 마지막 체결을 기록하고 스냅샷이 다시 생성되도록 표시합니다.
+	 * @param productOptionId 상품 옵션 ID
+	 * @param tick 마지막 체결
+	 */
+	public void recordTrade(Long productOptionId, TradeTick tick) {
+		lastTrades.merge(productOptionId, tick,
+			(current, next) -> next.matchedAtMillis() >= current.matchedAtMillis() ? next : current);
+		touch(productOptionId);
+	}
+
+	/**
+	 * 기동 이후 기록된 옵션의 마지막 체결을 조회합니다.
+	 * @param productOptionId 상품 옵션 ID
+	 * @return 마지막 체결, 기동 이후 체결이 없었다면 빈 값
+	 */
+	public Optional<TradeTick> lastTrade(Long productOptionId) {
+		return Optional.ofNullable(lastTrades.get(productOptionId));
+	}
+
+	/**
+	 * 최신 스냅샷을 조회하고, 변경되었거나 오래된 경우에만 {@code builder}로 다시 생성합니다.
+	 * 같은 상품의 동시 요청은 생성 한 번을 함께 기다립니다.
+	 * @param productId 상품 ID
+	 * @param builder 스냅샷 본문 생성 함수
+	 * @return 버전이 부여된 스냅샷
+	 */
+	public MarketSnapshot getOrBuild(Long productId, Function<Long, MarketSnapshotResponseDto> builder) {
+		MarketSnapshot cached = snapshots.get(productId);
+		if (cached != null && !isStale(cached)) {
+			return cached;
+		}
+		return snapshots.compute(productId, (id, current) -> {
+			if (current != null && !isStale(current)) {
+				return current;
+			}
+			long observedStamp = clock.get();
+			MarketSnapshotResponseDto body = builder.apply(id);
+			String etag = "\"" + id + "-" + epoch + "-" + clock.incrementAndGet() + "\"";
+			return new MarketSnapshot(etag, observedStamp, System.currentTimeMillis(), body);
+		});
+	}
+
+	private boolean isStale(MarketSnapshot snapshot) {
+		if (System.currentTimeMillis() - snapshot.builtAt() >= maxAgeMillis) {
+			return true;
+		}
+		for (TickerResponseDto ticker : snapshot.body().getTickers()) {
+			Long stamp = optionStamps.get(ticker.getProductOptionId());
+			if (stamp != null && stamp > snapshot.observedStamp()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void touch(Long productOptionId) {
+		optionStamps.merge(productOptionId, clock.incrementAndGet(), Math::max);
+	}
+
+	/**
+	 * 버전(ETag)이 부여된 불변 시세 요약입니다.
+	 * @param etag 강한 ETag (따옴표 포함)
+	 * @param observedStamp 생성 직전의 전역 시계 값
+	 * @param builtAt 생성 시각(epoch millis)
+	 * @param body 시세 요약 본문
+	 */
+	public record MarketSnapshot(
+		String etag,
+		long observedStamp,
+		long builtAt,
+		MarketSnapshotResponseDto body
+	) {
+	}
+}
@@ -0,0 +1,45 @@
+package com.sparta.cream.domain.market.service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.sparta.cream.domain.trade.engine.OrderBookListener;
+import com.sparta.cream.domain.trade.engine.TopOfBook;
+
+/**
+ * 상품 옵션별 최우선 호가(즉시 구매가 / 즉시 판매가)를 보관하는 인메모리 시세 캐시입니다.
+ * 호가창의 등록/취소/체결로 최우선 호가가 바뀔 때마다 {@link OrderBookListener}로 증분 갱신되므로,
+ * 조회는 호가창 깊이와 무관하게 O(1)로 처리됩니다.
+ * 호가창이 폐기되면 함께 제거되고, 다음 적재 시 리스너 연결과 함께 다시 채워집니다.
+ * MarketTickerCache.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Component
+public class MarketTickerCache implements OrderBookListener {
+
+	private final Map<Long, TopOfBook> tickers = new ConcurrentHashMap<>();
+
+	@Override
+	public void onTopOfBookChanged(Long productOptionId, TopOfBook topOfBook) {
+		tickers.put(productOptionId, topOfBook);
+	}
+
+	@Override
+	public void onReset(Long productOptionId) {
+		tickers.remove(productOptionId);
+	}
+
+	/**
+	 * 캐시된 최우선 호가를 조회합니다.
+	 * @param productOptionId 상품 옵션 ID
+	 * @return 최우선 호가, 호가창이 적재되지 않았다면 빈 값
+	 */
+	public Optional<TopOfBook> find(Long productOptionId) {
+		return Optional.ofNullable(tickers.get(productOptionId));
+	}
+}
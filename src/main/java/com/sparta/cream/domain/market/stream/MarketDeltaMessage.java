@@ -0,0 +1,46 @@
+package com.sparta.cream.domain.market.stream;
+
+import java.util.List;
+
+import com.sparta.cream.domain.bid.entity.BidType;
+
+/**
+ * 상품 단위 실시간 시세 스트림으로 발행되는 증분 메시지입니다.
+ * 발행 주기 동안 같은 가격 레벨의 변경은 마지막 주문 수 하나로 합쳐지며, 주문 수는 증감분이 아닌 변경 후 값이므로
+ * 같은 메시지를 다시 적용해도 결과가 같습니다.
+ * {@code sequence}는 상품마다 1씩 증가하므로, 클라이언트는 번호가 건너뛰면 스냅샷을 다시 조회해야 합니다.
+ * {@code resync}가 true이면 증분만으로는 호가창을 이어갈 수 없으므로 스냅샷을 다시 조회해야 합니다.
+ * MarketDeltaMessage.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+public record MarketDeltaMessage(
+	Long productId,
+	long sequence,
+	boolean resync,
+	List<Level> levels,
+	List<Trade> trades
+) {
+
+	/**
+	 * 가격 레벨 하나의 변경 후 주문 수입니다. 0이면 레벨이 사라진 것입니다.
+	 */
+	public record Level(
+		Long productOptionId,
+		BidType type,
+		long price,
+		int quantity
+	) {
+	}
+
+	/**
+	 * 체결 한 건입니다.
+	 */
+	public record Trade(
+		Long productOptionId,
+		long price,
+		long matchedAt
+	) {
+	}
+}
@@ -0,0 +1,126 @@
+package com.sparta.cream.domain.market.stream;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품별 실시간 시세 스트림 구독(SSE)을 관리하고, 수신한 증분 메시지를 구독자에게 전달합니다.
+ * {@link com.sparta.cream.domain.notification.controller.SseEmitters}가 사용자당 하나의 연결을 관리하는 것과 달리,
+ * 상품 ID를 토픽으로 하여 한 상품에 여러 구독자를 둡니다.
+ * 메시지는 노드마다 한 번만 Redis에서 수신하고, 이미 직렬화된 본문을 그대로 모든 구독자에게 보내므로
+ * 구독자 수만큼 DB/Redis 조회나 직렬화가 반복되지 않습니다.
+ * MarketStreamHub.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MarketStreamHub {
+
+	private static final long TIMEOUT_MILLIS = 30 * 60 * 1000L;
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final Map<Long, Topic> topics = new ConcurrentHashMap<>();
+
+	/**
+	 * 상품의 시세 스트림 구독을 등록합니다.
+	 * 연결 만료/완료/에러 시 구독 목록에서 자동으로 제거됩니다.
+	 * @param productId 상품 ID
+	 * @return 생성된 {@link SseEmitter} 객체
+	 */
+	public SseEmitter subscribe(Long productId) {
+		SseEmitter emitter = new SseEmitter(TIMEOUT_MILLIS);
+		Topic topic = topics.computeIfAbsent(productId, id -> new Topic());
+		topic.emitters.add(emitter);
+		emitter.onCompletion(() -> topic.emitters.remove(emitter));
+		emitter.onTimeout(() -> topic.emitters.remove(emitter));
+		emitter.onError(e -> topic.emitters.remove(emitter));
+
+		try {
+			emitter.send(SseEmitter.event()
+				.name("connect")
+				.data("connected!"));
+		} catch (IOException e) {
+			topic.emitters.remove(emitter);
+			log.debug("시세 스트림 연결 알림 전송 실패: 상품 {}", productId);
+		}
+		return emitter;
+	}
+
+	/**
+	 * 수신한 증분 메시지를 상품 구독자 모두에게 전달합니다.
+	 * 이미 전달한 순번 이하의 메시지는 버리며, 전송에 실패한 구독자는 즉시 제거합니다.
+	 * @param productId 상품 ID
+	 * @param sequence 메시지 순번
+	 * @param payload 직렬화된 메시지 본문(JSON)
+	 */
+	public void broadcast(Long productId, long sequence, String payload) {
+		Topic topic = topics.computeIfAbsent(productId, id -> new Topic());
+		topic.lock.lock();
+		try {
+			if (sequence <= topic.lastSequence) {
+				return;
+			}
+			topic.lastSequence = sequence;
+			if (topic.emitters.isEmpty()) {
+				return;
+			}
+			SseEmitter.SseEventBuilder event = SseEmitter.event()
+				.id(String.valueOf(sequence))
+				.name("market")
+				.data(payload, MediaType.APPLICATION_JSON);
+			for (SseEmitter emitter : topic.emitters) {
+				try {
+					emitter.send(event);
+				} catch (IOException | IllegalStateException e) {
+					topic.emitters.remove(emitter);
+				}
+			}
+		} finally {
+			topic.lock.unlock();
+		}
+	}
+
+	/**
+	 * 이 노드가 마지막으로 수신한 상품의 순번을 조회합니다.
+	 * 아직 수신한 메시지가 없으면 Redis 카운터의 현재 값을 한 번 읽어 기준으로 삼습니다.
+	 * @param productId 상품 ID
+	 * @return 마지막 순번, 발행된 적이 없으면 0
+	 */
+	public long lastSequence(Long productId) {
+		Topic topic = topics.computeIfAbsent(productId, id -> new Topic());
+		topic.lock.lock();
+		try {
+			if (topic.lastSequence == 0) {
+				String current = stringRedisTemplate.opsForValue().get(MarketStreamPublisher.SEQUENCE_KEY_PREFIX + productId);
+				topic.lastSequence = current == null ? 0 : Long.parseLong(current);
+			}
+			return topic.lastSequence;
+		} finally {
+			topic.lock.unlock();
+		}
+	}
+
+	/**
+	 * 한 상품의 구독자 목록과 마지막으로 전달한 순번입니다.
+	 * 잠금 안에서 SSE 전송과 Redis 조회가 일어나므로, 가상 스레드가 캐리어 스레드를 점유하지 않도록 모니터 대신 {@link ReentrantLock}으로 보호합니다.
+	 */
+	private static class Topic {
+		private final ReentrantLock lock = new ReentrantLock();
+		private final Set<SseEmitter> emitters = ConcurrentHashMap.newKeySet();
+		private long lastSequence;
+	}
+}
@@ -0,0 +1,157 @@
+package com.sparta.cream.domain.market.stream;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.sparta.cream.domain.bid.entity.BidType;
+import com.sparta.cream.domain.market.history.TradeTick;
+import com.sparta.cream.domain.trade.engine.OrderBookListener;
+import com.sparta.cream.repository.ProductOptionRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 호가창 레벨 변경과 체결을 모아 상품 단위 증분 메시지로 Redis {@code marketChannel}에 발행합니다.
+ * 호가창 콜백은 매칭 경로의 잠금 안에서 호출되므로 대기열에 넣기만 하고,
+ * 주기적인 발행에서 상품별로 묶고 같은 가격 레벨의 변경을 마지막 값으로 합친 뒤 메시지 하나로 보냅니다.
+ * 순번은 상품별 Redis 카운터로 매기므로 여러 노드가 발행해도 겹치지 않으며, Redis 왕복은 시청자 수가 아닌 발행 횟수에 비례합니다.
+ * 발행에 실패한 상품은 다음 메시지에 {@code resync}를 표시하여 클라이언트가 스냅샷으로 복구하도록 합니다.
+ * MarketStreamPublisher.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MarketStreamPublisher implements OrderBookListener {
+
+	public static final String CHANNEL = "marketChannel";
+	public static final String SEQUENCE_KEY_PREFIX = "market:seq:";
+
+	private final RedisTemplate<String, MarketDeltaMessage> marketRedisTemplate;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final ProductOptionRepository productOptionRepository;
+	private final Queue<PendingChange> pending = new ConcurrentLinkedQueue<>();
+	private final Map<Long, Long> productIds = new ConcurrentHashMap<>();
+	private final Map<Long, Boolean> resyncRequired = new ConcurrentHashMap<>();
+
+	@Override
+	public void onLevelChanged(Long productOptionId, BidType type, long price, int quantity) {
+		pending.add(new PendingChange(productOptionId, null,
+			new MarketDeltaMessage.Level(productOptionId, type, price, quantity), null));
+	}
+
+	@Override
+	public void onReset(Long productOptionId) {
+		pending.add(new PendingChange(productOptionId, null, null, null));
+	}
+
+	/**
+	 * 커밋된 체결을 발행 대기열에 추가합니다.
+	 * @param productOptionId 상품 옵션 ID
+	 * @param productId 상품 ID (알 수 없으면 null)
+	 * @param ticks 체결 목록
+	 */
+	public void publishTrades(Long productOptionId, Long productId, List<TradeTick> ticks) {
+		ticks.forEach(tick -> pending.add(new PendingChange(productOptionId, productId, null,
+			new MarketDeltaMessage.Trade(productOptionId, tick.price(), tick.matchedAtMillis()))));
+	}
+
+	/**
+	 * 대기 중인 변경을 상품별 메시지로 묶어 발행합니다.
+	 */
+	@Scheduled(fixedDelayString = "${market.stream.flush-ms:100}")
+	public void flush() {
+		if (pending.isEmpty()) {
+			return;
+		}
+		Map<Long, Batch> batches = new LinkedHashMap<>();
+		PendingChange change;
+		while ((change = pending.poll()) != null) {
+			Long productId = resolveProductId(change);
+			if (productId == null) {
+				continue;
+			}
+			batches.computeIfAbsent(productId, id -> new Batch()).add(change);
+		}
+		batches.forEach(this::publish);
+	}
+
+	private void publish(Long productId, Batch batch) {
+		boolean resync = batch.resync || resyncRequired.containsKey(productId);
+		try {
+			Long sequence = stringRedisTemplate.opsForValue().increment(SEQUENCE_KEY_PREFIX + productId);
+			marketRedisTemplate.convertAndSend(CHANNEL, new MarketDeltaMessage(productId, sequence, resync,
+				List.copyOf(batch.levels.values()), batch.trades));
+			resyncRequired.remove(productId);
+		} catch (RuntimeException e) {
+			resyncRequired.put(productId, Boolean.TRUE);
+			log.warn("시세 스트림 발행 실패: 상품 {}, 다음 메시지에서 재동기화 요청 - {}", productId, e.getMessage());
+		}
+	}
+
+	private Long resolveProductId(PendingChange change) {
+		if (change.productId() != null) {
+			productIds.putIfAbsent(change.productOptionId(), change.productId());
+			return change.productId();
+		}
+		Long cached = productIds.get(change.productOptionId());
+		if (cached != null) {
+			return cached;
+		}
+		Long productId = productOptionRepository.findProductIdById(change.productOptionId()).orElse(null);
+		if (productId != null) {
+			productIds.put(change.productOptionId(), productId);
+		}
+		return productId;
+	}
+
+	/**
+	 * 호가창 콜백 또는 체결 리스너에서 넘어온 변경 한 건입니다.
+	 * 레벨 변경과 체결이 모두 없으면 호가창 폐기(재동기화 필요)를 뜻합니다.
+	 */
+	private record PendingChange(
+		Long productOptionId,
+		Long productId,
+		MarketDeltaMessage.Level level,
+		MarketDeltaMessage.Trade trade
+	) {
+	}
+
+	/**
+	 * 한 상품에 대해 한 번의 발행으로 묶이는 변경입니다.
+	 */
+	private static class Batch {
+		private final Map<LevelKey, MarketDeltaMessage.Level> levels = new LinkedHashMap<>();
+		private final List<MarketDeltaMessage.Trade> trades = new ArrayList<>();
+		private boolean resync;
+
+		void add(PendingChange change) {
+			if (change.level() != null) {
+				MarketDeltaMessage.Level level = change.level();
+				LevelKey key = new LevelKey(level.productOptionId(), level.type(), level.price());
+				levels.remove(key);
+				levels.put(key, level);
+			} else if (change.trade() != null) {
+				trades.add(change.trade());
+			} else {
+				resync = true;
+			}
+		}
+	}
+
+	private record LevelKey(Long productOptionId, BidType type, long price) {
+	}
+}
@@ -0,0 +1,43 @@
+package com.sparta.cream.domain.market.stream;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis {@code marketChannel}로 발행된 시세 증분 메시지를 수신하는 리스너입니다.
+ * 메시지를 한 번만 역직렬화하여 상품과 순번을 확인하고, 원본 JSON 본문을 {@link MarketStreamHub}로 넘겨 그대로 전달합니다.
+ * MarketStreamSubscriber.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MarketStreamSubscriber implements MessageListener {
+
+	private final RedisTemplate<String, MarketDeltaMessage> marketRedisTemplate;
+	private final MarketStreamHub marketStreamHub;
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			MarketDeltaMessage delta = (MarketDeltaMessage)marketRedisTemplate.getValueSerializer()
+				.deserialize(message.getBody());
+			if (delta == null) {
+				return;
+			}
+			marketStreamHub.broadcast(delta.productId(), delta.sequence(),
+				new String(message.getBody(), StandardCharsets.UTF_8));
+		} catch (Exception e) {
+			log.error("시세 스트림 메시지 처리 실패: {}", e.getMessage(), e);
+		}
+	}
+}
@@ -9,6 +9,7 @@ import java.time.LocalDateTime;
 /**
  * 사용자에게 전다뢰는 알림 정보를 관리하는 엔티티 클래스입니다.
  * 입찰 매칭성공, 결제 완료등 시스템 내의 주요 이벤트를 사용자에게 알리기 위해 사용됩니다.
+ * 아웃박스로 전달된 이벤트에서 만든 알림은 {@code outboxId}를 함께 저장하여, 같은 행이 다시 전달되어도 한 번만 저장되도록 합니다.
  *
  * @author kimsehyun
  * @since 2026. 1. 29.
@@ -17,7 +18,15 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor
-@Table(name = "notifications")
+@Table(
+	name = "notifications",
+	uniqueConstraints = {
+		@UniqueConstraint(
+			name = "uk_notifications_outbox_delivery",
+			columnNames = {"outbox_id", "user_id", "type", "trade_id"}
+		)
+	}
+)
 public class Notification extends BaseEntity {
 
 	@Id
@@ -39,6 +48,8 @@ public class Notification extends BaseEntity {
 
 	private Long tradeId;
 
+	private Long outboxId;
+
 	@Column(nullable = false)
 	private boolean isSent = false;
 
@@ -66,6 +77,20 @@ public class Notification extends BaseEntity {
 		this.tradeId = tradeId;
 	}
 
+	/**
+	 * 아웃박스로 전달된 이벤트에서 알림을 생성하는 생성자입니다.
+	 * @param outboxId 알림을 만든 아웃박스 행 ID
+	 * @param userId 알림 수신 대상자ID
+	 * @param type 알림 타입
+	 * @param title 알림 제목
+	 * @param message 알림 내용
+	 * @param tradeId 체결 ID
+	 */
+	public Notification(Long outboxId, Long userId, NotificationType type, String title, String message, Long tradeId) {
+		this(userId, type, title, message, tradeId);
+		this.outboxId = outboxId;
+	}
+
 	/**
 	 * 알림 전송이 완료되었을때 상태를 변경하고 전송 시간을 기록합니다.
 	 * 이 메서드는 실제 메시지 전송 로직이 성공한 후 호출되어야 합니다.
@@ -5,6 +5,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import com.sparta.cream.domain.notification.entity.Notification;
+import com.sparta.cream.domain.notification.entity.NotificationType;
 
 /**
  * Notification 엔티티에 대한 데이터 접근 기능을 제공하는 리포지토리 인터페이스입니다.
@@ -31,4 +32,15 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
 	 * @return 사용자 알림 목록 (페이징)
 	 */
 	Page<Notification> findAllByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
+
+	/**
+	 * 같은 아웃박스 행에서 같은 수신자에게 같은 알림을 이미 저장했는지 확인합니다.
+	 * {@code tradeId}가 {@code null}이면 {@code IS NULL}로 비교합니다.
+	 * @param outboxId 아웃박스 행 ID
+	 * @param userId 사용자 ID
+	 * @param type 알림 타입
+	 * @param tradeId 관련 거래/입찰 ID
+	 * @return 이미 저장했으면 true
+	 */
+	boolean existsByOutboxIdAndUserIdAndTypeAndTradeId(Long outboxId, Long userId, NotificationType type, Long tradeId);
 }
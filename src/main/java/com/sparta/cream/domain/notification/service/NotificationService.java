@@ -1,18 +1,22 @@
 package com.sparta.cream.domain.notification.service;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 
+import com.sparta.cream.config.AsyncConfig;
 import com.sparta.cream.domain.notification.dto.NotificationResponseDto;
 import com.sparta.cream.domain.notification.entity.Notification;
 import com.sparta.cream.domain.notification.entity.NotificationType;
 import com.sparta.cream.domain.notification.repository.NotificationRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * 알림 서비스의 핵심 비즈니스 로직을 처리하는 서비스 글래스입니다.
@@ -24,18 +28,29 @@ import org.springframework.transaction.annotation.Transactional;
  * @since 2026. 1. 29.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class NotificationService {
 
 	private final NotificationRepository notificationRepository;
 	private final RedisTemplate<String, NotificationResponseDto> notificationRedisTemplate;
+	private final Executor outboundIoExecutor;
+
+	public NotificationService(
+		NotificationRepository notificationRepository,
+		RedisTemplate<String, NotificationResponseDto> notificationRedisTemplate,
+		@Qualifier(AsyncConfig.OUTBOUND_IO_EXECUTOR) Executor outboundIoExecutor
+	) {
+		this.notificationRepository = notificationRepository;
+		this.notificationRedisTemplate = notificationRedisTemplate;
+		this.outboundIoExecutor = outboundIoExecutor;
+	}
 
 	/**
 	 * 새로운 알림을 생성하여 DB에 저장하고, 실시간 전송을 위해 Redis 채널로 이벤트를 발행합니다.
 	 * 입찰, 체결, 결제 등 시스템 내의 다양한 도메인 이벤트를 사용자 알림 데이터로 변환하여 기록하며,
-	 * 저장 직후 {@link #publish(NotificationResponseDto)}를 호출하여
+	 * 트랜잭션이 커밋된 뒤({@code afterCommit}) {@link #publish(NotificationResponseDto)}를 외부 I/O 실행기에 제출하여
 	 * 접속 중인 사용자에게 실시간 푸시(SSE)가 전달되도록 합니다.
+	 * 커밋 전에 발행하면 롤백된 알림도 푸시되므로, 저장이 확정된 알림만 발행합니다.
 	 *
 	 * @param userId    알림을 수신할 사용자의 식별자
 	 * @param type      알림의 유형 (입찰, 체결, 결제 등)
@@ -52,27 +67,65 @@ public class NotificationService {
 		String message,
 		Long tradeId
 	) {
-		Notification notification = new Notification(userId, type, title, message, tradeId);
+		return save(new Notification(userId, type, title, message, tradeId));
+	}
+
+	/**
+	 * 아웃박스로 전달된 이벤트의 알림을 한 번만 생성합니다.
+	 * 아웃박스 행은 여러 소비자에게 함께 전달되어 다른 소비자가 실패하면 통째로 다시 전달되므로,
+	 * 같은 행에서 같은 수신자에게 이미 저장한 알림은 다시 저장하거나 발행하지 않습니다.
+	 * 동시에 다시 전달되는 드문 경우에는 유니크 키({@code uk_notifications_outbox_delivery})가 중복 저장을 막고,
+	 * 실패한 행은 다음 전달에서 이미 저장된 것으로 확인됩니다.
+	 *
+	 * @param outboxId  알림을 만든 아웃박스 행 ID
+	 * @param userId    알림을 수신할 사용자의 식별자
+	 * @param type      알림의 유형 (입찰, 체결, 결제 등)
+	 * @param title     알림 제목
+	 * @param message   알림 본문 내용
+	 * @param tradeId   관련 거래/입찰 식별자 (필요 시 참조용으로 저장)
+	 * @return 새로 저장했으면 저장된 {@link Notification}, 이미 저장된 알림이면 빈 값
+	 */
+	@Transactional
+	public Optional<Notification> createNotificationOnce(
+		Long outboxId,
+		Long userId,
+		NotificationType type,
+		String title,
+		String message,
+		Long tradeId
+	) {
+		if (notificationRepository.existsByOutboxIdAndUserIdAndTypeAndTradeId(outboxId, userId, type, tradeId)) {
+			log.info("이미 저장된 아웃박스 알림 건너뜀: 아웃박스 {}, 유저ID {}, {}", outboxId, userId, type);
+			return Optional.empty();
+		}
+		return Optional.of(save(new Notification(outboxId, userId, type, title, message, tradeId)));
+	}
 
+	private Notification save(Notification notification) {
 		notificationRepository.save(notification);
 
 		NotificationResponseDto dto = new NotificationResponseDto(notification);
 
-		publish(dto);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				outboundIoExecutor.execute(() -> publish(dto));
+			}
+		});
 
 		return notification;
 	}
 
 	/**
 	 * 알림 데이터를 Redis Pub/Sub 채널로 발행합니다.
-	 * 이 메서드는 비동기 @Async로 동작하여 Redis 와의 통신 지연이
-	 * 호출 측의 트랜잭션 시간에 영향을 주지 않도록 설계되었습니다.
+	 * {@link #createNotification}에서는 커밋 후 외부 I/O 전용 실행기로 넘겨 호출하므로, Redis 와의 통신 지연이
+	 * 호출 측의 트랜잭션 시간에 영향을 주지 않습니다.
+	 * 같은 클래스 안의 호출이라 {@code @Async} 프록시를 거치지 않으므로 실행기를 직접 사용합니다.
 	 * 발행된 메시지는 분산 환경의 모든 서버 노드에 전달되어,
 	 * 수신 대상자가 접속 중인 서버에서 SSE를 통해 전송됩니다.
 	 *
 	 * @param dto Redis 채널을 통해 전달할 알림 응답 데이터 객체
 	 */
-	@Async
 	public void publish(NotificationResponseDto dto) {
 		notificationRedisTemplate.convertAndSend("notificationChannel", dto);
 		log.info("Redis Pub/Sub 발행 완료: 유저ID {}", dto.getUserId());
@@ -1,6 +1,12 @@
 package com.sparta.cream.domain.trade.dto;
 
 import java.time.LocalDateTime;
+
+import com.sparta.cream.domain.bid.entity.Bid;
+import com.sparta.cream.domain.trade.entity.Trade;
+import com.sparta.cream.entity.Product;
+import com.sparta.cream.entity.ProductOption;
+
 import lombok.Builder;
 import lombok.Getter;
 
@@ -31,4 +37,29 @@ public class TradeResponseDto {
 		this.matchedAt = matchedAt;
 		this.role = role;
 	}
+
+	/**
+	 * 거래 엔티티를 조회한 사용자 기준의 응답 DTO로 변환합니다.
+	 * 상품 또는 옵션 정보가 삭제된 경우에도 기본 문구로 대체하여 응답합니다.
+	 * @param trade 변환할 거래 엔티티
+	 * @param userId 조회한 사용자 ID (구매자/판매자 역할 판단에 사용)
+	 * @return 거래 응답 DTO
+	 */
+	public static TradeResponseDto from(Trade trade, Long userId) {
+		boolean isBuyer = trade.getPurchaseBidId().getUser().getId().equals(userId);
+
+		Bid referenceBid = trade.getPurchaseBidId();
+		ProductOption option = (referenceBid != null) ? referenceBid.getProductOption() : null;
+		Product product = (option != null) ? option.getProduct() : null;
+
+		return TradeResponseDto.builder()
+			.id(trade.getId())
+			.productName(product != null ? product.getName() : "정보 없음 (삭제된 상품)")
+			.size(option != null ? option.getSize() : "-")
+			.price(trade.getFinalPrice())
+			.status(trade.getStatus() != null ? trade.getStatus().name() : "WAITING_PAYMENT")
+			.matchedAt(trade.getCreatedAt())
+			.role(isBuyer ? "BUYER" : "SELLER")
+			.build();
+	}
 }
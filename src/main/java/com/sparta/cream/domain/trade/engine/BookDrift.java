@@ -0,0 +1,25 @@
+package com.sparta.cream.domain.trade.engine;
+
+/**
+ * 호가창을 DB의 대기 입찰과 대조하여 바로잡은 주문 수입니다.
+ * BookDrift.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+public record BookDrift(
+	int missing,
+	int stale,
+	int repriced
+) {
+
+	public static final BookDrift NONE = new BookDrift(0, 0, 0);
+
+	/**
+	 * 바로잡은 주문이 없는지 확인합니다.
+	 * @return 호가창이 DB와 일치했으면 true
+	 */
+	public boolean isEmpty() {
+		return missing == 0 && stale == 0 && repriced == 0;
+	}
+}
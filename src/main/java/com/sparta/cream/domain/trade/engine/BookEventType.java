@@ -0,0 +1,18 @@
+package com.sparta.cream.domain.trade.engine;
+
+/**
+ * 호가창에서 발생하는 변경 이벤트의 종류입니다.
+ * 매칭 저널에 기록되어 재시작 시 호가창을 복원하는 데 사용됩니다.
+ * 저널에는 순서(ordinal)로 기록되므로 새 종류는 항상 마지막에 추가합니다.
+ * BookEventType.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+public enum BookEventType {
+	ADD,     // 대기 주문 등록
+	CANCEL,  // 취소, 수정 전 제거, 만료 등 체결 외 사유의 제거
+	MATCH,   // 체결에 의한 제거
+	RESET,   // 호가창 전체 폐기 (DB 기준 재적재 예정)
+	AMEND    // 대기 주문의 가격 정정 (저널 레코드의 가격은 정정 후 가격)
+}
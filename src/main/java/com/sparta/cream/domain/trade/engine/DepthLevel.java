@@ -0,0 +1,15 @@
+package com.sparta.cream.domain.trade.engine;
+
+/**
+ * 호가창 깊이 조회 시 한 가격 구간에 모인 대기 주문 수량입니다.
+ * 입찰 1건은 상품 1개이므로 수량은 구간에 속한 대기 입찰 수와 같습니다.
+ * DepthLevel.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+public record DepthLevel(
+	long price,
+	int quantity
+) {
+}
@@ -0,0 +1,31 @@
+package com.sparta.cream.domain.trade.engine;
+
+import com.sparta.cream.domain.bid.entity.BidType;
+
+/**
+ * 매칭 저널에 기록되는 호가창 변경 이벤트 한 건입니다.
+ * {@link BookEventType#RESET} 이벤트는 입찰 정보 없이 상품 옵션 ID만 가지며,
+ * 이 경우 입찰 ID, 가격, 소유자 ID는 0, 타입은 null 입니다.
+ * JournalEntry.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+public record JournalEntry(
+	long sequence,
+	BookEventType type,
+	long productOptionId,
+	long bidId,
+	long price,
+	BidType side,
+	long userId
+) {
+
+	/**
+	 * 저널 이벤트가 담고 있는 호가창 주문을 반환합니다.
+	 * @return 호가창 주문
+	 */
+	public RestingOrder toRestingOrder() {
+		return new RestingOrder(bidId, price, side, userId);
+	}
+}
@@ -0,0 +1,203 @@
+package com.sparta.cream.domain.trade.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 옵션 단위로 매칭 작업을 직렬화하는 단일 작성자(Single-Writer) 샤드 실행기입니다.
+ * 각 상품 옵션 ID는 해시를 통해 N개의 단일 스레드 샤드 중 하나에 고정 배정되므로,
+ * 같은 옵션의 작업은 항상 같은 스레드에서 제출 순서대로 실행되고
+ * 서로 다른 옵션의 작업은 코어 수만큼 병렬로 처리됩니다.
+ * 분산 락 대기나 획득 실패가 없으므로 락 타임아웃으로 매칭이 누락되지 않습니다.
+ * 샤드 큐는 {@code matching.engine.queue-capacity}로 제한하여 적체가 힙을 소진하지 않도록 하고,
+ * 큐가 가득 차 거절된 작업의 상품 옵션은 기록해 두었다가 {@link #drainRejected()}로 넘겨줍니다.
+ * 샤드 작업은 모두 DB에 이미 커밋된 입찰 상태를 호가창에 반영하는 일이므로, 작업 자체를 보관하지 않고
+ * 해당 옵션의 호가창을 DB 대기 입찰과 다시 대조하는 것으로 재시도를 대신합니다.
+ * 각 작업의 샤드 큐 대기 시간과 샤드 점유 시간은 {@link MatchingMetrics}로 기록되고,
+ * 샤드별 큐 깊이와 활성 스레드 수는 {@code executor.queued}, {@code executor.active} 게이지({@code name=matching}, {@code shard} 태그)로 노출됩니다.
+ * 샤드는 알림, 외부 I/O 실행기와 스레드를 공유하지 않으므로 다른 작업이 포화되어도 매칭이 밀리지 않습니다.
+ * 샤드 스레드는 오래 살아 있는 단일 작성자이고 호가창 잠금을 자주 잡으므로, 가상 스레드 모드에서도 플랫폼 스레드로 유지합니다.
+ * MatchingExecutor.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Slf4j
+@Component
+public class MatchingExecutor implements DisposableBean {
+
+	private final ExecutorService[] shards;
+	private final MatchingMetrics matchingMetrics;
+	private final Set<Long> rejectedOptions = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * 설정된 샤드 수만큼 단일 스레드 실행기를 생성합니다.
+	 * 샤드 수가 0 이하이면 사용 가능한 CPU 코어 수를 사용합니다.
+	 * @param shardCount 샤드 수 ({@code matching.engine.shard-count})
+	 * @param queueCapacity 샤드별 대기 작업 상한 ({@code matching.engine.queue-capacity})
+	 * @param matchingMetrics 매칭 지표 기록기
+	 * @param meterRegistry 샤드 큐 깊이 게이지를 등록할 레지스트리
+	 */
+	public MatchingExecutor(
+		@Value("${matching.engine.shard-count:0}") int shardCount,
+		@Value("${matching.engine.queue-capacity:10000}") int queueCapacity,
+		MatchingMetrics matchingMetrics,
+		MeterRegistry meterRegistry
+	) {
+		this.matchingMetrics = matchingMetrics;
+		int count = shardCount > 0 ? shardCount : Runtime.getRuntime().availableProcessors();
+		this.shards = new ExecutorService[count];
+		for (int i = 0; i < count; i++) {
+			String threadName = "Matching-" + i;
+			ThreadPoolExecutor shard = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+				new LinkedBlockingQueue<>(queueCapacity), runnable -> {
+					Thread thread = new Thread(runnable, threadName);
+					thread.setDaemon(true);
+					return thread;
+				});
+			new ExecutorServiceMetrics(shard, "matching", Tags.of("shard", String.valueOf(i))).bindTo(meterRegistry);
+			shards[i] = shard;
+		}
+		log.info("매칭 샤드 실행기 초기화: 샤드 {}개, 샤드별 큐 {}", count, queueCapacity);
+	}
+
+	/**
+	 * 상품 옵션에 배정된 샤드에서 작업을 실행합니다.
+	 * 작업 중 발생한 예외는 로그로 남기고 샤드 스레드는 계속 다음 작업을 처리합니다.
+	 * 샤드 큐가 가득 찼거나 종료 중이라 작업을 받지 못하면 거절 건수를 기록하고,
+	 * 상품 옵션을 재시도 대상으로 남겨 DB 기준 재대조로 복구되도록 합니다.
+	 * @param productOptionId 작업 대상 상품 옵션 ID
+	 * @param task 실행할 매칭 작업
+	 */
+	public void execute(Long productOptionId, Runnable task) {
+		long submittedAt = System.nanoTime();
+		try {
+			shards[shardOf(productOptionId)].execute(() -> {
+				long startedAt = System.nanoTime();
+				matchingMetrics.recordShardWait(productOptionId, startedAt - submittedAt);
+				try {
+					task.run();
+				} catch (Exception e) {
+					log.error("매칭 샤드 작업 실패: 옵션 {}, 사유: {}", productOptionId, e.getMessage(), e);
+				} finally {
+					matchingMetrics.recordShardHold(productOptionId, System.nanoTime() - startedAt);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			matchingMetrics.incrementShardRejection(productOptionId);
+			rejectedOptions.add(productOptionId);
+			log.warn("매칭 샤드 작업 거절, 재대조 대상으로 기록: 옵션 {}", productOptionId);
+		}
+	}
+
+	/**
+	 * 상품 옵션에 배정된 샤드에서 결과를 반환하는 작업을 실행합니다.
+	 * 입찰 정정처럼 매칭과 같은 직렬화 아래에서 실행되어야 하고 호출자가 결과를 기다려야 하는 작업에 사용하며,
+	 * 작업의 예외는 로그로 삼키지 않고 반환된 Future로 전달합니다.
+	 * 반환된 Future는 작업이 샤드 큐에서 대기 중일 때만 취소되며, 취소된 작업은 샤드 차례가 와도 실행하지 않습니다.
+	 * 이미 실행을 시작한 작업은 취소되지 않고({@code cancel}이 false 반환) 끝까지 실행되므로,
+	 * 호출자는 취소 결과로 작업의 반영 여부를 판단할 수 있습니다.
+	 * 샤드 큐가 가득 차 거절되면 {@link RejectedExecutionException}으로 완료된 Future를 반환하며, 재시도 여부는 호출자가 판단합니다.
+	 * @param productOptionId 작업 대상 상품 옵션 ID
+	 * @param task 실행할 작업
+	 * @return 작업 결과를 전달할 Future
+	 */
+	public <T> CompletableFuture<T> submit(Long productOptionId, Supplier<T> task) {
+		ShardFuture<T> future = new ShardFuture<>();
+		long submittedAt = System.nanoTime();
+		try {
+			shards[shardOf(productOptionId)].execute(() -> {
+				if (!future.start()) {
+					return;
+				}
+				long startedAt = System.nanoTime();
+				matchingMetrics.recordShardWait(productOptionId, startedAt - submittedAt);
+				try {
+					future.complete(task.get());
+				} catch (Throwable e) {
+					future.completeExceptionally(e);
+				} finally {
+					matchingMetrics.recordShardHold(productOptionId, System.nanoTime() - startedAt);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			matchingMetrics.incrementShardRejection(productOptionId);
+			future.completeExceptionally(e);
+		}
+		return future;
+	}
+
+	/**
+	 * 샤드 큐가 가득 차 작업이 거절된 상품 옵션을 꺼내고 기록을 비웁니다.
+	 * 꺼낸 뒤 다시 거절된 옵션은 다음 호출에서 다시 반환됩니다.
+	 * @return 거절된 작업이 있었던 상품 옵션 ID 목록
+	 */
+	public List<Long> drainRejected() {
+		List<Long> drained = new ArrayList<>(rejectedOptions);
+		rejectedOptions.removeAll(drained);
+		return drained;
+	}
+
+	/**
+	 * 상품 옵션 ID가 배정되는 샤드 번호를 계산합니다.
+	 * @param productOptionId 상품 옵션 ID
+	 * @return 샤드 번호
+	 */
+	public int shardOf(Long productOptionId) {
+		long hash = productOptionId * 0x9E3779B97F4A7C15L;
+		return (int)Math.floorMod(hash ^ (hash >>> 32), (long)shards.length);
+	}
+
+	public int getShardCount() {
+		return shards.length;
+	}
+
+	@Override
+	public void destroy() throws InterruptedException {
+		for (ExecutorService shard : shards) {
+			shard.shutdown();
+		}
+		for (ExecutorService shard : shards) {
+			if (!shard.awaitTermination(10, TimeUnit.SECONDS)) {
+				shard.shutdownNow();
+			}
+		}
+	}
+
+	/**
+	 * 샤드에서 실행을 시작하기 전까지만 취소할 수 있는 Future입니다.
+	 * 시작과 취소가 같은 플래그를 선점하므로, 둘 중 먼저 선점한 쪽만 성공합니다.
+	 */
+	private static class ShardFuture<T> extends CompletableFuture<T> {
+
+		private final AtomicBoolean started = new AtomicBoolean();
+
+		private boolean start() {
+			return started.compareAndSet(false, true);
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			return started.compareAndSet(false, true) && super.cancel(mayInterruptIfRunning);
+		}
+	}
+}
@@ -0,0 +1,307 @@
+package com.sparta.cream.domain.trade.engine;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.sparta.cream.domain.bid.entity.BidType;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 호가창 변경 이벤트(등록, 취소, 체결, 폐기)를 기록하는 추가 전용(Append-only) 저널입니다.
+ * 고정 크기 세그먼트 파일을 메모리 매핑하여 기록하므로 매칭 경로에서 시스템 콜 없이 이벤트를 남길 수 있으며,
+ * 프로세스가 비정상 종료되더라도 운영체제 페이지 캐시에 남은 기록은 보존됩니다.
+ * 레코드는 40바이트 고정 길이로, 시퀀스를 마지막에 기록하여 시퀀스가 0이 아닌 레코드만 완결된 것으로 취급합니다.
+ * - [0, 8) 시퀀스, [8] 이벤트 종류, [9] 입찰 타입, [10, 16) 소유자 ID(하위 48비트), [16, 24) 상품 옵션 ID, [24, 32) 입찰 ID, [32, 40) 가격
+ * 소유자 ID는 레코드 길이를 늘리지 않도록 비어 있던 6바이트에 기록하며, 이전 형식의 레코드는 0(소유자 없음)으로 읽힙니다.
+ * 재시작 시에는 {@link OrderBookSnapshotter}가 최신 스냅샷을 읽은 뒤 그 이후의 저널만 재생하며,
+ * 스냅샷에 포함된 구간의 세그먼트는 삭제되어 복구 시간이 마지막 스냅샷 이후의 변경량에만 비례합니다.
+ * 기록 중 I/O 오류가 발생하면 스냅샷을 삭제하고 저널을 비활성화하여, 다음 기동 시 DB 기준으로 복구되도록 합니다.
+ * 세그먼트 강제 기록(msync) 같은 블로킹 I/O를 잠금 안에서 수행하므로, 가상 스레드가 캐리어 스레드를 점유하지 않도록 모니터 대신 {@link ReentrantLock}을 사용합니다.
+ * MatchingJournal.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Slf4j
+@Component
+public class MatchingJournal implements OrderBookListener, DisposableBean {
+
+	static final int RECORD_SIZE = 40;
+	private static final String SEGMENT_PREFIX = "journal-";
+	private static final String SEGMENT_SUFFIX = ".log";
+	private static final String SNAPSHOT_FILE = "snapshot.bin";
+
+	private final Path directory;
+	private final int segmentSize;
+	private final ReentrantLock lock = new ReentrantLock();
+	private volatile boolean enabled;
+
+	private MappedByteBuffer active;
+	private long nextSequence = 1;
+
+	/**
+	 * 저널 디렉터리를 열고 마지막 세그먼트의 기록 위치를 복원합니다.
+	 * @param enabled 저널 사용 여부 ({@code matching.journal.enabled})
+	 * @param directory 저널과 스냅샷을 보관할 디렉터리 ({@code matching.journal.dir})
+	 * @param segmentSize 세그먼트 파일 크기(바이트) ({@code matching.journal.segment-size})
+	 */
+	public MatchingJournal(
+		@Value("${matching.journal.enabled:true}") boolean enabled,
+		@Value("${matching.journal.dir:./data/matching-journal}") String directory,
+		@Value("${matching.journal.segment-size:67108864}") int segmentSize
+	) {
+		this.directory = Path.of(directory);
+		this.segmentSize = Math.max(RECORD_SIZE, segmentSize - segmentSize % RECORD_SIZE);
+		this.enabled = enabled && open();
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 스냅샷 파일 경로를 반환합니다. 저널과 같은 디렉터리에 보관됩니다.
+	 * @return 스냅샷 파일 경로
+	 */
+	public Path snapshotPath() {
+		return directory.resolve(SNAPSHOT_FILE);
+	}
+
+	@Override
+	public void onAdded(Long productOptionId, RestingOrder order) {
+		append(BookEventType.ADD, productOptionId, order.bidId(), order.price(), order.type(), order.userId());
+	}
+
+	@Override
+	public void onRemoved(Long productOptionId, RestingOrder order, BookEventType reason) {
+		append(reason, productOptionId, order.bidId(), order.price(), order.type(), order.userId());
+	}
+
+	@Override
+	public void onAmended(Long productOptionId, RestingOrder before, RestingOrder after) {
+		append(BookEventType.AMEND, productOptionId, after.bidId(), after.price(), after.type(), after.userId());
+	}
+
+	@Override
+	public void onReset(Long productOptionId) {
+		append(BookEventType.RESET, productOptionId, 0L, 0L, null, 0L);
+	}
+
+	/**
+	 * 마지막으로 기록된 이벤트의 시퀀스를 반환합니다.
+	 * @return 마지막 시퀀스, 기록이 없으면 0
+	 */
+	public long lastSequence() {
+		lock.lock();
+		try {
+			return nextSequence - 1;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 지정한 시퀀스 이후의 이벤트를 기록 순서대로 전달합니다.
+	 * @param afterSequence 이 시퀀스 이하의 이벤트는 건너뜁니다
+	 * @param consumer 이벤트를 전달받을 소비자
+	 * @throws IOException 세그먼트 파일을 읽지 못한 경우
+	 */
+	public void replay(long afterSequence, Consumer<JournalEntry> consumer) throws IOException {
+		lock.lock();
+		try {
+			if (!enabled) {
+				return;
+			}
+			for (Path segment : segments()) {
+				MappedByteBuffer buffer = map(segment, FileChannel.MapMode.READ_ONLY);
+				for (int position = 0; position + RECORD_SIZE <= buffer.capacity(); position += RECORD_SIZE) {
+					long sequence = buffer.getLong(position);
+					if (sequence == 0) {
+						break;
+					}
+					if (sequence > afterSequence) {
+						consumer.accept(read(buffer, position, sequence));
+					}
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 모든 레코드가 지정한 시퀀스 이하인 세그먼트를 삭제합니다.
+	 * 스냅샷이 해당 시퀀스까지의 상태를 포함하게 된 뒤에 호출되며, 현재 기록 중인 세그먼트는 삭제하지 않습니다.
+	 * @param sequence 스냅샷에 포함된 마지막 시퀀스
+	 */
+	public void truncateThrough(long sequence) {
+		lock.lock();
+		try {
+			if (!enabled) {
+				return;
+			}
+			try {
+				List<Path> segments = segments();
+				for (int i = 0; i < segments.size() - 1; i++) {
+					if (startSequenceOf(segments.get(i + 1)) - 1 <= sequence) {
+						Files.deleteIfExists(segments.get(i));
+					}
+				}
+			} catch (IOException e) {
+				log.warn("저널 세그먼트 정리 실패: {}", e.getMessage());
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 현재 세그먼트의 변경 내용을 디스크에 강제로 기록합니다.
+	 */
+	public void force() {
+		lock.lock();
+		try {
+			if (enabled) {
+				active.force();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void destroy() {
+		force();
+	}
+
+	private void append(
+		BookEventType type,
+		long productOptionId,
+		long bidId,
+		long price,
+		BidType side,
+		long userId
+	) {
+		lock.lock();
+		try {
+			if (!enabled) {
+				return;
+			}
+			try {
+				if (active.remaining() < RECORD_SIZE) {
+					active.force();
+					active = map(segmentPath(nextSequence), FileChannel.MapMode.READ_WRITE);
+				}
+				int position = active.position();
+				active.put(position + 8, (byte)type.ordinal());
+				active.put(position + 9, side == null ? -1 : (byte)side.ordinal());
+				active.putShort(position + 10, (short)(userId >>> 32));
+				active.putInt(position + 12, (int)userId);
+				active.putLong(position + 16, productOptionId);
+				active.putLong(position + 24, bidId);
+				active.putLong(position + 32, price);
+				active.putLong(position, nextSequence);
+				active.position(position + RECORD_SIZE);
+				nextSequence++;
+			} catch (IOException e) {
+				disable(e);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private JournalEntry read(MappedByteBuffer buffer, int position, long sequence) {
+		byte side = buffer.get(position + 9);
+		return new JournalEntry(
+			sequence,
+			BookEventType.values()[buffer.get(position + 8)],
+			buffer.getLong(position + 16),
+			buffer.getLong(position + 24),
+			buffer.getLong(position + 32),
+			side < 0 ? null : BidType.values()[side],
+			(buffer.getShort(position + 10) & 0xFFFFL) << 32 | buffer.getInt(position + 12) & 0xFFFFFFFFL
+		);
+	}
+
+	private boolean open() {
+		try {
+			Files.createDirectories(directory);
+			List<Path> segments = segments();
+			if (segments.isEmpty()) {
+				active = map(segmentPath(nextSequence), FileChannel.MapMode.READ_WRITE);
+			} else {
+				Path last = segments.get(segments.size() - 1);
+				active = map(last, FileChannel.MapMode.READ_WRITE);
+				nextSequence = startSequenceOf(last);
+				int position = 0;
+				while (position + RECORD_SIZE <= active.capacity() && active.getLong(position) != 0) {
+					nextSequence = active.getLong(position) + 1;
+					position += RECORD_SIZE;
+				}
+				active.position(position);
+			}
+			log.info("매칭 저널 열기 완료: {}, 다음 시퀀스 {}", directory, nextSequence);
+			return true;
+		} catch (IOException e) {
+			log.error("매칭 저널을 열 수 없어 비활성화합니다: {}", e.getMessage());
+			return false;
+		}
+	}
+
+	private void disable(IOException cause) {
+		log.error("매칭 저널 기록 실패로 저널을 비활성화합니다: {}", cause.getMessage());
+		enabled = false;
+		try {
+			Files.deleteIfExists(snapshotPath());
+		} catch (IOException e) {
+			log.error("스냅샷 삭제 실패: {}", e.getMessage());
+		}
+	}
+
+	private MappedByteBuffer map(Path segment, FileChannel.MapMode mode) throws IOException {
+		if (mode == FileChannel.MapMode.READ_ONLY) {
+			try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+				return channel.map(mode, 0, channel.size());
+			}
+		}
+		try (FileChannel channel = FileChannel.open(segment,
+			StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			return channel.map(mode, 0, segmentSize);
+		}
+	}
+
+	private List<Path> segments() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files
+				.filter(path -> {
+					String name = path.getFileName().toString();
+					return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+				})
+				.sorted()
+				.toList();
+		}
+	}
+
+	private Path segmentPath(long startSequence) {
+		return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, startSequence, SEGMENT_SUFFIX));
+	}
+
+	private long startSequenceOf(Path segment) {
+		String name = segment.getFileName().toString();
+		return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+	}
+}
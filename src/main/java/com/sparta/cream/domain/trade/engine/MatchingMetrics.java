@@ -0,0 +1,160 @@
+package com.sparta.cream.domain.trade.engine;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 매칭 파이프라인의 지연 시간과 실패 건수를 Micrometer로 기록합니다.
+ * 기록된 지표는 {@code /actuator/prometheus}로 노출되며, 지연 시간은 백분위 히스토그램으로 발행되어
+ * Grafana에서 {@code histogram_quantile}로 꼬리 지연(p99 등)을 조회할 수 있습니다.
+ * 상품 옵션 ID를 태그로 사용하면 시계열 수가 옵션 수만큼 늘어나므로,
+ * 호가창 깊이 기준의 활성도 구간({@code hotness}: cold/warm/hot)으로만 구분합니다.
+ * 매칭은 옵션별 샤드에서 직렬화되므로, 기존 분산 락의 대기/점유 시간은 샤드 큐 대기/샤드 점유 시간으로 측정합니다.
+ * MatchingMetrics.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Component
+public class MatchingMetrics {
+
+	private static final String HOTNESS_TAG = "hotness";
+
+	private final OrderBookRegistry orderBookRegistry;
+	private final Map<Hotness, Timer> commitToStart = new EnumMap<>(Hotness.class);
+	private final Map<Hotness, Timer> shardWait = new EnumMap<>(Hotness.class);
+	private final Map<Hotness, Timer> shardHold = new EnumMap<>(Hotness.class);
+	private final Map<Hotness, Timer> matchDuration = new EnumMap<>(Hotness.class);
+	private final Map<Hotness, DistributionSummary> candidatesScanned = new EnumMap<>(Hotness.class);
+	private final Map<Hotness, Counter> shardRejections = new EnumMap<>(Hotness.class);
+	private final Map<Hotness, Counter> optimisticLockConflicts = new EnumMap<>(Hotness.class);
+	private final Map<Hotness, Counter> matchFailures = new EnumMap<>(Hotness.class);
+	private final Map<Hotness, Counter> staleRemovals = new EnumMap<>(Hotness.class);
+	private final Map<Hotness, Counter> selfTradesPrevented = new EnumMap<>(Hotness.class);
+
+	public MatchingMetrics(MeterRegistry meterRegistry, OrderBookRegistry orderBookRegistry) {
+		this.orderBookRegistry = orderBookRegistry;
+		for (Hotness hotness : Hotness.values()) {
+			commitToStart.put(hotness, timer(meterRegistry, hotness, "cream.matching.commit.to.start",
+				"입찰 커밋부터 매칭 샤드에서 매칭이 시작되기까지의 시간"));
+			shardWait.put(hotness, timer(meterRegistry, hotness, "cream.matching.shard.wait",
+				"매칭 작업이 샤드 큐에서 대기한 시간 (기존 분산 락 대기 시간에 해당)"));
+			shardHold.put(hotness, timer(meterRegistry, hotness, "cream.matching.shard.hold",
+				"매칭 작업이 샤드 스레드를 점유한 시간 (기존 분산 락 점유 시간에 해당)"));
+			matchDuration.put(hotness, timer(meterRegistry, hotness, "cream.matching.match.duration",
+				"매칭 및 거래 저장 트랜잭션 소요 시간"));
+			candidatesScanned.put(hotness, DistributionSummary.builder("cream.matching.candidates.scanned")
+				.description("매칭 한 번에 확인한 호가창 후보 수")
+				.tag(HOTNESS_TAG, hotness.tagValue())
+				.publishPercentileHistogram()
+				.register(meterRegistry));
+			shardRejections.put(hotness, counter(meterRegistry, hotness, "cream.matching.shard.rejections",
+				"샤드에 제출되지 못해 누락된 매칭 작업 수 (기존 분산 락 획득 실패에 해당)"));
+			optimisticLockConflicts.put(hotness, counter(meterRegistry, hotness, "cream.matching.optimistic.conflicts",
+				"매칭 중 낙관적 락 충돌 수"));
+			matchFailures.put(hotness, counter(meterRegistry, hotness, "cream.matching.failures",
+				"예상치 못한 오류로 실패한 매칭 수"));
+			staleRemovals.put(hotness, counter(meterRegistry, hotness, "cream.matching.stale.removals",
+				"이미 체결/취소되어 호가창과 Redis 대기열에서 제거된 후보 수"));
+			selfTradesPrevented.put(hotness, counter(meterRegistry, hotness, "cream.matching.self.trades.prevented",
+				"같은 사용자의 주문끼리 교차하여 건너뛰거나 취소한 횟수"));
+		}
+	}
+
+	public void recordCommitToStart(Long productOptionId, long nanos) {
+		commitToStart.get(hotnessOf(productOptionId)).record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	public void recordShardWait(Long productOptionId, long nanos) {
+		shardWait.get(hotnessOf(productOptionId)).record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	public void recordShardHold(Long productOptionId, long nanos) {
+		shardHold.get(hotnessOf(productOptionId)).record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	public void recordMatchDuration(Long productOptionId, long nanos) {
+		matchDuration.get(hotnessOf(productOptionId)).record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	public void recordCandidatesScanned(Long productOptionId, int candidates) {
+		candidatesScanned.get(hotnessOf(productOptionId)).record(candidates);
+	}
+
+	public void incrementShardRejection(Long productOptionId) {
+		shardRejections.get(hotnessOf(productOptionId)).increment();
+	}
+
+	public void incrementOptimisticLockConflict(Long productOptionId) {
+		optimisticLockConflicts.get(hotnessOf(productOptionId)).increment();
+	}
+
+	public void incrementMatchFailure(Long productOptionId) {
+		matchFailures.get(hotnessOf(productOptionId)).increment();
+	}
+
+	public void incrementStaleRemoval(Long productOptionId) {
+		staleRemovals.get(hotnessOf(productOptionId)).increment();
+	}
+
+	public void incrementSelfTradePrevented(Long productOptionId) {
+		selfTradesPrevented.get(hotnessOf(productOptionId)).increment();
+	}
+
+	/**
+	 * 상품 옵션의 현재 호가창 깊이로 활성도 구간을 판단합니다.
+	 * 아직 적재되지 않은 호가창은 대기 주문이 없는 것으로 보아 cold로 분류합니다.
+	 * @param productOptionId 상품 옵션 ID
+	 * @return 활성도 구간
+	 */
+	Hotness hotnessOf(Long productOptionId) {
+		int depth = orderBookRegistry.find(productOptionId).map(OrderBook::size).orElse(0);
+		return Hotness.of(depth);
+	}
+
+	private static Timer timer(MeterRegistry meterRegistry, Hotness hotness, String name, String description) {
+		return Timer.builder(name)
+			.description(description)
+			.tag(HOTNESS_TAG, hotness.tagValue())
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+	}
+
+	private static Counter counter(MeterRegistry meterRegistry, Hotness hotness, String name, String description) {
+		return Counter.builder(name)
+			.description(description)
+			.tag(HOTNESS_TAG, hotness.tagValue())
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 호가창 깊이(대기 주문 수) 기준의 상품 옵션 활성도 구간입니다.
+	 */
+	enum Hotness {
+		COLD,
+		WARM,
+		HOT;
+
+		private static final int WARM_DEPTH = 100;
+		private static final int HOT_DEPTH = 10_000;
+
+		static Hotness of(int depth) {
+			if (depth >= HOT_DEPTH) {
+				return HOT;
+			}
+			return depth >= WARM_DEPTH ? WARM : COLD;
+		}
+
+		String tagValue() {
+			return name().toLowerCase();
+		}
+	}
+}
@@ -0,0 +1,491 @@
+package com.sparta.cream.domain.trade.engine;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.sparta.cream.domain.bid.entity.BidType;
+
+/**
+ * 상품 옵션 하나에 대한 인메모리 호가창입니다.
+ * 구매/판매 각각을 가격별 레벨(TreeMap)로 관리하고,
+ * 같은 가격 안에서는 등록 순서(FIFO)를 유지하여 가격-시간 우선순위를 보장합니다.
+ * 가격은 {@link PriceTimePriority}의 정수 비교로만 정렬되므로 실수 오차로 순서가 뒤바뀌지 않으며,
+ * 최초 적재 시에는 입찰 ID(등록 순서) 오름차순으로 복원됩니다.
+ * 최우선 호가 조회는 O(log n), 입찰 ID 기반 제거는 O(log n)으로 동작합니다.
+ * 등록/제거로 최우선 호가({@link TopOfBook})가 바뀌면 리스너에 함께 전달하여,
+ * 시세 조회가 호가창 깊이와 무관하게 캐시된 값만 읽도록 합니다.
+ * 가격 레벨의 주문 수 변화도 함께 전달하여, 실시간 시세 스트림이 호가창을 다시 읽지 않고 증분만 발행하도록 합니다.
+ * 각 주문은 등록 시 호가창 단위로 증가하는 순번을 부여받아, 가격 정정(Amend) 후에도 시간 우선순위를 판단할 수 있습니다.
+ * 주문은 소유자 ID를 함께 보관하므로, 자기 체결 방지를 위해 같은 사용자의 주문을 건너뛰는 조회도 DB 조회 없이 수행됩니다.
+ * 리스너에는 매칭 저널(세그먼트 강제 기록, 교체 시 재매핑)이 포함되어 잠금 안에서 블로킹 I/O가 일어날 수 있고,
+ * 취소/정정 경로처럼 가상 스레드에서 접근될 수 있으므로 캐리어 스레드를 점유하지 않도록 모니터 대신 {@link ReentrantLock}으로 보호합니다.
+ * Redis ZSet과 bids 테이블은 영속 저장소로만 사용되며,
+ * 실제 매칭 후보 탐색은 본 객체 안에서 네트워크 왕복 없이 수행됩니다.
+ * OrderBook.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+public class OrderBook {
+
+	private final Long productOptionId;
+	private final NavigableMap<Long, PriceLevel> buyLevels =
+		new TreeMap<>((price, other) -> PriceTimePriority.comparePrice(BidType.BUY, price, other));
+	private final NavigableMap<Long, PriceLevel> sellLevels =
+		new TreeMap<>((price, other) -> PriceTimePriority.comparePrice(BidType.SELL, price, other));
+	private final Map<Long, Slot> orders = new HashMap<>();
+	private final ReentrantLock lock = new ReentrantLock();
+	private volatile OrderBookListener listener = OrderBookListener.NONE;
+	private TopOfBook topOfBook = TopOfBook.EMPTY;
+	private long nextSequence;
+
+	public OrderBook(Long productOptionId) {
+		this.productOptionId = productOptionId;
+	}
+
+	/**
+	 * 호가창 변경을 전달받을 리스너를 연결합니다.
+	 * DB 적재나 저널 복원처럼 이미 기록된 상태를 다시 채우는 동안에는 연결하지 않고,
+	 * 복원이 끝난 뒤 연결하여 이후의 변경만 전달되도록 하고, 연결 시점의 최우선 호가는 한 번 전달합니다.
+	 * @param listener 호가창 리스너
+	 */
+	public void setListener(OrderBookListener listener) {
+		lock.lock();
+		try {
+			this.listener = listener;
+			listener.onTopOfBookChanged(productOptionId, topOfBook);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public Long getProductOptionId() {
+		return productOptionId;
+	}
+
+	/**
+	 * 주문을 호가창에 등록합니다.
+	 * 같은 가격 레벨 안에서는 가장 뒤에 추가되어 시간 우선순위를 따릅니다.
+	 * @param order 등록할 주문
+	 * @return 이미 등록된 입찰이면 false
+	 */
+	public boolean add(RestingOrder order) {
+		lock.lock();
+		try {
+			if (orders.containsKey(order.bidId())) {
+				return false;
+			}
+			Slot slot = new Slot(order, nextSequence++);
+			PriceLevel level = levels(order.type()).computeIfAbsent(order.price(), price -> new PriceLevel());
+			level.add(slot);
+			orders.put(order.bidId(), slot);
+			listener.onAdded(productOptionId, order);
+			listener.onLevelChanged(productOptionId, order.type(), order.price(), level.size());
+			refreshTopOfBook(order.type());
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 체결 외의 사유(취소, 수정 전 제거 등)로 주문을 호가창에서 제거합니다.
+	 * @param bidId 제거할 입찰 ID
+	 * @return 제거된 주문, 호가창에 없으면 null
+	 */
+	public RestingOrder remove(long bidId) {
+		return remove(bidId, BookEventType.CANCEL);
+	}
+
+	/**
+	 * 입찰 ID에 해당하는 주문을 호가창에서 제거합니다.
+	 * 가격 레벨이 비게 되면 레벨 자체도 함께 제거합니다.
+	 * @param bidId 제거할 입찰 ID
+	 * @param reason 제거 사유
+	 * @return 제거된 주문, 호가창에 없으면 null
+	 */
+	public RestingOrder remove(long bidId, BookEventType reason) {
+		lock.lock();
+		try {
+			Slot slot = orders.remove(bidId);
+			if (slot == null) {
+				return null;
+			}
+			RestingOrder order = slot.order();
+			NavigableMap<Long, PriceLevel> levels = levels(order.type());
+			PriceLevel level = levels.get(order.price());
+			int remaining = 0;
+			if (level != null) {
+				level.remove(bidId);
+				remaining = level.size();
+				if (level.isEmpty()) {
+					levels.remove(order.price());
+				}
+			}
+			listener.onRemoved(productOptionId, order, reason);
+			listener.onLevelChanged(productOptionId, order.type(), order.price(), remaining);
+			refreshTopOfBook(order.type());
+			return order;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 대기 주문의 가격을 제거/재등록 없이 호가창 안에서 정정(Amend)합니다.
+	 * 1. 가격이 같으면 아무것도 바꾸지 않으며 시간 우선순위도 그대로 유지됩니다.
+	 * 2. 더 공격적인 가격(구매 인상, 판매 인하)으로 바뀌면 새 순번을 받아 새 가격 레벨의 가장 뒤로 이동하여 시간 우선순위를 잃습니다.
+	 * 3. 덜 공격적인 가격으로 바뀌면 기존 순번을 유지한 채 새 가격 레벨의 순번 위치에 들어가 시간 우선순위를 유지합니다.
+	 * 주문 수는 변하지 않으므로 등록/제거 대신 {@link OrderBookListener#onAmended}를 전달하고,
+	 * 이전/이후 가격 레벨의 주문 수와 최우선 호가 변화는 기존과 같이 전달합니다.
+	 * @param bidId 정정할 입찰 ID
+	 * @param newPrice 정정 후 가격
+	 * @return 정정된 주문, 호가창에 없거나 가격이 같으면 null
+	 */
+	public RestingOrder amend(long bidId, long newPrice) {
+		lock.lock();
+		try {
+			Slot slot = orders.get(bidId);
+			if (slot == null || slot.order().price() == newPrice) {
+				return null;
+			}
+			RestingOrder before = slot.order();
+			RestingOrder after = new RestingOrder(bidId, newPrice, before.type(), before.userId());
+			boolean keepsPriority = PriceTimePriority.comparePrice(before.type(), newPrice, before.price()) > 0;
+			Slot amended = new Slot(after, keepsPriority ? slot.sequence() : nextSequence++);
+
+			NavigableMap<Long, PriceLevel> levels = levels(before.type());
+			PriceLevel oldLevel = levels.get(before.price());
+			oldLevel.remove(bidId);
+			int oldRemaining = oldLevel.size();
+			if (oldLevel.isEmpty()) {
+				levels.remove(before.price());
+			}
+			PriceLevel newLevel = levels.computeIfAbsent(newPrice, price -> new PriceLevel());
+			newLevel.insert(amended);
+			orders.put(bidId, amended);
+
+			listener.onAmended(productOptionId, before, after);
+			listener.onLevelChanged(productOptionId, before.type(), before.price(), oldRemaining);
+			listener.onLevelChanged(productOptionId, before.type(), newPrice, newLevel.size());
+			refreshTopOfBook(before.type());
+			return after;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 호가창을 DB 기준 대기 주문 목록과 맞춥니다.
+	 * 1. 목록에 없는 주문은 더 이상 대기 상태가 아니므로 제거합니다.
+	 * 2. 가격이 다른 주문은 정정(Amend) 규칙에 따라 가격을 바로잡습니다.
+	 * 3. 호가창에 없는 주문은 목록 순서(입찰 ID 오름차순)대로 해당 가격 레벨의 가장 뒤에 등록합니다.
+	 * 저널에 기록되지 않은 변경(커밋 직후 종료, 다른 노드의 등록/체결)을 복구할 때 사용하며,
+	 * 바로잡은 내용은 일반 등록/제거/정정과 같이 리스너로 전달됩니다.
+	 * @param pending DB 기준 대기 주문 목록
+	 * @return 바로잡은 주문 수
+	 */
+	public BookDrift reconcile(List<RestingOrder> pending) {
+		lock.lock();
+		try {
+			Map<Long, RestingOrder> expected = new HashMap<>();
+			pending.forEach(order -> expected.put(order.bidId(), order));
+
+			int stale = 0;
+			for (Long bidId : new ArrayList<>(orders.keySet())) {
+				if (!expected.containsKey(bidId)) {
+					remove(bidId, BookEventType.CANCEL);
+					stale++;
+				}
+			}
+
+			int missing = 0;
+			int repriced = 0;
+			for (RestingOrder order : pending) {
+				Slot slot = orders.get(order.bidId());
+				if (slot == null) {
+					add(order);
+					missing++;
+				} else if (slot.order().price() != order.price()) {
+					amend(order.bidId(), order.price());
+					repriced++;
+				}
+			}
+			return new BookDrift(missing, stale, repriced);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 신규 입찰의 반대편에서 가장 유리한 주문을 조회합니다.
+	 * 구매 입찰이면 최저 판매가를, 판매 입찰이면 최고 구매가를 반환합니다.
+	 * @param incomingType 신규 입찰의 타입
+	 * @return 최우선 상대 주문, 없으면 null
+	 */
+	public RestingOrder bestOpposite(BidType incomingType) {
+		lock.lock();
+		try {
+			return best(incomingType == BidType.BUY ? BidType.SELL : BidType.BUY);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 지정한 사용자의 주문을 건너뛰고, 신규 입찰의 반대편에서 가장 유리한 주문을 조회합니다.
+	 * @param incomingType 신규 입찰의 타입
+	 * @param excludedUserId 건너뛸 주문 소유자 ID (신규 입찰의 소유자)
+	 * @return 다른 사용자의 최우선 상대 주문, 없으면 null
+	 * @see #best(BidType, long)
+	 */
+	public RestingOrder bestOpposite(BidType incomingType, long excludedUserId) {
+		lock.lock();
+		try {
+			return best(incomingType == BidType.BUY ? BidType.SELL : BidType.BUY, excludedUserId);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 지정한 사용자의 주문을 건너뛰고, 지정한 방향의 최우선 주문을 조회합니다.
+	 * 주문마다 소유자 ID를 함께 보관하므로 DB 조회 없이 판단하며,
+	 * 최우선 주문이 다른 사용자의 것이면 {@link #best(BidType)}와 같은 비용으로 바로 반환합니다.
+	 * 같은 사용자의 주문이 앞에 있을 때만 우선순위 순서대로 그 다음 주문을 확인합니다.
+	 * @param type 조회할 방향
+	 * @param excludedUserId 건너뛸 주문 소유자 ID
+	 * @return 다른 사용자의 최우선 주문, 없으면 null
+	 */
+	public RestingOrder best(BidType type, long excludedUserId) {
+		lock.lock();
+		try {
+			for (PriceLevel level : levels(type).values()) {
+				for (Slot slot : level.queue.values()) {
+					if (slot.order().userId() != excludedUserId) {
+						return slot.order();
+					}
+				}
+			}
+			return null;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 지정한 방향의 최우선 주문을 조회합니다.
+	 * @param type 조회할 방향
+	 * @return 최우선 주문, 없으면 null
+	 */
+	public RestingOrder best(BidType type) {
+		lock.lock();
+		try {
+			Map.Entry<Long, PriceLevel> top = levels(type).firstEntry();
+			return top == null ? null : top.getValue().first();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 지정한 방향의 호가를 우선순위 순서대로 최대 {@code maxLevels}개의 가격 구간으로 묶어 반환합니다.
+	 * 가격 레벨별 주문 수는 등록/제거 시 이미 유지되고 있으므로, 앞쪽 레벨만 순회하며 전체 주문은 읽지 않습니다.
+	 * {@code tick}이 1보다 크면 구매 호가는 내림, 판매 호가는 올림하여 {@code tick} 단위 구간으로 합산합니다.
+	 * @param type 조회할 방향
+	 * @param maxLevels 최대 가격 구간 수
+	 * @param tick 가격 구간 단위 (1 이하이면 묶지 않음)
+	 * @return 우선순위 순서의 가격 구간 목록
+	 */
+	public List<DepthLevel> depth(BidType type, int maxLevels, long tick) {
+		lock.lock();
+		try {
+			List<DepthLevel> depth = new ArrayList<>(maxLevels);
+			long bucketPrice = 0;
+			int quantity = 0;
+			for (Map.Entry<Long, PriceLevel> entry : levels(type).entrySet()) {
+				long price = PriceTimePriority.bucket(type, entry.getKey(), tick);
+				if (quantity > 0 && price != bucketPrice) {
+					depth.add(new DepthLevel(bucketPrice, quantity));
+					if (depth.size() == maxLevels) {
+						return depth;
+					}
+					quantity = 0;
+				}
+				bucketPrice = price;
+				quantity += entry.getValue().size();
+			}
+			if (quantity > 0 && depth.size() < maxLevels) {
+				depth.add(new DepthLevel(bucketPrice, quantity));
+			}
+			return depth;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public TopOfBook topOfBook() {
+		lock.lock();
+		try {
+			return topOfBook;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public boolean contains(long bidId) {
+		lock.lock();
+		try {
+			return orders.containsKey(bidId);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 입찰 ID로 호가창에 대기 중인 주문을 조회합니다.
+	 * @param bidId 입찰 ID
+	 * @return 대기 중인 주문, 없으면 null
+	 */
+	public RestingOrder find(long bidId) {
+		lock.lock();
+		try {
+			Slot slot = orders.get(bidId);
+			return slot == null ? null : slot.order();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 대기 주문이 현재 가격에 자리잡은 순번을 조회합니다.
+	 * 공격적인 정정으로 새 순번을 받은 주문은 그 이후에 등록된 주문보다 늦은 것으로 판단됩니다.
+	 * @param bidId 입찰 ID
+	 * @return 등록 순번, 호가창에 없으면 -1
+	 */
+	public long sequenceOf(long bidId) {
+		lock.lock();
+		try {
+			Slot slot = orders.get(bidId);
+			return slot == null ? -1 : slot.sequence();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public int size() {
+		lock.lock();
+		try {
+			return orders.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 호가창의 모든 주문을 우선순위 순서대로 복사하여 반환합니다.
+	 * 구매 주문(높은 가격순) 다음에 판매 주문(낮은 가격순)이 오며, 같은 가격 안에서는 등록 순서를 따릅니다.
+	 * 반환된 순서대로 다시 등록하면 동일한 가격-시간 우선순위가 복원됩니다.
+	 * @return 우선순위 순서의 주문 목록
+	 */
+	public List<RestingOrder> orders() {
+		lock.lock();
+		try {
+			List<RestingOrder> snapshot = new ArrayList<>(orders.size());
+			buyLevels.values().forEach(level -> level.queue.values().forEach(slot -> snapshot.add(slot.order())));
+			sellLevels.values().forEach(level -> level.queue.values().forEach(slot -> snapshot.add(slot.order())));
+			return snapshot;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 변경된 방향의 최우선 가격 레벨을 다시 읽어, 최우선 호가가 바뀐 경우에만 리스너에 전달합니다.
+	 * 최우선 레벨보다 뒤쪽의 주문이 등록/제거된 경우에는 값이 같으므로 전달하지 않습니다.
+	 * @param type 변경된 방향
+	 */
+	private void refreshTopOfBook(BidType type) {
+		Map.Entry<Long, PriceLevel> top = levels(type).firstEntry();
+		Long price = top == null ? null : top.getKey();
+		int count = top == null ? 0 : top.getValue().size();
+		TopOfBook refreshed = type == BidType.BUY
+			? new TopOfBook(price, count, topOfBook.bestSellPrice(), topOfBook.bestSellCount())
+			: new TopOfBook(topOfBook.bestBuyPrice(), topOfBook.bestBuyCount(), price, count);
+		if (!refreshed.equals(topOfBook)) {
+			topOfBook = refreshed;
+			listener.onTopOfBookChanged(productOptionId, refreshed);
+		}
+	}
+
+	private NavigableMap<Long, PriceLevel> levels(BidType type) {
+		return type == BidType.BUY ? buyLevels : sellLevels;
+	}
+
+	/**
+	 * 호가창 주문과 등록 순번을 함께 보관합니다. 순번이 작을수록 같은 가격 안에서 먼저 체결됩니다.
+	 */
+	private record Slot(RestingOrder order, long sequence) {
+	}
+
+	/**
+	 * 동일 가격의 주문들을 등록 순서대로 보관하는 가격 레벨입니다.
+	 * LinkedHashMap을 사용하여 FIFO 순회와 임의 주문 제거를 모두 O(1)로 처리합니다.
+	 * 순번이 중간인 주문(우선순위를 유지하는 정정)만 레벨을 다시 구성하며, 이는 O(레벨 크기)입니다.
+	 */
+	private static class PriceLevel {
+		private LinkedHashMap<Long, Slot> queue = new LinkedHashMap<>();
+		private long maxSequence = -1;
+
+		void add(Slot slot) {
+			queue.put(slot.order().bidId(), slot);
+			maxSequence = Math.max(maxSequence, slot.sequence());
+		}
+
+		/**
+		 * 순번 위치에 주문을 넣습니다. 가장 큰 순번이면 뒤에 추가하고, 아니면 순번 순서로 레벨을 다시 구성합니다.
+		 * 제거로 {@code maxSequence}가 실제보다 커질 수 있으나, 그 경우에도 재구성 경로로 올바른 위치에 들어갑니다.
+		 */
+		void insert(Slot slot) {
+			if (slot.sequence() > maxSequence) {
+				add(slot);
+				return;
+			}
+			LinkedHashMap<Long, Slot> rebuilt = new LinkedHashMap<>();
+			boolean inserted = false;
+			for (Slot existing : queue.values()) {
+				if (!inserted && existing.sequence() > slot.sequence()) {
+					rebuilt.put(slot.order().bidId(), slot);
+					inserted = true;
+				}
+				rebuilt.put(existing.order().bidId(), existing);
+			}
+			if (!inserted) {
+				rebuilt.put(slot.order().bidId(), slot);
+			}
+			queue = rebuilt;
+		}
+
+		void remove(long bidId) {
+			queue.remove(bidId);
+		}
+
+		RestingOrder first() {
+			return queue.isEmpty() ? null : queue.values().iterator().next().order();
+		}
+
+		boolean isEmpty() {
+			return queue.isEmpty();
+		}
+
+		int size() {
+			return queue.size();
+		}
+	}
+}
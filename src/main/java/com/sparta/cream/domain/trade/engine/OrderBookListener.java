@@ -0,0 +1,73 @@
+package com.sparta.cream.domain.trade.engine;
+
+import com.sparta.cream.domain.bid.entity.BidType;
+
+/**
+ * 인메모리 호가창의 변경을 구독하는 리스너입니다.
+ * 호가창 잠금 안에서 변경이 반영된 직후 호출되므로, 같은 호가창에 대한 콜백은 변경 순서대로 전달됩니다.
+ * 콜백은 매칭 경로에서 동기적으로 실행되므로 블로킹 I/O 없이 빠르게 반환해야 합니다.
+ * OrderBookListener.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+public interface OrderBookListener {
+
+	/**
+	 * 아무 동작도 하지 않는 리스너입니다.
+	 */
+	OrderBookListener NONE = new OrderBookListener() {
+	};
+
+	/**
+	 * 대기 주문이 호가창에 등록된 직후 호출됩니다.
+	 * @param productOptionId 상품 옵션 ID
+	 * @param order 등록된 주문
+	 */
+	default void onAdded(Long productOptionId, RestingOrder order) {
+	}
+
+	/**
+	 * 대기 주문이 호가창에서 제거된 직후 호출됩니다.
+	 * @param productOptionId 상품 옵션 ID
+	 * @param order 제거된 주문
+	 * @param reason 제거 사유 ({@link BookEventType#CANCEL}, {@link BookEventType#MATCH})
+	 */
+	default void onRemoved(Long productOptionId, RestingOrder order, BookEventType reason) {
+	}
+
+	/**
+	 * 대기 주문의 가격이 호가창 안에서 정정된 직후 호출됩니다.
+	 * @param productOptionId 상품 옵션 ID
+	 * @param before 정정 전 주문
+	 * @param after 정정 후 주문
+	 */
+	default void onAmended(Long productOptionId, RestingOrder before, RestingOrder after) {
+	}
+
+	/**
+	 * 등록/제거/정정으로 가격 레벨의 주문 수가 바뀐 직후 호출됩니다.
+	 * @param productOptionId 상품 옵션 ID
+	 * @param type 변경된 방향
+	 * @param price 변경된 가격 레벨
+	 * @param quantity 변경 후 레벨의 주문 수 (레벨이 비면 0)
+	 */
+	default void onLevelChanged(Long productOptionId, BidType type, long price, int quantity) {
+	}
+
+	/**
+	 * 등록/제거/정정으로 최우선 호가가 바뀐 직후 호출됩니다.
+	 * 리스너가 연결될 때에도 그 시점의 최우선 호가로 한 번 호출됩니다.
+	 * @param productOptionId 상품 옵션 ID
+	 * @param topOfBook 변경된 최우선 호가
+	 */
+	default void onTopOfBookChanged(Long productOptionId, TopOfBook topOfBook) {
+	}
+
+	/**
+	 * 호가창이 메모리에서 폐기된 직후 호출됩니다.
+	 * @param productOptionId 상품 옵션 ID
+	 */
+	default void onReset(Long productOptionId) {
+	}
+}
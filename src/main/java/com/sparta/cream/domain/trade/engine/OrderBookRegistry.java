@@ -0,0 +1,174 @@
+package com.sparta.cream.domain.trade.engine;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.stereotype.Component;
+
+import com.sparta.cream.domain.bid.entity.Bid;
+import com.sparta.cream.domain.bid.entity.BidType;
+import com.sparta.cream.domain.bid.repository.BidRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 옵션별 인메모리 호가창을 보관하는 저장소입니다.
+ * 호가창은 최초 접근 시 bids 테이블의 대기(PENDING) 입찰로부터 등록 순서대로 복원되며,
+ * 이후에는 매칭/취소/수정 흐름에서 증분으로 갱신됩니다.
+ * 트랜잭션 롤백 등으로 DB와 어긋날 수 있는 상황에서는 {@link #evict(Long)}로 버린 뒤
+ * 다음 접근 시 DB 기준으로 다시 적재합니다.
+ * 등록된 모든 {@link OrderBookListener} 빈은 호가창 적재가 끝난 뒤 연결되어 이후의 변경을 전달받습니다.
+ * 적재는 DB 조회를 포함하므로 {@code ConcurrentHashMap.computeIfAbsent}의 내부 모니터 대신 옵션별 잠금 구간에서 수행하여,
+ * 가상 스레드가 조회 중에 캐리어 스레드를 점유(pinning)하지 않도록 합니다.
+ * OrderBookRegistry.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Slf4j
+@Component
+public class OrderBookRegistry {
+
+	private final BidRepository bidRepository;
+	private final OrderBookListener listener;
+	private static final int LOAD_LOCK_STRIPES = 64;
+
+	private final Map<Long, OrderBook> books = new ConcurrentHashMap<>();
+	private final ReentrantLock[] loadLocks = new ReentrantLock[LOAD_LOCK_STRIPES];
+
+	public OrderBookRegistry(BidRepository bidRepository, List<OrderBookListener> listeners) {
+		this.bidRepository = bidRepository;
+		this.listener = new BroadcastListener(List.copyOf(listeners));
+		for (int i = 0; i < LOAD_LOCK_STRIPES; i++) {
+			loadLocks[i] = new ReentrantLock();
+		}
+	}
+
+	/**
+	 * 상품 옵션의 호가창을 조회하고, 아직 적재되지 않았다면 DB로부터 복원합니다.
+	 * 같은 옵션을 동시에 요청하면 한 스레드만 적재하고 나머지는 적재가 끝날 때까지 기다립니다.
+	 * @param productOptionId 상품 옵션 ID
+	 * @return 해당 옵션의 호가창
+	 */
+	public OrderBook getOrLoad(Long productOptionId) {
+		OrderBook book = books.get(productOptionId);
+		if (book != null) {
+			return book;
+		}
+		ReentrantLock lock = loadLocks[Math.floorMod(productOptionId.hashCode(), LOAD_LOCK_STRIPES)];
+		lock.lock();
+		try {
+			book = books.get(productOptionId);
+			if (book == null) {
+				OrderBook loaded = load(productOptionId);
+				book = books.putIfAbsent(productOptionId, loaded);
+				if (book == null) {
+					book = loaded;
+				}
+			}
+			return book;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 이미 적재된 호가창만 조회합니다. 적재되지 않은 옵션에 대해 DB 조회를 유발하지 않습니다.
+	 * @param productOptionId 상품 옵션 ID
+	 * @return 적재된 호가창
+	 */
+	public Optional<OrderBook> find(Long productOptionId) {
+		return Optional.ofNullable(books.get(productOptionId));
+	}
+
+	/**
+	 * 현재 메모리에 적재된 호가창의 상품 옵션 ID를 복사합니다.
+	 * @return 적재된 상품 옵션 ID 목록
+	 */
+	public Set<Long> loadedProductOptionIds() {
+		return Set.copyOf(books.keySet());
+	}
+
+	/**
+	 * 호가창을 메모리에서 제거합니다. 다음 접근 시 DB 기준으로 다시 적재됩니다.
+	 * @param productOptionId 상품 옵션 ID
+	 */
+	public void evict(Long productOptionId) {
+		if (books.remove(productOptionId) != null) {
+			listener.onReset(productOptionId);
+		}
+	}
+
+	/**
+	 * 스냅샷과 저널로부터 복원된 호가창을 등록합니다.
+	 * 이미 같은 옵션의 호가창이 적재되어 있다면 기존 호가창을 유지하고, 복원된 호가창은 리스너에 연결하지 않습니다.
+	 * @param book 복원된 호가창
+	 */
+	public void restore(OrderBook book) {
+		if (books.putIfAbsent(book.getProductOptionId(), book) == null) {
+			book.setListener(listener);
+		}
+	}
+
+	/**
+	 * 적재된 모든 호가창의 주문을 우선순위 순서대로 복사합니다.
+	 * @return 상품 옵션별 주문 목록
+	 */
+	public Map<Long, List<RestingOrder>> snapshot() {
+		Map<Long, List<RestingOrder>> snapshot = new HashMap<>();
+		books.forEach((productOptionId, book) -> snapshot.put(productOptionId, book.orders()));
+		return snapshot;
+	}
+
+	private OrderBook load(Long productOptionId) {
+		List<Bid> pendingBids = bidRepository.findPendingByProductOptionId(productOptionId);
+
+		OrderBook orderBook = new OrderBook(productOptionId);
+		pendingBids.forEach(bid -> orderBook.add(RestingOrder.from(bid)));
+		orderBook.setListener(listener);
+
+		log.info("호가창 적재 완료: 옵션 {}, 대기 입찰 {}건", productOptionId, orderBook.size());
+		return orderBook;
+	}
+
+	/**
+	 * 호가창 변경을 등록된 모든 리스너에게 순서대로 전달합니다.
+	 */
+	private record BroadcastListener(List<OrderBookListener> listeners) implements OrderBookListener {
+
+		@Override
+		public void onAdded(Long productOptionId, RestingOrder order) {
+			listeners.forEach(listener -> listener.onAdded(productOptionId, order));
+		}
+
+		@Override
+		public void onRemoved(Long productOptionId, RestingOrder order, BookEventType reason) {
+			listeners.forEach(listener -> listener.onRemoved(productOptionId, order, reason));
+		}
+
+		@Override
+		public void onAmended(Long productOptionId, RestingOrder before, RestingOrder after) {
+			listeners.forEach(listener -> listener.onAmended(productOptionId, before, after));
+		}
+
+		@Override
+		public void onLevelChanged(Long productOptionId, BidType type, long price, int quantity) {
+			listeners.forEach(listener -> listener.onLevelChanged(productOptionId, type, price, quantity));
+		}
+
+		@Override
+		public void onTopOfBookChanged(Long productOptionId, TopOfBook topOfBook) {
+			listeners.forEach(listener -> listener.onTopOfBookChanged(productOptionId, topOfBook));
+		}
+
+		@Override
+		public void onReset(Long productOptionId) {
+			listeners.forEach(listener -> listener.onReset(productOptionId));
+		}
+	}
+}
@@ -0,0 +1,160 @@
+package com.sparta.cream.domain.trade.engine;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.sparta.cream.domain.bid.entity.BidType;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인메모리 호가창의 주기적 스냅샷 생성과 재시작 시 복원을 담당합니다.
+ * 스냅샷은 적재된 모든 호가창의 주문을 우선순위 순서대로 직렬화한 압축 파일이며,
+ * 스냅샷 생성 직전의 저널 시퀀스를 함께 기록합니다.
+ * 호가창 변경은 호가창 잠금 안에서 반영된 뒤 저널에 기록되므로,
+ * 시퀀스를 먼저 읽고 호가창을 복사하면 해당 시퀀스 이하의 변경은 모두 스냅샷에 포함됩니다.
+ * 이후 저널 재생은 같은 입찰의 중복 등록/제거를 무시하므로 경계에서 겹치는 이벤트도 안전하게 적용됩니다.
+ * 스냅샷에 없는 상품 옵션의 이벤트는 재생하지 않으며, 해당 호가창은 최초 접근 시 DB에서 적재됩니다.
+ * OrderBookSnapshotter.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderBookSnapshotter {
+
+	/**
+	 * 스냅샷 형식 식별값입니다. 주문에 소유자 ID가 추가되면서 바뀌었으며,
+	 * 이전 형식의 스냅샷은 읽지 않고 DB 기준으로 복구합니다.
+	 */
+	private static final int MAGIC = 0x4F42534F;
+
+	private final MatchingJournal matchingJournal;
+	private final OrderBookRegistry orderBookRegistry;
+
+	private volatile boolean recovered;
+
+	/**
+	 * 적재된 모든 호가창의 스냅샷을 생성하고, 스냅샷에 포함된 구간의 저널 세그먼트를 정리합니다.
+	 * 복원이 끝나기 전에는 비어 있는 호가창으로 기존 스냅샷을 덮어쓰지 않도록 생성하지 않습니다.
+	 */
+	@Scheduled(
+		fixedDelayString = "${matching.journal.snapshot-interval-ms:60000}",
+		initialDelayString = "${matching.journal.snapshot-interval-ms:60000}"
+	)
+	public void snapshot() {
+		if (!matchingJournal.isEnabled() || !recovered) {
+			return;
+		}
+
+		long sequence = matchingJournal.lastSequence();
+		Map<Long, List<RestingOrder>> books = orderBookRegistry.snapshot();
+
+		Path target = matchingJournal.snapshotPath();
+		Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+				out.writeInt(MAGIC);
+				out.writeLong(sequence);
+				out.writeInt(books.size());
+				for (Map.Entry<Long, List<RestingOrder>> book : books.entrySet()) {
+					out.writeLong(book.getKey());
+					out.writeInt(book.getValue().size());
+					for (RestingOrder order : book.getValue()) {
+						out.writeLong(order.bidId());
+						out.writeLong(order.price());
+						out.writeByte(order.type().ordinal());
+						out.writeLong(order.userId());
+					}
+				}
+			}
+			matchingJournal.force();
+			Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			matchingJournal.truncateThrough(sequence);
+			log.info("호가창 스냅샷 생성 완료: 호가창 {}개, 시퀀스 {}", books.size(), sequence);
+		} catch (IOException e) {
+			log.error("호가창 스냅샷 생성 실패: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 최신 스냅샷을 읽고 이후의 저널을 재생하여 호가창을 복원합니다.
+	 * 복원된 호가창은 아직 레지스트리에 등록되지 않은 상태로 반환됩니다.
+	 * @return 상품 옵션별 복원된 호가창, 저널이 비활성화되었거나 스냅샷이 없으면 빈 값
+	 */
+	public Optional<Map<Long, OrderBook>> recover() {
+		try {
+			Path snapshot = matchingJournal.snapshotPath();
+			if (!matchingJournal.isEnabled() || !Files.exists(snapshot)) {
+				return Optional.empty();
+			}
+
+			Map<Long, OrderBook> books = new HashMap<>();
+			long sequence;
+			try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshot)))) {
+				if (in.readInt() != MAGIC) {
+					log.warn("스냅샷 형식이 올바르지 않아 DB 기준으로 복구합니다: {}", snapshot);
+					return Optional.empty();
+				}
+				sequence = in.readLong();
+				int bookCount = in.readInt();
+				for (int i = 0; i < bookCount; i++) {
+					OrderBook book = new OrderBook(in.readLong());
+					int orderCount = in.readInt();
+					for (int j = 0; j < orderCount; j++) {
+						book.add(new RestingOrder(
+							in.readLong(), in.readLong(), BidType.values()[in.readByte()], in.readLong()));
+					}
+					books.put(book.getProductOptionId(), book);
+				}
+			}
+
+			long[] replayed = {0};
+			matchingJournal.replay(sequence, entry -> {
+				apply(books, entry);
+				replayed[0]++;
+			});
+			log.info("호가창 복원 완료: 호가창 {}개, 스냅샷 시퀀스 {}, 재생 이벤트 {}건", books.size(), sequence, replayed[0]);
+			return Optional.of(books);
+		} catch (IOException e) {
+			log.error("호가창 복원 실패, DB 기준으로 복구합니다: {}", e.getMessage());
+			return Optional.empty();
+		} finally {
+			recovered = true;
+		}
+	}
+
+	private void apply(Map<Long, OrderBook> books, JournalEntry entry) {
+		if (entry.type() == BookEventType.RESET) {
+			books.remove(entry.productOptionId());
+			return;
+		}
+		OrderBook book = books.get(entry.productOptionId());
+		if (book == null) {
+			return;
+		}
+		if (entry.type() == BookEventType.ADD) {
+			book.add(entry.toRestingOrder());
+		} else if (entry.type() == BookEventType.AMEND) {
+			book.amend(entry.bidId(), entry.price());
+		} else {
+			book.remove(entry.bidId(), entry.type());
+		}
+	}
+}
@@ -0,0 +1,94 @@
+package com.sparta.cream.domain.trade.engine;
+
+import com.sparta.cream.domain.bid.entity.BidType;
+
+/**
+ * 가격-시간 우선순위 계산을 정수 연산만으로 수행하는 유틸리티입니다.
+ * 기존에는 Redis 점수에 {@code 가격 + 현재시각/1e13} 형태의 실수 가중치를 더했으나,
+ * 수백만 원 단위의 가격에서는 double 정밀도(유효숫자 약 15~16자리)를 넘어 시간 가중치가 사라지고
+ * 같은 가격의 선착순이 보장되지 않았습니다.
+ * 본 클래스는 우선순위를 (가격, 등록 순서) 복합 키로 분리하여,
+ * 가격은 정수 그대로 비교하고 같은 가격 안의 순서는 호가창의 FIFO 레벨이 담당하도록 합니다.
+ * Redis 점수는 부호만 적용한 정수 가격으로 저장하므로 2^53 이하의 가격에서 손실 없이 표현됩니다.
+ * PriceTimePriority.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+public final class PriceTimePriority {
+
+	/**
+	 * double로 손실 없이 표현할 수 있는 최대 정수 가격입니다.
+	 */
+	public static final long MAX_EXACT_PRICE = 1L << 53;
+
+	private PriceTimePriority() {
+	}
+
+	/**
+	 * 신규 입찰과 대기 주문의 가격이 체결 가능한지 정수 비교로 판단합니다.
+	 * - 구매 입찰: 대기 중인 판매가가 구매가보다 낮거나 같으면 체결 가능
+	 * - 판매 입찰: 대기 중인 구매가가 판매가보다 높거나 같으면 체결 가능
+	 *
+	 * @param incomingType 신규 입찰의 타입
+	 * @param incomingPrice 신규 입찰의 가격
+	 * @param restingPrice 호가창 대기 주문의 가격
+	 * @return 체결 가능한 가격 조건이면 true
+	 */
+	public static boolean crosses(BidType incomingType, long incomingPrice, long restingPrice) {
+		return incomingType == BidType.BUY
+			? incomingPrice >= restingPrice
+			: incomingPrice <= restingPrice;
+	}
+
+	/**
+	 * 같은 방향의 두 가격 중 어느 쪽이 우선하는지 비교합니다.
+	 * 구매는 높은 가격이, 판매는 낮은 가격이 우선하며, 음수이면 첫 번째 가격이 우선합니다.
+	 *
+	 * @param type 비교할 방향
+	 * @param price 첫 번째 가격
+	 * @param otherPrice 두 번째 가격
+	 * @return 비교 결과
+	 */
+	public static int comparePrice(BidType type, long price, long otherPrice) {
+		return type == BidType.BUY
+			? Long.compare(otherPrice, price)
+			: Long.compare(price, otherPrice);
+	}
+
+	/**
+	 * Redis ZSet에 저장할 정렬 점수를 계산합니다.
+	 * 구매는 높은 가격이 앞에 오도록 음수로, 판매는 양수 그대로 저장하며
+	 * 시간 가중치를 더하지 않으므로 점수의 절댓값이 곧 정확한 가격입니다.
+	 *
+	 * @param type 입찰 타입
+	 * @param price 입찰 가격
+	 * @return ZSet 점수
+	 * @throws IllegalArgumentException 가격이 0 이하이거나 double로 정확히 표현할 수 없는 경우
+	 */
+	public static double redisScore(BidType type, long price) {
+		if (price <= 0 || price > MAX_EXACT_PRICE) {
+			throw new IllegalArgumentException("정렬 점수로 표현할 수 없는 가격입니다: " + price);
+		}
+		return type == BidType.BUY ? -price : price;
+	}
+
+	/**
+	 * 호가 깊이 조회 시 가격이 속할 {@code tick} 단위 구간의 대표 가격을 계산합니다.
+	 * 구매는 내림, 판매는 올림하여 구간 가격이 실제 호가보다 상대에게 불리해지지 않도록 하며,
+	 * 우선순위 순서로 순회할 때 구간 가격도 같은 방향으로 정렬됩니다.
+	 *
+	 * @param type 입찰 타입
+	 * @param price 입찰 가격
+	 * @param tick 구간 단위 (1 이하이면 가격 그대로)
+	 * @return 구간 대표 가격
+	 */
+	public static long bucket(BidType type, long price, long tick) {
+		if (tick <= 1) {
+			return price;
+		}
+		return type == BidType.BUY
+			? Math.floorDiv(price, tick) * tick
+			: -Math.floorDiv(-price, tick) * tick;
+	}
+}
@@ -0,0 +1,30 @@
+package com.sparta.cream.domain.trade.engine;
+
+import com.sparta.cream.domain.bid.entity.Bid;
+import com.sparta.cream.domain.bid.entity.BidType;
+
+/**
+ * 호가창(Order Book)에 대기 중인 주문 한 건을 표현하는 불변 객체입니다.
+ * 매칭 판단에 필요한 최소한의 정보(입찰 ID, 가격, 타입, 소유자 ID)만을 보관하여
+ * 매칭 시 엔티티 조회 없이 메모리 안에서 가격 비교와 자기 체결(Self-trade) 여부 판단이 가능하도록 합니다.
+ * RestingOrder.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+public record RestingOrder(
+	long bidId,
+	long price,
+	BidType type,
+	long userId
+) {
+
+	/**
+	 * 입찰 엔티티로부터 호가창 주문을 생성합니다.
+	 * @param bid 호가창에 등록할 입찰
+	 * @return 호가창 주문
+	 */
+	public static RestingOrder from(Bid bid) {
+		return new RestingOrder(bid.getId(), bid.getPrice(), bid.getType(), bid.getUser().getId());
+	}
+}
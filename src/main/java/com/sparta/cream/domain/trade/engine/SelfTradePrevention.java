@@ -0,0 +1,37 @@
+package com.sparta.cream.domain.trade.engine;
+
+/**
+ * 같은 사용자의 구매/판매 입찰이 서로 교차할 때 적용할 자기 체결 방지(Self-trade Prevention) 정책입니다.
+ * {@code matching.self-trade-prevention} 설정으로 선택하며, 기본값은 {@link #SKIP} 입니다.
+ * SelfTradePrevention.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+public enum SelfTradePrevention {
+
+	/**
+	 * 같은 사용자의 주문은 건너뛰고 다음 우선순위의 다른 사용자 주문과 체결합니다. 두 주문 모두 대기 상태로 남습니다.
+	 */
+	SKIP,
+
+	/**
+	 * 두 주문 중 나중에 등록된(입찰 ID가 큰) 주문을 취소합니다.
+	 */
+	CANCEL_NEWEST,
+
+	/**
+	 * 두 주문 중 먼저 등록된(입찰 ID가 작은) 주문을 취소합니다.
+	 */
+	CANCEL_OLDEST;
+
+	/**
+	 * 교차한 같은 사용자의 두 주문 중 이 정책이 취소할 주문의 입찰 ID를 반환합니다.
+	 * @param bidId 첫 번째 주문의 입찰 ID
+	 * @param otherBidId 두 번째 주문의 입찰 ID
+	 * @return 취소할 입찰 ID
+	 */
+	public long cancelTarget(long bidId, long otherBidId) {
+		return this == CANCEL_NEWEST ? Math.max(bidId, otherBidId) : Math.min(bidId, otherBidId);
+	}
+}
@@ -0,0 +1,22 @@
+package com.sparta.cream.domain.trade.engine;
+
+/**
+ * 호가창의 최우선 호가(최고 구매가 / 최저 판매가)와 해당 가격 레벨의 대기 주문 수입니다.
+ * 대기 주문이 없는 방향은 가격이 null, 주문 수가 0입니다.
+ * TopOfBook.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+public record TopOfBook(
+	Long bestBuyPrice,
+	int bestBuyCount,
+	Long bestSellPrice,
+	int bestSellCount
+) {
+
+	/**
+	 * 대기 주문이 없는 호가창의 최우선 호가입니다.
+	 */
+	public static final TopOfBook EMPTY = new TopOfBook(null, 0, null, 0);
+}
@@ -0,0 +1,15 @@
+package com.sparta.cream.domain.trade.event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 거래 일괄 체결 완료 도메인 이벤트
+ * 한 번의 매칭 과정(신규 입찰 체결 + 교차 호가 연속 체결)에서 성사된 거래들을 묶어 발행됩니다.
+ */
+public record TradeMatchedBatchEvent(
+	Long productOptionId,         // 체결이 발생한 상품 옵션 ID
+	Long productId,               // 상품 옵션이 속한 상품 ID
+	List<TradeMatchedEvent> trades, // 체결된 거래 목록 (체결 순서)
+	LocalDateTime matchedAt        // 체결 시각
+) {}
@@ -9,5 +9,7 @@ public record TradeMatchedEvent(
 	Long sellerId,     // 판매자 ID
 	Long price,        // 체결 가격
 	Long tradeId,      // 생성된 거래(Trade) ID
-	String productSize // 상품 옵션 정보 (사이즈 등)
+	String productSize, // 상품 옵션 정보 (사이즈 등)
+	Long purchaseBidId, // 체결된 구매 입찰 ID
+	Long saleBidId      // 체결된 판매 입찰 ID
 ) {}
@@ -0,0 +1,69 @@
+package com.sparta.cream.domain.trade.listener;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.sparta.cream.domain.trade.event.TradeMatchedBatchEvent;
+import com.sparta.cream.outbox.OutboxDelivery;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 아웃박스로 전달된 체결 이벤트를 받아 체결된 입찰을 Redis 대기열(ZSet)에서 제거하는 소비자입니다.
+ * ZREM은 같은 체결이 다시 전달되어도 결과가 같으므로 최소 한 번 전달과 함께 사용할 수 있습니다.
+ * MatchedBidQueueListener.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Component
+@RequiredArgsConstructor
+public class MatchedBidQueueListener {
+
+	/**
+	 * 체결된 구매/판매 입찰들을 각 대기열(ZSet)에서 한 번에 제거하는 Lua 스크립트입니다.
+	 * Redis 서버 안에서 원자적으로 실행되므로 한쪽 입찰만 남아 있는 중간 상태가 외부에 노출되지 않으며,
+	 * 연속 체결된 여러 쌍의 ZREM을 한 번의 호출로 줄입니다.
+	 * KEYS[1]: bids:buy:{optionId}, KEYS[2]: bids:sell:{optionId}
+	 * ARGV: 구매 입찰 ID, 판매 입찰 ID 쌍의 나열
+	 * 반환값: 실제로 제거된 입찰 수
+	 */
+	private static final String REMOVE_MATCHED_PAIRS_SCRIPT =
+		"local removed = 0 "
+			+ "for i = 1, #ARGV, 2 do "
+			+ "removed = removed + redis.call('ZREM', KEYS[1], ARGV[i]) "
+			+ "removed = removed + redis.call('ZREM', KEYS[2], ARGV[i + 1]) "
+			+ "end "
+			+ "return removed";
+
+	private final RedissonClient redissonClient;
+
+	/**
+	 * 한 번의 매칭 과정에서 체결된 입찰 전체를 Lua 스크립트 한 번으로 대기열에서 제거합니다.
+	 * 스크립트 인자는 ZSet과 동일한 기본 코덱으로 직렬화되므로 등록 시점의 멤버와 그대로 일치합니다.
+	 * @param delivery 거래 일괄 체결 이벤트
+	 */
+	@EventListener
+	public void handleTradeMatched(OutboxDelivery<TradeMatchedBatchEvent> delivery) {
+		TradeMatchedBatchEvent event = delivery.event();
+		if (event.trades().isEmpty()) {
+			return;
+		}
+		Object[] bidIds = event.trades().stream()
+			.flatMap(trade -> Stream.of(trade.purchaseBidId(), trade.saleBidId()))
+			.toArray();
+
+		redissonClient.getScript().eval(
+			RScript.Mode.READ_WRITE,
+			REMOVE_MATCHED_PAIRS_SCRIPT,
+			RScript.ReturnType.INTEGER,
+			List.<Object>of("bids:buy:" + event.productOptionId(), "bids:sell:" + event.productOptionId()),
+			bidIds
+		);
+	}
+}
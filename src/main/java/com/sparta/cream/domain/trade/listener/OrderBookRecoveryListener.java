@@ -0,0 +1,46 @@
+package com.sparta.cream.domain.trade.listener;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import com.sparta.cream.config.AsyncConfig;
+import com.sparta.cream.domain.trade.service.TradeService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 애플리케이션 기동이 끝나면 인메모리 호가창을 복원하는 리스너입니다.
+ * 서버가 재시작될 때 최신 스냅샷과 매칭 저널로 호가창을 복원하고, 교차된 채 남아 있던 입찰을 체결 엔진으로 전달합니다.
+ * 스냅샷이 없는 경우에는 쌓여있던 PENDING 상태의 입찰들을 전체 매칭합니다.
+ * 복원은 호가창 복원 전용 실행기에서 수행되므로 기동 스레드나 공용 ForkJoinPool을 붙잡지 않습니다.
+ * OrderBookRecoveryListener.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderBookRecoveryListener {
+
+	private final TradeService tradeService;
+
+	/**
+	 * 기동 완료 이벤트를 받아 호가창을 복원합니다.
+	 * 복원에 실패해도 애플리케이션은 계속 동작하며, 이후 매칭 요청 시 옵션별 호가창이 DB로부터 적재됩니다.
+	 */
+	@Async(AsyncConfig.ORDER_BOOK_RECOVERY_EXECUTOR)
+	@EventListener(ApplicationReadyEvent.class)
+	public void recoverOrderBooks() {
+		log.info("체결 엔진 가동: 호가창 복원 시작");
+		try {
+			tradeService.recoverOrderBooks();
+			log.info("체결 엔진 가동 완료");
+		} catch (Exception e) {
+			log.error("기동 시 호가창 복원 중 오류 발생: {}", e.getMessage(), e);
+		}
+	}
+}
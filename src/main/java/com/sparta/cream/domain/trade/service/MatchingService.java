@@ -3,29 +3,47 @@ package com.sparta.cream.domain.trade.service;
 import com.sparta.cream.domain.bid.entity.Bid;
 import com.sparta.cream.domain.bid.entity.BidStatus;
 import com.sparta.cream.domain.bid.entity.BidType;
+import com.sparta.cream.domain.bid.event.BidChangedEvent;
 import com.sparta.cream.domain.bid.repository.BidRepository;
-import com.sparta.cream.domain.notification.service.NotificationService;
+import com.sparta.cream.domain.notification.entity.NotificationType;
+import com.sparta.cream.domain.trade.engine.BookDrift;
+import com.sparta.cream.domain.trade.engine.BookEventType;
+import com.sparta.cream.domain.trade.engine.MatchingMetrics;
+import com.sparta.cream.domain.trade.engine.OrderBook;
+import com.sparta.cream.domain.trade.engine.OrderBookRegistry;
+import com.sparta.cream.domain.trade.engine.PriceTimePriority;
+import com.sparta.cream.domain.trade.engine.RestingOrder;
+import com.sparta.cream.domain.trade.engine.SelfTradePrevention;
 import com.sparta.cream.domain.trade.entity.Trade;
+import com.sparta.cream.domain.trade.event.TradeMatchedBatchEvent;
 import com.sparta.cream.domain.trade.event.TradeMatchedEvent;
 import com.sparta.cream.domain.trade.repository.TradeRepository;
+import com.sparta.cream.entity.Product;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RScoredSortedSet;
 import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 매칭 엔진의 핵심 로직을 담당하는 서비스입니다.
- * Redis Sorted Set을 기반으로 가격 조건이 가장 유리한 입찰을 탐색하고,
+ * 인메모리 호가창({@link OrderBook})을 기반으로 가격 조건이 가장 유리한 입찰을 탐색하고,
  * 실재 거래를 생성하며, DB와 Redis 상태를 일관되게 갱신합니다.
- * {@link TradeService}에서 분산 락을 획득한 이후 호출되며,
+ * {@link TradeService}가 상품 옵션에 배정한 매칭 샤드 스레드에서 호출되며,
  * 매칭 로직 자체에만 집중하도록 설계되었습니다
+ * 같은 사용자의 구매/판매 입찰은 서로 체결하지 않으며, 교차 시에는 {@link SelfTradePrevention} 정책에 따라 건너뛰거나 취소합니다.
  * MatchingService.java
  *
  * @author kimsehyun
@@ -40,10 +58,14 @@ public class MatchingService {
 	private final TradeRepository tradeRepository;
 	private final ApplicationEventPublisher eventPublisher;
 	private final RedissonClient redissonClient;
+	private final OrderBookRegistry orderBookRegistry;
+	private final MatchingMetrics matchingMetrics;
+	@Value("${matching.self-trade-prevention:SKIP}")
+	private SelfTradePrevention selfTradePrevention = SelfTradePrevention.SKIP;
 
 	/**
 	 * 입찰의 최신 상태를 확인한 후 매칭을 시작합니다.
-	 * 분산 락 획득 이후 호출되며, DB 기준으로 입찰이 여전히 {@link BidStatus#PENDING} 상태인 경우에만
+	 * 매칭 샤드 스레드에서 호출되며, DB 기준으로 입찰이 여전히 {@link BidStatus#PENDING} 상태인 경우에만
 	 * 실제 매칭 탐색을 수행합니다.
 	 * @param bidId 매칭을 시도할 입찰 ID
 	 */
@@ -55,128 +77,393 @@ public class MatchingService {
 	}
 
 	/**
-	 * Redis Sorted Set에서 가격 조건이 가장 유리한 매칭 후보를 탐색합니다.
-	 * 매 입찰의 경우 가장 낮은 판매가를,
-	 * 판매 입찰의 경우 가장 높은 구매가를 우선적으로 조회합니다.
-	 * 가격 조건이 맞지 않거나,
-	 * DB 반영 과정에서 실패한 후보는 Redis에서 제거한 뒤
-	 * 다음 후보를 계속 탐색합니다.
+	 * 상품 옵션의 호가창에 교차된 채 남아 있는 대기 주문들을 연속 체결합니다.
+	 * 재시작 시 스냅샷과 저널로 복원된 호가창을 정리할 때 사용되며,
+	 * 교차된 호가가 없으면 DB 조회 없이 즉시 종료됩니다.
+	 * @param productOptionId 상품 옵션 ID
+	 */
+	@Transactional
+	public void sweep(Long productOptionId) {
+		OrderBook orderBook = orderBookRegistry.getOrLoad(productOptionId);
+		registerEvictionOnRollback(productOptionId);
+
+		MatchPass pass = new MatchPass();
+		sweepCrossedBook(orderBook, pass);
+
+		complete(productOptionId, pass);
+	}
+
+	/**
+	 * 적재된 호가창을 DB의 대기 입찰과 대조하여 바로잡은 뒤 교차된 호가를 정리합니다.
+	 * 스냅샷/저널은 샤드 작업이 호가창에 반영한 변경만 기록하므로, 커밋 직후 종료되었거나
+	 * 다른 노드가 커밋한 입찰은 복원된 호가창에 빠져 있을 수 있습니다.
+	 * DB에는 대기 중이지만 호가창에 없는 입찰은 등록하고, 더 이상 대기 중이 아닌 주문은 제거하며, 가격이 다르면 정정합니다.
+	 * 호가창 변경은 샤드에서만 일어나므로 반드시 해당 옵션의 매칭 샤드에서 호출되어야 합니다.
+	 * 적재되지 않은 옵션은 다음 접근 시 DB에서 새로 적재되므로 대조하지 않습니다.
+	 * @param productOptionId 상품 옵션 ID
+	 * @return 바로잡은 주문 수
+	 */
+	@Transactional
+	public BookDrift reconcile(Long productOptionId) {
+		Optional<OrderBook> loaded = orderBookRegistry.find(productOptionId);
+		if (loaded.isEmpty()) {
+			return BookDrift.NONE;
+		}
+		OrderBook orderBook = loaded.get();
+		registerEvictionOnRollback(productOptionId);
+
+		List<RestingOrder> pending = bidRepository.findPendingByProductOptionId(productOptionId).stream()
+			.map(RestingOrder::from)
+			.toList();
+		BookDrift drift = orderBook.reconcile(pending);
+		if (!drift.isEmpty()) {
+			log.warn("호가창 불일치 보정 - optionId: {}, 누락: {}, 잔존: {}, 가격 불일치: {}",
+				productOptionId, drift.missing(), drift.stale(), drift.repriced());
+		}
+
+		MatchPass pass = new MatchPass();
+		sweepCrossedBook(orderBook, pass);
+		complete(productOptionId, pass);
+		return drift;
+	}
+
+	/**
+	 * 인메모리 호가창에서 신규 입찰을 체결하고, 이어서 교차된 호가를 한 번에 정리(Sweep)합니다.
+	 * 1. 신규 입찰은 반대편 최우선 주문부터 가격이 교차하는 동안 후보를 탐색하며,
+	 *    DB 기준으로 이미 체결/취소된 후보는 호가창과 Redis에서 제거한 뒤 다음 후보로 넘어갑니다.
+	 * 2. 체결되지 못한 신규 입찰은 호가창에 대기 주문으로 등록됩니다. 자기 체결 방지로 취소된 경우에는 등록하지 않습니다.
+	 * 3. 이후 최우선 구매가가 최우선 판매가 이상인 동안 대기 주문끼리 계속 체결하여,
+	 *    이벤트 누락이나 일괄 등록으로 교차된 채 남아 있던 호가를 재트리거 없이 한 번에 소진합니다.
+	 * 4. 생성된 모든 거래는 하나의 트랜잭션에서 일괄 저장되고, 체결 이벤트도 한 번에 발행됩니다.
+	 * 체결 취소로 복구되었거나 대기열 복구로 이미 같은 내용으로 대기 중인 입찰은 제거/재등록하지 않습니다.
+	 * 재등록하면 새 순번을 받아 시간 우선순위를 잃고 저널과 시세 스트림에 불필요한 취소/등록 증분이 남기 때문이며,
+	 * 이 경우 반대편과의 교차 여부만 3단계의 교차 호가 정리에서 가격-시간 우선순위대로 확인합니다.
 	 * @param newBid 신규로 등록되었거나 수정된 입찰
 	 */
 	private void findBestCandidateAndMatch(Bid newBid) {
-		String targetKey = (newBid.getType() == BidType.BUY) ?
-			"bids:sell:" + newBid.getProductOption().getId() :
-			"bids:buy:" + newBid.getProductOption().getId();
+		Long optionId = newBid.getProductOption().getId();
+		OrderBook orderBook = orderBookRegistry.getOrLoad(optionId);
+		registerEvictionOnRollback(optionId);
 
-		RScoredSortedSet<Long> candidateSet = redissonClient.getScoredSortedSet(targetKey);
+		MatchPass pass = new MatchPass();
+		RestingOrder incoming = RestingOrder.from(newBid);
+		if (!incoming.equals(orderBook.find(newBid.getId()))) {
+			orderBook.remove(newBid.getId());
 
-		while (true) {
-			Long matchedBidId = candidateSet.first();
-			if (matchedBidId == null)
-				break;
+			Trade incomingTrade = matchIncoming(orderBook, newBid, pass);
+			if (incomingTrade != null) {
+				pass.trades.add(incomingTrade);
+			} else if (newBid.getStatus() == BidStatus.PENDING) {
+				orderBook.add(incoming);
+			}
+		}
 
-			Double score = candidateSet.getScore(matchedBidId);
-			if (score == null) break;
+		sweepCrossedBook(orderBook, pass);
 
-			Double actualPrice = Math.abs(score);
+		complete(optionId, pass);
+	}
 
-			if (!isMatchable(newBid, actualPrice)) {
-				break;
-			}
+	/**
+	 * 한 번의 매칭 과정에서 확인한 후보 수를 기록하고, 생성된 거래가 있으면 일괄 저장합니다.
+	 * 자기 체결 방지로 취소된 입찰이 있으면 커밋 이후 Redis 대기열에서 제거하도록 예약합니다.
+	 *
+	 * @param productOptionId 상품 옵션 ID
+	 * @param pass 매칭 과정의 결과
+	 */
+	private void complete(Long productOptionId, MatchPass pass) {
+		matchingMetrics.recordCandidatesScanned(productOptionId, pass.scanned);
+		if (!pass.trades.isEmpty()) {
+			saveTrades(productOptionId, pass.trades);
+		}
+		if (!pass.cancelled.isEmpty()) {
+			removeCancelledAfterCommit(productOptionId, pass.cancelled);
+		}
+	}
 
-			boolean success = matchAndSave(newBid.getId(), matchedBidId);
+	/**
+	 * 신규 입찰과 가격이 교차하는 반대편 최우선 주문을 찾아 체결합니다.
+	 * 체결 가격은 먼저 대기하고 있던 주문의 가격을 따릅니다.
+	 * 최우선 주문이 신규 입찰과 같은 사용자의 것이면 자기 체결 방지 정책을 적용합니다.
+	 * 소유자 비교는 호가창 주문에 보관된 ID로만 하므로, 다른 사용자의 주문과 체결하는 일반 경로에는 추가 조회가 없습니다.
+	 *
+	 * @param orderBook 상품 옵션의 호가창
+	 * @param newBid 신규 입찰
+	 * @param pass 확인한 후보 수를 누적할 매칭 과정
+	 * @return 생성된 거래, 교차하는 후보가 없으면 null
+	 */
+	private Trade matchIncoming(OrderBook orderBook, Bid newBid, MatchPass pass) {
+		long newPrice = newBid.getPrice();
+		long userId = newBid.getUser().getId();
+		while (true) {
+			RestingOrder candidate = orderBook.bestOpposite(newBid.getType());
+			if (candidate == null || !PriceTimePriority.crosses(newBid.getType(), newPrice, candidate.price())) {
+				return null;
+			}
+			if (candidate.userId() == userId) {
+				matchingMetrics.incrementSelfTradePrevented(orderBook.getProductOptionId());
+				if (selfTradePrevention == SelfTradePrevention.SKIP) {
+					candidate = orderBook.bestOpposite(newBid.getType(), userId);
+					if (candidate == null || !PriceTimePriority.crosses(newBid.getType(), newPrice, candidate.price())) {
+						return null;
+					}
+				} else if (selfTradePrevention.cancelTarget(newBid.getId(), candidate.bidId()) == newBid.getId()) {
+					cancelSelfTrade(orderBook, RestingOrder.from(newBid), newBid, pass);
+					return null;
+				} else {
+					cancelSelfTrade(orderBook, candidate, findPendingBids(List.of(candidate.bidId())).get(candidate.bidId()), pass);
+					continue;
+				}
+			}
+			pass.scanned++;
 
-			if (success) {
-				log.info("매칭 성공: [신규 {}] - [대상 {}]", newBid.getId(), matchedBidId);
-				break;
-			} else {
-				candidateSet.remove(matchedBidId);
+			Bid target = findPendingBids(List.of(candidate.bidId())).get(candidate.bidId());
+			if (target != null) {
+				orderBook.remove(candidate.bidId(), BookEventType.MATCH);
+				log.info("매칭 성공: [신규 {}] - [대상 {}]", newBid.getId(), candidate.bidId());
+				return createTrade(newBid, target, candidate.price());
 			}
+			orderBook.remove(candidate.bidId());
+			removeStale(candidate, orderBook.getProductOptionId());
 		}
 	}
 
 	/**
-	 * 두 입찰의 체결을 확정하고 DB 및 Redis 상태를 원자적으로 갱신합니다.
-	 * 1. 전달받은 두 입찰 ID가 유효한지 확인하고, 최신 엔티티 정보를 DB에서 조회합니다.
-	 * 2. 두 입찰 모두 여전히 '대기(PENDING)' 상태인 경우에만 실제 체결 처리를 진행합니다.
-	 * 3. 입찰 상태를 '체결(MATCHED)'로 변경하고, 거래(Trade) 내역을 생성하여 영속화합니다.
-	 * 4. 처리가 완료된 입찰은 Redis 대기열에서 즉시 제거하여 중복 매칭을 방지합니다.
-	 * 5. 마지막으로 거래 당사자들에게 체결 완료 알림을 발송합니다.
+	 * 호가창의 최우선 구매가와 최우선 판매가가 교차하는 동안 대기 주문끼리 계속 체결합니다.
+	 * 체결 가격은 두 주문 중 현재 가격으로 먼저 호가창에 자리잡은(순번이 작은) 주문의 가격을 따릅니다.
+	 * 입찰 ID 대신 호가창 순번을 비교하므로, 공격적인 가격으로 정정되어 새 순번을 받은 오래된 입찰은
+	 * 기다리던 상대 주문의 가격으로 체결됩니다.
+	 * 최우선 구매/판매 주문이 같은 사용자의 것이면, {@link SelfTradePrevention#SKIP} 정책에서는 한쪽을 다른 사용자의
+	 * 최우선 주문으로 바꾸어 교차하는 쌍을 찾고, 없으면 종료합니다. 취소 정책에서는 정책에 따른 한쪽 주문을 취소합니다.
+	 * 매 반복마다 최소 한 건의 주문이 호가창에서 제거되거나 종료되므로 반복은 반드시 종료됩니다.
 	 *
-	 * @param newBidId 신규 입찰의 고유 식별자
-	 * @param matchedBidId 매칭된 상대방 입찰의 고유 식별자
-	 * @return 체결 성공 시 true, 상태 부적합 등으로 실패 시 false 반환
-	 */
-	private boolean matchAndSave(Long newBidId, Long matchedBidId) {
-		List<Bid> bids = bidRepository.findAllById(List.of(newBidId, matchedBidId));
-		if (bids.size() < 2)
-			return false;
-
-		Bid current = bids.stream().filter(b -> b.getId().equals(newBidId)).findFirst().orElse(null);
-		Bid target = bids.stream().filter(b -> b.getId().equals(matchedBidId)).findFirst().orElse(null);
-
-		if (current != null && target != null &&
-			current.getStatus() == BidStatus.PENDING && target.getStatus() == BidStatus.PENDING) {
-
-			current.match();
-			target.match();
-
-			Long finalPrice = target.getPrice();
-			Trade trade = new Trade(
-				current.getType() == BidType.BUY ? current : target,
-				current.getType() == BidType.SELL ? current : target,
-				finalPrice
-			);
-			Trade savedTrade = tradeRepository.save(trade);
-
-			if (TransactionSynchronizationManager.isActualTransactionActive()) {
-				TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-					@Override
-					public void afterCommit() {
-						removeFromZSet(current);
-						removeFromZSet(target);
-
-						eventPublisher.publishEvent(new TradeMatchedEvent(
-							current.getUser().getId(),
-							target.getUser().getId(),
-							finalPrice,
-							savedTrade.getId(),
-							current.getProductOption().getSize()
-						));
+	 * @param orderBook 상품 옵션의 호가창
+	 * @param pass 생성된 거래와 확인한 후보 수를 누적할 매칭 과정
+	 */
+	private void sweepCrossedBook(OrderBook orderBook, MatchPass pass) {
+		while (true) {
+			RestingOrder buy = orderBook.best(BidType.BUY);
+			RestingOrder sell = orderBook.best(BidType.SELL);
+			if (buy == null || sell == null || !PriceTimePriority.crosses(BidType.BUY, buy.price(), sell.price())) {
+				return;
+			}
+			if (buy.userId() == sell.userId()) {
+				matchingMetrics.incrementSelfTradePrevented(orderBook.getProductOptionId());
+				if (selfTradePrevention != SelfTradePrevention.SKIP) {
+					RestingOrder target = selfTradePrevention.cancelTarget(buy.bidId(), sell.bidId()) == buy.bidId() ? buy : sell;
+					cancelSelfTrade(orderBook, target, findPendingBids(List.of(target.bidId())).get(target.bidId()), pass);
+					continue;
+				}
+				RestingOrder otherSell = orderBook.best(BidType.SELL, buy.userId());
+				if (otherSell != null && PriceTimePriority.crosses(BidType.BUY, buy.price(), otherSell.price())) {
+					sell = otherSell;
+				} else {
+					RestingOrder otherBuy = orderBook.best(BidType.BUY, sell.userId());
+					if (otherBuy == null || !PriceTimePriority.crosses(BidType.BUY, otherBuy.price(), sell.price())) {
+						return;
 					}
-				});
+					buy = otherBuy;
+				}
+			}
+			pass.scanned += 2;
+
+			Map<Long, Bid> pendingBids = findPendingBids(List.of(buy.bidId(), sell.bidId()));
+			Bid buyBid = pendingBids.get(buy.bidId());
+			Bid sellBid = pendingBids.get(sell.bidId());
+			if (buyBid == null || sellBid == null) {
+				discardIfStale(orderBook, buy, buyBid);
+				discardIfStale(orderBook, sell, sellBid);
+				continue;
 			}
-			return true;
+
+			long price = orderBook.sequenceOf(buy.bidId()) < orderBook.sequenceOf(sell.bidId()) ? buy.price() : sell.price();
+			orderBook.remove(buy.bidId(), BookEventType.MATCH);
+			orderBook.remove(sell.bidId(), BookEventType.MATCH);
+
+			log.info("연속 체결: [구매 {}] - [판매 {}] {}원", buy.bidId(), sell.bidId(), price);
+			pass.trades.add(createTrade(buyBid, sellBid, price));
 		}
-		return false;
 	}
 
 	/**
-	 * 현재 입찰가와 매칭 후보가 가격 조건에 맞는지 확인합니다.
-	 * - 구매 입찰: 내가 제시한 가격보다 판매가가 낮거나 같아야 체결 가능
-	 * - 판매 입찰: 내가 제시한 가격보다 구매가가 높거나 같아야 체결 가능
+	 * 주어진 입찰 중 DB 기준으로 여전히 대기(PENDING) 상태인 입찰만 조회합니다.
 	 *
-	 * @param newBid 신규로 등록/수정된 입찰 객체
-	 * @param matchedPrice 레디스에서 조회한 상대방 입찰의 가격 (매칭 후보)
-	 * @return 체결 가능한 가격 조건이면 true, 아니면 false
-	 */
-	private boolean isMatchable(Bid newBid, Double matchedPrice) {
-		if (newBid.getType() == BidType.BUY) {
-			return newBid.getPrice().doubleValue() >= matchedPrice;
-		} else {
-			return newBid.getPrice().doubleValue() <= matchedPrice;
+	 * @param bidIds 조회할 입찰 ID 목록
+	 * @return 입찰 ID별 대기 중인 입찰
+	 */
+	private Map<Long, Bid> findPendingBids(List<Long> bidIds) {
+		return bidRepository.findAllById(bidIds).stream()
+			.filter(bid -> bid.getStatus() == BidStatus.PENDING)
+			.collect(Collectors.toMap(Bid::getId, Function.identity()));
+	}
+
+	/**
+	 * DB 기준으로 더 이상 대기 상태가 아닌 주문을 호가창과 Redis에서 제거합니다.
+	 *
+	 * @param orderBook 상품 옵션의 호가창
+	 * @param order 호가창 주문
+	 * @param pendingBid 조회된 대기 입찰, 대기 상태가 아니면 null
+	 */
+	private void discardIfStale(OrderBook orderBook, RestingOrder order, Bid pendingBid) {
+		if (pendingBid == null) {
+			orderBook.remove(order.bidId());
+			removeStale(order, orderBook.getProductOptionId());
 		}
 	}
 
 	/**
-	 * 처리가 완료된 입찰을 Redis 정렬 집합(ZSet)에서 제거합니다.
-	 * 체결이 성사되었거나 입찰이 취소된 경우, 더 이상 매칭 대상이 되지 않도록
-	 * 해당 상품 옵션의 대기열에서 해당 입찰 ID를 삭제합니다.
+	 * 이미 체결/취소된 후보를 Redis 대기열에서 제거하고 제거 건수를 기록합니다.
+	 *
+	 * @param order 호가창에서 제거된 주문
+	 * @param productOptionId 상품 옵션 ID
+	 */
+	private void removeStale(RestingOrder order, Long productOptionId) {
+		removeFromZSet(order.type(), productOptionId, order.bidId());
+		matchingMetrics.incrementStaleRemoval(productOptionId);
+	}
+
+	/**
+	 * 자기 체결 방지 정책에 따라 주문을 호가창에서 제거하고 입찰을 취소합니다.
+	 * DB 기준으로 이미 대기 상태가 아닌 주문은 취소 대신 기존과 같이 정리만 합니다.
+	 * 취소 알림은 커밋 이후 발송되며, Redis 대기열 제거는 {@link #complete}에서 커밋 이후로 예약됩니다.
 	 *
-	 * @param bid 대기열에서 제거할 입찰 객체
+	 * @param orderBook 상품 옵션의 호가창
+	 * @param order 취소할 주문
+	 * @param bid 취소할 입찰, 대기 상태가 아니면 null
+	 * @param pass 취소된 주문을 누적할 매칭 과정
+	 */
+	private void cancelSelfTrade(OrderBook orderBook, RestingOrder order, Bid bid, MatchPass pass) {
+		orderBook.remove(order.bidId());
+		if (bid == null) {
+			removeStale(order, orderBook.getProductOptionId());
+			return;
+		}
+		bid.cancel(bid.getUser().getId());
+		pass.cancelled.add(order);
+		log.info("자기 체결 방지: 입찰 {} 취소 ({})", order.bidId(), selfTradePrevention);
+
+		Product product = bid.getProductOption().getProduct();
+		eventPublisher.publishEvent(new BidChangedEvent(
+			bid.getUser().getId(),
+			NotificationType.BID_CANCELLED,
+			"입찰 자동 취소",
+			String.format(
+				"[%s] 본인의 반대 입찰과 가격이 교차하여 입찰이 자동 취소되었습니다.\n사이즈: %s",
+				bid.getType(),
+				bid.getProductOption().getSize()
+			),
+			bid.getId(),
+			product != null ? product.getId() : null
+		));
+	}
+
+	/**
+	 * 두 입찰의 상태를 '체결(MATCHED)'로 변경하고 저장 전의 거래(Trade)를 생성합니다.
+	 *
+	 * @param bid 체결할 입찰
+	 * @param counterBid 체결 상대 입찰
+	 * @param price 체결 가격
+	 * @return 생성된 거래
+	 */
+	private Trade createTrade(Bid bid, Bid counterBid, long price) {
+		bid.match();
+		counterBid.match();
+
+		Bid buyBid = bid.getType() == BidType.BUY ? bid : counterBid;
+		Bid sellBid = bid.getType() == BidType.SELL ? bid : counterBid;
+		return new Trade(buyBid, sellBid, price);
+	}
+
+	/**
+	 * 한 번의 매칭 과정에서 생성된 거래를 일괄 저장하고 후속 처리를 예약합니다.
+	 * 1. 모든 거래를 {@code saveAll}로 같은 트랜잭션 안에서 영속화합니다.
+	 * 2. 체결 이벤트를 {@link TradeMatchedBatchEvent} 하나로 묶어 발행하며, 같은 트랜잭션에서 아웃박스에 기록됩니다.
+	 * 3. 알림, 상품 인기도, Redis 대기열 정리는 커밋 이후 아웃박스 릴레이가 전달하며, 시세 갱신은 커밋 직후 샤드 스레드에서 처리됩니다.
+	 *
+	 * @param productOptionId 상품 옵션 ID
+	 * @param trades 저장할 거래 목록
+	 */
+	private void saveTrades(Long productOptionId, List<Trade> trades) {
+		List<Trade> savedTrades = tradeRepository.saveAll(trades);
+		Product product = savedTrades.get(0).getPurchaseBidId().getProductOption().getProduct();
+
+		eventPublisher.publishEvent(new TradeMatchedBatchEvent(
+			productOptionId,
+			product != null ? product.getId() : null,
+			savedTrades.stream()
+				.map(trade -> new TradeMatchedEvent(
+					trade.getPurchaseBidId().getUser().getId(),
+					trade.getSaleBidId().getUser().getId(),
+					trade.getFinalPrice(),
+					trade.getId(),
+					trade.getPurchaseBidId().getProductOption().getSize(),
+					trade.getPurchaseBidId().getId(),
+					trade.getSaleBidId().getId()
+				))
+				.toList(),
+			LocalDateTime.now()
+		));
+	}
+
+	/**
+	 * 자기 체결 방지로 취소된 입찰을 커밋 이후 Redis 정렬 집합(ZSet)에서 제거하도록 예약합니다.
+	 *
+	 * @param productOptionId 상품 옵션 ID
+	 * @param cancelled 취소된 주문 목록
+	 */
+	private void removeCancelledAfterCommit(Long productOptionId, List<RestingOrder> cancelled) {
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					cancelled.forEach(order -> removeFromZSet(order.type(), productOptionId, order.bidId()));
+				}
+			});
+		}
+	}
+
+	/**
+	 * 더 이상 매칭 대상이 아닌 입찰을 Redis 정렬 집합(ZSet)에서 제거합니다.
+	 * 호가창에서 발견된 후보가 DB 기준으로 이미 체결/취소된 경우 호출됩니다.
+	 *
+	 * @param type 입찰 타입
+	 * @param productOptionId 상품 옵션 ID
+	 * @param bidId 대기열에서 제거할 입찰 ID
+	 */
+	private void removeFromZSet(BidType type, Long productOptionId, Long bidId) {
+		redissonClient.getScoredSortedSet(zSetKey(type, productOptionId)).remove(bidId);
+	}
+
+	private String zSetKey(BidType type, Long productOptionId) {
+		return (type == BidType.BUY ? "bids:buy:" : "bids:sell:") + productOptionId;
+	}
+
+	/**
+	 * 매칭 트랜잭션이 롤백되면 해당 옵션의 호가창을 버리도록 예약합니다.
+	 * 호가창은 커밋 이전에 메모리에서 먼저 갱신되므로,
+	 * 롤백 시에는 DB 기준으로 다시 적재하여 정합성을 회복합니다.
+	 *
+	 * @param productOptionId 상품 옵션 ID
+	 */
+	private void registerEvictionOnRollback(Long productOptionId) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status != STATUS_COMMITTED) {
+					orderBookRegistry.evict(productOptionId);
+				}
+			}
+		});
+	}
+
+	/**
+	 * 한 번의 매칭 과정(신규 입찰 체결 + 교차 호가 정리)에서 생성된 거래, 자기 체결 방지로 취소된 주문, 확인한 후보 수입니다.
 	 */
-	private void removeFromZSet(Bid bid) {
-		String key = (bid.getType() == BidType.BUY ? "bids:buy:" : "bids:sell:") + bid.getProductOption().getId();
-		redissonClient.getScoredSortedSet(key).remove(bid.getId());
+	private static class MatchPass {
+		private final List<Trade> trades = new ArrayList<>();
+		private final List<RestingOrder> cancelled = new ArrayList<>();
+		private int scanned;
 	}
 }
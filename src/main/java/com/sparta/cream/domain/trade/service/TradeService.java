@@ -2,6 +2,7 @@ package com.sparta.cream.domain.trade.service;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -13,20 +14,28 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.sparta.cream.domain.bid.entity.Bid;
 import com.sparta.cream.domain.bid.entity.BidStatus;
 import com.sparta.cream.domain.bid.entity.BidType;
+import com.sparta.cream.domain.bid.expiry.BidExpiryScheduler;
+import com.sparta.cream.domain.bid.expiry.ExpiringBid;
 import com.sparta.cream.domain.bid.repository.BidRepository;
 import com.sparta.cream.domain.trade.dto.TradeResponseDto;
+import com.sparta.cream.domain.trade.engine.MatchingExecutor;
+import com.sparta.cream.domain.trade.engine.MatchingMetrics;
+import com.sparta.cream.domain.trade.engine.OrderBook;
+import com.sparta.cream.domain.trade.engine.OrderBookRegistry;
+import com.sparta.cream.domain.trade.engine.OrderBookSnapshotter;
+import com.sparta.cream.domain.trade.engine.PriceTimePriority;
 import com.sparta.cream.domain.trade.entity.Trade;
 import com.sparta.cream.domain.trade.event.TradeCancelledEvent;
 import com.sparta.cream.domain.trade.repository.TradeRepository;
-import com.sparta.cream.entity.Product;
-import com.sparta.cream.entity.ProductOption;
 import com.sparta.cream.entity.Users;
 import com.sparta.cream.exception.BusinessException;
 import com.sparta.cream.exception.ErrorCode;
@@ -37,7 +46,7 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * 거래 체결 프로세스를 총괄하는 서비스입니다.
  * 본 서비스는 매칭 엔진의 진입점 역할을 하며,
- * 분산 락 제어, 비동기 처리, 배치 매칭, 거래 취소 등
+ * 옵션별 매칭 샤드 배정, 배치 매칭, 거래 취소 등
  * 거래 흐름 전반의 오케스트레이션을 담당합니다.
  * 실제 매칭 알고리즘과 체결 로직은 {@link MatchingService}에 위임하며,
  * 본 서비스는 동시성 제어와 호출 순서 보장에 집중합니다.
@@ -51,90 +60,137 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class TradeService {
 	private final BidRepository bidRepository;
+	private final BidExpiryScheduler bidExpiryScheduler;
 	private final TradeRepository tradeRepository;
 	private final ApplicationEventPublisher eventPublisher;
 	private final RedissonClient redissonClient;
 	private final MatchingService matchingService;
+	private final MatchingExecutor matchingExecutor;
+	private final OrderBookRegistry orderBookRegistry;
+	private final OrderBookSnapshotter orderBookSnapshotter;
+	private final MatchingMetrics matchingMetrics;
 
 	/**
-	 * 입찰 체결 프로세스를 별도의 스레드에서 비동기적으로 시작합니다.
-	 * 시에 여러 스레드에서 동일 입찰을 처리하려는 경우
-	 * 낙관적 락 충돌이 발생할 수 있으며,
-	 * 이 경우 이미 다른 스레드에서 처리 중인 것으로 판단하고
-	 * 추가 동작 없이 안전하게 종료합니다.
+	 * 입찰 체결 프로세스를 상품 옵션에 배정된 매칭 샤드에서 비동기적으로 시작합니다.
+	 * 같은 상품 옵션의 입찰은 항상 같은 샤드 스레드에서 제출 순서대로 처리되므로
+	 * 분산 락 없이도 옵션 단위의 직렬성이 보장되며, 락 획득 실패로 매칭이 누락되지 않습니다.
+	 * 입찰 트랜잭션 커밋 직후 호출되므로, 호출 시점부터 샤드에서 매칭이 시작되기까지의 시간을 함께 기록합니다.
 	 *
 	 * @param bidId 매칭을 진행할 대상 입찰 ID
+	 * @param productOptionId 입찰이 속한 상품 옵션 ID (샤드 배정 기준)
 	 */
-	@Async("taskExecutor")
-	public void handleMatchingInternal(Long bidId) {
-		try {
-			this.processTradeMatching(bidId);
-		} catch (ObjectOptimisticLockingFailureException e) {
-			log.info("낙관적 락 충돌: 이미 처리 중인 입찰입니다. Bid ID: {}", bidId);
-		} catch (Exception e) {
-			log.error("매칭 중 예상치 못한 에러 발생: {}", e.getMessage());
-		}
+	public void handleMatchingInternal(Long bidId, Long productOptionId) {
+		long committedAt = System.nanoTime();
+		matchingExecutor.execute(productOptionId, () -> {
+			matchingMetrics.recordCommitToStart(productOptionId, System.nanoTime() - committedAt);
+			processTradeMatching(bidId, productOptionId);
+		});
 	}
 
 	/**
-	 * 실시간 매칭 엔진을 가동하기 위한 사전 검증 및 분산 락을 제어합니다.
-	 * 1. 대상 입찰이 여전히 {@link BidStatus#PENDING} 상태인지 DB를 통해 최종 확인합니다.
-	 * 2. 동일한 상품 옵션에 대해 여러 스레드가 동시에 접근하지 못하도록 분산 락을 획득합니다.
-	 * 3. 락 획득 후, 다른 스레드에 의해 이미 체결되었을 가능성을 배제하기 위해 한 번 더 상태를 점검합니다.
-	 * 4. 모든 조건이 충족되면를 호출하여 최적의 상대를 탐색합니다.
+	 * 같은 상품 옵션에 일괄 등록된 입찰들을 하나의 샤드 작업으로 묶어 체결합니다.
+	 * 입찰마다 작업을 제출하지 않고 등록 순서(ID 오름차순)대로 한 번의 매칭 패스에서 처리하므로
+	 * 일괄 등록 건수가 늘어나도 샤드 큐 대기와 스레드 전환 비용은 옵션당 한 번만 발생합니다.
 	 *
-	 * @param bidId 매칭 프로세스를 시작할 기준 입찰 ID
+	 * @param productOptionId 입찰이 속한 상품 옵션 ID (샤드 배정 기준)
+	 * @param bidIds 매칭을 진행할 입찰 ID 목록 (등록 순서)
 	 */
-	public void processTradeMatching(Long bidId) {
-		Bid newBid = bidRepository.findById(bidId)
-			.filter(bid -> bid.getStatus() == BidStatus.PENDING)
-			.orElse(null);
-
-		if (newBid == null)
-			return;
+	public void handleMatchingBatch(Long productOptionId, List<Long> bidIds) {
+		long committedAt = System.nanoTime();
+		matchingExecutor.execute(productOptionId, () -> {
+			matchingMetrics.recordCommitToStart(productOptionId, System.nanoTime() - committedAt);
+			bidIds.forEach(bidId -> processTradeMatching(bidId, productOptionId));
+		});
+	}
 
-		RLock lock = redissonClient.getLock("lock:option:" + newBid.getProductOption().getId());
+	/**
+	 * 매칭 샤드 스레드 안에서 실시간 매칭을 수행합니다.
+	 * 1. 호출 스레드는 상품 옵션에 배정된 단일 샤드이므로 같은 옵션에 대한 동시 매칭은 발생하지 않습니다.
+	 * 2. {@link MatchingService#checkStatusAndMatch(Long)}에서 입찰이 여전히 {@link BidStatus#PENDING} 상태인지 확인한 뒤 매칭합니다.
+	 * 3. 다른 서버 노드와의 경합으로 낙관적 락 충돌이 발생하면
+	 *    이미 다른 곳에서 처리된 것으로 판단하고 추가 동작 없이 안전하게 종료합니다.
+	 * 4. 매칭 소요 시간과 충돌/실패 건수는 {@link MatchingMetrics}로 기록됩니다.
+	 *
+	 * @param bidId 매칭 프로세스를 시작할 기준 입찰 ID
+	 * @param productOptionId 입찰이 속한 상품 옵션 ID (지표 구분 기준)
+	 */
+	public void processTradeMatching(Long bidId, Long productOptionId) {
+		long startedAt = System.nanoTime();
 		try {
-			if (lock.tryLock(5, 10, TimeUnit.SECONDS)) {
-				matchingService.checkStatusAndMatch(bidId);
-			} else {
-				log.warn("매칭 락 획득 실패: Bid ID {}", bidId);
-			}
-		} catch (InterruptedException e) {
-			Thread.currentThread().interrupt();
-			log.error("매칭 중 인터럽트 발생: {}", e.getMessage());
+			matchingService.checkStatusAndMatch(bidId);
+		} catch (ObjectOptimisticLockingFailureException e) {
+			matchingMetrics.incrementOptimisticLockConflict(productOptionId);
+			log.info("낙관적 락 충돌: 이미 처리 중인 입찰입니다. Bid ID: {}", bidId);
+		} catch (Exception e) {
+			matchingMetrics.incrementMatchFailure(productOptionId);
+			log.error("매칭 중 예상치 못한 에러 발생: {}", e.getMessage());
 		} finally {
-			if (lock.isHeldByCurrentThread())
-				lock.unlock();
+			matchingMetrics.recordMatchDuration(productOptionId, System.nanoTime() - startedAt);
 		}
 	}
 
 	/**
 	 * 모든 대기 중인 구매입찰을 대상으로 배치 매칭을 수행합니다.
 	 * 상품 옵션 단위로 입찰을 그룹화한 뒤,
-	 * 각 옵션별로 분산락을 획득하여 순차적으로 매칭을 시도합니다.
-	 * 대량의 입찰을 처리하는 배치 상황에서도 옵션단위의 원자성을 보장하는 구조입니다.
+	 * 각 옵션에 배정된 매칭 샤드에 한 번의 작업으로 제출하여 등록 순서대로 매칭을 시도합니다.
+	 * 옵션 단위 직렬성은 샤드가 보장하므로 분산 락을 사용하지 않습니다.
 	 */
 	public void matchAllPendingBids() {
 		List<Bid> pendingBuyBids = bidRepository.findByTypeAndStatusOrderByCreatedAtAsc(BidType.BUY, BidStatus.PENDING);
 
-		Map<Long, List<Bid>> bidsByOption = pendingBuyBids.stream()
-			.collect(Collectors.groupingBy(bid -> bid.getProductOption().getId()));
-
-		bidsByOption.forEach((optionId, bids) -> {
-			RLock lock = redissonClient.getLock("lock:option:" + optionId);
-			try {
-				if (lock.tryLock(10, 20, TimeUnit.SECONDS)) {
-					for (Bid buyBid : bids) {
-						matchingService.checkStatusAndMatch(buyBid.getId());
-					}
-				}
-			} catch (InterruptedException e) {
-				Thread.currentThread().interrupt();
-			} finally {
-				if (lock.isHeldByCurrentThread()) lock.unlock();
-			}
+		Map<Long, List<Long>> bidIdsByOption = pendingBuyBids.stream()
+			.collect(Collectors.groupingBy(
+				bid -> bid.getProductOption().getId(),
+				Collectors.mapping(Bid::getId, Collectors.toList())));
+
+		bidIdsByOption.forEach((optionId, bidIds) ->
+			matchingExecutor.execute(optionId, () -> bidIds.forEach(bidId -> processTradeMatching(bidId, optionId))));
+	}
+
+	/**
+	 * 재시작 시 인메모리 호가창을 복원합니다.
+	 * 1. 최신 스냅샷과 이후의 저널을 재생하여 호가창을 복원하고 레지스트리에 등록합니다.
+	 * 2. 복원된 각 호가창은 해당 옵션의 매칭 샤드에서 DB의 대기 입찰과 대조하여,
+	 *    커밋되었지만 저널에 기록되기 전에 종료된 입찰이나 다른 노드가 등록/체결한 입찰을 바로잡은 뒤 교차된 주문을 연속 체결합니다.
+	 * 3. 대기 입찰이 있지만 스냅샷에 없는 옵션은 매칭 샤드에서 DB로부터 호가창을 적재하여 정리합니다.
+	 * 4. 스냅샷이 없거나(최초 기동, 저널 비활성화) 복원에 실패하면 {@link #matchAllPendingBids()}로 대체합니다.
+	 * 저널 재생 시간은 마지막 스냅샷 이후의 저널 길이에 비례하며, DB 대조는 옵션별 대기 입찰 조회 한 번으로 끝납니다.
+	 */
+	public void recoverOrderBooks() {
+		Optional<Map<Long, OrderBook>> recovered = orderBookSnapshotter.recover();
+		if (recovered.isEmpty()) {
+			matchAllPendingBids();
+			return;
+		}
+
+		Map<Long, OrderBook> books = recovered.get();
+		books.forEach((optionId, book) -> {
+			orderBookRegistry.restore(book);
+			matchingExecutor.execute(optionId, () -> matchingService.reconcile(optionId));
 		});
+
+		bidRepository.findPendingProductOptionIds().stream()
+			.filter(optionId -> !books.containsKey(optionId))
+			.forEach(optionId -> matchingExecutor.execute(optionId, () -> matchingService.sweep(optionId)));
+	}
+
+	/**
+	 * 샤드 큐가 가득 차 거절된 매칭 작업을 DB 기준으로 다시 시도합니다.
+	 * 거절된 작업의 입찰은 이미 DB에 대기 상태로 커밋되어 있으므로, 작업을 보관하는 대신 옵션 단위로 호가창을 다시 맞춥니다.
+	 * 1. 적재된 호가창은 DB 대기 입찰과 대조하여 누락된 입찰을 등록하고 대기 상태가 아닌 주문을 제거한 뒤 교차 호가를 정리합니다.
+	 * 2. 적재되지 않은 옵션은 DB에서 호가창을 적재하여 정리합니다.
+	 * 재제출이 다시 거절되면 해당 옵션은 다시 기록되어 다음 주기에 재시도됩니다.
+	 * 호가창은 노드별 메모리에 있으므로 모든 노드가 각자 실행합니다.
+	 */
+	@Scheduled(fixedDelayString = "${matching.engine.retry-interval-ms:1000}")
+	public void retryRejectedMatching() {
+		for (Long optionId : matchingExecutor.drainRejected()) {
+			if (orderBookRegistry.find(optionId).isPresent()) {
+				matchingExecutor.execute(optionId, () -> matchingService.reconcile(optionId));
+			} else {
+				matchingExecutor.execute(optionId, () -> matchingService.sweep(optionId));
+			}
+		}
 	}
 
 	/**
@@ -151,23 +207,7 @@ public class TradeService {
 
 		Page<Trade> trades = tradeRepository.findAllByUserId(userId, pageable);
 
-		return trades.map(trade -> {
-			boolean isBuyer = trade.getPurchaseBidId().getUser().getId().equals(userId);
-
-			Bid referenceBid = trade.getPurchaseBidId();
-			ProductOption option = (referenceBid != null) ? referenceBid.getProductOption() : null;
-			Product product = (option != null) ? option.getProduct() : null;
-
-			return TradeResponseDto.builder()
-				.id(trade.getId())
-				.productName(product != null ? product.getName() : "정보 없음 (삭제된 상품)")
-				.size(option != null ? option.getSize() : "-")
-				.price(trade.getFinalPrice())
-				.status(trade.getStatus() != null ? trade.getStatus().name() : "WAITING_PAYMENT")
-				.matchedAt(trade.getCreatedAt())
-				.role(isBuyer ? "BUYER" : "SELLER")
-				.build();
-		});
+		return trades.map(trade -> TradeResponseDto.from(trade, userId));
 	}
 
 	/**
@@ -205,6 +245,7 @@ public class TradeService {
 	 * 3.거래 상태를 CANCELED로 변경
 	 * 4.취소 요청 사용자에게 입찰 제한 패널티(3일)를 적용
 	 * 5.취소 사용자 . 상대방에게 알림을 전송
+	 * 6.커밋 후 대기 상태로 복원된 상대방 입찰을 Redis 대기열에 다시 등록하고 매칭 샤드에 제출
 	 * @param tradeId 취소할 거래의 ID
 	 * @param requestUserId 거래 취소를 요청한 사용자 ID
 	 */
@@ -244,6 +285,31 @@ public class TradeService {
 			tradeId
 		));
 
+		registerRestoredBidSync(victimBid);
+	}
+
+	/**
+	 * 거래 취소로 대기 상태가 된 입찰을 커밋 직후 다시 매칭 대상으로 등록합니다.
+	 * 체결 시 Redis 대기열과 호가창에서 제거된 입찰이므로, 대기열에 원래 점수로 다시 추가하고
+	 * {@link #handleMatchingInternal(Long, Long)}으로 매칭하거나 호가창에 다시 올립니다.
+	 * 만료 타이밍 휠은 대기 중인 입찰만 적재하므로 원래 만료 시각으로 다시 등록합니다.
+	 *
+	 * @param bid 대기 상태로 복원된 입찰
+	 */
+	private void registerRestoredBidSync(Bid bid) {
+		final Long bidId = bid.getId();
+		final Long productOptionId = bid.getProductOption().getId();
+		final String key = (bid.getType() == BidType.BUY ? "bids:buy:" : "bids:sell:") + productOptionId;
+		final double score = PriceTimePriority.redisScore(bid.getType(), bid.getPrice());
+		final ExpiringBid expiringBid = new ExpiringBid(bidId, productOptionId, bid.getType(), bid.getExpiresAt());
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				redissonClient.<Long>getScoredSortedSet(key).add(score, bidId);
+				bidExpiryScheduler.register(expiringBid);
+				handleMatchingInternal(bidId, productOptionId);
+			}
+		});
 	}
 
 	/**
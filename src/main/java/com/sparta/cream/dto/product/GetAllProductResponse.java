@@ -13,6 +13,8 @@ import lombok.Getter;
  * 상품 목록 조회 API의 응답 DTO입니다.
  * 홈페이지 화면에서 상품 목록을 조회할 때 사용되며,
  * 상품 정보 리스트와 함께 페이징 처리를 위한 정보(hasNext, totalElements)를 제공합니다.
+ * 인기순처럼 커서 기반으로 조회한 경우에는 다음 페이지 커서(nextCursor)를 함께 제공하며,
+ * 전체 개수는 계산하지 않으므로 totalElements는 -1입니다.
  *
  * @author heoarim
  * @since 2026. 2. 11
@@ -23,6 +25,7 @@ public class GetAllProductResponse {
 	private final List<PublicSummaryProduct> productList;
 	private final Boolean hasNext;
 	private final long totalElements;
+	private final String nextCursor;
 
 	public static GetAllProductResponse from(Page<Product> pageProducts) {
 		return new GetAllProductResponse(
@@ -30,7 +33,19 @@ public class GetAllProductResponse {
 				.map(PublicSummaryProduct::from)
 				.toList(),
 			pageProducts.hasNext(),
-			pageProducts.getTotalElements()
+			pageProducts.getTotalElements(),
+			null
+		);
+	}
+
+	public static GetAllProductResponse from(ProductCursorSlice slice) {
+		return new GetAllProductResponse(
+			slice.content().stream()
+				.map(PublicSummaryProduct::from)
+				.toList(),
+			slice.hasNext(),
+			-1,
+			slice.nextCursor()
 		);
 	}
 }
@@ -0,0 +1,19 @@
+package com.sparta.cream.dto.product;
+
+import java.util.List;
+
+import com.sparta.cream.entity.Product;
+
+/**
+ * 커서 기반으로 조회한 상품 목록 한 페이지입니다.
+ * 다음 페이지가 없으면 {@code nextCursor}는 null입니다.
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+public record ProductCursorSlice(
+	List<Product> content,
+	boolean hasNext,
+	String nextCursor
+) {
+}
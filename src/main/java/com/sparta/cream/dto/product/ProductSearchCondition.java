@@ -28,6 +28,9 @@ public class ProductSearchCondition {
 	@Size(max = 100, message = "검색어는 100자를 초과할 수 없습니다.")
 	private String keyword;
 
+	@Size(max = 100, message = "커서는 100자를 초과할 수 없습니다.")
+	private String cursor;
+
 	@AssertTrue(message = "최소 가격은 최대 가격보다 클 수 없습니다.")
 	public boolean isValidPriceRange() {
 		if (minPrice == null || maxPrice == null) {
@@ -5,7 +5,8 @@ import org.springframework.data.domain.Sort;
 public enum ProductSortType {
 
 	RECENT("최신 등록순", Sort.by("createAt").descending()),
-	PRICE_ASC("낮은 가격순", Sort.by("retailPrice").ascending()),;
+	PRICE_ASC("낮은 가격순", Sort.by("retailPrice").ascending()),
+	POPULAR("인기순", Sort.unsorted()),;
 
 	private final String description;
 	private final Sort sort;
@@ -24,6 +24,7 @@ public enum BidErrorCode implements BaseCode {
 	UNAUTHORIZED_ADMIN_ACCESS(HttpStatus.FORBIDDEN, "관리자 권한이 필요한 작업입니다."),
 	INVALID_REASON_CODE(HttpStatus.BAD_REQUEST, "유효하지 않은 취소 사유 코드입니다."),
 	BID_BLOCKED_BY_PENALTY(HttpStatus.FORBIDDEN,"패널티로 인해 3일간 입찰을 등록할 수 없습니다."),
+	BID_AMEND_CONFLICT(HttpStatus.CONFLICT, "입찰이 동시에 수정되었습니다. 다시 시도해주세요."),
 	ALREADY_CANCELED_TRADE(HttpStatus.BAD_REQUEST, "이미 취소된 거래입니다."),
 	CANNOT_CANCEL_TRADE(HttpStatus.BAD_REQUEST, "취소할 수 없는 거래 상태입니다."),
 	INVALID_BID_STATUS(HttpStatus.BAD_REQUEST, "유효하지 않은 입찰 상태입니다.");
@@ -24,6 +24,10 @@ public enum ErrorCode implements BaseCode {
 	AUTH_REDIS_TIMEOUT(HttpStatus.REQUEST_TIMEOUT, "Redis 요청 시간이 초과되었습니다."),
 	AUTH_USER_SAVE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "사용자 저장 중 오류가 발생했습니다."),
 	LOCK_ACQUISITION_FAILED(HttpStatus.TOO_MANY_REQUESTS, "락 획득에 실패했습니다. 잠시 후 다시 시도해주세요."),
+	//idempotency
+	IDEMPOTENCY_KEY_INVALID(HttpStatus.BAD_REQUEST, "Idempotency-Key는 1자 이상 100자 이하여야 합니다."),
+	IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다."),
+	IDEMPOTENCY_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "같은 Idempotency-Key의 요청이 아직 처리 중입니다."),
 	// user
 	USER_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 사용자입니다.");
 
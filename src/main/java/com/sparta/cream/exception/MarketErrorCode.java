@@ -0,0 +1,27 @@
+package com.sparta.cream.exception;
+
+import org.springframework.http.HttpStatus;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 시세(호가 깊이, 체결 내역, 캔들) 조회에서 발생하는 비즈니스 예외코드를 정의한 Enum 클래스입니다.
+ * 각 에러코드는 {@link BaseCode}를 구현하며,
+ * HTTP 상태 코드({@link HttpStatus})와 사용자에게 전달할 메시지를 함께 관리합니다.
+ * MarketErrorCode.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum MarketErrorCode implements BaseCode {
+
+	INVALID_DEPTH_REQUEST(HttpStatus.BAD_REQUEST, "호가 구간 수 또는 가격 단위가 유효하지 않습니다."),
+	INVALID_TRADE_HISTORY_REQUEST(HttpStatus.BAD_REQUEST, "체결 내역 조회 건수 또는 기간이 유효하지 않습니다."),
+	INVALID_CANDLE_REQUEST(HttpStatus.BAD_REQUEST, "캔들 단위(1m, 1h, 1d) 또는 조회 개수가 유효하지 않습니다.");
+
+	private final HttpStatus status;
+	private final String message;
+}
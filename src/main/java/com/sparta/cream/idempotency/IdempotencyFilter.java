@@ -0,0 +1,226 @@
+package com.sparta.cream.idempotency;
+
+import java.io.ByteArrayInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.cream.exception.CommonErrorResponse;
+import com.sparta.cream.exception.ErrorCode;
+import com.sparta.cream.security.CustomUserDetails;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@code Idempotency-Key} 헤더가 있는 입찰 등록 및 결제 완료 요청의 중복 처리를 막는 필터입니다.
+ * 1. 요청 메서드, 경로, 본문으로 지문을 계산하고 사용자 ID와 키를 결합하여 {@link IdempotencyStore}에서 조회합니다.
+ * 2. 같은 지문의 완료 기록이 있으면 저장된 응답을 그대로 돌려주며, 컨트롤러 이하(분산 락, DB, PortOne 호출)는 실행되지 않습니다.
+ * 3. 처음 보는 키는 처리 중으로 선점한 뒤 요청을 진행하고, 2xx 응답만 저장합니다. 실패 응답이나 예외는 선점을 해제하여 재시도를 허용합니다.
+ * 4. 같은 키에 다른 요청이 오면 422, 앞선 요청이 아직 처리 중이면 409로 응답합니다.
+ * 인증 이후에 실행되도록 {@code SecurityConfig}에서 인가 필터 뒤에 등록합니다.
+ * IdempotencyFilter.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+	public static final String HEADER = "Idempotency-Key";
+	public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+	private static final int MAX_KEY_LENGTH = 100;
+	private static final List<String> IDEMPOTENT_PATHS = List.of(
+		"/v1/bids",
+		"/v1/bids/batch",
+		"/v1/payments/*/complete"
+	);
+	private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+	private final IdempotencyStore idempotencyStore;
+	private final ObjectMapper objectMapper;
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !HttpMethod.POST.matches(request.getMethod())
+			|| request.getHeader(HEADER) == null
+			|| IDEMPOTENT_PATHS.stream().noneMatch(path -> PATH_MATCHER.match(path, request.getRequestURI()));
+	}
+
+	@Override
+	protected void doFilterInternal(
+		HttpServletRequest request,
+		HttpServletResponse response,
+		FilterChain filterChain
+	) throws ServletException, IOException {
+
+		String idempotencyKey = request.getHeader(HEADER).trim();
+		if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+			writeError(response, ErrorCode.IDEMPOTENCY_KEY_INVALID);
+			return;
+		}
+
+		Long userId = currentUserId();
+		if (userId == null) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+		String fingerprint = fingerprint(request.getMethod(), request.getRequestURI(), cachedRequest.body);
+		String storeKey = userId + ":" + idempotencyKey;
+
+		Optional<IdempotentRecord> existing = idempotencyStore.find(storeKey);
+		if (existing.isEmpty() && idempotencyStore.tryClaim(storeKey, fingerprint)) {
+			proceed(cachedRequest, response, filterChain, storeKey, fingerprint);
+			return;
+		}
+
+		IdempotentRecord record = existing.or(() -> idempotencyStore.find(storeKey)).orElse(null);
+		if (record != null && !record.fingerprint().equals(fingerprint)) {
+			writeError(response, ErrorCode.IDEMPOTENCY_KEY_REUSED);
+		} else if (record == null || !record.completed()) {
+			writeError(response, ErrorCode.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+		} else {
+			replay(response, record);
+		}
+	}
+
+	/**
+	 * 선점한 요청을 실행하고, 성공 응답이면 저장하고 아니면 선점을 해제합니다.
+	 */
+	private void proceed(
+		HttpServletRequest request,
+		HttpServletResponse response,
+		FilterChain filterChain,
+		String storeKey,
+		String fingerprint
+	) throws ServletException, IOException {
+		ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+		boolean stored = false;
+		try {
+			filterChain.doFilter(request, cachingResponse);
+
+			int status = cachingResponse.getStatus();
+			if (status >= 200 && status < 300) {
+				idempotencyStore.complete(storeKey, IdempotentRecord.completed(
+					fingerprint,
+					status,
+					cachingResponse.getContentType(),
+					new String(cachingResponse.getContentAsByteArray(), StandardCharsets.UTF_8)));
+				stored = true;
+			}
+		} finally {
+			if (!stored) {
+				idempotencyStore.release(storeKey);
+			}
+			cachingResponse.copyBodyToResponse();
+		}
+	}
+
+	private void replay(HttpServletResponse response, IdempotentRecord record) throws IOException {
+		response.setStatus(record.status());
+		response.setHeader(REPLAYED_HEADER, "true");
+		if (record.contentType() != null) {
+			response.setContentType(record.contentType());
+		}
+		response.setCharacterEncoding("UTF-8");
+		if (record.body() != null) {
+			response.getOutputStream().write(record.body().getBytes(StandardCharsets.UTF_8));
+		}
+	}
+
+	private void writeError(HttpServletResponse response, ErrorCode code) throws IOException {
+		response.setStatus(code.getStatus().value());
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setCharacterEncoding("UTF-8");
+		objectMapper.writeValue(response.getWriter(), CommonErrorResponse.of(code));
+	}
+
+	private Long currentUserId() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails principal) {
+			return principal.getId();
+		}
+		return null;
+	}
+
+	static String fingerprint(String method, String uri, byte[] body) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update((method + " " + uri + "\n").getBytes(StandardCharsets.UTF_8));
+			digest.update(body);
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * 지문 계산을 위해 읽은 요청 본문을 컨트롤러에서 다시 읽을 수 있도록 보관하는 요청 래퍼입니다.
+	 */
+	private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+		private final byte[] body;
+
+		CachedBodyRequest(HttpServletRequest request) throws IOException {
+			super(request);
+			this.body = StreamUtils.copyToByteArray(request.getInputStream());
+		}
+
+		@Override
+		public ServletInputStream getInputStream() {
+			ByteArrayInputStream input = new ByteArrayInputStream(body);
+			return new ServletInputStream() {
+				@Override
+				public boolean isFinished() {
+					return input.available() == 0;
+				}
+
+				@Override
+				public boolean isReady() {
+					return true;
+				}
+
+				@Override
+				public void setReadListener(ReadListener readListener) {
+					throw new UnsupportedOperationException();
+				}
+
+				@Override
+				public int read() {
+					return input.read();
+				}
+			};
+		}
+
+		@Override
+		public BufferedReader getReader() {
+			return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+		}
+	}
+}
@@ -0,0 +1,132 @@
+package com.sparta.cream.idempotency;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Idempotency-Key별 요청 지문과 응답을 보관하는 TTL 저장소입니다.
+ * 1. 원본은 Redis에 두어 여러 인스턴스가 같은 키를 공유하고, 처리 중 표시는 {@code SET NX}로 한 요청만 선점합니다.
+ * 2. 완료된 기록은 바뀌지 않으므로 인스턴스 로컬 near-cache(LRU)에도 보관하여, 재시도 폭주 시 Redis 왕복 없이 응답합니다.
+ * 3. 처리 중 표시는 짧은 TTL을 가지므로 처리 도중 서버가 종료되어도 키가 영구히 묶이지 않습니다.
+ * IdempotencyStore.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Component
+public class IdempotencyStore {
+
+	private static final String KEY_PREFIX = "idempotency:";
+
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final Duration ttl;
+	private final Duration inProgressTtl;
+	private final Map<String, NearCacheEntry> nearCache;
+
+	public IdempotencyStore(
+		StringRedisTemplate redisTemplate,
+		ObjectMapper objectMapper,
+		@Value("${idempotency.ttl-hours:24}") long ttlHours,
+		@Value("${idempotency.in-progress-ttl-seconds:30}") long inProgressTtlSeconds,
+		@Value("${idempotency.near-cache-size:10000}") int nearCacheSize) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.ttl = Duration.ofHours(ttlHours);
+		this.inProgressTtl = Duration.ofSeconds(inProgressTtlSeconds);
+		this.nearCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, NearCacheEntry> eldest) {
+				return size() > nearCacheSize;
+			}
+		});
+	}
+
+	/**
+	 * 키에 저장된 기록을 조회합니다. near-cache에 완료 기록이 있으면 Redis를 조회하지 않습니다.
+	 * @param key 사용자 ID와 Idempotency-Key를 결합한 키
+	 * @return 저장된 기록, 없으면 빈 Optional
+	 */
+	public Optional<IdempotentRecord> find(String key) {
+		NearCacheEntry local = nearCache.get(key);
+		if (local != null) {
+			if (local.expiresAtMillis() > System.currentTimeMillis()) {
+				return Optional.of(local.record());
+			}
+			nearCache.remove(key);
+		}
+
+		String value = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+		if (value == null) {
+			return Optional.empty();
+		}
+
+		IdempotentRecord record = read(value);
+		if (record.completed()) {
+			cacheLocally(key, record);
+		}
+		return Optional.of(record);
+	}
+
+	/**
+	 * 처리 중 표시를 저장하여 키를 선점합니다.
+	 * @param key 사용자 ID와 Idempotency-Key를 결합한 키
+	 * @param fingerprint 요청 지문
+	 * @return 선점에 성공하면 true, 이미 기록이 있으면 false
+	 */
+	public boolean tryClaim(String key, String fingerprint) {
+		return Boolean.TRUE.equals(redisTemplate.opsForValue()
+			.setIfAbsent(KEY_PREFIX + key, write(IdempotentRecord.inProgress(fingerprint)), inProgressTtl));
+	}
+
+	/**
+	 * 처리 중 표시를 완료 기록으로 교체하고 near-cache에도 보관합니다.
+	 * @param key 사용자 ID와 Idempotency-Key를 결합한 키
+	 * @param record 저장할 완료 기록
+	 */
+	public void complete(String key, IdempotentRecord record) {
+		redisTemplate.opsForValue().set(KEY_PREFIX + key, write(record), ttl);
+		cacheLocally(key, record);
+	}
+
+	/**
+	 * 처리에 실패한 요청의 선점을 해제하여 같은 키로 다시 시도할 수 있게 합니다.
+	 * @param key 사용자 ID와 Idempotency-Key를 결합한 키
+	 */
+	public void release(String key) {
+		redisTemplate.delete(KEY_PREFIX + key);
+	}
+
+	private void cacheLocally(String key, IdempotentRecord record) {
+		nearCache.put(key, new NearCacheEntry(record, System.currentTimeMillis() + ttl.toMillis()));
+	}
+
+	private String write(IdempotentRecord record) {
+		try {
+			return objectMapper.writeValueAsString(record);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("멱등성 기록 직렬화에 실패했습니다.", e);
+		}
+	}
+
+	private IdempotentRecord read(String value) {
+		try {
+			return objectMapper.readValue(value, IdempotentRecord.class);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("멱등성 기록 역직렬화에 실패했습니다.", e);
+		}
+	}
+
+	private record NearCacheEntry(IdempotentRecord record, long expiresAtMillis) {
+	}
+}
@@ -0,0 +1,32 @@
+package com.sparta.cream.idempotency;
+
+/**
+ * Idempotency-Key 하나에 대해 저장되는 요청 지문과 응답 기록입니다.
+ * 처리 중 상태는 지문만 가지며, 완료 상태는 재전송 시 그대로 돌려줄 상태 코드와 응답 본문을 함께 가집니다.
+ * IdempotentRecord.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ *
+ * @param fingerprint 요청 메서드, 경로, 본문으로 계산한 SHA-256 지문
+ * @param completed 응답 저장 완료 여부
+ * @param status 저장된 응답의 HTTP 상태 코드
+ * @param contentType 저장된 응답의 Content-Type
+ * @param body 저장된 응답 본문
+ */
+public record IdempotentRecord(
+	String fingerprint,
+	boolean completed,
+	int status,
+	String contentType,
+	String body
+) {
+
+	public static IdempotentRecord inProgress(String fingerprint) {
+		return new IdempotentRecord(fingerprint, false, 0, null, null);
+	}
+
+	public static IdempotentRecord completed(String fingerprint, int status, String contentType, String body) {
+		return new IdempotentRecord(fingerprint, true, status, contentType, body);
+	}
+}
@@ -0,0 +1,26 @@
+package com.sparta.cream.outbox;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.ResolvableTypeProvider;
+
+/**
+ * {@link OutboxRelay}가 커밋된 이벤트를 소비자에게 전달할 때 발행하는 이벤트입니다.
+ * 소비자는 {@code @EventListener}로 {@code OutboxDelivery<이벤트 타입>}을 구독하며,
+ * 예외를 던지면 해당 행은 재시도 대상이 됩니다.
+ * 같은 행이 두 번 이상 전달될 수 있고(at-least-once), 한 소비자가 실패하면 다른 소비자에게도 다시 전달되므로
+ * 소비자는 멱등하게 처리하거나 {@code outboxId}로 중복을 판단해야 합니다.
+ * OutboxDelivery.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+public record OutboxDelivery<T>(
+	Long outboxId, // 아웃박스 행 ID
+	T event        // 도메인 이벤트
+) implements ResolvableTypeProvider {
+
+	@Override
+	public ResolvableType getResolvableType() {
+		return ResolvableType.forClassWithGenerics(getClass(), ResolvableType.forInstance(event));
+	}
+}
@@ -0,0 +1,94 @@
+package com.sparta.cream.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 도메인 변경과 같은 트랜잭션에서 기록되어, 커밋 이후 {@link OutboxRelay}가 소비자에게 전달하는 이벤트 행입니다.
+ * {@code availableAt}은 다음 전달을 시도할 수 있는 시각으로, 전달 중에는 선점 만료 시각, 실패 후에는 재시도 시각이 됩니다.
+ * OutboxEvent.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+	name = "outbox_events",
+	indexes = {
+		@Index(name = "idx_outbox_events_status_available_at", columnList = "status, available_at")
+	}
+)
+public class OutboxEvent {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "event_type", nullable = false, length = 30)
+	private OutboxEventType eventType;
+
+	@Column(nullable = false, columnDefinition = "TEXT")
+	private String payload;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 10)
+	private OutboxStatus status;
+
+	@Column(nullable = false)
+	private int attempts;
+
+	@Column(name = "available_at", nullable = false)
+	private LocalDateTime availableAt;
+
+	@Column(nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+
+	public OutboxEvent(OutboxEventType eventType, String payload, LocalDateTime now) {
+		this.eventType = eventType;
+		this.payload = payload;
+		this.status = OutboxStatus.PENDING;
+		this.attempts = 0;
+		this.availableAt = now;
+		this.createdAt = now;
+	}
+
+	/**
+	 * 전달을 위해 행을 선점합니다. 선점 시간 안에 완료되지 않으면 다른 노드가 다시 가져갈 수 있습니다.
+	 * @param until 선점 만료 시각
+	 */
+	public void lease(LocalDateTime until) {
+		this.availableAt = until;
+	}
+
+	/**
+	 * 전달 실패를 기록하고 재시도 시각을 지수적으로 늦춥니다. 재시도 한도를 넘기면 보류합니다.
+	 * @param now 현재 시각
+	 * @param baseDelay 첫 재시도 지연
+	 * @param maxAttempts 최대 시도 횟수
+	 */
+	public void failed(LocalDateTime now, Duration baseDelay, int maxAttempts) {
+		this.attempts++;
+		if (attempts >= maxAttempts) {
+			this.status = OutboxStatus.FAILED;
+			return;
+		}
+		long backoffMillis = baseDelay.toMillis() << Math.min(attempts - 1, 10);
+		this.availableAt = now.plus(Duration.ofMillis(backoffMillis));
+	}
+}
@@ -0,0 +1,55 @@
+package com.sparta.cream.outbox;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.cream.domain.bid.event.BidChangedEvent;
+import com.sparta.cream.domain.event.PaymentCompletedEvent;
+import com.sparta.cream.domain.trade.event.TradeMatchedBatchEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 도메인 이벤트를 발행한 트랜잭션 안에서 아웃박스 행으로 기록하는 리스너입니다.
+ * 커밋 직전({@code BEFORE_COMMIT})에 같은 트랜잭션으로 저장되므로 거래/입찰/결제 변경과 이벤트 기록은 함께 커밋되거나 함께 롤백되며,
+ * 커밋 이후 프로세스가 종료되어도 이벤트는 {@link OutboxRelay}에 의해 전달됩니다.
+ * OutboxEventRecorder.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventRecorder {
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final ObjectMapper objectMapper;
+
+	@TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+	public void recordTradeMatched(TradeMatchedBatchEvent event) {
+		record(OutboxEventType.TRADE_MATCHED, event);
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+	public void recordBidChanged(BidChangedEvent event) {
+		record(OutboxEventType.BID_CHANGED, event);
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+	public void recordPaymentCompleted(PaymentCompletedEvent event) {
+		record(OutboxEventType.PAYMENT_COMPLETED, event);
+	}
+
+	private void record(OutboxEventType type, Object event) {
+		try {
+			outboxEventRepository.save(new OutboxEvent(type, objectMapper.writeValueAsString(event), LocalDateTime.now()));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("아웃박스 이벤트 직렬화 실패: " + type, e);
+		}
+	}
+}
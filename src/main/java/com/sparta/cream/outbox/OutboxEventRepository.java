@@ -0,0 +1,44 @@
+package com.sparta.cream.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 아웃박스 이벤트 저장소입니다.
+ * OutboxEventRepository.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+	/**
+	 * 전달할 수 있는 행을 오래된 순으로 잠그며 가져옵니다.
+	 * 다른 노드가 잠근 행은 기다리지 않고 건너뛰므로({@code SKIP LOCKED}) 여러 노드가 서로 다른 행을 동시에 가져갑니다.
+	 * @param now 현재 시각
+	 * @param limit 최대 행 수
+	 * @return 잠근 행 목록
+	 */
+	@Query(value = """
+		SELECT * FROM outbox_events
+		WHERE status = 'PENDING' AND available_at <= :now
+		ORDER BY id
+		LIMIT :limit
+		FOR UPDATE SKIP LOCKED
+		""", nativeQuery = true)
+	List<OutboxEvent> lockAvailable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+	/**
+	 * 전달을 마친 행을 한 번의 DELETE로 삭제합니다.
+	 * @param ids 삭제할 행 ID 목록
+	 * @return 삭제된 행 수
+	 */
+	@Modifying
+	@Query("DELETE FROM OutboxEvent o WHERE o.id IN :ids")
+	int deleteDelivered(@Param("ids") List<Long> ids);
+}
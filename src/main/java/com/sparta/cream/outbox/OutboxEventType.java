@@ -0,0 +1,30 @@
+package com.sparta.cream.outbox;
+
+import com.sparta.cream.domain.bid.event.BidChangedEvent;
+import com.sparta.cream.domain.event.PaymentCompletedEvent;
+import com.sparta.cream.domain.trade.event.TradeMatchedBatchEvent;
+
+/**
+ * 아웃박스를 거쳐 전달되는 도메인 이벤트의 종류입니다.
+ * 테이블에는 클래스 이름 대신 이 이름이 저장되므로, 이벤트 클래스의 패키지가 바뀌어도 쌓여 있던 행을 그대로 전달할 수 있습니다.
+ * OutboxEventType.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+public enum OutboxEventType {
+
+	TRADE_MATCHED(TradeMatchedBatchEvent.class),
+	BID_CHANGED(BidChangedEvent.class),
+	PAYMENT_COMPLETED(PaymentCompletedEvent.class);
+
+	private final Class<?> eventClass;
+
+	OutboxEventType(Class<?> eventClass) {
+		this.eventClass = eventClass;
+	}
+
+	public Class<?> eventClass() {
+		return eventClass;
+	}
+}
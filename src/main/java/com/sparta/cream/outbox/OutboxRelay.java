@@ -0,0 +1,128 @@
+package com.sparta.cream.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 아웃박스에 기록된 이벤트를 소비자(알림, 상품 인기도, Redis 대기열 정리)에게 전달하는 릴레이입니다.
+ * 1. {@link OutboxService#claim(int)}로 배치 크기만큼 행을 선점합니다. 잠긴 행은 건너뛰므로 모든 노드가 동시에 실행되며 처리량이 노드 수만큼 늘어납니다.
+ * 2. 행마다 {@link OutboxDelivery}를 발행하여 소비자를 동기적으로 실행하고, 성공한 행은 한 번에 삭제합니다.
+ * 3. 소비자가 예외를 던진 행은 지수적으로 늦춘 시각에 다시 전달합니다.
+ * 전달 후 삭제 전에 종료되면 선점 시간이 지난 뒤 다시 전달되므로, 전달은 최소 한 번(at-least-once) 보장됩니다.
+ * 행 단위로 재시도하므로 한 소비자가 실패하면 이미 성공한 소비자에게도 다시 전달됩니다.
+ * 따라서 소비자는 멱등해야 합니다: 알림은 아웃박스 행 ID로 중복 저장을 막고, Redis 대기열 정리(ZREM)는 결과가 같으며,
+ * 시간에 따라 감쇠하는 상품 인기도는 중복 반영을 허용합니다.
+ * 한 번 실행에서 최대 배치 수까지 연속으로 비우므로 적체 시에도 지연은 폴링 주기와 배치 처리 시간으로 제한되며,
+ * 기록부터 전달까지의 지연은 {@code cream.outbox.lag} 지표로 확인할 수 있습니다.
+ * OutboxRelay.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+	private final OutboxService outboxService;
+	private final ApplicationEventPublisher eventPublisher;
+	private final ObjectMapper objectMapper;
+	private final int batchSize;
+	private final int maxBatchesPerRun;
+	private final Counter delivered;
+	private final Counter failures;
+	private final Timer lag;
+
+	public OutboxRelay(
+		OutboxService outboxService,
+		ApplicationEventPublisher eventPublisher,
+		ObjectMapper objectMapper,
+		MeterRegistry meterRegistry,
+		@Value("${outbox.relay.batch-size:100}") int batchSize,
+		@Value("${outbox.relay.max-batches-per-run:20}") int maxBatchesPerRun
+	) {
+		this.outboxService = outboxService;
+		this.eventPublisher = eventPublisher;
+		this.objectMapper = objectMapper;
+		this.batchSize = batchSize;
+		this.maxBatchesPerRun = maxBatchesPerRun;
+		this.delivered = Counter.builder("cream.outbox.delivered")
+			.description("소비자에게 전달을 마친 아웃박스 이벤트 수")
+			.register(meterRegistry);
+		this.failures = Counter.builder("cream.outbox.failures")
+			.description("소비자가 실패하여 재시도 대상이 된 아웃박스 이벤트 수")
+			.register(meterRegistry);
+		this.lag = Timer.builder("cream.outbox.lag")
+			.description("아웃박스 기록부터 소비자 전달 완료까지의 지연")
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 전달할 행이 없거나 한 번 실행의 최대 배치 수에 도달할 때까지 아웃박스를 비웁니다.
+	 */
+	@Scheduled(fixedDelayString = "${outbox.relay.poll-ms:200}")
+	public void relay() {
+		for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+			List<OutboxEvent> claimed;
+			try {
+				claimed = outboxService.claim(batchSize);
+			} catch (Exception e) {
+				log.error("아웃박스 선점 실패: {}", e.getMessage());
+				return;
+			}
+			if (claimed.isEmpty()) {
+				return;
+			}
+
+			deliver(claimed);
+			if (claimed.size() < batchSize) {
+				return;
+			}
+		}
+	}
+
+	private void deliver(List<OutboxEvent> claimed) {
+		List<Long> deliveredIds = new ArrayList<>(claimed.size());
+		for (OutboxEvent row : claimed) {
+			try {
+				Object event = objectMapper.readValue(row.getPayload(), row.getEventType().eventClass());
+				eventPublisher.publishEvent(new OutboxDelivery<>(row.getId(), event));
+				deliveredIds.add(row.getId());
+				lag.record(Duration.between(row.getCreatedAt(), LocalDateTime.now()));
+			} catch (Exception e) {
+				failures.increment();
+				log.warn("아웃박스 이벤트 전달 실패: {} {} - {}", row.getEventType(), row.getId(), e.getMessage());
+				failQuietly(row.getId());
+			}
+		}
+
+		try {
+			outboxService.complete(deliveredIds);
+			delivered.increment(deliveredIds.size());
+		} catch (Exception e) {
+			log.error("아웃박스 완료 처리 실패, 선점 만료 후 다시 전달됩니다: {}", e.getMessage());
+		}
+	}
+
+	private void failQuietly(Long id) {
+		try {
+			outboxService.fail(id);
+		} catch (Exception e) {
+			log.error("아웃박스 실패 기록 실패, 선점 만료 후 다시 전달됩니다: {} - {}", id, e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,83 @@
+package com.sparta.cream.outbox;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 아웃박스 행의 선점, 완료, 실패 처리를 각각 짧은 트랜잭션으로 수행하는 서비스입니다.
+ * 행 잠금은 선점 트랜잭션 동안만 유지되고 전달은 트랜잭션 밖에서 이루어지므로,
+ * 느린 소비자가 있어도 다른 노드의 선점을 막지 않습니다.
+ * OutboxService.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@Slf4j
+@Service
+public class OutboxService {
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final Duration lease;
+	private final Duration retryDelay;
+	private final int maxAttempts;
+
+	public OutboxService(
+		OutboxEventRepository outboxEventRepository,
+		@Value("${outbox.relay.lease-ms:30000}") long leaseMillis,
+		@Value("${outbox.relay.retry-delay-ms:1000}") long retryDelayMillis,
+		@Value("${outbox.relay.max-attempts:10}") int maxAttempts
+	) {
+		this.outboxEventRepository = outboxEventRepository;
+		this.lease = Duration.ofMillis(leaseMillis);
+		this.retryDelay = Duration.ofMillis(retryDelayMillis);
+		this.maxAttempts = maxAttempts;
+	}
+
+	/**
+	 * 전달할 수 있는 행을 가져와 선점 시간 동안 다른 노드가 가져가지 못하도록 표시합니다.
+	 * 선점한 노드가 전달 중 종료되면 선점 시간이 지난 뒤 다른 노드가 다시 전달합니다.
+	 * @param limit 최대 행 수
+	 * @return 선점한 행 목록 (ID 오름차순)
+	 */
+	@Transactional
+	public List<OutboxEvent> claim(int limit) {
+		LocalDateTime now = LocalDateTime.now();
+		List<OutboxEvent> claimed = outboxEventRepository.lockAvailable(now, limit);
+		LocalDateTime leaseUntil = now.plus(lease);
+		claimed.forEach(event -> event.lease(leaseUntil));
+		return claimed;
+	}
+
+	/**
+	 * 전달을 마친 행을 삭제합니다.
+	 * @param ids 전달을 마친 행 ID 목록
+	 */
+	@Transactional
+	public void complete(List<Long> ids) {
+		if (ids.isEmpty()) {
+			return;
+		}
+		outboxEventRepository.deleteDelivered(ids);
+	}
+
+	/**
+	 * 전달에 실패한 행의 재시도 시각을 늦추고, 재시도 한도를 넘긴 행은 보류합니다.
+	 * @param id 전달에 실패한 행 ID
+	 */
+	@Transactional
+	public void fail(Long id) {
+		outboxEventRepository.findById(id).ifPresent(event -> {
+			event.failed(LocalDateTime.now(), retryDelay, maxAttempts);
+			if (event.getStatus() == OutboxStatus.FAILED) {
+				log.error("아웃박스 이벤트 전달 보류: {} {}, {}회 실패", event.getEventType(), id, event.getAttempts());
+			}
+		});
+	}
+}
@@ -0,0 +1,14 @@
+package com.sparta.cream.outbox;
+
+/**
+ * 아웃박스 행의 상태입니다.
+ * 전달에 성공한 행은 삭제되므로, 남아 있는 행은 전달 대기 중이거나 재시도 한도를 넘겨 보류된 행입니다.
+ * OutboxStatus.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+public enum OutboxStatus {
+	PENDING,
+	FAILED
+}
@@ -1,9 +1,13 @@
 package com.sparta.cream.repository;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.sparta.cream.entity.Product;
 import com.sparta.cream.entity.ProductOption;
@@ -18,4 +22,26 @@ public interface ProductOptionRepository extends JpaRepository<ProductOption, Lo
 	List<String> findSizesByProductId(Long productId);
 
 	List<ProductOption> findAllByProduct(Product product);
+
+	@Query("""
+    select po
+    from ProductOption po
+    where po.product.id = :productId
+    order by po.id
+""")
+	List<ProductOption> findAllByProductId(Long productId);
+
+	@Query("""
+    select po.product.id
+    from ProductOption po
+    where po.id = :productOptionId
+""")
+	Optional<Long> findProductIdById(Long productOptionId);
+
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE ProductOption po SET po.lastMatchedPrice = :price WHERE po.id = :productOptionId")
+	int updateLastMatchedPrice(
+		@Param("productOptionId") Long productOptionId,
+		@Param("price") BigDecimal price
+	);
 }
@@ -6,7 +6,11 @@ import static com.sparta.cream.entity.QProductOption.*;
 import static org.springframework.util.StringUtils.hasText;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -15,6 +19,10 @@ import org.springframework.data.domain.Pageable;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.cream.domain.market.ranking.PopularityCursor;
+import com.sparta.cream.domain.market.ranking.ProductPopularityRanking;
+import com.sparta.cream.domain.market.ranking.RankedProduct;
+import com.sparta.cream.dto.product.ProductCursorSlice;
 import com.sparta.cream.dto.product.ProductSearchCondition;
 import com.sparta.cream.dto.product.ProductSortType;
 import com.sparta.cream.entity.Product;
@@ -25,7 +33,10 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ProductRepositoryImpl implements ProductCustomRepository {
 
+	private static final int MAX_POPULAR_SCAN_ROUNDS = 5;
+
 	private final JPAQueryFactory queryFactory;
+	private final ProductPopularityRanking productPopularityRanking;
 
 	@Override
 	public Page<Product> searchProducts(ProductSearchCondition cond,boolean includeDeleted, Pageable pageable) {
@@ -65,6 +76,69 @@ public class ProductRepositoryImpl implements ProductCustomRepository {
 		return new PageImpl<>(content, pageable, totalCount);
 	}
 
+	/**
+	 * 인기순으로 상품을 커서 기반 조회합니다.
+	 * 인기도 순위(Redis Sorted Set)를 커서 다음 위치부터 일정 개수씩 읽고, 그 상품 ID들에 대해서만 검색 조건을 적용하여
+	 * 조건에 맞는 상품을 순위 순서대로 채웁니다. trade/bids 테이블 집계는 수행하지 않습니다.
+	 * 조건에 맞는 상품이 드물어 {@code MAX_POPULAR_SCAN_ROUNDS}번 읽어도 페이지를 채우지 못하면,
+	 * 마지막으로 읽은 위치를 커서로 반환하여 다음 요청에서 이어서 탐색합니다.
+	 * 인기도 순위에 없는(최근 체결/입찰이 없는) 상품은 포함되지 않습니다.
+	 */
+	@Override
+	public ProductCursorSlice searchPopularProducts(ProductSearchCondition cond, int pageSize) {
+		BooleanExpression[] predicates = {
+			deletedCondition(false),
+			brandEq(cond.getBrandName()),
+			categoryEq(cond.getCategory()),
+			sizeEq(cond.getProductSize()),
+			priceBetween(cond.getMinPrice(), cond.getMaxPrice()),
+			nameContains(cond.getKeyword())
+		};
+
+		PopularityCursor cursor = PopularityCursor.decode(cond.getCursor());
+		int chunkSize = Math.max(pageSize * 2, 20);
+		List<Product> content = new ArrayList<>(pageSize);
+		RankedProduct lastIncluded = null;
+
+		for (int round = 0; round < MAX_POPULAR_SCAN_ROUNDS; round++) {
+			List<RankedProduct> ranked = productPopularityRanking.after(cursor, chunkSize);
+			if (ranked.isEmpty()) {
+				return new ProductCursorSlice(content, false, null);
+			}
+
+			Map<Long, Product> matched = queryFactory
+				.selectFrom(product)
+				.leftJoin(product.productCategory, productCategory).fetchJoin()
+				.leftJoin(productOption).on(productOption.product.eq(product))
+				.where(predicates)
+				.where(product.id.in(ranked.stream().map(RankedProduct::productId).toList()))
+				.distinct()
+				.fetch()
+				.stream()
+				.collect(Collectors.toMap(Product::getId, Function.identity()));
+
+			for (RankedProduct rankedProduct : ranked) {
+				Product found = matched.get(rankedProduct.productId());
+				if (found == null) {
+					continue;
+				}
+				if (content.size() == pageSize) {
+					return new ProductCursorSlice(content, true, PopularityCursor.of(lastIncluded).encode());
+				}
+				content.add(found);
+				lastIncluded = rankedProduct;
+			}
+
+			if (ranked.size() < chunkSize) {
+				return new ProductCursorSlice(content, false, null);
+			}
+			cursor = PopularityCursor.of(ranked.get(ranked.size() - 1));
+		}
+
+		// 탐색 한도에 도달하면 마지막으로 읽은 위치부터 다음 요청에서 이어서 탐색합니다.
+		return new ProductCursorSlice(content, true, cursor.encode());
+	}
+
 	private BooleanExpression deletedCondition(boolean includeDeleted) {
 		return includeDeleted ? null : product.deletedAt.isNull();
 	}
@@ -25,6 +25,7 @@ import com.sparta.cream.dto.product.GetAllProductResponse;
 import com.sparta.cream.dto.product.GetOneProductResponse;
 import com.sparta.cream.dto.product.ProductOptionInfo;
 import com.sparta.cream.dto.product.ProductSearchCondition;
+import com.sparta.cream.dto.product.ProductSortType;
 import com.sparta.cream.entity.BaseEntity;
 import com.sparta.cream.entity.Product;
 import com.sparta.cream.entity.ProductCategory;
@@ -258,10 +259,15 @@ public class ProductService {
 	 * @param page 조회할 페이지 번호 (0부터 시작)
 	 * @param pageSize 페이지당 조회할 상품 개수
 	 * ProductSearchCondition 다중 필터 조건 dto
+	 * 인기순(POPULAR) 정렬은 페이지 번호 대신 조건의 커서로 다음 페이지를 조회합니다.
 	 * @return 상품 목록 조회 응답 DTO
 	 */
 	public GetAllProductResponse getAllPublicProduct(int page, int pageSize, ProductSearchCondition condition) {
 
+		if (condition.getSort() == ProductSortType.POPULAR) {
+			return GetAllProductResponse.from(productRepository.searchPopularProducts(condition, pageSize));
+		}
+
 		Sort sort = Sort.by("id").descending();
 		if(condition.getSort()!=null) {
 			sort = condition.getSort().getSort();
@@ -0,0 +1,107 @@
+package com.sparta.cream.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * AsyncConfig의 전용 실행기 격리와 거절 정책을 검증하는 테스트 클래스입니다.
+ * 1. 알림 실행기가 포화되면 호출 스레드에서 실행하여 작업을 잃지 않는지
+ * 2. 외부 I/O 실행기가 포화되어도 알림 실행기는 영향을 받지 않고, 넘친 작업은 버리지 않고 호출 스레드에서 실행하는지
+ * AsyncConfigTest.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+class AsyncConfigTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private ThreadPoolTaskExecutor notificationExecutor;
+	private ThreadPoolTaskExecutor outboundIoExecutor;
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		AsyncConfig asyncConfig = new AsyncConfig(meterRegistry);
+		for (String prefix : new String[] {"notification", "outboundIo"}) {
+			ReflectionTestUtils.setField(asyncConfig, prefix + "CoreSize", 1);
+			ReflectionTestUtils.setField(asyncConfig, prefix + "MaxSize", 1);
+			ReflectionTestUtils.setField(asyncConfig, prefix + "QueueCapacity", 1);
+		}
+		notificationExecutor = asyncConfig.notificationExecutor();
+		outboundIoExecutor = asyncConfig.outboundIoExecutor();
+	}
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		notificationExecutor.shutdown();
+		outboundIoExecutor.shutdown();
+	}
+
+	@Test
+	@DisplayName("알림 실행기가 포화되면 넘친 작업은 호출 스레드에서 실행된다")
+	void notificationExecutorCallerRunsTest() {
+		// given
+		notificationExecutor.execute(this::awaitRelease);
+		notificationExecutor.execute(this::awaitRelease);
+		AtomicReference<Thread> ranOn = new AtomicReference<>();
+
+		// when
+		notificationExecutor.execute(() -> ranOn.set(Thread.currentThread()));
+
+		// then
+		assertThat(ranOn.get()).isSameAs(Thread.currentThread());
+		assertThat(meterRegistry.get("cream.executor.rejected").tag("name", "notification").counter().count())
+			.isEqualTo(1.0);
+		assertThat(meterRegistry.get("executor.queued").tag("name", "notification").gauge().value())
+			.isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("외부 I/O 실행기가 포화되어도 알림 실행기는 계속 처리하고, 넘친 외부 I/O 작업은 호출 스레드에서 실행된다")
+	void outboundIoSaturationIsIsolatedTest() throws InterruptedException {
+		// given
+		CountDownLatch started = new CountDownLatch(1);
+		outboundIoExecutor.execute(() -> {
+			started.countDown();
+			awaitRelease();
+		});
+		outboundIoExecutor.execute(this::awaitRelease);
+		assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+		AtomicReference<Thread> ranOn = new AtomicReference<>();
+		CountDownLatch notified = new CountDownLatch(1);
+
+		// when
+		outboundIoExecutor.execute(() -> ranOn.set(Thread.currentThread()));
+		notificationExecutor.execute(notified::countDown);
+
+		// then
+		assertThat(notified.await(1, TimeUnit.SECONDS)).isTrue();
+		assertThat(ranOn.get()).isSameAs(Thread.currentThread());
+		assertThat(meterRegistry.get("cream.executor.rejected").tag("name", "outbound-io").counter().count())
+			.isEqualTo(1.0);
+		assertThat(meterRegistry.get("executor.active").tag("name", "outbound-io").gauge().value())
+			.isEqualTo(1.0);
+	}
+
+	private void awaitRelease() {
+		try {
+			release.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
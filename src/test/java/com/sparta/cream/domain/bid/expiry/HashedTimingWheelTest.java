@@ -0,0 +1,107 @@
+package com.sparta.cream.domain.bid.expiry;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * HashedTimingWheel의 등록/취소/진행 동작을 검증하는 테스트 클래스입니다.
+ * 1. 만료 시각이 지난 항목만 만료 틱 순서대로 반환
+ * 2. 취소된 항목은 만료되지 않음
+ * 3. 휠 한 바퀴보다 먼 만료 시각은 조기에 만료되지 않음
+ * HashedTimingWheelTest.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+class HashedTimingWheelTest {
+
+	private static final long TICK = 1_000L;
+
+	@Test
+	@DisplayName("진행 시 만료 시각이 지난 항목만 만료 틱 순서대로 반환된다")
+	void advanceReturnsDueEntriesInOrder() {
+		// given
+		HashedTimingWheel<String> wheel = new HashedTimingWheel<>(8, TICK, 0L);
+		wheel.schedule(1L, 3_000L, "bid-1");
+		wheel.schedule(2L, 1_500L, "bid-2");
+		wheel.schedule(3L, 6_000L, "bid-3");
+
+		// when
+		List<String> expired = wheel.advance(3_500L);
+
+		// then
+		assertThat(expired).containsExactly("bid-2", "bid-1");
+		assertThat(wheel.size()).isEqualTo(1);
+		assertThat(wheel.advance(6_000L)).containsExactly("bid-3");
+	}
+
+	@Test
+	@DisplayName("취소된 항목은 만료 시각이 지나도 반환되지 않는다")
+	void cancelledEntryIsNotExpired() {
+		// given
+		HashedTimingWheel<String> wheel = new HashedTimingWheel<>(8, TICK, 0L);
+		wheel.schedule(1L, 2_000L, "bid-1");
+		wheel.schedule(2L, 2_000L, "bid-2");
+
+		// when
+		boolean cancelled = wheel.cancel(1L);
+		List<String> expired = wheel.advance(2_000L);
+
+		// then
+		assertThat(cancelled).isTrue();
+		assertThat(expired).containsExactly("bid-2");
+		assertThat(wheel.cancel(1L)).isFalse();
+	}
+
+	@Test
+	@DisplayName("이미 만료 시각이 지난 항목은 다음 진행에서 바로 만료된다")
+	void pastDeadlineExpiresOnNextAdvance() {
+		// given
+		HashedTimingWheel<String> wheel = new HashedTimingWheel<>(8, TICK, 10_000L);
+		wheel.advance(20_000L);
+
+		// when
+		wheel.schedule(1L, 5_000L, "stale-bid");
+
+		// then
+		assertThat(wheel.advance(21_000L)).containsExactly("stale-bid");
+	}
+
+	@Test
+	@DisplayName("휠 한 바퀴보다 먼 만료 시각은 같은 슬롯을 지나더라도 조기에 만료되지 않는다")
+	void farDeadlineDoesNotFireEarly() {
+		// given
+		HashedTimingWheel<String> wheel = new HashedTimingWheel<>(4, TICK, 0L);
+		wheel.schedule(1L, 9_000L, "far-bid");
+
+		// when
+		List<String> firstRotation = wheel.advance(1_000L);
+		List<String> secondRotation = wheel.advance(5_000L);
+		List<String> due = wheel.advance(9_000L);
+
+		// then
+		assertThat(firstRotation).isEmpty();
+		assertThat(secondRotation).isEmpty();
+		assertThat(due).containsExactly("far-bid");
+	}
+
+	@Test
+	@DisplayName("같은 ID로 다시 등록하면 이전 만료 시각은 무시된다")
+	void rescheduleReplacesDeadline() {
+		// given
+		HashedTimingWheel<String> wheel = new HashedTimingWheel<>(8, TICK, 0L);
+		wheel.schedule(1L, 1_000L, "bid-1");
+
+		// when
+		wheel.schedule(1L, 5_000L, "bid-1");
+
+		// then
+		assertThat(wheel.advance(2_000L)).isEmpty();
+		assertThat(wheel.advance(5_000L)).containsExactly("bid-1");
+		assertThat(wheel.size()).isZero();
+	}
+}
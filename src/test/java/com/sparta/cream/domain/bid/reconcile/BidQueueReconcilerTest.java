@@ -0,0 +1,181 @@
+package com.sparta.cream.domain.bid.reconcile;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.BatchResult;
+import org.redisson.api.RBatch;
+import org.redisson.api.RKeys;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScoredSortedSetAsync;
+import org.redisson.api.RedissonClient;
+import org.springframework.data.domain.Pageable;
+
+import com.sparta.cream.domain.bid.entity.BidType;
+import com.sparta.cream.domain.bid.repository.BidRepository;
+import com.sparta.cream.domain.trade.engine.BookDrift;
+import com.sparta.cream.domain.trade.engine.MatchingExecutor;
+import com.sparta.cream.domain.trade.engine.OrderBookRegistry;
+import com.sparta.cream.domain.trade.service.MatchingService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * BidQueueReconciler의 호가창 및 Redis 대기열 복구를 검증하는 테스트 클래스입니다.
+ * 1. 대기열에 없거나 점수가 다른 대기 입찰을 다시 추가하는지
+ * 2. 대기 상태가 아닌 대기열 멤버를 제거하되, 최근 등록 구간은 건드리지 않는지
+ * 3. 적재된 호가창을 옵션의 매칭 샤드에서 DB와 대조하고 어긋난 건수를 기록하는지
+ * BidQueueReconcilerTest.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@ExtendWith(MockitoExtension.class)
+class BidQueueReconcilerTest {
+
+	private static final int BATCH_SIZE = 2;
+
+	@Mock
+	private BidRepository bidRepository;
+
+	@Mock
+	private RedissonClient redissonClient;
+
+	@Mock
+	private MatchingExecutor matchingExecutor;
+
+	@Mock
+	private MatchingService matchingService;
+
+	@Mock
+	private OrderBookRegistry orderBookRegistry;
+
+	@Mock
+	private RBatch batch;
+
+	@Mock
+	private RScoredSortedSetAsync<Object> batchZSet;
+
+	@Mock
+	private RKeys keys;
+
+	@Mock
+	private RScoredSortedSet<Object> zset;
+
+	private SimpleMeterRegistry meterRegistry;
+	private BidQueueReconciler reconciler;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		reconciler = new BidQueueReconciler(bidRepository, redissonClient, matchingExecutor,
+			matchingService, orderBookRegistry, meterRegistry, BATCH_SIZE);
+
+		lenient().when(redissonClient.createBatch()).thenReturn(batch);
+		lenient().when(batch.getScoredSortedSet(anyString())).thenReturn(batchZSet);
+		lenient().when(redissonClient.getKeys()).thenReturn(keys);
+		lenient().when(keys.getKeysByPattern(anyString(), anyInt())).thenReturn(List.of());
+		lenient().when(matchingExecutor.submit(anyLong(), any())).thenAnswer(invocation ->
+			CompletableFuture.completedFuture(invocation.<Supplier<?>>getArgument(1).get()));
+	}
+
+	@Test
+	@DisplayName("적재된 호가창은 옵션의 매칭 샤드에서 DB 대기 입찰과 대조되고 어긋난 건수가 기록된다")
+	void reconcileLoadedOrderBooksTest() {
+		// given
+		given(orderBookRegistry.loadedProductOptionIds()).willReturn(Set.of(7L));
+		given(matchingService.reconcile(7L)).willReturn(new BookDrift(2, 1, 0));
+
+		// when
+		reconciler.reconcileOrderBooks();
+
+		// then
+		verify(matchingExecutor).submit(eq(7L), any());
+		verify(matchingService).reconcile(7L);
+		assertThat(meterRegistry.get("cream.bid.reconcile.drift").tag("kind", "book_missing").counter().count())
+			.isEqualTo(2.0);
+		assertThat(meterRegistry.get("cream.bid.reconcile.drift").tag("kind", "book_stale").counter().count())
+			.isEqualTo(1.0);
+		verifyNoInteractions(redissonClient);
+	}
+
+	@Test
+	@DisplayName("대기열에 없거나 점수가 다른 대기 입찰은 샤드에서 다시 확인한 뒤 올바른 점수로 추가된다")
+	void restoreMissingAndMisScoredBidsTest() {
+		// given
+		QueuedBid inQueue = new QueuedBid(1L, 7L, BidType.BUY, 100_000L);
+		QueuedBid missing = new QueuedBid(2L, 7L, BidType.BUY, 110_000L);
+		QueuedBid misScored = new QueuedBid(3L, 7L, BidType.SELL, 120_000L);
+		given(bidRepository.findMaxId()).willReturn(Optional.of(3L));
+		given(bidRepository.findPendingQueuedAfter(eq(0L), eq(0L), any(Pageable.class)))
+			.willReturn(List.of(inQueue, missing));
+		given(bidRepository.findPendingQueuedAfter(eq(7L), eq(2L), any(Pageable.class)))
+			.willReturn(List.of(misScored));
+		willReturn(
+			batchResult(Arrays.asList(inQueue.score(), null)),
+			batchResult(List.of(1)),
+			batchResult(List.of(0.0)),
+			batchResult(List.of(1))
+		).given(batch).execute();
+		given(bidRepository.findPendingQueuedByIds(List.of(2L))).willReturn(List.of(missing));
+		given(bidRepository.findPendingQueuedByIds(List.of(3L))).willReturn(List.of(misScored));
+
+		// when
+		reconciler.reconcile();
+
+		// then
+		verify(batchZSet).addAsync(missing.score(), 2L);
+		verify(batchZSet).addAsync(misScored.score(), 3L);
+		verify(batchZSet, never()).addAsync(inQueue.score(), 1L);
+		verify(matchingExecutor, times(2)).submit(eq(7L), any());
+		assertThat(meterRegistry.get("cream.bid.reconcile.drift").tag("kind", "missing").counter().count())
+			.isEqualTo(1.0);
+		assertThat(meterRegistry.get("cream.bid.reconcile.drift").tag("kind", "score").counter().count())
+			.isEqualTo(1.0);
+		assertThat(meterRegistry.get("cream.bid.reconcile.repaired").tag("action", "restored").counter().count())
+			.isEqualTo(2.0);
+	}
+
+	@Test
+	@DisplayName("대기 상태가 아닌 대기열 멤버는 제거되고, 최근 등록 구간의 입찰은 커밋 전일 수 있어 남겨둔다")
+	void removeStaleMembersTest() {
+		// given
+		given(bidRepository.findMaxId()).willReturn(Optional.of(105L));
+		given(bidRepository.findPendingQueuedAfter(anyLong(), anyLong(), any(Pageable.class))).willReturn(List.of());
+		given(keys.getKeysByPattern("bids:buy:*", BATCH_SIZE)).willReturn(List.of("bids:buy:7"));
+		given(redissonClient.getScoredSortedSet("bids:buy:7")).willReturn(zset);
+		given(zset.iterator(BATCH_SIZE)).willReturn(List.<Object>of(1L, 2L, 104L).iterator());
+		given(bidRepository.findPendingQueuedByIds(List.of(1L, 2L)))
+			.willReturn(List.of(new QueuedBid(1L, 7L, BidType.BUY, 100_000L)));
+		given(bidRepository.findPendingQueuedByIds(List.of(2L))).willReturn(List.of());
+		given(bidRepository.findPendingQueuedByIds(List.of(104L))).willReturn(List.of());
+
+		// when
+		reconciler.reconcile();
+
+		// then
+		verify(zset).removeAll(List.of(2L));
+		verify(matchingExecutor, times(1)).submit(eq(7L), any());
+		assertThat(meterRegistry.get("cream.bid.reconcile.drift").tag("kind", "stale").counter().count())
+			.isEqualTo(1.0);
+		assertThat(meterRegistry.get("cream.bid.reconcile.repaired").tag("action", "removed").counter().count())
+			.isEqualTo(1.0);
+	}
+
+	private BatchResult<Object> batchResult(List<?> response) {
+		return new BatchResult<>(List.<Object>of(response), 0);
+	}
+}
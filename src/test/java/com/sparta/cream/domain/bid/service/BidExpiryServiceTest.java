@@ -0,0 +1,129 @@
+package com.sparta.cream.domain.bid.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RBatch;
+import org.redisson.api.RBucketAsync;
+import org.redisson.api.RScoredSortedSetAsync;
+import org.redisson.api.RedissonClient;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.sparta.cream.domain.bid.entity.BidStatus;
+import com.sparta.cream.domain.bid.entity.BidType;
+import com.sparta.cream.domain.bid.expiry.ExpiringBid;
+import com.sparta.cream.domain.bid.repository.BidRepository;
+import com.sparta.cream.domain.trade.engine.MatchingExecutor;
+import com.sparta.cream.domain.trade.engine.OrderBook;
+import com.sparta.cream.domain.trade.engine.OrderBookRegistry;
+
+/**
+ * BidExpiryService의 만료 처리와 커밋 이후 정리 범위를 검증하는 테스트 클래스입니다.
+ * 1. 잠근 시점에 대기 상태인 입찰만 만료 처리되는지
+ * 2. 만료 시각이 지났더라도 만료되지 않은 입찰은 호가창과 Redis 대기열에서 제거되지 않는지
+ * BidExpiryServiceTest.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@ExtendWith(MockitoExtension.class)
+class BidExpiryServiceTest {
+
+	@Mock
+	private BidRepository bidRepository;
+
+	@Mock
+	private OrderBookRegistry orderBookRegistry;
+
+	@Mock
+	private MatchingExecutor matchingExecutor;
+
+	@Mock
+	private RedissonClient redissonClient;
+
+	@Mock
+	private RBatch batch;
+
+	@Mock
+	private RScoredSortedSetAsync<Object> batchZSet;
+
+	@Mock
+	private RBucketAsync<Object> batchBucket;
+
+	private BidExpiryService bidExpiryService;
+
+	@BeforeEach
+	void setUp() {
+		bidExpiryService = new BidExpiryService(bidRepository, orderBookRegistry, matchingExecutor, redissonClient, 500);
+		TransactionSynchronizationManager.initSynchronization();
+	}
+
+	@AfterEach
+	void tearDown() {
+		TransactionSynchronizationManager.clearSynchronization();
+	}
+
+	@Test
+	@DisplayName("만료 시각이 지났어도 대기 상태가 아닌 입찰은 만료되지 않고, 커밋 후 호가창과 대기열에서도 제거되지 않는다")
+	void expireOnlyPendingAndCleanUpExpiredTest() {
+		// given
+		LocalDateTime due = LocalDateTime.now().minusMinutes(1);
+		ExpiringBid pending = new ExpiringBid(1L, 3L, BidType.BUY, due);
+		ExpiringBid restored = new ExpiringBid(2L, 4L, BidType.SELL, due);
+		OrderBook orderBook = new OrderBook(3L);
+		given(bidRepository.lockPendingBidIds(List.of(1L, 2L))).willReturn(List.of(1L));
+		given(orderBookRegistry.find(3L)).willReturn(Optional.of(orderBook));
+		given(redissonClient.createBatch()).willReturn(batch);
+		given(batch.getScoredSortedSet(anyString())).willReturn(batchZSet);
+		given(batch.getBucket(anyString())).willReturn(batchBucket);
+
+		// when
+		int expired = bidExpiryService.expire(List.of(pending, restored));
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+		// then
+		assertThat(expired).isEqualTo(1);
+		verify(bidRepository).expirePendingBids(List.of(1L), BidStatus.EXPIRED, BidStatus.PENDING);
+
+		verify(orderBookRegistry, never()).find(4L);
+		verify(matchingExecutor, never()).execute(eq(4L), any(Runnable.class));
+		verify(matchingExecutor).execute(eq(3L), any(Runnable.class));
+
+		verify(batch).getScoredSortedSet("bids:buy:3");
+		verify(batch, never()).getScoredSortedSet("bids:sell:4");
+		verify(batch).getBucket("productBids::3");
+		verify(batch, never()).getBucket("productBids::4");
+		ArgumentCaptor<List<Long>> removed = ArgumentCaptor.forClass(List.class);
+		verify(batchZSet).removeAllAsync(removed.capture());
+		assertThat(removed.getValue()).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("만료된 입찰이 없으면 커밋 후 정리를 예약하지 않는다")
+	void nothingExpiredSkipsCleanupTest() {
+		// given
+		ExpiringBid matched = new ExpiringBid(2L, 4L, BidType.SELL, LocalDateTime.now().minusMinutes(1));
+		given(bidRepository.lockPendingBidIds(List.of(2L))).willReturn(List.of());
+
+		// when
+		int expired = bidExpiryService.expire(List.of(matched));
+
+		// then
+		assertThat(expired).isZero();
+		verify(bidRepository, never()).expirePendingBids(anyList(), any(), any());
+		assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+	}
+}
@@ -6,6 +6,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -19,8 +20,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RBatch;
 import org.redisson.api.RBucket;
+import org.redisson.api.RBucketAsync;
 import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScoredSortedSetAsync;
 import org.redisson.api.RedissonClient;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
@@ -29,17 +33,22 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.sparta.cream.domain.bid.dto.AdminBidCancelRequestDto;
+import com.sparta.cream.domain.bid.dto.BidBatchResponseDto;
 import com.sparta.cream.domain.bid.dto.BidRequestDto;
 import com.sparta.cream.domain.bid.dto.BidResponseDto;
 import com.sparta.cream.domain.bid.entity.Bid;
 import com.sparta.cream.domain.bid.entity.BidStatus;
 import com.sparta.cream.domain.bid.entity.BidType;
 import com.sparta.cream.domain.bid.entity.CancelReason;
+import com.sparta.cream.domain.bid.expiry.BidExpiryScheduler;
 import com.sparta.cream.domain.bid.repository.BidRepository;
 import com.sparta.cream.domain.notification.service.NotificationService;
+import com.sparta.cream.domain.trade.engine.MatchingExecutor;
+import com.sparta.cream.domain.trade.engine.OrderBookRegistry;
 import com.sparta.cream.domain.trade.service.TradeService;
 import com.sparta.cream.entity.ProductOption;
 import com.sparta.cream.entity.UserRole;
@@ -90,6 +99,15 @@ class BidServiceTest {
 	@Mock
 	private ApplicationEventPublisher eventPublisher;
 
+	@Mock
+	private OrderBookRegistry orderBookRegistry;
+
+	@Mock
+	private MatchingExecutor matchingExecutor;
+
+	@Mock
+	private BidExpiryScheduler bidExpiryScheduler;
+
 	private Users testUser;
 	private final Long userId = 1L;
 
@@ -161,6 +179,58 @@ class BidServiceTest {
 	}
 
 
+	/**
+	 * 입찰 일괄 등록 시 배치 저장, 항목별 결과, 옵션별 단일 매칭 예약을 검증합니다.
+	 */
+	@Test
+	@DisplayName("입찰 일괄 등록 성공 - 없는 옵션 항목만 실패하고, 옵션별로 매칭 작업이 한 번만 제출된다")
+	void createBids_Success_PartialFailure() {
+		// given
+		Long productOptionId = 100L;
+		List<BidRequestDto> requests = List.of(
+			new BidRequestDto(productOptionId, 150000L, BidType.SELL),
+			new BidRequestDto(999L, 160000L, BidType.SELL),
+			new BidRequestDto(productOptionId, 170000L, BidType.SELL));
+		ProductOption productOption = mock(ProductOption.class);
+		RBatch rBatch = mock(RBatch.class);
+		RScoredSortedSetAsync<Object> zsetAsync = mock(RScoredSortedSetAsync.class);
+		RBucketAsync<Object> bucketAsync = mock(RBucketAsync.class);
+
+		given(productOption.getId()).willReturn(productOptionId);
+		given(userRepository.findById(userId)).willReturn(Optional.of(testUser));
+		given(productOptionRepository.findAllById(List.of(productOptionId, 999L))).willReturn(List.of(productOption));
+		List<Bid> inserted = new ArrayList<>();
+		given(bidRepository.insertAllInBatch(anyList())).willAnswer(invocation -> {
+			List<Bid> bids = invocation.getArgument(0);
+			ReflectionTestUtils.setField(bids.get(0), "id", 10L);
+			ReflectionTestUtils.setField(bids.get(1), "id", 11L);
+			inserted.addAll(bids);
+			return List.of(10L, 11L);
+		});
+		given(bidRepository.findAllById(List.of(10L, 11L)))
+			.willAnswer(invocation -> List.of(inserted.get(1), inserted.get(0)));
+		given(redissonClient.createBatch()).willReturn(rBatch);
+		given(rBatch.getScoredSortedSet(anyString())).willReturn(zsetAsync);
+		given(rBatch.getBucket(anyString())).willReturn(bucketAsync);
+
+		// when
+		BidBatchResponseDto response = bidService.createBids(userId, requests);
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+		// then
+		assertThat(response.getRequested()).isEqualTo(3);
+		assertThat(response.getSucceeded()).isEqualTo(2);
+		assertThat(response.getResults().get(0).getBid().getId()).isEqualTo(10L);
+		assertThat(response.getResults().get(1).isSuccess()).isFalse();
+		assertThat(response.getResults().get(1).getErrorCode()).isEqualTo(BidErrorCode.PRODUCT_OPTION_NOT_FOUND.name());
+		assertThat(response.getResults().get(2).getBid().getId()).isEqualTo(11L);
+		verify(zsetAsync, times(2)).addAsync(anyDouble(), any());
+		verify(rBatch, times(1)).execute();
+		verify(bidRepository, never()).save(any(Bid.class));
+		verify(tradeService, times(1)).handleMatchingBatch(productOptionId, List.of(10L, 11L));
+		verify(tradeService, never()).handleMatchingInternal(anyLong(), anyLong());
+	}
+
 	/**
 	 * 내 입찰 내역 조회 성공 시나리오를 검증합니다.
 	 */
@@ -434,6 +504,89 @@ class BidServiceTest {
 
 	}
 
+	/**
+	 * 같은 상품 옵션, 같은 타입, 같은 가격으로의 수정은 아무것도 변경하지 않는 시나리오
+	 */
+	@Test
+	@DisplayName("입찰 정정 - 가격이 같으면 대기열, 이벤트, 재매칭 없이 그대로 반환한다")
+	void updateBid_Amend_NoOp() {
+		// given
+		Long bidId = 100L;
+		given(userRepository.findById(userId)).willReturn(Optional.of(testUser));
+		Bid bid = pendingBid(bidId, 1L, 150000L, BidType.BUY);
+		given(bidRepository.findById(bidId)).willReturn(Optional.of(bid));
+
+		// when
+		BidResponseDto response = bidService.updateBid(userId, bidId, new BidRequestDto(1L, 150000L, BidType.BUY));
+
+		// then
+		assertThat(response.getPrice()).isEqualTo(150000L);
+		verify(rScoredSortedSet, never()).add(anyDouble(), any());
+		verify(eventPublisher, never()).publishEvent(any(Object.class));
+		assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+		verifyNoInteractions(tradeService, orderBookRegistry, productOptionRepository);
+	}
+
+	/**
+	 * 우선순위가 낮아지는 방향의 가격 정정은 제거 없이 점수만 갱신하고 재매칭하지 않는 시나리오
+	 */
+	@Test
+	@DisplayName("입찰 정정 - 구매 가격 인하는 대기열에서 제거하지 않고 점수만 갱신하며 재매칭하지 않는다")
+	void updateBid_Amend_PassivePrice() {
+		// given
+		Long bidId = 100L;
+		given(userRepository.findById(userId)).willReturn(Optional.of(testUser));
+		Bid bid = pendingBid(bidId, 1L, 150000L, BidType.BUY);
+		given(bidRepository.findById(bidId)).willReturn(Optional.of(bid));
+
+		// when
+		BidResponseDto response = bidService.updateBid(userId, bidId, new BidRequestDto(1L, 140000L, BidType.BUY));
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+		// then
+		assertThat(response.getPrice()).isEqualTo(140000L);
+		verify(rScoredSortedSet).add(anyDouble(), eq(bidId));
+		verify(rScoredSortedSet, never()).remove(any());
+		verify(orderBookRegistry).find(1L);
+		verify(tradeService, never()).handleMatchingInternal(anyLong(), anyLong());
+		verify(eventPublisher).publishEvent(any(Object.class));
+	}
+
+	/**
+	 * 우선순위가 높아지는 방향의 가격 정정은 재매칭을 예약하는 시나리오
+	 */
+	@Test
+	@DisplayName("입찰 정정 - 판매 가격 인하는 커밋 후 재매칭을 요청한다")
+	void updateBid_Amend_AggressivePrice() {
+		// given
+		Long bidId = 100L;
+		given(userRepository.findById(userId)).willReturn(Optional.of(testUser));
+		Bid bid = pendingBid(bidId, 1L, 150000L, BidType.SELL);
+		given(bidRepository.findById(bidId)).willReturn(Optional.of(bid));
+
+		// when
+		bidService.updateBid(userId, bidId, new BidRequestDto(1L, 130000L, BidType.SELL));
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+		// then
+		verify(rScoredSortedSet, never()).remove(any());
+		verify(tradeService).handleMatchingInternal(bidId, 1L);
+	}
+
+	private Bid pendingBid(Long bidId, Long productOptionId, Long price, BidType type) {
+		ProductOption productOption = mock(ProductOption.class);
+		lenient().when(productOption.getId()).thenReturn(productOptionId);
+		Bid bid = Bid.builder()
+			.user(testUser)
+			.productOption(productOption)
+			.status(BidStatus.PENDING)
+			.price(price)
+			.type(type)
+			.build();
+		ReflectionTestUtils.setField(bid, "id", bidId);
+		return bid;
+	}
+
 	/**
 	 * 본인의 입찰이 아닌경우 취소시 실패 시나리오
 	 */
@@ -499,10 +652,13 @@ class BidServiceTest {
 
 		// when
 		bidService.cancelBidByAdmin(bidId, requestDto, adminId);
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
 
 		// then
 		assertThat(bid.getStatus()).isEqualTo(BidStatus.ADMIN_CANCELED);
 		verify(bidRepository, times(1)).findById(bidId);
+		verify(matchingExecutor).execute(eq(10L), any(Runnable.class));
+		verify(orderBookRegistry, never()).find(anyLong());
 	}
 
 	/**
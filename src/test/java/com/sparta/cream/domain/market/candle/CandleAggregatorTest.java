@@ -0,0 +1,90 @@
+package com.sparta.cream.domain.market.candle;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 체결 기반 캔들 증분 집계를 검증하는 테스트 클래스입니다.
+ * 1. 시가/고가/저가/종가/거래량의 증분 갱신과 구간 분리
+ * 2. 상품 단위 캔들의 옵션 합산
+ * 3. 반영 대기 체결분의 추출과 링 버퍼 재사용 시 보존
+ * CandleAggregatorTest.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+class CandleAggregatorTest {
+
+	private static final long BASE = LocalDate.of(2026, 10, 16).atTime(10, 0)
+		.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	private static final long MINUTE = CandleInterval.MINUTE.getMillis();
+
+	@Test
+	@DisplayName("같은 구간의 체결은 하나의 캔들로 합쳐지고, 다음 구간은 새 캔들로 시작한다")
+	void aggregateOhlcvTest() {
+		// given
+		CandleAggregator aggregator = new CandleAggregator();
+
+		// when
+		aggregator.record(1L, 100L, 250_000L, BASE + 1_000);
+		aggregator.record(1L, 100L, 262_000L, BASE + 2_000);
+		aggregator.record(1L, 100L, 248_000L, BASE + 3_000);
+		aggregator.record(1L, 100L, 255_000L, BASE + 4_000);
+		aggregator.record(1L, 100L, 257_000L, BASE + MINUTE + 1_000);
+
+		// then
+		List<CandleView> minutes = aggregator.recent(CandleScope.OPTION, 1L, CandleInterval.MINUTE, BASE, BASE + MINUTE);
+		assertEquals(List.of(
+			new CandleView(BASE, 250_000L, 262_000L, 248_000L, 255_000L, 4),
+			new CandleView(BASE + MINUTE, 257_000L, 257_000L, 257_000L, 257_000L, 1)
+		), minutes);
+
+		List<CandleView> hours = aggregator.recent(CandleScope.OPTION, 1L, CandleInterval.HOUR, BASE, BASE);
+		assertEquals(List.of(new CandleView(BASE, 250_000L, 262_000L, 248_000L, 257_000L, 5)), hours);
+	}
+
+	@Test
+	@DisplayName("상품 캔들은 모든 옵션의 체결을 체결 시각 순서로 합산한다")
+	void productCandleMergesOptionsTest() {
+		// given
+		CandleAggregator aggregator = new CandleAggregator();
+
+		// when
+		aggregator.record(1L, 100L, 250_000L, BASE + 2_000);
+		aggregator.record(2L, 100L, 270_000L, BASE + 1_000);
+		aggregator.record(2L, 100L, 240_000L, BASE + 3_000);
+
+		// then
+		List<CandleView> product = aggregator.recent(CandleScope.PRODUCT, 100L, CandleInterval.MINUTE, BASE, BASE);
+		assertEquals(List.of(new CandleView(BASE, 270_000L, 270_000L, 240_000L, 240_000L, 3)), product);
+	}
+
+	@Test
+	@DisplayName("반영 대기 체결분은 한 번만 추출되고, 링 버퍼 슬롯이 재사용되어도 유실되지 않는다")
+	void drainDeltasTest() {
+		// given
+		CandleAggregator aggregator = new CandleAggregator();
+		int capacity = CandleInterval.MINUTE.getCapacity();
+		aggregator.record(1L, null, 250_000L, BASE + 1_000);
+		aggregator.record(1L, null, 251_000L, BASE + capacity * MINUTE + 1_000);
+
+		// when
+		List<CandleDelta> first = aggregator.drain();
+		List<CandleDelta> second = aggregator.drain();
+
+		// then
+		List<CandleDelta> minuteDeltas = first.stream()
+			.filter(delta -> delta.interval() == CandleInterval.MINUTE)
+			.toList();
+		assertEquals(2, minuteDeltas.size());
+		assertTrue(minuteDeltas.stream().anyMatch(delta -> delta.openTime() == BASE && delta.close() == 250_000L));
+		assertTrue(first.stream().noneMatch(delta -> delta.scope() == CandleScope.PRODUCT));
+		assertTrue(second.isEmpty());
+	}
+}
@@ -0,0 +1,103 @@
+package com.sparta.cream.domain.market.history;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * 일 단위로 분할된 체결 시계열 저장소의 기록과 조회를 검증하는 테스트 클래스입니다.
+ * 1. 여러 일자에 걸친 최근 체결 조회
+ * 2. 기간 조회 시 해당 일자 파일만 읽고 범위 밖 체결은 제외
+ * 3. 일부만 기록된 레코드의 무시
+ * TradeHistoryStoreTest.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+class TradeHistoryStoreTest {
+
+	private static final ZoneId ZONE = ZoneId.systemDefault();
+	private static final LocalDate DAY = LocalDate.of(2026, 10, 16);
+
+	@TempDir
+	Path historyDir;
+
+	@Test
+	@DisplayName("최근 체결은 일자를 거슬러 올라가며 최신순으로 조회된다")
+	void recentAcrossDaysTest() {
+		// given
+		TradeHistoryStore store = new TradeHistoryStore(true, historyDir.toString(), 400);
+		store.append(1L, List.of(tick(1L, 250_000L, DAY, 10), tick(2L, 251_000L, DAY, 11)));
+		store.append(1L, List.of(tick(3L, 252_000L, DAY.plusDays(1), 9)));
+		store.append(2L, List.of(tick(4L, 300_000L, DAY.plusDays(1), 9)));
+
+		// when
+		List<TradeTick> recent = store.recent(1L, 2);
+		List<TradeTick> all = store.recent(1L, 10);
+
+		// then
+		assertEquals(List.of(3L, 2L), recent.stream().map(TradeTick::tradeId).toList());
+		assertEquals(List.of(3L, 2L, 1L), all.stream().map(TradeTick::tradeId).toList());
+		store.destroy();
+	}
+
+	@Test
+	@DisplayName("기간 조회는 시작 시각 이상, 종료 시각 미만의 체결만 체결 순서대로 반환한다")
+	void rangeTest() {
+		// given
+		TradeHistoryStore store = new TradeHistoryStore(true, historyDir.toString(), 400);
+		store.append(1L, List.of(tick(1L, 250_000L, DAY, 10), tick(2L, 251_000L, DAY, 11)));
+		store.append(1L, List.of(tick(3L, 252_000L, DAY.plusDays(1), 9)));
+
+		// when
+		List<TradeTick> range = store.range(1L, millis(DAY, 11), millis(DAY.plusDays(1), 10));
+
+		// then
+		assertEquals(List.of(2L, 3L), range.stream().map(TradeTick::tradeId).toList());
+		store.destroy();
+	}
+
+	@Test
+	@DisplayName("일부만 기록된 마지막 레코드는 조회에서 제외되고 이후 기록으로 덮어쓰인다")
+	void tornRecordTest() throws Exception {
+		// given
+		TradeHistoryStore store = new TradeHistoryStore(true, historyDir.toString(), 400);
+		store.append(1L, List.of(tick(1L, 250_000L, DAY, 10)));
+		store.destroy();
+		Path file = historyDir.resolve(DAY.toString()).resolve("option-1.bin");
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+			channel.write(ByteBuffer.wrap(new byte[] {1, 2, 3}));
+		}
+
+		// when
+		TradeHistoryStore reopened = new TradeHistoryStore(true, historyDir.toString(), 400);
+		List<TradeTick> beforeAppend = reopened.recent(1L, 10);
+		reopened.append(1L, List.of(tick(2L, 251_000L, DAY, 11)));
+		List<TradeTick> afterAppend = reopened.recent(1L, 10);
+
+		// then
+		assertEquals(1, beforeAppend.size());
+		assertEquals(List.of(2L, 1L), afterAppend.stream().map(TradeTick::tradeId).toList());
+		assertEquals(TradeHistoryStore.RECORD_SIZE * 2L, Files.size(file));
+		reopened.destroy();
+	}
+
+	private TradeTick tick(long tradeId, long price, LocalDate day, int hour) {
+		return new TradeTick(tradeId, price, millis(day, hour));
+	}
+
+	private long millis(LocalDate day, int hour) {
+		return day.atTime(hour, 0).atZone(ZONE).toInstant().toEpochMilli();
+	}
+}
@@ -0,0 +1,98 @@
+package com.sparta.cream.domain.market.ranking;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.ScoredEntry;
+
+import com.sparta.cream.exception.BusinessException;
+
+/**
+ * ProductPopularityRanking의 인기도 갱신과 커서 조회 로직 테스트 클래스입니다.
+ * 1. 체결 건수에 가중치를 곱해 점수 증가 스크립트를 호출하는지
+ * 2. 커서와 같거나 앞선 항목을 건너뛰고 다음 위치부터 읽는지
+ * 3. 커서 문자열의 인코딩/디코딩과 잘못된 커서 처리
+ * ProductPopularityRankingTest.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductPopularityRankingTest {
+
+	@Mock
+	private RedissonClient redissonClient;
+
+	@Mock
+	private RScoredSortedSet<String> ranking;
+
+	@Mock
+	private RScript script;
+
+	private ProductPopularityRanking productPopularityRanking;
+
+	@BeforeEach
+	void setUp() {
+		productPopularityRanking = new ProductPopularityRanking(redissonClient, 24, 3, 1, 0.01);
+	}
+
+	@Test
+	@DisplayName("체결 건수에 체결 가중치를 곱한 값으로 점수 증가 스크립트를 호출한다")
+	void recordTradesAppliesWeight() {
+		// given
+		given(redissonClient.getScript(StringCodec.INSTANCE)).willReturn(script);
+
+		// when
+		productPopularityRanking.recordTrades(1L, 2);
+
+		// then
+		verify(script).eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.VALUE),
+			eq(List.<Object>of(ProductPopularityRanking.RANKING_KEY, ProductPopularityRanking.EPOCH_KEY)),
+			anyString(), eq(String.valueOf(24 * 60 * 60 * 1000L)), eq("6.0"), eq("1"));
+	}
+
+	@Test
+	@DisplayName("커서와 같은 점수의 항목 중 이미 반환한 항목은 건너뛰고 다음 위치부터 읽는다")
+	void afterSkipsEntriesUpToCursor() {
+		// given
+		given(redissonClient.<String>getScoredSortedSet(ProductPopularityRanking.RANKING_KEY, StringCodec.INSTANCE))
+			.willReturn(ranking);
+		given(ranking.entryRangeReversed(Double.NEGATIVE_INFINITY, true, 5.0, true, 0, 2))
+			.willReturn(List.of(new ScoredEntry<>(5.0, "9"), new ScoredEntry<>(5.0, "7")));
+		given(ranking.entryRangeReversed(Double.NEGATIVE_INFINITY, true, 5.0, true, 2, 2))
+			.willReturn(List.of(new ScoredEntry<>(5.0, "3"), new ScoredEntry<>(4.0, "8")));
+
+		// when
+		List<RankedProduct> ranked = productPopularityRanking.after(new PopularityCursor(5.0, 7L), 2);
+
+		// then
+		assertEquals(List.of(new RankedProduct(3L, 5.0), new RankedProduct(8L, 4.0)), ranked);
+	}
+
+	@Test
+	@DisplayName("커서는 점수와 상품 ID를 그대로 복원하고, 잘못된 커서는 예외가 발생한다")
+	void cursorRoundTrip() {
+		// given
+		PopularityCursor cursor = new PopularityCursor(1.2345678901234E10, 42L);
+
+		// when
+		PopularityCursor decoded = PopularityCursor.decode(cursor.encode());
+
+		// then
+		assertEquals(cursor, decoded);
+		assertNull(PopularityCursor.decode(null));
+		assertThrows(BusinessException.class, () -> PopularityCursor.decode("not-a-cursor"));
+	}
+}
@@ -0,0 +1,83 @@
+package com.sparta.cream.domain.market.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.sparta.cream.repository.ProductOptionRepository;
+
+/**
+ * LastMatchedPriceWriter의 지연 기록 재시도 규칙을 검증하는 테스트 클래스입니다.
+ * 1. 커밋 단계에서 실패한 체결가가 대기열로 돌아가 다음 주기에 다시 반영되는지
+ * 2. 실패 사이에 더 최신 체결가가 기록되면 되돌린 값이 최신 값을 덮어쓰지 않는지
+ * LastMatchedPriceWriterTest.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@ExtendWith(MockitoExtension.class)
+class LastMatchedPriceWriterTest {
+
+	@Mock
+	private ProductOptionRepository productOptionRepository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private LastMatchedPriceWriter lastMatchedPriceWriter;
+
+	@BeforeEach
+	void setUp() {
+		lastMatchedPriceWriter = new LastMatchedPriceWriter(productOptionRepository, transactionManager);
+		given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+	}
+
+	@Test
+	@DisplayName("커밋에 실패한 체결가는 대기열로 돌아가 다음 주기에 다시 반영된다")
+	void commitFailureRequeuesTest() {
+		// given
+		lastMatchedPriceWriter.record(1L, 200_000L);
+		willThrow(new TransactionSystemException("커밋 실패"))
+			.willDoNothing()
+			.given(transactionManager).commit(any(TransactionStatus.class));
+
+		// when
+		assertThatThrownBy(() -> lastMatchedPriceWriter.flush()).isInstanceOf(TransactionSystemException.class);
+		lastMatchedPriceWriter.flush();
+
+		// then
+		verify(productOptionRepository, times(2)).updateLastMatchedPrice(1L, BigDecimal.valueOf(200_000L));
+		verify(transactionManager, times(2)).commit(any(TransactionStatus.class));
+	}
+
+	@Test
+	@DisplayName("실패 사이에 기록된 더 최신 체결가는 되돌린 값으로 덮어쓰이지 않는다")
+	void newerPriceWinsOverRequeuedTest() {
+		// given
+		lastMatchedPriceWriter.record(1L, 200_000L);
+		willAnswer(invocation -> {
+			lastMatchedPriceWriter.record(1L, 210_000L);
+			throw new TransactionSystemException("커밋 실패");
+		}).willDoNothing().given(transactionManager).commit(any(TransactionStatus.class));
+
+		// when
+		assertThatThrownBy(() -> lastMatchedPriceWriter.flush()).isInstanceOf(TransactionSystemException.class);
+		lastMatchedPriceWriter.flush();
+
+		// then
+		verify(productOptionRepository).updateLastMatchedPrice(1L, BigDecimal.valueOf(200_000L));
+		verify(productOptionRepository).updateLastMatchedPrice(1L, BigDecimal.valueOf(210_000L));
+	}
+}
@@ -0,0 +1,216 @@
+package com.sparta.cream.domain.market.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.sparta.cream.domain.bid.entity.BidType;
+import com.sparta.cream.domain.market.candle.CandleAggregator;
+import com.sparta.cream.domain.market.candle.CandleScope;
+import com.sparta.cream.domain.market.dto.DepthResponseDto;
+import com.sparta.cream.domain.market.dto.RecentTradeResponseDto;
+import com.sparta.cream.domain.market.dto.TickerResponseDto;
+import com.sparta.cream.domain.market.history.TradeHistoryStore;
+import com.sparta.cream.domain.market.history.TradeTick;
+import com.sparta.cream.domain.market.repository.CandleRepository;
+import com.sparta.cream.domain.market.stream.MarketStreamHub;
+import com.sparta.cream.domain.trade.engine.DepthLevel;
+import com.sparta.cream.domain.trade.engine.OrderBook;
+import com.sparta.cream.domain.trade.engine.OrderBookRegistry;
+import com.sparta.cream.domain.trade.engine.RestingOrder;
+import com.sparta.cream.domain.trade.engine.TopOfBook;
+import com.sparta.cream.entity.ProductOption;
+import com.sparta.cream.exception.BusinessException;
+import com.sparta.cream.exception.MarketErrorCode;
+import com.sparta.cream.repository.ProductOptionRepository;
+import com.sparta.cream.repository.ProductRepository;
+
+/**
+ * MarketService 및 MarketTickerCache 의 시세 조회 로직 테스트 클래스입니다.
+ * 1. 호가창 변경에 따른 시세 캐시의 증분 갱신
+ * 2. 캐시된 시세를 이용한 옵션별 일괄 조회
+ * 3. 존재하지 않는 상품 조회 시 예외 처리
+ * 4. 적재된 호가창 기반의 호가 깊이 조회와 요청값 검증
+ * 5. 체결 시계열 기반의 최근 체결 조회
+ * 6. 캔들 조회 요청값 검증
+ * MarketServiceTest.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@ExtendWith(MockitoExtension.class)
+class MarketServiceTest {
+
+	@InjectMocks
+	private MarketService marketService;
+
+	@Mock
+	private ProductRepository productRepository;
+
+	@Mock
+	private ProductOptionRepository productOptionRepository;
+
+	@Mock
+	private OrderBookRegistry orderBookRegistry;
+
+	@Mock
+	private MarketTickerCache marketTickerCache;
+
+	@Mock
+	private TradeHistoryStore tradeHistoryStore;
+
+	@Mock
+	private CandleAggregator candleAggregator;
+
+	@Mock
+	private CandleRepository candleRepository;
+
+	@Mock
+	private MarketStreamHub marketStreamHub;
+
+	@Mock
+	private MarketSnapshotCache marketSnapshotCache;
+
+	@Test
+	@DisplayName("호가창의 등록/체결/취소로 최우선 호가가 바뀔 때마다 시세 캐시가 갱신된다")
+	void tickerCacheFollowsOrderBook() {
+		// given
+		MarketTickerCache cache = new MarketTickerCache();
+		OrderBook orderBook = new OrderBook(1L);
+		orderBook.add(new RestingOrder(1L, 250_000L, BidType.SELL, 1L));
+		orderBook.setListener(cache);
+
+		// when & then
+		assertEquals(new TopOfBook(null, 0, 250_000L, 1), cache.find(1L).orElseThrow());
+
+		orderBook.add(new RestingOrder(2L, 240_000L, BidType.SELL, 1L));
+		orderBook.add(new RestingOrder(3L, 240_000L, BidType.SELL, 1L));
+		orderBook.add(new RestingOrder(4L, 230_000L, BidType.BUY, 1L));
+		assertEquals(new TopOfBook(230_000L, 1, 240_000L, 2), cache.find(1L).orElseThrow());
+
+		orderBook.remove(2L);
+		orderBook.remove(3L);
+		assertEquals(new TopOfBook(230_000L, 1, 250_000L, 1), cache.find(1L).orElseThrow());
+
+		cache.onReset(1L);
+		assertTrue(cache.find(1L).isEmpty());
+	}
+
+	@Test
+	@DisplayName("상품의 모든 옵션 시세를 캐시에서 읽고, 적재되지 않은 옵션만 호가창을 적재한다")
+	void getTickersSuccess() {
+		// given
+		ProductOption cached = createOption(10L, "260");
+		ProductOption notLoaded = createOption(11L, "270");
+		OrderBook emptyBook = new OrderBook(11L);
+
+		given(productOptionRepository.findAllByProductId(1L)).willReturn(List.of(cached, notLoaded));
+		given(marketTickerCache.find(10L)).willReturn(Optional.of(new TopOfBook(200_000L, 2, 210_000L, 1)));
+		given(marketTickerCache.find(11L)).willReturn(Optional.empty());
+		given(orderBookRegistry.getOrLoad(11L)).willReturn(emptyBook);
+
+		// when
+		List<TickerResponseDto> tickers = marketService.getTickers(1L);
+
+		// then
+		assertEquals(2, tickers.size());
+		assertEquals(210_000L, tickers.get(0).getInstantBuyPrice());
+		assertEquals(200_000L, tickers.get(0).getInstantSellPrice());
+		assertEquals(2, tickers.get(0).getInstantSellCount());
+		assertNull(tickers.get(1).getInstantBuyPrice());
+		assertNull(tickers.get(1).getInstantSellPrice());
+		verify(orderBookRegistry, never()).getOrLoad(10L);
+	}
+
+	@Test
+	@DisplayName("존재하지 않는 상품의 시세를 조회하면 예외가 발생한다")
+	void getTickersFail_productNotFound() {
+		// given
+		given(productOptionRepository.findAllByProductId(99L)).willReturn(List.of());
+		given(productRepository.existsById(99L)).willReturn(false);
+
+		// when & then
+		assertThrows(BusinessException.class, () -> marketService.getTickers(99L));
+	}
+
+	@Test
+	@DisplayName("적재된 호가창의 호가 깊이는 DB 조회 없이 가격 구간별 수량으로 반환된다")
+	void getDepthSuccess() {
+		// given
+		ReflectionTestUtils.setField(marketService, "maxDepthLevels", 50);
+		OrderBook orderBook = new OrderBook(1L);
+		orderBook.add(new RestingOrder(1L, 250_000L, BidType.SELL, 1L));
+		orderBook.add(new RestingOrder(2L, 250_000L, BidType.SELL, 1L));
+		orderBook.add(new RestingOrder(3L, 240_000L, BidType.BUY, 1L));
+		given(orderBookRegistry.find(1L)).willReturn(Optional.of(orderBook));
+
+		// when
+		DepthResponseDto depth = marketService.getDepth(1L, 10, 0L);
+
+		// then
+		assertEquals(List.of(new DepthLevel(240_000L, 1)), depth.getBuyLevels());
+		assertEquals(List.of(new DepthLevel(250_000L, 2)), depth.getSellLevels());
+		verify(productOptionRepository, never()).existsById(any());
+	}
+
+	@Test
+	@DisplayName("최대 구간 수를 넘는 호가 깊이 요청은 예외가 발생한다")
+	void getDepthFail_tooManyLevels() {
+		// given
+		ReflectionTestUtils.setField(marketService, "maxDepthLevels", 50);
+
+		// when & then
+		BusinessException exception = assertThrows(BusinessException.class, () -> marketService.getDepth(1L, 51, 0L));
+		assertEquals(MarketErrorCode.INVALID_DEPTH_REQUEST, exception.getErrorCode());
+		verify(orderBookRegistry, never()).find(any());
+	}
+
+	@Test
+	@DisplayName("최근 체결은 trade 테이블 조회 없이 체결 시계열에서 최신순으로 반환된다")
+	void getRecentTradesSuccess() {
+		// given
+		ReflectionTestUtils.setField(marketService, "maxRecentTrades", 100);
+		given(tradeHistoryStore.recent(1L, 2)).willReturn(List.of(
+			new TradeTick(11L, 252_000L, 1_700_000_060_000L),
+			new TradeTick(10L, 250_000L, 1_700_000_000_000L)
+		));
+
+		// when
+		List<RecentTradeResponseDto> trades = marketService.getRecentTrades(1L, 2);
+
+		// then
+		assertEquals(2, trades.size());
+		assertEquals(252_000L, trades.get(0).getPrice());
+		assertTrue(trades.get(0).getMatchedAt().isAfter(trades.get(1).getMatchedAt()));
+		verify(productOptionRepository, never()).existsById(any());
+	}
+
+	@Test
+	@DisplayName("지원하지 않는 캔들 단위로 조회하면 예외가 발생한다")
+	void getCandlesFail_invalidInterval() {
+		// given
+		ReflectionTestUtils.setField(marketService, "maxCandleCount", 500);
+
+		// when & then
+		BusinessException exception = assertThrows(BusinessException.class,
+			() -> marketService.getCandles(CandleScope.OPTION, 1L, "5m", null, 100));
+		assertEquals(MarketErrorCode.INVALID_CANDLE_REQUEST, exception.getErrorCode());
+		verifyNoInteractions(candleAggregator, candleRepository);
+	}
+
+	private ProductOption createOption(Long id, String size) {
+		ProductOption option = ProductOption.builder().size(size).build();
+		ReflectionTestUtils.setField(option, "id", id);
+		return option;
+	}
+}
@@ -0,0 +1,100 @@
+package com.sparta.cream.domain.market.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sparta.cream.domain.market.dto.MarketSnapshotResponseDto;
+import com.sparta.cream.domain.market.dto.TickerResponseDto;
+import com.sparta.cream.domain.market.history.TradeTick;
+import com.sparta.cream.domain.trade.engine.TopOfBook;
+
+/**
+ * MarketSnapshotCache의 버전 관리 로직 테스트 클래스입니다.
+ * 1. 변경이 없으면 스냅샷을 다시 생성하지 않고 같은 ETag를 유지하는지
+ * 2. 상품 옵션의 호가/체결 변경 시 새 ETag로 다시 생성하는지
+ * 3. 보관 주기가 지나면 변경이 없어도 다시 생성하는지
+ * MarketSnapshotCacheTest.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+class MarketSnapshotCacheTest {
+
+	@Test
+	@DisplayName("변경이 없으면 스냅샷을 재사용하고, 다른 상품의 변경은 영향을 주지 않는다")
+	void reuseWhenUnchanged() {
+		// given
+		MarketSnapshotCache cache = new MarketSnapshotCache(60_000L);
+		AtomicInteger builds = new AtomicInteger();
+		MarketSnapshotCache.MarketSnapshot first = cache.getOrBuild(1L, counting(builds));
+
+		// when
+		cache.onTopOfBookChanged(99L, TopOfBook.EMPTY);
+		MarketSnapshotCache.MarketSnapshot second = cache.getOrBuild(1L, counting(builds));
+
+		// then
+		assertEquals(1, builds.get());
+		assertSame(first, second);
+		assertTrue(first.etag().startsWith("\"1-"));
+	}
+
+	@Test
+	@DisplayName("상품 옵션의 최우선 호가나 체결이 바뀌면 새 ETag로 다시 생성한다")
+	void rebuildWhenOptionChanged() {
+		// given
+		MarketSnapshotCache cache = new MarketSnapshotCache(60_000L);
+		AtomicInteger builds = new AtomicInteger();
+		String initial = cache.getOrBuild(1L, counting(builds)).etag();
+
+		// when
+		cache.onTopOfBookChanged(10L, new TopOfBook(200_000L, 1, null, 0));
+		String afterQuote = cache.getOrBuild(1L, counting(builds)).etag();
+		cache.recordTrade(11L, new TradeTick(7L, 210_000L, 1_000L));
+		String afterTrade = cache.getOrBuild(1L, counting(builds)).etag();
+
+		// then
+		assertEquals(3, builds.get());
+		assertNotEquals(initial, afterQuote);
+		assertNotEquals(afterQuote, afterTrade);
+		assertEquals(210_000L, cache.lastTrade(11L).orElseThrow().price());
+	}
+
+	@Test
+	@DisplayName("보관 주기가 지나면 변경이 없어도 다시 생성한다")
+	void rebuildAfterMaxAge() {
+		// given
+		MarketSnapshotCache cache = new MarketSnapshotCache(0L);
+		AtomicInteger builds = new AtomicInteger();
+		cache.getOrBuild(1L, counting(builds));
+
+		// when
+		cache.getOrBuild(1L, counting(builds));
+
+		// then
+		assertEquals(2, builds.get());
+	}
+
+	private Function<Long, MarketSnapshotResponseDto> counting(AtomicInteger builds) {
+		return productId -> {
+			builds.incrementAndGet();
+			return MarketSnapshotResponseDto.builder()
+				.productId(productId)
+				.tickers(List.of(ticker(10L), ticker(11L)))
+				.volume24h(0)
+				.build();
+		};
+	}
+
+	private TickerResponseDto ticker(Long productOptionId) {
+		return TickerResponseDto.builder()
+			.productOptionId(productOptionId)
+			.size("260")
+			.build();
+	}
+}
@@ -0,0 +1,113 @@
+package com.sparta.cream.domain.market.stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import com.sparta.cream.domain.bid.entity.BidType;
+import com.sparta.cream.domain.market.history.TradeTick;
+import com.sparta.cream.domain.trade.engine.OrderBook;
+import com.sparta.cream.domain.trade.engine.RestingOrder;
+import com.sparta.cream.repository.ProductOptionRepository;
+
+/**
+ * MarketStreamPublisher의 시세 증분 발행 로직 테스트 클래스입니다.
+ * 1. 같은 가격 레벨의 변경이 마지막 주문 수로 합쳐져 상품별 메시지 하나로 발행되는지
+ * 2. 발행 실패 후 다음 메시지에 재동기화가 표시되는지
+ * MarketStreamPublisherTest.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@ExtendWith(MockitoExtension.class)
+class MarketStreamPublisherTest {
+
+	private MarketStreamPublisher marketStreamPublisher;
+
+	@Mock
+	private RedisTemplate<String, MarketDeltaMessage> marketRedisTemplate;
+
+	@Mock
+	private StringRedisTemplate stringRedisTemplate;
+
+	@Mock
+	private ProductOptionRepository productOptionRepository;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	@BeforeEach
+	void setUp() {
+		marketStreamPublisher = new MarketStreamPublisher(marketRedisTemplate, stringRedisTemplate, productOptionRepository);
+	}
+
+	@Test
+	@DisplayName("발행 주기 동안의 레벨 변경은 레벨별 마지막 주문 수로 합쳐져 상품당 메시지 하나로 발행된다")
+	void flushCoalescesLevelsPerProduct() {
+		// given
+		OrderBook orderBook = new OrderBook(10L);
+		orderBook.setListener(marketStreamPublisher);
+		orderBook.add(new RestingOrder(1L, 250_000L, BidType.SELL, 1L));
+		orderBook.add(new RestingOrder(2L, 250_000L, BidType.SELL, 1L));
+		orderBook.add(new RestingOrder(3L, 240_000L, BidType.BUY, 1L));
+		orderBook.remove(3L);
+		marketStreamPublisher.publishTrades(10L, 1L, List.of(new TradeTick(7L, 245_000L, 1_000L)));
+
+		given(productOptionRepository.findProductIdById(10L)).willReturn(Optional.of(1L));
+		given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+		given(valueOperations.increment("market:seq:1")).willReturn(5L);
+
+		// when
+		marketStreamPublisher.flush();
+
+		// then
+		ArgumentCaptor<MarketDeltaMessage> captor = ArgumentCaptor.forClass(MarketDeltaMessage.class);
+		verify(marketRedisTemplate, times(1)).convertAndSend(eq(MarketStreamPublisher.CHANNEL), captor.capture());
+		MarketDeltaMessage message = captor.getValue();
+		assertEquals(1L, message.productId());
+		assertEquals(5L, message.sequence());
+		assertFalse(message.resync());
+		assertEquals(List.of(
+			new MarketDeltaMessage.Level(10L, BidType.SELL, 250_000L, 2),
+			new MarketDeltaMessage.Level(10L, BidType.BUY, 240_000L, 0)
+		), message.levels());
+		assertEquals(List.of(new MarketDeltaMessage.Trade(10L, 245_000L, 1_000L)), message.trades());
+	}
+
+	@Test
+	@DisplayName("발행에 실패한 상품은 다음 메시지에 재동기화가 표시된다")
+	void flushMarksResyncAfterFailure() {
+		// given
+		given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+		given(valueOperations.increment("market:seq:1"))
+			.willThrow(new IllegalStateException("redis down"))
+			.willReturn(6L);
+
+		marketStreamPublisher.publishTrades(10L, 1L, List.of(new TradeTick(7L, 245_000L, 1_000L)));
+		marketStreamPublisher.flush();
+
+		// when
+		marketStreamPublisher.publishTrades(10L, 1L, List.of(new TradeTick(8L, 246_000L, 2_000L)));
+		marketStreamPublisher.flush();
+
+		// then
+		ArgumentCaptor<MarketDeltaMessage> captor = ArgumentCaptor.forClass(MarketDeltaMessage.class);
+		verify(marketRedisTemplate, times(1)).convertAndSend(eq(MarketStreamPublisher.CHANNEL), captor.capture());
+		assertEquals(6L, captor.getValue().sequence());
+		assertTrue(captor.getValue().resync());
+		assertEquals(List.of(new MarketDeltaMessage.Trade(10L, 246_000L, 2_000L)), captor.getValue().trades());
+	}
+}
@@ -1,8 +1,13 @@
 package com.sparta.cream.domain.notification.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -89,4 +94,54 @@ class NotificationServiceTest {
 
 		assertThat(target.getUserId()).isEqualTo(userId);
 	}
+
+	/**
+	 * 알림은 트랜잭션이 커밋된 뒤에만 Redis 채널로 발행되는지 검증합니다.
+	 * 테스트 트랜잭션은 커밋되지 않고 롤백되므로, 저장된 알림이 있어도 발행되지 않아야 합니다.
+	 */
+	@Test
+	@DisplayName("알림 발행 테스트 - 커밋되지 않은 알림은 Redis 채널로 발행되지 않아야 함")
+	void createNotification_PublishesOnlyAfterCommit() throws InterruptedException {
+		// when
+		notificationService.createNotification(
+			1L,
+			NotificationType.TRADE_CANCELLED,
+			"테스트 제목",
+			"롤백될 알림입니다.",
+			1L
+		);
+
+		Thread.sleep(100);
+
+		// then
+		verify(notificationRedisTemplate, never()).convertAndSend(anyString(), any());
+	}
+
+	/**
+	 * 다른 소비자의 실패로 같은 아웃박스 행이 다시 전달되어도 알림은 한 번만 저장되는지 검증합니다.
+	 * 같은 행이라도 수신자나 참조 ID가 다르면 각각 저장되어야 합니다.
+	 */
+	@Test
+	@DisplayName("아웃박스 알림 생성 테스트 - 같은 행이 다시 전달되어도 알림은 한 번만 저장되어야 함")
+	void createNotificationOnce_SkipsRedelivery() {
+		// given
+		notificationService.createNotificationOnce(10L, 1L, NotificationType.TRADE_MATCH, "거래 체결 완료", "첫 전달", 5L);
+
+		// when
+		Optional<Notification> redelivered = notificationService.createNotificationOnce(
+			10L, 1L, NotificationType.TRADE_MATCH, "거래 체결 완료", "재전달", 5L);
+		Optional<Notification> seller = notificationService.createNotificationOnce(
+			10L, 2L, NotificationType.TRADE_MATCH, "거래 체결 완료", "재전달", 5L);
+		Optional<Notification> payment = notificationService.createNotificationOnce(
+			11L, 1L, NotificationType.PAYMENT_COMPLETE, "결제 완료", "첫 전달", null);
+		Optional<Notification> paymentRedelivered = notificationService.createNotificationOnce(
+			11L, 1L, NotificationType.PAYMENT_COMPLETE, "결제 완료", "재전달", null);
+
+		// then
+		assertThat(redelivered).isEmpty();
+		assertThat(seller).isPresent();
+		assertThat(payment).isPresent();
+		assertThat(paymentRedelivered).isEmpty();
+		assertThat(notificationRepository.findAll()).hasSize(3);
+	}
 }
@@ -0,0 +1,123 @@
+package com.sparta.cream.domain.trade.engine;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * MatchingExecutor의 결과 반환 작업 취소 규칙과 샤드 큐 상한을 검증하는 테스트 클래스입니다.
+ * 1. 샤드 큐에서 대기 중인 작업은 취소되고 실행되지 않는지
+ * 2. 이미 실행을 시작한 작업은 취소되지 않고 끝까지 실행되어 결과를 전달하는지
+ * 3. 샤드 큐가 가득 차 거절된 작업의 상품 옵션이 재대조 대상으로 기록되는지
+ * MatchingExecutorTest.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+class MatchingExecutorTest {
+
+	private MatchingMetrics matchingMetrics;
+	private MatchingExecutor matchingExecutor;
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	@BeforeEach
+	void setUp() {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		matchingMetrics = mock(MatchingMetrics.class);
+		matchingExecutor = new MatchingExecutor(1, 1, matchingMetrics, meterRegistry);
+	}
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		release.countDown();
+		matchingExecutor.destroy();
+	}
+
+	@Test
+	@DisplayName("샤드 큐에서 대기 중인 작업은 취소되고, 샤드 차례가 와도 실행되지 않는다")
+	void cancelQueuedTaskTest() throws InterruptedException {
+		// given
+		CountDownLatch started = new CountDownLatch(1);
+		matchingExecutor.submit(1L, () -> {
+			started.countDown();
+			return awaitRelease();
+		});
+		assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+		AtomicBoolean ran = new AtomicBoolean();
+		CompletableFuture<Boolean> queued = matchingExecutor.submit(1L, () -> ran.compareAndSet(false, true));
+
+		// when
+		boolean cancelled = queued.cancel(false);
+		release.countDown();
+		matchingExecutor.destroy();
+
+		// then
+		assertThat(cancelled).isTrue();
+		assertThat(queued.isCancelled()).isTrue();
+		assertThat(ran.get()).isFalse();
+	}
+
+	@Test
+	@DisplayName("이미 실행을 시작한 작업은 취소되지 않고 끝까지 실행되어 결과를 전달한다")
+	void startedTaskIsNotCancelledTest() throws InterruptedException {
+		// given
+		CountDownLatch started = new CountDownLatch(1);
+		CompletableFuture<Boolean> running = matchingExecutor.submit(1L, () -> {
+			started.countDown();
+			return awaitRelease();
+		});
+		assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+		// when
+		boolean cancelled = running.cancel(false);
+		release.countDown();
+
+		// then
+		assertThat(cancelled).isFalse();
+		assertThat(running.join()).isTrue();
+	}
+
+	@Test
+	@DisplayName("샤드 큐가 가득 차 거절된 작업의 상품 옵션은 재대조 대상으로 한 번만 반환된다")
+	void rejectedOptionIsDrainedTest() throws InterruptedException {
+		// given
+		CountDownLatch started = new CountDownLatch(1);
+		matchingExecutor.execute(1L, () -> {
+			started.countDown();
+			awaitRelease();
+		});
+		assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+		matchingExecutor.execute(1L, () -> { });
+
+		// when
+		matchingExecutor.execute(1L, () -> { });
+		CompletableFuture<Boolean> rejected = matchingExecutor.submit(2L, () -> true);
+
+		// then
+		assertThat(rejected).isCompletedExceptionally();
+		verify(matchingMetrics).incrementShardRejection(1L);
+		verify(matchingMetrics).incrementShardRejection(2L);
+		assertThat(matchingExecutor.drainRejected()).containsExactly(1L);
+		assertThat(matchingExecutor.drainRejected()).isEmpty();
+	}
+
+	private boolean awaitRelease() {
+		try {
+			return release.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
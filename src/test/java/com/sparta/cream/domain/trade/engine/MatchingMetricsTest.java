@@ -0,0 +1,80 @@
+package com.sparta.cream.domain.trade.engine;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * MatchingMetrics의 활성도 구간 분류와 지표 기록을 검증하는 테스트 클래스입니다.
+ * 1. 호가창 깊이에 따라 cold/warm/hot 구간으로 분류되는지
+ * 2. 지표가 해당 구간 태그의 미터에만 기록되는지
+ * MatchingMetricsTest.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+class MatchingMetricsTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private OrderBookRegistry orderBookRegistry;
+	private MatchingMetrics matchingMetrics;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		orderBookRegistry = mock(OrderBookRegistry.class);
+		matchingMetrics = new MatchingMetrics(meterRegistry, orderBookRegistry);
+	}
+
+	@Test
+	@DisplayName("호가창 깊이에 따라 활성도 구간이 나뉘고, 적재되지 않은 호가창은 cold로 분류된다")
+	void hotnessOfTest() {
+		// given
+		givenDepth(1L, 99);
+		givenDepth(2L, 100);
+		givenDepth(3L, 10_000);
+		when(orderBookRegistry.find(4L)).thenReturn(Optional.empty());
+
+		// when & then
+		assertThat(matchingMetrics.hotnessOf(1L)).isEqualTo(MatchingMetrics.Hotness.COLD);
+		assertThat(matchingMetrics.hotnessOf(2L)).isEqualTo(MatchingMetrics.Hotness.WARM);
+		assertThat(matchingMetrics.hotnessOf(3L)).isEqualTo(MatchingMetrics.Hotness.HOT);
+		assertThat(matchingMetrics.hotnessOf(4L)).isEqualTo(MatchingMetrics.Hotness.COLD);
+	}
+
+	@Test
+	@DisplayName("지표는 상품 옵션의 활성도 구간 태그로만 기록된다")
+	void recordByHotnessTagTest() {
+		// given
+		givenDepth(1L, 20_000);
+
+		// when
+		matchingMetrics.recordMatchDuration(1L, TimeUnit.MILLISECONDS.toNanos(5));
+		matchingMetrics.incrementOptimisticLockConflict(1L);
+		matchingMetrics.recordCandidatesScanned(1L, 3);
+
+		// then
+		assertThat(meterRegistry.get("cream.matching.match.duration").tag("hotness", "hot").timer().count())
+			.isEqualTo(1L);
+		assertThat(meterRegistry.get("cream.matching.match.duration").tag("hotness", "cold").timer().count())
+			.isZero();
+		assertThat(meterRegistry.get("cream.matching.optimistic.conflicts").tag("hotness", "hot").counter().count())
+			.isEqualTo(1.0);
+		assertThat(meterRegistry.get("cream.matching.candidates.scanned").tag("hotness", "hot").summary().totalAmount())
+			.isEqualTo(3.0);
+	}
+
+	private void givenDepth(Long productOptionId, int depth) {
+		OrderBook orderBook = mock(OrderBook.class);
+		when(orderBook.size()).thenReturn(depth);
+		when(orderBookRegistry.find(productOptionId)).thenReturn(Optional.of(orderBook));
+	}
+}
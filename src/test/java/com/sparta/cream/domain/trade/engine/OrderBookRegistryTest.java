@@ -0,0 +1,79 @@
+package com.sparta.cream.domain.trade.engine;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.sparta.cream.domain.bid.repository.BidRepository;
+
+/**
+ * OrderBookRegistry의 호가창 적재를 검증하는 테스트 클래스입니다.
+ * 1. 같은 옵션을 여러 가상 스레드가 동시에 요청해도 DB 적재는 한 번만 일어나고 같은 호가창을 받는지
+ * 2. 스냅샷으로 복원된 호가창이 있으면 DB에서 다시 적재하지 않는지
+ * OrderBookRegistryTest.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderBookRegistryTest {
+
+	@Mock
+	private BidRepository bidRepository;
+
+	@Test
+	@DisplayName("같은 옵션을 동시에 요청하면 한 번만 적재하고 모든 요청이 같은 호가창을 받는다")
+	void concurrentLoadOnceTest() throws Exception {
+		// given
+		CountDownLatch loading = new CountDownLatch(1);
+		given(bidRepository.findPendingByProductOptionId(1L)).willAnswer(invocation -> {
+			loading.await();
+			return List.of();
+		});
+		OrderBookRegistry registry = new OrderBookRegistry(bidRepository, List.of());
+		List<Future<OrderBook>> results = new ArrayList<>();
+
+		// when
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < 100; i++) {
+				results.add(executor.submit(() -> registry.getOrLoad(1L)));
+			}
+			loading.countDown();
+		}
+
+		// then
+		OrderBook first = results.get(0).get();
+		for (Future<OrderBook> result : results) {
+			assertThat(result.get()).isSameAs(first);
+		}
+		verify(bidRepository, times(1)).findPendingByProductOptionId(1L);
+	}
+
+	@Test
+	@DisplayName("복원된 호가창이 있으면 DB에서 다시 적재하지 않는다")
+	void restoredBookIsNotReloadedTest() {
+		// given
+		OrderBookRegistry registry = new OrderBookRegistry(bidRepository, List.of());
+		OrderBook restored = new OrderBook(1L);
+		registry.restore(restored);
+
+		// when
+		OrderBook book = registry.getOrLoad(1L);
+
+		// then
+		assertThat(book).isSameAs(restored);
+		verify(bidRepository, never()).findPendingByProductOptionId(anyLong());
+	}
+}
@@ -0,0 +1,146 @@
+package com.sparta.cream.domain.trade.engine;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.sparta.cream.domain.bid.entity.BidType;
+import com.sparta.cream.domain.bid.repository.BidRepository;
+
+/**
+ * 매칭 저널과 호가창 스냅샷을 이용한 재시작 복원 과정을 검증하는 테스트 클래스입니다.
+ * 1. 스냅샷 이후의 저널 재생으로 호가창이 동일한 우선순위로 복원되는지
+ * 2. 폐기(RESET)된 호가창은 복원 대상에서 제외되는지
+ * 3. 스냅샷에 포함된 구간의 저널 세그먼트가 정리되는지
+ * 4. 가격 정정(AMEND) 이벤트 재생 시 정정 방향에 따른 시간 우선순위가 그대로 복원되는지
+ * OrderBookSnapshotterTest.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+class OrderBookSnapshotterTest {
+
+	private static final int SEGMENT_SIZE = MatchingJournal.RECORD_SIZE * 10;
+
+	@TempDir
+	Path journalDir;
+
+	/**
+	 * 스냅샷 이후에 발생한 등록/취소/체결 이벤트가 재시작 시 재생되어
+	 * 종료 직전과 같은 주문이 같은 순서로 복원되는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("스냅샷과 저널 재생으로 종료 직전의 호가창이 복원된다")
+	void recoverFromSnapshotAndJournalTest() throws Exception {
+		// given
+		MatchingJournal journal = new MatchingJournal(true, journalDir.toString(), SEGMENT_SIZE);
+		OrderBookRegistry registry = new OrderBookRegistry(emptyBidRepository(), List.of(journal));
+		OrderBookSnapshotter snapshotter = new OrderBookSnapshotter(journal, registry);
+		assertTrue(snapshotter.recover().isEmpty());
+
+		OrderBook book = registry.getOrLoad(1L);
+		for (long bidId = 1; bidId <= 8; bidId++) {
+			book.add(new RestingOrder(bidId, 250_000L + bidId % 3, bidId % 2 == 0 ? BidType.BUY : BidType.SELL, 100L + bidId));
+		}
+		book.remove(3L, BookEventType.MATCH);
+		snapshotter.snapshot();
+
+		registry.getOrLoad(2L).add(new RestingOrder(50L, 300_000L, BidType.SELL, 150L));
+		for (long bidId = 9; bidId <= 20; bidId++) {
+			book.add(new RestingOrder(bidId, 250_000L + bidId % 3, bidId % 2 == 0 ? BidType.BUY : BidType.SELL, 100L + bidId));
+		}
+		book.remove(4L);
+		book.remove(9L, BookEventType.MATCH);
+		registry.evict(2L);
+		List<RestingOrder> expected = book.orders();
+		journal.destroy();
+
+		// when
+		MatchingJournal restartedJournal = new MatchingJournal(true, journalDir.toString(), SEGMENT_SIZE);
+		OrderBookRegistry restartedRegistry = new OrderBookRegistry(emptyBidRepository(), List.of(restartedJournal));
+		Map<Long, OrderBook> recovered = new OrderBookSnapshotter(restartedJournal, restartedRegistry)
+			.recover()
+			.orElseThrow();
+
+		// then
+		assertEquals(java.util.Set.of(1L), recovered.keySet());
+		assertEquals(expected, recovered.get(1L).orders());
+		assertEquals(journal.lastSequence(), restartedJournal.lastSequence());
+	}
+
+	/**
+	 * 스냅샷 이후의 가격 정정이 재생될 때, 덜 공격적인 정정은 기존 시간 우선순위를 유지하고
+	 * 더 공격적인 정정은 새 가격대의 맨 뒤로 이동한 상태로 복원되는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("가격 정정 이벤트 재생으로 정정 후 우선순위가 그대로 복원된다")
+	void recoverAmendedOrdersTest() throws Exception {
+		// given
+		MatchingJournal journal = new MatchingJournal(true, journalDir.toString(), SEGMENT_SIZE);
+		OrderBookRegistry registry = new OrderBookRegistry(emptyBidRepository(), List.of(journal));
+		OrderBookSnapshotter snapshotter = new OrderBookSnapshotter(journal, registry);
+		snapshotter.recover();
+
+		OrderBook book = registry.getOrLoad(1L);
+		book.add(new RestingOrder(1L, 250_000L, BidType.BUY, 101L));
+		book.add(new RestingOrder(2L, 260_000L, BidType.BUY, 102L));
+		book.add(new RestingOrder(3L, 260_000L, BidType.BUY, 103L));
+		snapshotter.snapshot();
+
+		book.amend(2L, 250_000L);
+		book.amend(1L, 260_000L);
+		List<RestingOrder> expected = book.orders();
+		journal.destroy();
+
+		// when
+		MatchingJournal restartedJournal = new MatchingJournal(true, journalDir.toString(), SEGMENT_SIZE);
+		OrderBookRegistry restartedRegistry = new OrderBookRegistry(emptyBidRepository(), List.of(restartedJournal));
+		Map<Long, OrderBook> recovered = new OrderBookSnapshotter(restartedJournal, restartedRegistry)
+			.recover()
+			.orElseThrow();
+
+		// then
+		assertEquals(List.of(3L, 1L, 2L), expected.stream().map(RestingOrder::bidId).toList());
+		assertEquals(expected, recovered.get(1L).orders());
+	}
+
+	/**
+	 * 스냅샷 생성 후 스냅샷 시퀀스 이하의 레코드만 담긴 세그먼트가 삭제되어
+	 * 복구 시 재생할 저널이 마지막 스냅샷 이후로 한정되는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("스냅샷에 포함된 구간의 저널 세그먼트는 삭제된다")
+	void truncateJournalAfterSnapshotTest() throws Exception {
+		// given
+		MatchingJournal journal = new MatchingJournal(true, journalDir.toString(), SEGMENT_SIZE);
+		OrderBookRegistry registry = new OrderBookRegistry(emptyBidRepository(), List.of(journal));
+		OrderBookSnapshotter snapshotter = new OrderBookSnapshotter(journal, registry);
+		snapshotter.recover();
+
+		OrderBook book = registry.getOrLoad(1L);
+		for (long bidId = 1; bidId <= 25; bidId++) {
+			book.add(new RestingOrder(bidId, 250_000L, BidType.SELL, 100L + bidId));
+		}
+
+		// when
+		snapshotter.snapshot();
+
+		// then
+		long[] replayed = {0};
+		journal.replay(0L, entry -> replayed[0]++);
+		assertEquals(5, replayed[0]);
+	}
+
+	private BidRepository emptyBidRepository() {
+		BidRepository bidRepository = mock(BidRepository.class);
+		when(bidRepository.findPendingByProductOptionId(anyLong())).thenReturn(List.of());
+		return bidRepository;
+	}
+}
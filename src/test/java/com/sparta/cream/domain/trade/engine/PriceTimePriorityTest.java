@@ -0,0 +1,115 @@
+package com.sparta.cream.domain.trade.engine;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sparta.cream.domain.bid.entity.BidType;
+
+/**
+ * PriceTimePriority 및 호가창의 가격-시간 우선순위를 검증하는 테스트 클래스입니다.
+ * 1. 정수 기반 가격 교차 판단
+ * 2. 고가(수백만 원 이상) 구간에서의 정확한 점수 표현
+ * 3. 같은 가격 안에서의 선착순 보장
+ * 4. 가격 단위 구간으로 묶은 호가 깊이 조회
+ * PriceTimePriorityTest.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+class PriceTimePriorityTest {
+
+	/**
+	 * 구매/판매 방향별 교차 조건이 경계값에서도 정확히 판단되는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("구매는 판매가 이하, 판매는 구매가 이상일 때만 체결 가능하다")
+	void crossesTest() {
+		assertTrue(PriceTimePriority.crosses(BidType.BUY, 250_000L, 250_000L));
+		assertTrue(PriceTimePriority.crosses(BidType.BUY, 250_001L, 250_000L));
+		assertFalse(PriceTimePriority.crosses(BidType.BUY, 249_999L, 250_000L));
+
+		assertTrue(PriceTimePriority.crosses(BidType.SELL, 250_000L, 250_000L));
+		assertTrue(PriceTimePriority.crosses(BidType.SELL, 249_999L, 250_000L));
+		assertFalse(PriceTimePriority.crosses(BidType.SELL, 250_001L, 250_000L));
+	}
+
+	/**
+	 * 기존 실수 가중치 방식은 고가에서 1원 차이와 시간 가중치를 구분하지 못했지만,
+	 * 정수 점수는 1원 차이도 정확히 구분하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("수십억 원 가격에서도 1원 차이가 점수에 정확히 반영된다")
+	void redisScoreIsExactForLargePricesTest() {
+		// given
+		long price = 9_876_543_210L;
+
+		// when
+		double sellScore = PriceTimePriority.redisScore(BidType.SELL, price);
+		double nextSellScore = PriceTimePriority.redisScore(BidType.SELL, price + 1);
+		double buyScore = PriceTimePriority.redisScore(BidType.BUY, price);
+
+		// then
+		assertEquals(price, (long)sellScore);
+		assertEquals(-price, (long)buyScore);
+		assertTrue(sellScore < nextSellScore);
+		assertThrows(IllegalArgumentException.class,
+			() -> PriceTimePriority.redisScore(BidType.SELL, PriceTimePriority.MAX_EXACT_PRICE + 1));
+	}
+
+	/**
+	 * 호가창에서 가격이 우선하고, 같은 가격 안에서는 먼저 등록된 주문이 우선하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("같은 가격의 주문은 먼저 등록된 순서대로 체결 후보가 된다")
+	void orderBookKeepsPriceTimePriorityTest() {
+		// given
+		OrderBook orderBook = new OrderBook(1L);
+		orderBook.add(new RestingOrder(10L, 3_000_000L, BidType.SELL, 1L));
+		orderBook.add(new RestingOrder(11L, 2_999_999L, BidType.SELL, 1L));
+		orderBook.add(new RestingOrder(12L, 2_999_999L, BidType.SELL, 1L));
+		orderBook.add(new RestingOrder(20L, 2_000_000L, BidType.BUY, 1L));
+		orderBook.add(new RestingOrder(21L, 2_000_001L, BidType.BUY, 1L));
+
+		// when & then
+		assertEquals(11L, orderBook.bestOpposite(BidType.BUY).bidId());
+		orderBook.remove(11L);
+		assertEquals(12L, orderBook.bestOpposite(BidType.BUY).bidId());
+		orderBook.remove(12L);
+		assertEquals(10L, orderBook.bestOpposite(BidType.BUY).bidId());
+
+		assertEquals(21L, orderBook.bestOpposite(BidType.SELL).bidId());
+	}
+
+	/**
+	 * 가격 단위로 묶은 호가 깊이가 구매는 내림, 판매는 올림 구간으로 합산되고
+	 * 요청한 구간 수를 넘지 않는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("호가 깊이는 가격 단위 구간별로 수량을 합산하고 구간 수를 제한한다")
+	void orderBookDepthGroupsByTickTest() {
+		// given
+		OrderBook orderBook = new OrderBook(1L);
+		orderBook.add(new RestingOrder(1L, 251_000L, BidType.SELL, 1L));
+		orderBook.add(new RestingOrder(2L, 252_000L, BidType.SELL, 1L));
+		orderBook.add(new RestingOrder(3L, 252_000L, BidType.SELL, 1L));
+		orderBook.add(new RestingOrder(4L, 256_000L, BidType.SELL, 1L));
+		orderBook.add(new RestingOrder(5L, 270_000L, BidType.SELL, 1L));
+		orderBook.add(new RestingOrder(6L, 249_000L, BidType.BUY, 1L));
+		orderBook.add(new RestingOrder(7L, 245_000L, BidType.BUY, 1L));
+
+		// when
+		List<DepthLevel> sells = orderBook.depth(BidType.SELL, 2, 5_000L);
+		List<DepthLevel> buys = orderBook.depth(BidType.BUY, 10, 5_000L);
+		List<DepthLevel> ungrouped = orderBook.depth(BidType.SELL, 10, 0L);
+
+		// then
+		assertEquals(List.of(new DepthLevel(255_000L, 3), new DepthLevel(260_000L, 1)), sells);
+		assertEquals(List.of(new DepthLevel(245_000L, 2)), buys);
+		assertEquals(4, ungrouped.size());
+		assertEquals(new DepthLevel(252_000L, 2), ungrouped.get(1));
+	}
+}
@@ -0,0 +1,69 @@
+package com.sparta.cream.domain.trade.listener;
+
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+
+import com.sparta.cream.domain.trade.event.TradeMatchedBatchEvent;
+import com.sparta.cream.domain.trade.event.TradeMatchedEvent;
+import com.sparta.cream.outbox.OutboxDelivery;
+
+/**
+ * MatchedBidQueueListener의 Redis 대기열 정리를 검증하는 테스트 클래스입니다.
+ * MatchedBidQueueListenerTest.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@ExtendWith(MockitoExtension.class)
+class MatchedBidQueueListenerTest {
+
+	@InjectMocks
+	private MatchedBidQueueListener matchedBidQueueListener;
+
+	@Mock
+	private RedissonClient redissonClient;
+
+	@Mock
+	private RScript script;
+
+	/**
+	 * 연속 체결된 여러 쌍이 개별 ZREM 호출 없이 Lua 스크립트 한 번으로 제거되는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("전달된 체결 이벤트의 구매/판매 입찰을 Lua 스크립트 한 번으로 대기열에서 제거한다")
+	void removeMatchedPairsByScriptTest() {
+		// given
+		given(redissonClient.getScript()).willReturn(script);
+		TradeMatchedBatchEvent event = new TradeMatchedBatchEvent(4L, 100L, List.of(
+			new TradeMatchedEvent(1L, 2L, 250000L, 10L, "270", 1L, 2L),
+			new TradeMatchedEvent(3L, 2L, 250000L, 11L, "270", 3L, 5L)
+		), LocalDateTime.now());
+
+		// when
+		matchedBidQueueListener.handleTradeMatched(new OutboxDelivery<>(7L, event));
+
+		// then
+		verify(script).eval(
+			eq(RScript.Mode.READ_WRITE),
+			anyString(),
+			eq(RScript.ReturnType.INTEGER),
+			eq(List.<Object>of("bids:buy:4", "bids:sell:4")),
+			eq(1L),
+			eq(2L),
+			eq(3L),
+			eq(5L)
+		);
+		verify(redissonClient, never()).getScoredSortedSet(anyString());
+	}
+}
@@ -3,12 +3,14 @@ package com.sparta.cream.domain.trade.service;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -16,13 +18,25 @@ import org.redisson.api.RScoredSortedSet;
 import org.redisson.api.RedissonClient;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.sparta.cream.domain.bid.entity.Bid;
 import com.sparta.cream.domain.bid.entity.BidStatus;
 import com.sparta.cream.domain.bid.entity.BidType;
+import com.sparta.cream.domain.bid.event.BidChangedEvent;
 import com.sparta.cream.domain.bid.repository.BidRepository;
 import com.sparta.cream.domain.notification.service.NotificationService;
+import com.sparta.cream.domain.trade.engine.BookDrift;
+import com.sparta.cream.domain.trade.engine.MatchingMetrics;
+import com.sparta.cream.domain.trade.engine.OrderBook;
+import com.sparta.cream.domain.trade.engine.OrderBookListener;
+import com.sparta.cream.domain.trade.engine.OrderBookRegistry;
+import com.sparta.cream.domain.trade.engine.RestingOrder;
+import com.sparta.cream.domain.trade.engine.SelfTradePrevention;
 import com.sparta.cream.domain.trade.entity.Trade;
+import com.sparta.cream.domain.trade.event.TradeMatchedBatchEvent;
+import com.sparta.cream.domain.trade.event.TradeMatchedEvent;
 import com.sparta.cream.domain.trade.repository.TradeRepository;
 import com.sparta.cream.entity.ProductOption;
 import com.sparta.cream.entity.UserRole;
@@ -30,9 +44,10 @@ import com.sparta.cream.entity.Users;
 
 /**
  * MatchingService 에 대한 핵심 매칭 엔진 로직 테스트 클래스입니다.
- * 1. Redis 후보 탐색 로직
+ * 1. 인메모리 호가창 후보 탐색 로직
  * 2. 가격 일치 여부 검증
  * 3. 최종 Trade 생성 및 Bid 상태 변경 검증
+ * 4. 같은 사용자의 주문끼리 교차할 때 자기 체결 방지 정책 적용
  * MatchingServiceTest.java
  *
  * @author kimsehyun
@@ -62,10 +77,17 @@ class MatchingServiceTest {
 	@Mock
 	private ApplicationEventPublisher eventPublisher;
 
+	@Mock
+	private OrderBookRegistry orderBookRegistry;
+
+	@Mock
+	private MatchingMetrics matchingMetrics;
+
 	/**
 	 * 가격 조건이 충족될 때 체결 프로세스가 완벽히 수행되는지 검증합니다.
 	 * 구매/판매 Bid 상태가 MATCHED 로 변경되는지
 	 * rade 엔티티가 정상적으로 저장되는지
+	 * 체결된 주문이 호가창에서 제거되는지
 	 */
 	@Test
 	@DisplayName("구매가와 판매가가 일치하면 체결이 성공하고 Trade가 저장된다")
@@ -78,19 +100,17 @@ class MatchingServiceTest {
 		Bid buyBid = createBid(buyBidId, option, 1L, 250000L, BidType.BUY);
 		Bid sellBid = createBid(sellBidId, option, 2L, 250000L, BidType.SELL);
 
-		when(bidRepository.findById(buyBidId)).thenReturn(Optional.of(buyBid));
-
+		OrderBook orderBook = new OrderBook(4L);
+		orderBook.add(RestingOrder.from(sellBid));
 
+		when(bidRepository.findById(buyBidId)).thenReturn(Optional.of(buyBid));
+		when(orderBookRegistry.getOrLoad(4L)).thenReturn(orderBook);
 		when(bidRepository.findAllById(anyList())).thenReturn(List.of(buyBid, sellBid));
-
-		doReturn(candidateSet).when(redissonClient).getScoredSortedSet(anyString());
-		when(candidateSet.first()).thenReturn(sellBidId);
-		when(candidateSet.getScore(sellBidId)).thenReturn(250000.0);
-		when(tradeRepository.save(any(Trade.class)))
+		when(tradeRepository.saveAll(anyList()))
 			.thenAnswer(invocation -> {
-				Trade trade = invocation.getArgument(0);
-				ReflectionTestUtils.setField(trade, "id", 100L);
-				return trade;
+				List<Trade> trades = invocation.getArgument(0);
+				ReflectionTestUtils.setField(trades.get(0), "id", 100L);
+				return trades;
 			});
 
 		// when
@@ -99,56 +119,231 @@ class MatchingServiceTest {
 		// then
 		assertEquals(BidStatus.MATCHED, buyBid.getStatus());
 		assertEquals(BidStatus.MATCHED, sellBid.getStatus());
-		verify(tradeRepository, times(1)).save(any(Trade.class));
+		verify(tradeRepository, times(1)).saveAll(anyList());
+		assertEquals(0, orderBook.size());
+	}
+
+	/**
+	 * 체결 이벤트에 대기열 정리에 필요한 구매/판매 입찰 ID가 담기는지 검증합니다.
+	 * 대기열 정리는 아웃박스로 전달된 이벤트를 받은 소비자가 수행하므로 커밋 이후 Redis를 직접 호출하지 않는지
+	 */
+	@Test
+	@DisplayName("체결 이벤트에 체결된 입찰 ID가 담기고, 커밋 후 대기열을 직접 정리하지 않는다")
+	void tradeMatchedEventCarriesBidIdsTest() {
+		// given
+		ProductOption option = createOption(4L);
+		Bid buyBid = createBid(1L, option, 1L, 250000L, BidType.BUY);
+		Bid sellBid = createBid(2L, option, 2L, 250000L, BidType.SELL);
+
+		OrderBook orderBook = new OrderBook(4L);
+		orderBook.add(RestingOrder.from(sellBid));
+
+		when(bidRepository.findById(1L)).thenReturn(Optional.of(buyBid));
+		when(orderBookRegistry.getOrLoad(4L)).thenReturn(orderBook);
+		when(bidRepository.findAllById(anyList())).thenReturn(List.of(buyBid, sellBid));
+		when(tradeRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		TransactionSynchronizationManager.initSynchronization();
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		try {
+			// when
+			matchingService.checkStatusAndMatch(1L);
+			TransactionSynchronizationManager.getSynchronizations()
+				.forEach(TransactionSynchronization::afterCommit);
+		} finally {
+			TransactionSynchronizationManager.setActualTransactionActive(false);
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		// then
+		ArgumentCaptor<TradeMatchedBatchEvent> captor = ArgumentCaptor.forClass(TradeMatchedBatchEvent.class);
+		verify(eventPublisher).publishEvent(captor.capture());
+		TradeMatchedEvent trade = captor.getValue().trades().get(0);
+		assertEquals(1L, trade.purchaseBidId());
+		assertEquals(2L, trade.saleBidId());
+		verify(redissonClient, never()).getScript();
+		verify(redissonClient, never()).getScoredSortedSet(anyString());
 	}
 
 	/**
 	 * 가격이 맞지 않을 경우 루프가 중단되는지 검증합니다.
 	 * 구매 Bid 상태가 PENDING 상태로 유지되는지
 	 * Trade 저장 로직이 호출되지 않는지
+	 * 체결되지 못한 입찰이 호가창에 대기 주문으로 등록되는지
 	 */
 	@Test
-	@DisplayName("구매가가 판매가보다 낮으면 매칭을 중단한다")
+	@DisplayName("구매가가 판매가보다 낮으면 매칭을 중단하고 호가창에 대기한다")
 	void matchFailByPriceTest() {
 		// given
 		Long buyBidId = 1L;
 		Long sellBidId = 2L;
-		Bid buyBid = createBid(buyBidId, createOption(4L), 1L, 200000L, BidType.BUY);
+		ProductOption option = createOption(4L);
+		Bid buyBid = createBid(buyBidId, option, 1L, 200000L, BidType.BUY);
+		Bid sellBid = createBid(sellBidId, option, 2L, 250000L, BidType.SELL);
+
+		OrderBook orderBook = new OrderBook(4L);
+		orderBook.add(RestingOrder.from(sellBid));
 
-		doReturn(candidateSet).when(redissonClient).getScoredSortedSet(anyString());
-		when(candidateSet.first()).thenReturn(sellBidId);
-		when(candidateSet.getScore(sellBidId)).thenReturn(250000.0);
 		when(bidRepository.findById(buyBidId)).thenReturn(Optional.of(buyBid));
+		when(orderBookRegistry.getOrLoad(4L)).thenReturn(orderBook);
 
 		// when
 		matchingService.checkStatusAndMatch(buyBidId);
 
 		// then
 		assertEquals(BidStatus.PENDING, buyBid.getStatus());
-		verify(tradeRepository, never()).save(any());
+		verify(tradeRepository, never()).saveAll(anyList());
+		assertTrue(orderBook.contains(buyBidId));
+		assertEquals(buyBidId, orderBook.best(BidType.BUY).bidId());
+	}
+
+	/**
+	 * 체결 취소 복구나 대기열 복구로 이미 호가창에 같은 내용으로 대기 중인 입찰이 다시 매칭될 때
+	 * 제거/재등록되지 않아 같은 가격의 뒤 주문보다 앞선 순서를 유지하고, 취소/등록 증분도 남기지 않는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("이미 대기 중인 입찰을 다시 매칭해도 시간 우선순위를 유지하고 취소/등록 증분을 남기지 않는다")
+	void restingBidKeepsPriorityTest() {
+		// given
+		ProductOption option = createOption(4L);
+		Bid restingBuy = createBid(1L, option, 1L, 200000L, BidType.BUY);
+		Bid laterBuy = createBid(2L, option, 2L, 200000L, BidType.BUY);
+		Bid sellBid = createBid(3L, option, 3L, 250000L, BidType.SELL);
+		OrderBook orderBook = givenOrderBook(restingBuy, restingBuy, laterBuy, sellBid);
+		OrderBookListener listener = mock(OrderBookListener.class);
+		orderBook.setListener(listener);
+
+		// when
+		matchingService.checkStatusAndMatch(1L);
+
+		// then
+		assertEquals(1L, orderBook.best(BidType.BUY).bidId());
+		verify(listener, never()).onRemoved(anyLong(), any(), any());
+		verify(listener, never()).onAdded(anyLong(), any());
+		verify(tradeRepository, never()).saveAll(anyList());
+	}
+
+	/**
+	 * 이미 대기 중인 입찰이라도 반대편과 가격이 교차하면 교차 호가 정리에서 체결되는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("이미 대기 중인 입찰이 반대편과 교차하면 재등록 없이 체결된다")
+	void restingBidMatchesOppositeTest() {
+		// given
+		ProductOption option = createOption(4L);
+		Bid restingBuy = createBid(1L, option, 1L, 250000L, BidType.BUY);
+		Bid sellBid = createBid(2L, option, 2L, 250000L, BidType.SELL);
+		OrderBook orderBook = givenOrderBook(restingBuy, restingBuy, sellBid);
+		when(tradeRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		// when
+		matchingService.checkStatusAndMatch(1L);
+
+		// then
+		assertEquals(BidStatus.MATCHED, restingBuy.getStatus());
+		assertEquals(BidStatus.MATCHED, sellBid.getStatus());
+		assertEquals(0, orderBook.size());
 	}
 
 	/**
-	 * Redis에는 있었지만 DB 상태가 이미 MATCHED인 경우
-	 * 이미 체결된 입찰이 Redis 후보군에서 제거되는지
+	 * 먼저 등록되었지만 공격적인 가격으로 정정되어 새 순번을 받은 입찰이 교차 호가 정리에서 체결될 때,
+	 * 입찰 ID가 아니라 호가창 순번으로 먼저 기다리던 상대 주문의 가격으로 체결되는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("공격적으로 정정된 오래된 입찰은 기다리던 상대 주문의 가격으로 체결된다")
+	void aggressivelyAmendedBidTradesAtRestingPriceTest() {
+		// given
+		ProductOption option = createOption(4L);
+		Bid amendedBuy = createBid(1L, option, 1L, 250000L, BidType.BUY);
+		Bid restingSell = createBid(2L, option, 2L, 240000L, BidType.SELL);
+		OrderBook orderBook = givenOrderBook(amendedBuy);
+		orderBook.add(new RestingOrder(1L, 200000L, BidType.BUY, 1L));
+		orderBook.add(RestingOrder.from(restingSell));
+		orderBook.amend(1L, 250000L);
+		when(bidRepository.findAllById(anyList())).thenReturn(List.of(amendedBuy, restingSell));
+		when(tradeRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		// when
+		matchingService.checkStatusAndMatch(1L);
+
+		// then
+		ArgumentCaptor<List<Trade>> captor = ArgumentCaptor.forClass(List.class);
+		verify(tradeRepository).saveAll(captor.capture());
+		assertEquals(240000L, captor.getValue().get(0).getFinalPrice());
+		assertEquals(0, orderBook.size());
+	}
+
+	/**
+	 * 커밋되었지만 저널에 기록되기 전에 종료되어 복원된 호가창에 빠진 입찰이
+	 * DB 대조로 호가창에 등록되어 체결되고, DB에서 더 이상 대기 중이 아닌 주문은 제거되는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("복원된 호가창에 없는 대기 입찰은 등록해 체결하고, 대기 중이 아닌 주문은 제거한다")
+	void reconcileCommittedButNotJournaledTest() {
+		// given
+		ProductOption option = createOption(4L);
+		Bid unjournaledBuy = createBid(1L, option, 1L, 250000L, BidType.BUY);
+		Bid sellBid = createBid(2L, option, 2L, 250000L, BidType.SELL);
+		Bid cancelledBuy = createBid(3L, option, 3L, 200000L, BidType.BUY);
+		OrderBook restored = new OrderBook(4L);
+		restored.add(RestingOrder.from(sellBid));
+		restored.add(RestingOrder.from(cancelledBuy));
+
+		when(orderBookRegistry.find(4L)).thenReturn(Optional.of(restored));
+		when(bidRepository.findPendingByProductOptionId(4L)).thenReturn(List.of(unjournaledBuy, sellBid));
+		when(bidRepository.findAllById(anyList())).thenReturn(List.of(unjournaledBuy, sellBid));
+		when(tradeRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		// when
+		BookDrift drift = matchingService.reconcile(4L);
+
+		// then
+		assertEquals(new BookDrift(1, 1, 0), drift);
+		assertEquals(BidStatus.MATCHED, unjournaledBuy.getStatus());
+		assertEquals(BidStatus.MATCHED, sellBid.getStatus());
+		assertEquals(0, restored.size());
+	}
+
+	/**
+	 * 적재되지 않은 옵션은 다음 접근 시 DB에서 적재되므로 대조하지 않는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("적재되지 않은 옵션의 호가창은 대조하지 않는다")
+	void reconcileSkipsUnloadedBookTest() {
+		// given
+		when(orderBookRegistry.find(4L)).thenReturn(Optional.empty());
+
+		// when
+		BookDrift drift = matchingService.reconcile(4L);
+
+		// then
+		assertTrue(drift.isEmpty());
+		verify(bidRepository, never()).findPendingByProductOptionId(anyLong());
+	}
+
+	/**
+	 * 호가창에는 있었지만 DB 상태가 이미 MATCHED인 경우
+	 * 이미 체결된 입찰이 호가창과 Redis에서 제거되는지
 	 * Trade 가 생성되지 않고 매칭이 종료되는지
 	 */
 	@Test
-	@DisplayName("매칭 대상이 이미 체결된 상태라면 Redis에서 제거하고 다음 후보를 찾는다")
+	@DisplayName("매칭 대상이 이미 체결된 상태라면 호가창과 Redis에서 제거하고 다음 후보를 찾는다")
 	void matchFailByAlreadyMatchedTarget() {
 		// given
 		Long buyBidId = 1L;
 		Long dirtyBidId = 99L;
+		ProductOption option = createOption(4L);
+
+		Bid buyBid = createBid(buyBidId, option, 1L, 300000L, BidType.BUY);
+		Bid dirtyBid = createBid(dirtyBidId, option, 2L, 300000L, BidType.SELL);
 
-		Bid buyBid = createBid(buyBidId, createOption(4L), 1L, 300000L, BidType.BUY);
-		Bid dirtyBid = createBid(dirtyBidId, createOption(4L), 2L, 300000L, BidType.SELL);
+		OrderBook orderBook = new OrderBook(4L);
+		orderBook.add(RestingOrder.from(dirtyBid));
 		ReflectionTestUtils.setField(dirtyBid, "status", BidStatus.MATCHED);
 
 		doReturn(candidateSet).when(redissonClient).getScoredSortedSet(anyString());
-		when(candidateSet.first()).thenReturn(dirtyBidId).thenReturn(null);
-		when(candidateSet.getScore(dirtyBidId)).thenReturn(300000.0);
-
 		when(bidRepository.findById(buyBidId)).thenReturn(Optional.of(buyBid));
+		when(orderBookRegistry.getOrLoad(4L)).thenReturn(orderBook);
 		when(bidRepository.findAllById(anyList())).thenReturn(List.of(buyBid, dirtyBid));
 
 		// when
@@ -156,7 +351,172 @@ class MatchingServiceTest {
 
 		// then
 		verify(candidateSet).remove(dirtyBidId);
-		verify(tradeRepository, never()).save(any());
+		verify(tradeRepository, never()).saveAll(anyList());
+		assertFalse(orderBook.contains(dirtyBidId));
+		assertTrue(orderBook.contains(buyBidId));
+	}
+
+	/**
+	 * 신규 입찰 체결 이후에도 교차된 대기 주문이 남아 있으면 한 번의 패스로 모두 체결되는지 검증합니다.
+	 * 신규 구매 입찰은 최저 판매가와 체결되는지
+	 * 교차된 채 남아 있던 대기 구매/판매 주문도 먼저 등록된 주문의 가격으로 체결되는지
+	 * 모든 거래가 한 번에 저장되고 체결 이벤트도 한 번만 발행되는지
+	 */
+	@Test
+	@DisplayName("교차된 호가가 남아 있으면 한 번의 매칭 패스에서 모두 연속 체결한다")
+	void sweepCrossedBookTest() {
+		// given
+		ProductOption option = createOption(4L);
+		Bid restingBuy = createBid(1L, option, 1L, 260000L, BidType.BUY);
+		Bid restingSell = createBid(2L, option, 2L, 240000L, BidType.SELL);
+		Bid otherSell = createBid(3L, option, 3L, 250000L, BidType.SELL);
+		Bid newBuy = createBid(4L, option, 4L, 240000L, BidType.BUY);
+
+		OrderBook orderBook = new OrderBook(4L);
+		orderBook.add(RestingOrder.from(restingBuy));
+		orderBook.add(RestingOrder.from(restingSell));
+		orderBook.add(RestingOrder.from(otherSell));
+
+		when(bidRepository.findById(4L)).thenReturn(Optional.of(newBuy));
+		when(orderBookRegistry.getOrLoad(4L)).thenReturn(orderBook);
+		when(bidRepository.findAllById(anyList())).thenAnswer(invocation -> {
+			List<Long> ids = invocation.getArgument(0);
+			return List.of(restingBuy, restingSell, otherSell, newBuy).stream()
+				.filter(bid -> ids.contains(bid.getId()))
+				.toList();
+		});
+		when(tradeRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		// when
+		matchingService.checkStatusAndMatch(4L);
+
+		// then
+		ArgumentCaptor<List<Trade>> captor = ArgumentCaptor.forClass(List.class);
+		verify(tradeRepository, times(1)).saveAll(captor.capture());
+		List<Trade> trades = captor.getValue();
+		assertEquals(2, trades.size());
+		assertEquals(newBuy, trades.get(0).getPurchaseBidId());
+		assertEquals(restingSell, trades.get(0).getSaleBidId());
+		assertEquals(240000L, trades.get(0).getFinalPrice());
+		assertEquals(restingBuy, trades.get(1).getPurchaseBidId());
+		assertEquals(otherSell, trades.get(1).getSaleBidId());
+		assertEquals(260000L, trades.get(1).getFinalPrice());
+
+		assertEquals(0, orderBook.size());
+		verify(eventPublisher, times(1)).publishEvent(any(TradeMatchedBatchEvent.class));
+	}
+
+	/**
+	 * 기본 정책(SKIP)에서 같은 사용자의 최우선 판매 주문은 건너뛰고
+	 * 다음 우선순위의 다른 사용자 주문과 체결되며, 건너뛴 주문은 그대로 대기하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("자기 체결 방지(SKIP) - 같은 사용자의 주문은 건너뛰고 다른 사용자의 주문과 체결한다")
+	void selfTradeSkipTest() {
+		// given
+		ProductOption option = createOption(4L);
+		Bid ownSell = createBid(1L, option, 1L, 240000L, BidType.SELL);
+		Bid otherSell = createBid(2L, option, 2L, 250000L, BidType.SELL);
+		Bid newBuy = createBid(3L, option, 1L, 260000L, BidType.BUY);
+
+		OrderBook orderBook = givenOrderBook(newBuy, ownSell, otherSell);
+		when(tradeRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		// when
+		matchingService.checkStatusAndMatch(3L);
+
+		// then
+		ArgumentCaptor<List<Trade>> captor = ArgumentCaptor.forClass(List.class);
+		verify(tradeRepository, times(1)).saveAll(captor.capture());
+		Trade trade = captor.getValue().get(0);
+		assertEquals(newBuy, trade.getPurchaseBidId());
+		assertEquals(otherSell, trade.getSaleBidId());
+		assertEquals(250000L, trade.getFinalPrice());
+		assertEquals(BidStatus.PENDING, ownSell.getStatus());
+		assertTrue(orderBook.contains(1L));
+		verify(matchingMetrics).incrementSelfTradePrevented(4L);
+	}
+
+	/**
+	 * CANCEL_NEWEST 정책에서 나중에 등록된 신규 입찰이 취소되어 호가창에 등록되지 않고,
+	 * 먼저 대기하던 같은 사용자의 주문은 그대로 남는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("자기 체결 방지(CANCEL_NEWEST) - 신규 입찰을 취소하고 체결하지 않는다")
+	void selfTradeCancelNewestTest() {
+		// given
+		ReflectionTestUtils.setField(matchingService, "selfTradePrevention", SelfTradePrevention.CANCEL_NEWEST);
+		ProductOption option = createOption(4L);
+		Bid ownSell = createBid(1L, option, 1L, 240000L, BidType.SELL);
+		Bid newBuy = createBid(2L, option, 1L, 260000L, BidType.BUY);
+
+		OrderBook orderBook = givenOrderBook(newBuy, ownSell);
+
+		// when
+		matchingService.checkStatusAndMatch(2L);
+
+		// then
+		assertEquals(BidStatus.CANCELED, newBuy.getStatus());
+		assertEquals(BidStatus.PENDING, ownSell.getStatus());
+		assertFalse(orderBook.contains(2L));
+		assertTrue(orderBook.contains(1L));
+		verify(tradeRepository, never()).saveAll(anyList());
+		verify(eventPublisher).publishEvent(any(BidChangedEvent.class));
+	}
+
+	/**
+	 * CANCEL_OLDEST 정책에서 먼저 대기하던 같은 사용자의 주문이 취소되고,
+	 * 신규 입찰은 다음 우선순위의 다른 사용자 주문과 체결되는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("자기 체결 방지(CANCEL_OLDEST) - 대기 중인 본인 주문을 취소하고 다음 주문과 체결한다")
+	void selfTradeCancelOldestTest() {
+		// given
+		ReflectionTestUtils.setField(matchingService, "selfTradePrevention", SelfTradePrevention.CANCEL_OLDEST);
+		ProductOption option = createOption(4L);
+		Bid ownSell = createBid(1L, option, 1L, 240000L, BidType.SELL);
+		Bid otherSell = createBid(2L, option, 2L, 250000L, BidType.SELL);
+		Bid newBuy = createBid(3L, option, 1L, 260000L, BidType.BUY);
+
+		OrderBook orderBook = givenOrderBook(newBuy, ownSell, otherSell);
+		when(tradeRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		// when
+		matchingService.checkStatusAndMatch(3L);
+
+		// then
+		assertEquals(BidStatus.CANCELED, ownSell.getStatus());
+		assertEquals(BidStatus.MATCHED, newBuy.getStatus());
+		assertEquals(BidStatus.MATCHED, otherSell.getStatus());
+		assertEquals(0, orderBook.size());
+		ArgumentCaptor<List<Trade>> captor = ArgumentCaptor.forClass(List.class);
+		verify(tradeRepository, times(1)).saveAll(captor.capture());
+		assertEquals(otherSell, captor.getValue().get(0).getSaleBidId());
+	}
+
+	/**
+	 * 대기 주문들을 담은 호가창과, 신규 입찰 및 대기 주문의 DB 조회 결과를 구성합니다.
+	 * @param newBid 매칭을 시작할 신규 입찰
+	 * @param restingBids 호가창에 등록할 대기 입찰
+	 * @return 구성된 호가창
+	 */
+	private OrderBook givenOrderBook(Bid newBid, Bid... restingBids) {
+		OrderBook orderBook = new OrderBook(4L);
+		for (Bid restingBid : restingBids) {
+			orderBook.add(RestingOrder.from(restingBid));
+		}
+		List<Bid> allBids = new ArrayList<>(List.of(restingBids));
+		allBids.add(newBid);
+
+		when(bidRepository.findById(newBid.getId())).thenReturn(Optional.of(newBid));
+		when(orderBookRegistry.getOrLoad(4L)).thenReturn(orderBook);
+		lenient().when(bidRepository.findAllById(anyList())).thenAnswer(invocation -> {
+			List<Long> ids = invocation.getArgument(0);
+			return allBids.stream()
+				.filter(bid -> ids.contains(bid.getId()))
+				.toList();
+		});
+		return orderBook;
 	}
 
 	/**
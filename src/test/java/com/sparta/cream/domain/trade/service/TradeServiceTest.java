@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Optional;
 import static org.mockito.ArgumentMatchers.anyString;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,12 +18,21 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.sparta.cream.domain.bid.entity.Bid;
 import com.sparta.cream.domain.bid.entity.BidStatus;
 import com.sparta.cream.domain.bid.entity.BidType;
+import com.sparta.cream.domain.bid.expiry.BidExpiryScheduler;
 import com.sparta.cream.domain.bid.repository.BidRepository;
 import com.sparta.cream.domain.notification.service.NotificationService;
+import com.sparta.cream.domain.trade.engine.MatchingExecutor;
+import com.sparta.cream.domain.trade.engine.MatchingMetrics;
+import com.sparta.cream.domain.trade.engine.OrderBook;
+import com.sparta.cream.domain.trade.engine.OrderBookRegistry;
+import com.sparta.cream.domain.trade.engine.OrderBookSnapshotter;
+import com.sparta.cream.domain.trade.engine.PriceTimePriority;
 import com.sparta.cream.domain.trade.entity.Trade;
 import com.sparta.cream.domain.trade.entity.TradeStatus;
 import com.sparta.cream.domain.trade.event.TradeCancelledEvent;
@@ -50,6 +60,9 @@ class TradeServiceTest {
 	@Mock
 	private BidRepository bidRepository;
 
+	@Mock
+	private BidExpiryScheduler bidExpiryScheduler;
+
 	@Mock
 	private TradeRepository tradeRepository;
 
@@ -74,6 +87,18 @@ class TradeServiceTest {
 	@Mock
 	private ApplicationEventPublisher eventPublisher;
 
+	@Mock
+	private MatchingExecutor matchingExecutor;
+
+	@Mock
+	private OrderBookRegistry orderBookRegistry;
+
+	@Mock
+	private OrderBookSnapshotter orderBookSnapshotter;
+
+	@Mock
+	private MatchingMetrics matchingMetrics;
+
 	@BeforeEach
 	void setUp() {
 		lenient().when(redissonClient.getScoredSortedSet(anyString())).thenReturn(scoredSortedSet);
@@ -83,33 +108,34 @@ class TradeServiceTest {
 		try {
 			lenient().when(lock.tryLock(anyLong(), anyLong(), any())).thenReturn(true);
 		} catch (InterruptedException e) {}
+		TransactionSynchronizationManager.initSynchronization();
+	}
+
+	@AfterEach
+	void tearDown() {
+		TransactionSynchronizationManager.clearSynchronization();
 	}
 
 	/**
-	 * 동일한 상품 옵션에 대해 구매가와 판매자가 일치할 경우 성공케이스
-	 * 1. 입찰 상태가 MATCHED 로 변경되는지 확인
-	 * 2. 새로운 Trade 엔티티가 생성되어 저장되는지 확인
+	 * 신규 입찰의 매칭 요청이 상품 옵션에 배정된 매칭 샤드로 제출되는지 확인합니다.
+	 * 1. 분산 락을 획득하지 않는지 확인
+	 * 2. 샤드에서 실행된 작업이 매칭 서비스를 호출하는지 확인
 	 */
 	@Test
-	@DisplayName("입찰 ID가 주어지면 락을 획득하고 매칭 서비스를 호출한다")
+	@DisplayName("입찰 ID가 주어지면 옵션 샤드에서 락 없이 매칭 서비스를 호출한다")
 	void matchBidsSuccessTest() throws InterruptedException {
 		// given
 		Long buyBidId = 1L;
-		ProductOption option = createOption(4L);
-		Bid buyBid = createBidWithOption(buyBidId, option, 1L, 250000L, BidType.BUY);
-
-		// 상세 조회 모킹
-		when(bidRepository.findById(buyBidId)).thenReturn(Optional.of(buyBid));
-		// 락 획득 성공 모킹
-		when(lock.tryLock(anyLong(), anyLong(), any())).thenReturn(true);
+		Long optionId = 4L;
+		runSubmittedTasksImmediately();
 
-		// when: matchAllPendingBids 대신 직접 호출 (더 직관적)
-		tradeService.processTradeMatching(buyBidId);
+		// when
+		tradeService.handleMatchingInternal(buyBidId, optionId);
 
 		// then
-		verify(lock).tryLock(anyLong(), anyLong(), any());
+		verify(matchingExecutor).execute(eq(optionId), any(Runnable.class));
 		verify(matchingService).checkStatusAndMatch(buyBidId);
-		verify(lock).unlock();
+		verify(lock, never()).tryLock(anyLong(), anyLong(), any());
 	}
 
 	/**
@@ -117,7 +143,7 @@ class TradeServiceTest {
 	 */
 	@Test
 	@DisplayName("대기 중인 입찰이 없으면 매칭을 시도하지 않는다")
-	void matchBidsNoPendingTest() throws InterruptedException {
+	void matchBidsNoPendingTest() {
 		// given
 		when(bidRepository.findByTypeAndStatusOrderByCreatedAtAsc(any(), any()))
 			.thenReturn(List.of());
@@ -126,8 +152,134 @@ class TradeServiceTest {
 		tradeService.matchAllPendingBids();
 
 		// then
+		verify(matchingExecutor, never()).execute(anyLong(), any(Runnable.class));
 		verify(matchingService, never()).checkStatusAndMatch(anyLong());
-		verify(lock, never()).tryLock(anyLong(), anyLong(), any());
+	}
+
+	/**
+	 * 배치 매칭 시 상품 옵션마다 한 번씩만 샤드에 작업이 제출되고,
+	 * 옵션 안에서는 등록 순서대로 매칭되는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("배치 매칭은 옵션별로 한 번씩 제출되고 옵션 내 등록 순서를 유지한다")
+	void matchAllPendingBidsGroupsByOptionTest() {
+		// given
+		ProductOption optionA = createOption(4L);
+		ProductOption optionB = createOption(5L);
+		Bid first = createBidWithOption(1L, optionA, 1L, 250000L, BidType.BUY);
+		Bid second = createBidWithOption(2L, optionB, 2L, 260000L, BidType.BUY);
+		Bid third = createBidWithOption(3L, optionA, 3L, 270000L, BidType.BUY);
+
+		when(bidRepository.findByTypeAndStatusOrderByCreatedAtAsc(BidType.BUY, BidStatus.PENDING))
+			.thenReturn(List.of(first, second, third));
+		runSubmittedTasksImmediately();
+
+		// when
+		tradeService.matchAllPendingBids();
+
+		// then
+		verify(matchingExecutor).execute(eq(4L), any(Runnable.class));
+		verify(matchingExecutor).execute(eq(5L), any(Runnable.class));
+
+		org.mockito.InOrder inOrder = inOrder(matchingService);
+		inOrder.verify(matchingService).checkStatusAndMatch(1L);
+		inOrder.verify(matchingService).checkStatusAndMatch(3L);
+		verify(matchingService).checkStatusAndMatch(2L);
+	}
+
+	/**
+	 * 스냅샷으로 복원된 호가창이 레지스트리에 등록되고,
+	 * 옵션별 매칭 샤드에서 교차 호가 정리가 수행되는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("스냅샷으로 복원된 호가창을 등록하고 옵션별로 DB 대기 입찰과 대조한다")
+	void recoverOrderBooksFromSnapshotTest() {
+		// given
+		OrderBook book = new OrderBook(4L);
+		when(orderBookSnapshotter.recover()).thenReturn(Optional.of(java.util.Map.of(4L, book)));
+		when(bidRepository.findPendingProductOptionIds()).thenReturn(List.of(4L));
+		runSubmittedTasksImmediately();
+
+		// when
+		tradeService.recoverOrderBooks();
+
+		// then
+		verify(orderBookRegistry).restore(book);
+		verify(matchingService).reconcile(4L);
+		verify(matchingService, never()).sweep(anyLong());
+		verify(bidRepository, never()).findByTypeAndStatusOrderByCreatedAtAsc(any(), any());
+	}
+
+	/**
+	 * 스냅샷에 없는 옵션에 대기 입찰이 있으면(저널 기록 전 종료, 다른 노드의 등록) DB에서 적재하여 정리하는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("스냅샷에 없는 옵션의 대기 입찰은 DB에서 호가창을 적재하여 정리한다")
+	void recoverOrderBooksLoadsUnjournaledOptionTest() {
+		// given
+		OrderBook book = new OrderBook(4L);
+		when(orderBookSnapshotter.recover()).thenReturn(Optional.of(java.util.Map.of(4L, book)));
+		when(bidRepository.findPendingProductOptionIds()).thenReturn(List.of(4L, 5L));
+		runSubmittedTasksImmediately();
+
+		// when
+		tradeService.recoverOrderBooks();
+
+		// then
+		verify(matchingService).reconcile(4L);
+		verify(matchingService).sweep(5L);
+		verify(matchingService, never()).sweep(4L);
+	}
+
+	/**
+	 * 스냅샷이 없으면 기존처럼 전체 대기 입찰 매칭으로 대체되는지 확인합니다.
+	 */
+	@Test
+	@DisplayName("스냅샷이 없으면 전체 대기 입찰 매칭으로 복구한다")
+	void recoverOrderBooksWithoutSnapshotTest() {
+		// given
+		when(orderBookSnapshotter.recover()).thenReturn(Optional.empty());
+		when(bidRepository.findByTypeAndStatusOrderByCreatedAtAsc(BidType.BUY, BidStatus.PENDING))
+			.thenReturn(List.of());
+
+		// when
+		tradeService.recoverOrderBooks();
+
+		// then
+		verify(bidRepository).findByTypeAndStatusOrderByCreatedAtAsc(BidType.BUY, BidStatus.PENDING);
+		verify(orderBookRegistry, never()).restore(any());
+	}
+
+	/**
+	 * 샤드 큐가 가득 차 거절된 옵션을 DB 기준으로 다시 맞추는지 확인합니다.
+	 * 적재된 호가창은 대기 입찰과 대조하고, 적재되지 않은 옵션은 DB에서 적재하여 정리해야 합니다.
+	 */
+	@Test
+	@DisplayName("거절된 매칭 작업의 옵션은 적재 여부에 따라 호가창을 대조하거나 DB에서 적재하여 정리한다")
+	void retryRejectedMatchingTest() {
+		// given
+		when(matchingExecutor.drainRejected()).thenReturn(List.of(4L, 5L));
+		when(orderBookRegistry.find(4L)).thenReturn(Optional.of(new OrderBook(4L)));
+		when(orderBookRegistry.find(5L)).thenReturn(Optional.empty());
+		runSubmittedTasksImmediately();
+
+		// when
+		tradeService.retryRejectedMatching();
+
+		// then
+		verify(matchingService).reconcile(4L);
+		verify(matchingService).sweep(5L);
+		verify(matchingService, never()).checkStatusAndMatch(anyLong());
+	}
+
+	/**
+	 * 매칭 샤드에 제출된 작업을 호출 스레드에서 즉시 실행하도록 설정합니다.
+	 */
+	private void runSubmittedTasksImmediately() {
+		doAnswer(invocation -> {
+			invocation.<Runnable>getArgument(1).run();
+			return null;
+		}).when(matchingExecutor).execute(anyLong(), any(Runnable.class));
 	}
 
 	/**
@@ -263,6 +415,44 @@ class TradeServiceTest {
 
 	}
 
+	/**
+	 * 거래 취소로 대기 상태가 된 상대방 입찰이 커밋 이후 다시 매칭 대상이 되는지 검증합니다.
+	 * 1. 커밋 전에는 Redis 대기열과 매칭 샤드에 아무것도 반영되지 않는다
+	 * 2. 커밋 후 원래 점수로 대기열에 추가되고, 만료 타이밍 휠에 다시 등록되며, 해당 옵션의 매칭 샤드에 제출된다
+	 */
+	@Test
+	@DisplayName("거래 취소로 복원된 상대방 입찰은 커밋 후 대기열에 다시 등록되고 매칭 샤드에 제출된다")
+	void cancelTradeRequeuesVictimBidAfterCommitTest() {
+		// given
+		Long tradeId = 15L;
+		Long buyerId = 1L;
+
+		ProductOption option = createOption(3L);
+
+		Bid buyBid = createMatchedBid(1L, buyerId, option, BidType.BUY);
+		Bid sellBid = createMatchedBid(2L, 2L, option, BidType.SELL);
+
+		Trade trade = new Trade(buyBid, sellBid, 250000L);
+		ReflectionTestUtils.setField(trade, "id", tradeId);
+
+		given(tradeRepository.findById(tradeId)).willReturn(Optional.of(trade));
+
+		// when
+		tradeService.cancelTrade(tradeId, buyerId);
+
+		// then
+		verify(scoredSortedSet, never()).add(anyDouble(), any());
+		verify(matchingExecutor, never()).execute(anyLong(), any(Runnable.class));
+		verify(bidExpiryScheduler, never()).register(any());
+
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+		verify(redissonClient).getScoredSortedSet("bids:sell:3");
+		verify(scoredSortedSet).add(PriceTimePriority.redisScore(BidType.SELL, 250000L), 2L);
+		verify(bidExpiryScheduler).register(argThat(bid -> bid.bidId().equals(2L) && bid.productOptionId().equals(3L)));
+		verify(matchingExecutor).execute(eq(3L), any(Runnable.class));
+	}
+
 	/**
 	 * 체결된 거래의 당사자가 아닌 사용자가 취소를 시도할 경우
 	 * 예외가 발생하는지 검증합니다.
@@ -0,0 +1,42 @@
+package com.sparta.cream.domain.trade.simulator;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.sparta.cream.domain.bid.entity.BidType;
+
+/**
+ * 매칭 시뮬레이터가 재생하는 입찰 로그(JSONL) 한 줄입니다.
+ * 입찰 등록과 취소 두 종류의 이벤트를 기록된 순서대로 재생하며, 기록 시각 등 추가 필드는 무시합니다.
+ * <pre>
+ * {"op":"BID","bidId":1,"userId":7,"optionId":3,"type":"BUY","price":251000}
+ * {"op":"CANCEL","bidId":1}
+ * </pre>
+ * BidLogEvent.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BidLogEvent(
+	Op op,
+	Long bidId,
+	Long userId,
+	Long optionId,
+	BidType type,
+	Long price
+) {
+
+	public enum Op {
+		BID,
+		CANCEL
+	}
+
+	public static BidLogEvent bid(long bidId, long userId, long optionId, BidType type, long price) {
+		return new BidLogEvent(Op.BID, bidId, userId, optionId, type, price);
+	}
+
+	public static BidLogEvent cancel(long bidId) {
+		return new BidLogEvent(Op.CANCEL, bidId, null, null, null, null);
+	}
+}
@@ -0,0 +1,67 @@
+package com.sparta.cream.domain.trade.simulator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.sparta.cream.domain.bid.entity.BidType;
+
+/**
+ * 운영 환경과 유사한 입찰 로그를 시드 기반으로 결정적으로 생성합니다.
+ * 상품 옵션마다 기준가가 1,000원 단위로 무작위 보행하며,
+ * 대부분의 입찰은 기준가 주변에 대기하고 일부는 반대편 호가를 넘어서 즉시 체결됩니다.
+ * 일정 비율로 이전에 등록된 입찰의 취소 이벤트를 섞으며, 이미 체결된 입찰의 취소도 그대로 포함됩니다.
+ * BidLogGenerator.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+public final class BidLogGenerator {
+
+	private static final long TICK = 1_000L;
+	private static final long BASE_PRICE = 250_000L;
+	private static final double CANCEL_RATIO = 0.1;
+	private static final double AGGRESSIVE_RATIO = 0.2;
+
+	private BidLogGenerator() {
+	}
+
+	/**
+	 * @param eventCount 생성할 이벤트 수
+	 * @param optionCount 상품 옵션 수
+	 * @param seed 난수 시드 (같은 시드는 같은 로그를 생성)
+	 * @return 생성된 입찰 로그
+	 */
+	public static List<BidLogEvent> generate(int eventCount, int optionCount, long seed) {
+		SplittableRandom random = new SplittableRandom(seed);
+		long[] midPrices = new long[optionCount];
+		Arrays.fill(midPrices, BASE_PRICE);
+
+		List<BidLogEvent> events = new ArrayList<>(eventCount);
+		List<Long> issuedBidIds = new ArrayList<>();
+		long nextBidId = 1L;
+
+		while (events.size() < eventCount) {
+			if (!issuedBidIds.isEmpty() && random.nextDouble() < CANCEL_RATIO) {
+				int index = random.nextInt(issuedBidIds.size());
+				events.add(BidLogEvent.cancel(issuedBidIds.get(index)));
+				issuedBidIds.set(index, issuedBidIds.get(issuedBidIds.size() - 1));
+				issuedBidIds.remove(issuedBidIds.size() - 1);
+				continue;
+			}
+
+			int option = random.nextInt(optionCount);
+			midPrices[option] = Math.max(10 * TICK, midPrices[option] + (random.nextInt(3) - 1) * TICK);
+
+			BidType type = random.nextBoolean() ? BidType.BUY : BidType.SELL;
+			long distance = (random.nextDouble() < AGGRESSIVE_RATIO ? -random.nextInt(3) : random.nextInt(1, 20)) * TICK;
+			long price = type == BidType.BUY ? midPrices[option] - distance : midPrices[option] + distance;
+
+			long bidId = nextBidId++;
+			events.add(BidLogEvent.bid(bidId, 1L + random.nextInt(10_000), option + 1L, type, Math.max(TICK, price)));
+			issuedBidIds.add(bidId);
+		}
+		return events;
+	}
+}
@@ -0,0 +1,107 @@
+package com.sparta.cream.domain.trade.simulator;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.sparta.cream.domain.bid.entity.Bid;
+import com.sparta.cream.domain.bid.entity.BidStatus;
+import com.sparta.cream.domain.bid.repository.BidRepository;
+import com.sparta.cream.entity.ProductOption;
+import com.sparta.cream.entity.Users;
+
+/**
+ * bids 테이블을 대체하는 인메모리 입찰 저장소입니다.
+ * 매칭 경로에서 사용하는 {@code findById}, {@code findAllById}, {@code findPendingByProductOptionId}만
+ * {@link BidRepository} 프록시로 제공하며, 사용자와 상품 옵션은 ID별로 한 번만 생성하여 재사용합니다.
+ * InMemoryBidStore.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+public class InMemoryBidStore {
+
+	private final Map<Long, Bid> bids = new HashMap<>();
+	private final Map<Long, Users> users = new HashMap<>();
+	private final Map<Long, ProductOption> options = new HashMap<>();
+	private final BidRepository repository;
+
+	public InMemoryBidStore() {
+		this.repository = StandIns.proxy(BidRepository.class, Map.of(
+			"findById", args -> Optional.ofNullable(bids.get((Long)args[0])),
+			"findAllById", args -> findAllById((Iterable<?>)args[0]),
+			"findPendingByProductOptionId", args -> findPending((Long)args[0])
+		));
+	}
+
+	public BidRepository repository() {
+		return repository;
+	}
+
+	/**
+	 * 입찰 로그의 등록 이벤트로 대기 상태의 입찰을 생성합니다.
+	 * @param event 입찰 등록 이벤트
+	 * @return 생성된 입찰
+	 */
+	public Bid create(BidLogEvent event) {
+		Bid bid = Bid.builder()
+			.id(event.bidId())
+			.user(users.computeIfAbsent(event.userId(), this::newUser))
+			.productOption(options.computeIfAbsent(event.optionId(), this::newOption))
+			.price(event.price())
+			.type(event.type())
+			.status(BidStatus.PENDING)
+			.expiresAt(LocalDateTime.now().plusDays(7))
+			.build();
+		bids.put(bid.getId(), bid);
+		return bid;
+	}
+
+	public Bid get(Long bidId) {
+		return bids.get(bidId);
+	}
+
+	public Collection<Bid> all() {
+		return bids.values();
+	}
+
+	/**
+	 * 상품 옵션의 대기 입찰을 등록 순서(입찰 ID 오름차순)로 조회합니다.
+	 * @param productOptionId 상품 옵션 ID
+	 * @return 대기 입찰 목록
+	 */
+	public List<Bid> findPending(Long productOptionId) {
+		return bids.values().stream()
+			.filter(bid -> bid.getStatus() == BidStatus.PENDING)
+			.filter(bid -> bid.getProductOption().getId().equals(productOptionId))
+			.sorted((bid, other) -> Long.compare(bid.getId(), other.getId()))
+			.toList();
+	}
+
+	private List<Bid> findAllById(Iterable<?> bidIds) {
+		List<Bid> found = new ArrayList<>();
+		for (Object bidId : bidIds) {
+			Bid bid = bids.get((Long)bidId);
+			if (bid != null) {
+				found.add(bid);
+			}
+		}
+		return found;
+	}
+
+	private Users newUser(Long userId) {
+		Users user = new Users("user" + userId + "@sim.local", "password", "user" + userId, "010-0000-0000");
+		StandIns.assignId(user, userId);
+		return user;
+	}
+
+	private ProductOption newOption(Long optionId) {
+		ProductOption option = ProductOption.builder().size(String.valueOf(optionId)).build();
+		StandIns.assignId(option, optionId);
+		return option;
+	}
+}
@@ -0,0 +1,78 @@
+package com.sparta.cream.domain.trade.simulator;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+
+/**
+ * 입찰 대기열(ZSet)을 대체하는 인메모리 Redis입니다.
+ * 매칭 경로에서 사용하는 ZSet 제거와, 체결된 구매/판매 입찰 쌍을 제거하는 Lua 스크립트 호출만
+ * {@link RedissonClient} 프록시로 제공합니다. 스크립트는 실행하지 않고
+ * ARGV를 (구매 입찰 ID, 판매 입찰 ID) 쌍으로 해석하여 KEYS[1], KEYS[2]에서 제거하는 동작을 그대로 재현합니다.
+ * InMemoryRedis.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+public class InMemoryRedis {
+
+	private final Map<String, Map<Object, Double>> sortedSets = new HashMap<>();
+	private final RedissonClient client;
+
+	public InMemoryRedis() {
+		RScript script = StandIns.proxy(RScript.class, Map.of(
+			"eval", this::evalRemoveMatchedPairs
+		));
+		this.client = StandIns.proxy(RedissonClient.class, Map.of(
+			"getScoredSortedSet", args -> sortedSet((String)args[0]),
+			"getScript", args -> script
+		));
+	}
+
+	public RedissonClient client() {
+		return client;
+	}
+
+	/**
+	 * 입찰 등록 시 BidService와 동일하게 대기열에 입찰을 추가합니다.
+	 */
+	public void add(String key, double score, Long bidId) {
+		sortedSets.computeIfAbsent(key, ignored -> new HashMap<>()).put(bidId, score);
+	}
+
+	public void remove(String key, Long bidId) {
+		Map<Object, Double> members = sortedSets.get(key);
+		if (members != null) {
+			members.remove(bidId);
+		}
+	}
+
+	public Set<Object> members(String key) {
+		return sortedSets.getOrDefault(key, Map.of()).keySet();
+	}
+
+	private RScoredSortedSet<?> sortedSet(String key) {
+		return StandIns.proxy(RScoredSortedSet.class, Map.of(
+			"remove", args -> {
+				Map<Object, Double> members = sortedSets.get(key);
+				return members != null && members.remove(args[0]) != null;
+			}
+		));
+	}
+
+	private Object evalRemoveMatchedPairs(Object[] args) {
+		List<?> keys = (List<?>)args[3];
+		Object[] bidIds = (Object[])args[4];
+		long removed = 0;
+		for (int i = 0; i + 1 < bidIds.length; i += 2) {
+			removed += sortedSets.getOrDefault((String)keys.get(0), new HashMap<>()).remove(bidIds[i]) != null ? 1 : 0;
+			removed += sortedSets.getOrDefault((String)keys.get(1), new HashMap<>()).remove(bidIds[i + 1]) != null ? 1 : 0;
+		}
+		return removed;
+	}
+}
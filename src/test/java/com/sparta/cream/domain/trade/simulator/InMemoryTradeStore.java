@@ -0,0 +1,54 @@
+package com.sparta.cream.domain.trade.simulator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.sparta.cream.domain.trade.entity.Trade;
+import com.sparta.cream.domain.trade.repository.TradeRepository;
+
+/**
+ * trades 테이블을 대체하는 인메모리 거래 저장소입니다.
+ * {@code saveAll}로 저장된 거래에 순차 ID를 부여하고, 시뮬레이터가 매칭 한 번마다
+ * 새로 저장된 거래만 꺼내어 검증할 수 있도록 보관합니다.
+ * InMemoryTradeStore.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+public class InMemoryTradeStore {
+
+	private final List<Trade> recentlySaved = new ArrayList<>();
+	private final TradeRepository repository;
+	private long nextTradeId = 1L;
+
+	public InMemoryTradeStore() {
+		this.repository = StandIns.proxy(TradeRepository.class, Map.of(
+			"saveAll", args -> saveAll((Iterable<?>)args[0])
+		));
+	}
+
+	public TradeRepository repository() {
+		return repository;
+	}
+
+	/**
+	 * 직전 호출 이후 저장된 거래를 저장 순서대로 꺼냅니다.
+	 * @return 새로 저장된 거래 목록
+	 */
+	public List<Trade> drainSaved() {
+		List<Trade> saved = List.copyOf(recentlySaved);
+		recentlySaved.clear();
+		return saved;
+	}
+
+	private List<Trade> saveAll(Iterable<?> trades) {
+		List<Trade> saved = new ArrayList<>();
+		for (Object trade : trades) {
+			StandIns.assignId(trade, nextTradeId++);
+			saved.add((Trade)trade);
+		}
+		recentlySaved.addAll(saved);
+		return saved;
+	}
+}
@@ -0,0 +1,378 @@
+package com.sparta.cream.domain.trade.simulator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.cream.domain.bid.entity.Bid;
+import com.sparta.cream.domain.bid.entity.BidStatus;
+import com.sparta.cream.domain.bid.entity.BidType;
+import com.sparta.cream.domain.trade.engine.MatchingMetrics;
+import com.sparta.cream.domain.trade.engine.OrderBook;
+import com.sparta.cream.domain.trade.engine.OrderBookRegistry;
+import com.sparta.cream.domain.trade.engine.PriceTimePriority;
+import com.sparta.cream.domain.trade.engine.RestingOrder;
+import com.sparta.cream.domain.trade.entity.Trade;
+import com.sparta.cream.domain.trade.event.TradeMatchedBatchEvent;
+import com.sparta.cream.domain.trade.listener.MatchedBidQueueListener;
+import com.sparta.cream.domain.trade.service.MatchingService;
+import com.sparta.cream.outbox.OutboxDelivery;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Redis와 MySQL 없이 실제 {@link MatchingService}에 입찰 로그를 재생하는 결정적 매칭 시뮬레이터입니다.
+ * 리포지토리와 Redisson은 인메모리 구현({@link InMemoryBidStore}, {@link InMemoryTradeStore}, {@link InMemoryRedis})으로 대체하고,
+ * 호가창은 운영과 같은 {@link OrderBookRegistry}를 사용하며, 커밋 이후 동작과 아웃박스로 전달되는 Redis 대기열 정리({@link MatchedBidQueueListener})도 매 입찰마다 재현합니다.
+ * 단일 스레드에서 로그 순서대로 재생하므로 같은 입력은 항상 같은 거래 순서(digest)를 만듭니다.
+ * 매 입찰마다 다음 불변식을 검증합니다.
+ * 1. 신규 입찰은 교차하는 반대편 최우선 주문(가장 유리한 가격, 같은 가격이면 먼저 등록된 주문)과만 체결하며,
+ *    자기 체결 방지(기본 정책 SKIP)에 따라 같은 사용자의 주문은 건너뜀
+ * 2. 체결 가격은 먼저 대기하던 주문의 가격
+ * 3. 매칭 직후 호가창은 다른 사용자의 주문끼리 교차하지 않음 (같은 사용자의 구매/판매 주문끼리만 교차한 채 남을 수 있음)
+ * 재생이 끝나면 호가창 정렬 순서와, 호가창·대기 입찰·Redis 대기열의 구성이 일치하는지 검증합니다.
+ * <pre>
+ * ./gradlew simulateMatching -PsimArgs="--generate 1000000 --options 50 --seed 7 --warmup"
+ * ./gradlew simulateMatching -PsimArgs="--input bids.jsonl --trades trades.jsonl"
+ * </pre>
+ * MatchingSimulator.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+public class MatchingSimulator {
+
+	private static final int MAX_REPORTED_VIOLATIONS = 20;
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private final InMemoryBidStore bidStore = new InMemoryBidStore();
+	private final InMemoryTradeStore tradeStore = new InMemoryTradeStore();
+	private final InMemoryRedis redis = new InMemoryRedis();
+	private final OrderBookRegistry orderBookRegistry;
+	private final MatchingService matchingService;
+	private final Consumer<Trade> tradeSink;
+	private final List<String> violations = new ArrayList<>();
+
+	private long violationCount;
+	private long bids;
+	private long cancels;
+	private long skippedCancels;
+	private long trades;
+	private long tradeDigest = FNV_OFFSET;
+
+	public MatchingSimulator() {
+		this(trade -> {
+		});
+	}
+
+	/**
+	 * @param tradeSink 체결 순서대로 거래를 전달받을 소비자
+	 */
+	public MatchingSimulator(Consumer<Trade> tradeSink) {
+		this.tradeSink = tradeSink;
+		this.orderBookRegistry = new OrderBookRegistry(bidStore.repository(), List.of());
+		MatchedBidQueueListener matchedBidQueueListener = new MatchedBidQueueListener(redis.client());
+		this.matchingService = new MatchingService(
+			bidStore.repository(),
+			tradeStore.repository(),
+			event -> {
+				if (event instanceof TradeMatchedBatchEvent matched) {
+					matchedBidQueueListener.handleTradeMatched(new OutboxDelivery<>(0L, matched));
+				}
+			},
+			redis.client(),
+			orderBookRegistry,
+			new MatchingMetrics(new SimpleMeterRegistry(), orderBookRegistry)
+		);
+	}
+
+	/**
+	 * 입찰 로그를 순서대로 재생하고 결과를 반환합니다.
+	 * @param events 입찰 로그
+	 * @return 시뮬레이션 결과
+	 */
+	public SimulationReport run(List<BidLogEvent> events) {
+		long[] latencies = new long[events.size()];
+		int measured = 0;
+
+		long startedAt = System.nanoTime();
+		for (BidLogEvent event : events) {
+			switch (event.op()) {
+				case BID -> latencies[measured++] = submit(event);
+				case CANCEL -> cancel(event);
+			}
+		}
+		long elapsedNanos = System.nanoTime() - startedAt;
+
+		verifyFinalState();
+
+		long[] sortedLatencies = Arrays.copyOf(latencies, measured);
+		Arrays.sort(sortedLatencies);
+		return new SimulationReport(
+			events.size(), bids, cancels, skippedCancels, trades,
+			elapsedNanos, sortedLatencies, tradeDigest, violationCount, List.copyOf(violations)
+		);
+	}
+
+	/**
+	 * BidService와 같은 순서로 입찰을 등록(DB 저장 → Redis 대기열 추가)한 뒤 매칭을 실행합니다.
+	 * @return 매칭 한 번의 소요 시간(나노초)
+	 */
+	private long submit(BidLogEvent event) {
+		bids++;
+		Bid bid = bidStore.create(event);
+		redis.add(zSetKey(bid.getType(), event.optionId()), PriceTimePriority.redisScore(bid.getType(), bid.getPrice()),
+			bid.getId());
+
+		OrderBook orderBook = orderBookRegistry.getOrLoad(event.optionId());
+		RestingOrder expected = orderBook.bestOpposite(bid.getType(), event.userId());
+		if (expected != null && !PriceTimePriority.crosses(bid.getType(), bid.getPrice(), expected.price())) {
+			expected = null;
+		}
+
+		long startedAt = System.nanoTime();
+		inCommittedTransaction(() -> matchingService.checkStatusAndMatch(bid.getId()));
+		long latency = System.nanoTime() - startedAt;
+
+		verifyMatch(bid, expected, orderBook, tradeStore.drainSaved());
+		return latency;
+	}
+
+	/**
+	 * BidService와 같이 대기 중인 입찰만 취소하고 Redis 대기열과 호가창에서 제거합니다.
+	 * 이미 체결되었거나 존재하지 않는 입찰의 취소는 무시합니다.
+	 */
+	private void cancel(BidLogEvent event) {
+		Bid bid = bidStore.get(event.bidId());
+		if (bid == null || bid.getStatus() != BidStatus.PENDING) {
+			skippedCancels++;
+			return;
+		}
+		cancels++;
+		bid.cancel(bid.getUserId());
+		Long optionId = bid.getProductOption().getId();
+		redis.remove(zSetKey(bid.getType(), optionId), bid.getId());
+		orderBookRegistry.find(optionId).ifPresent(orderBook -> orderBook.remove(bid.getId()));
+	}
+
+	private void verifyMatch(Bid bid, RestingOrder expected, OrderBook orderBook, List<Trade> saved) {
+		saved.forEach(this::recordTrade);
+
+		if (expected == null) {
+			if (!saved.isEmpty()) {
+				violation("입찰 %d: 교차하는 상대 주문이 없는데 %d건 체결", bid.getId(), saved.size());
+			} else if (!orderBook.contains(bid.getId())) {
+				violation("입찰 %d: 체결되지 않았는데 호가창에 대기하지 않음", bid.getId());
+			}
+		} else if (saved.size() != 1) {
+			violation("입찰 %d: 최우선 상대 %d와 1건 체결되어야 하지만 %d건 체결", bid.getId(), expected.bidId(), saved.size());
+		} else {
+			Trade trade = saved.get(0);
+			long counterBidId = bid.getType() == BidType.BUY ? trade.getSaleBidId().getId() : trade.getPurchaseBidId().getId();
+			if (counterBidId != expected.bidId()) {
+				violation("입찰 %d: 가격-시간 우선순위 위반 (예상 상대 %d, 실제 상대 %d)", bid.getId(), expected.bidId(), counterBidId);
+			}
+			if (trade.getFinalPrice() != expected.price()) {
+				violation("입찰 %d: 체결가 %d원이 대기 주문 가격 %d원과 다름", bid.getId(), trade.getFinalPrice(), expected.price());
+			}
+		}
+
+		RestingOrder bestBuy = orderBook.best(BidType.BUY);
+		RestingOrder bestSell = orderBook.best(BidType.SELL);
+		if (bestBuy != null && bestSell != null && bestBuy.price() >= bestSell.price()) {
+			RestingOrder otherSell = orderBook.best(BidType.SELL, bestBuy.userId());
+			RestingOrder otherBuy = orderBook.best(BidType.BUY, bestSell.userId());
+			if ((otherSell != null && bestBuy.price() >= otherSell.price())
+				|| (otherBuy != null && otherBuy.price() >= bestSell.price())) {
+				violation("옵션 %d: 매칭 후 다른 사용자의 호가끼리 교차 (구매 %d원 >= 판매 %d원)",
+					orderBook.getProductOptionId(), bestBuy.price(), bestSell.price());
+			}
+		}
+	}
+
+	/**
+	 * 재생 종료 후 옵션별로 호가창 정렬 순서와 호가창·대기 입찰·Redis 대기열 구성이 일치하는지 검증합니다.
+	 */
+	private void verifyFinalState() {
+		Map<Long, Set<Long>> pendingByOption = new HashMap<>();
+		bidStore.all().stream()
+			.filter(bid -> bid.getStatus() == BidStatus.PENDING)
+			.forEach(bid -> pendingByOption
+				.computeIfAbsent(bid.getProductOption().getId(), ignored -> new HashSet<>())
+				.add(bid.getId()));
+
+		Map<Long, List<RestingOrder>> books = orderBookRegistry.snapshot();
+		Set<Long> optionIds = new HashSet<>(books.keySet());
+		optionIds.addAll(pendingByOption.keySet());
+
+		for (Long optionId : optionIds) {
+			List<RestingOrder> orders = books.getOrDefault(optionId, List.of());
+			verifyPriority(optionId, orders);
+
+			Set<Long> bookBidIds = new HashSet<>();
+			orders.forEach(order -> bookBidIds.add(order.bidId()));
+			Set<Object> redisBidIds = new HashSet<>(redis.members(zSetKey(BidType.BUY, optionId)));
+			redisBidIds.addAll(redis.members(zSetKey(BidType.SELL, optionId)));
+			Set<Long> pendingBidIds = pendingByOption.getOrDefault(optionId, Set.of());
+
+			if (!bookBidIds.equals(pendingBidIds)) {
+				violation("옵션 %d: 호가창 주문 %d건과 대기 입찰 %d건 불일치", optionId, bookBidIds.size(), pendingBidIds.size());
+			}
+			if (!redisBidIds.equals(new HashSet<Object>(pendingBidIds))) {
+				violation("옵션 %d: Redis 대기열 %d건과 대기 입찰 %d건 불일치", optionId, redisBidIds.size(), pendingBidIds.size());
+			}
+		}
+	}
+
+	/**
+	 * 호가창 주문이 방향별로 가격 우선, 같은 가격 안에서는 등록 순서대로 정렬되어 있는지 검증합니다.
+	 */
+	private void verifyPriority(Long optionId, List<RestingOrder> orders) {
+		for (int i = 1; i < orders.size(); i++) {
+			RestingOrder previous = orders.get(i - 1);
+			RestingOrder current = orders.get(i);
+			if (previous.type() != current.type()) {
+				continue;
+			}
+			int priceOrder = PriceTimePriority.comparePrice(current.type(), previous.price(), current.price());
+			if (priceOrder > 0 || (priceOrder == 0 && previous.bidId() > current.bidId())) {
+				violation("옵션 %d: 호가창 우선순위 위반 (%d 다음에 %d)", optionId, previous.bidId(), current.bidId());
+			}
+		}
+	}
+
+	private void recordTrade(Trade trade) {
+		trades++;
+		tradeDigest = mix(tradeDigest, trade.getPurchaseBidId().getId());
+		tradeDigest = mix(tradeDigest, trade.getSaleBidId().getId());
+		tradeDigest = mix(tradeDigest, trade.getFinalPrice());
+		tradeSink.accept(trade);
+	}
+
+	private void violation(String format, Object... args) {
+		violationCount++;
+		if (violations.size() < MAX_REPORTED_VIOLATIONS) {
+			violations.add(String.format(format, args));
+		}
+	}
+
+	/**
+	 * 트랜잭션 커밋을 흉내 내어, 매칭 중 등록된 커밋 이후 동작을 즉시 실행합니다.
+	 */
+	private static void inCommittedTransaction(Runnable work) {
+		TransactionSynchronizationManager.initSynchronization();
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		try {
+			work.run();
+			List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+			synchronizations.forEach(TransactionSynchronization::afterCommit);
+			synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+		} finally {
+			TransactionSynchronizationManager.setActualTransactionActive(false);
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	private static long mix(long hash, long value) {
+		return (hash ^ value) * FNV_PRIME;
+	}
+
+	private static String zSetKey(BidType type, Long productOptionId) {
+		return (type == BidType.BUY ? "bids:buy:" : "bids:sell:") + productOptionId;
+	}
+
+	public static void main(String[] args) throws IOException {
+		Map<String, String> options = parseArgs(args);
+		((Logger)LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+		ObjectMapper objectMapper = new ObjectMapper();
+		List<BidLogEvent> events;
+		if (options.containsKey("input")) {
+			try (Stream<String> lines = Files.lines(Path.of(options.get("input")))) {
+				events = lines.filter(line -> !line.isBlank())
+					.map(line -> readEvent(objectMapper, line))
+					.toList();
+			}
+		} else {
+			events = BidLogGenerator.generate(
+				Integer.parseInt(options.getOrDefault("generate", "1000000")),
+				Integer.parseInt(options.getOrDefault("options", "50")),
+				Long.parseLong(options.getOrDefault("seed", "1")));
+		}
+
+		if (options.containsKey("save-input")) {
+			try (BufferedWriter writer = Files.newBufferedWriter(Path.of(options.get("save-input")))) {
+				for (BidLogEvent event : events) {
+					writer.write(objectMapper.writeValueAsString(event));
+					writer.newLine();
+				}
+			}
+		}
+
+		if (options.containsKey("warmup")) {
+			new MatchingSimulator().run(events);
+		}
+
+		SimulationReport report;
+		if (options.containsKey("trades")) {
+			try (BufferedWriter writer = Files.newBufferedWriter(Path.of(options.get("trades")))) {
+				report = new MatchingSimulator(trade -> writeTrade(writer, trade)).run(events);
+			}
+		} else {
+			report = new MatchingSimulator().run(events);
+		}
+
+		System.out.print(report.format());
+		if (report.violationCount() > 0) {
+			System.exit(1);
+		}
+	}
+
+	private static Map<String, String> parseArgs(String[] args) {
+		Map<String, String> options = new HashMap<>();
+		for (int i = 0; i < args.length; i++) {
+			String name = args[i].replaceFirst("^--", "");
+			boolean hasValue = i + 1 < args.length && !args[i + 1].startsWith("--");
+			options.put(name, hasValue ? args[++i] : "true");
+		}
+		return options;
+	}
+
+	private static BidLogEvent readEvent(ObjectMapper objectMapper, String line) {
+		try {
+			return objectMapper.readValue(line, BidLogEvent.class);
+		} catch (IOException e) {
+			throw new UncheckedIOException("입찰 로그를 읽을 수 없습니다: " + line, e);
+		}
+	}
+
+	private static void writeTrade(BufferedWriter writer, Trade trade) {
+		try {
+			writer.write(String.format("{\"tradeId\":%d,\"optionId\":%d,\"buyBidId\":%d,\"sellBidId\":%d,\"price\":%d}",
+				trade.getId(), trade.getPurchaseBidId().getProductOption().getId(),
+				trade.getPurchaseBidId().getId(), trade.getSaleBidId().getId(), trade.getFinalPrice()));
+			writer.newLine();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
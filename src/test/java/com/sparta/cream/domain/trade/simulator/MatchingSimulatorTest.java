@@ -0,0 +1,80 @@
+package com.sparta.cream.domain.trade.simulator;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sparta.cream.domain.bid.entity.BidType;
+import com.sparta.cream.domain.trade.entity.Trade;
+
+/**
+ * MatchingSimulator를 통해 실제 매칭 서비스의 가격-시간 우선순위 불변식과 결정성을 검증하는 테스트 클래스입니다.
+ * 1. 생성된 입찰 로그 재생 시 불변식 위반이 없는지
+ * 2. 같은 로그는 항상 같은 거래 순서를 만드는지
+ * 3. 같은 가격 안에서는 먼저 등록된 주문과 체결되는지
+ * MatchingSimulatorTest.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+class MatchingSimulatorTest {
+
+	@Test
+	@DisplayName("생성된 입찰 로그를 재생해도 가격-시간 우선순위 불변식이 유지된다")
+	void generatedLogKeepsInvariants() {
+		// given
+		List<BidLogEvent> events = BidLogGenerator.generate(10_000, 5, 7L);
+
+		// when
+		SimulationReport report = new MatchingSimulator().run(events);
+
+		// then
+		assertThat(report.violations()).isEmpty();
+		assertThat(report.violationCount()).isZero();
+		assertThat(report.trades()).isPositive();
+		assertThat(report.bids() + report.cancels() + report.skippedCancels()).isEqualTo(events.size());
+	}
+
+	@Test
+	@DisplayName("같은 입찰 로그는 항상 같은 거래 순서를 만든다")
+	void replayIsDeterministic() {
+		// given
+		List<BidLogEvent> events = BidLogGenerator.generate(10_000, 5, 11L);
+
+		// when
+		SimulationReport first = new MatchingSimulator().run(events);
+		SimulationReport second = new MatchingSimulator().run(events);
+
+		// then
+		assertThat(second.trades()).isEqualTo(first.trades());
+		assertThat(second.tradeDigest()).isEqualTo(first.tradeDigest());
+	}
+
+	@Test
+	@DisplayName("최저 판매가가 같으면 먼저 등록된 판매 입찰과 그 가격으로 체결된다")
+	void matchesEarliestOrderAtBestPrice() {
+		// given
+		List<BidLogEvent> events = List.of(
+			BidLogEvent.bid(1L, 1L, 1L, BidType.SELL, 250_000L),
+			BidLogEvent.bid(2L, 2L, 1L, BidType.SELL, 249_000L),
+			BidLogEvent.bid(3L, 3L, 1L, BidType.SELL, 249_000L),
+			BidLogEvent.cancel(2L),
+			BidLogEvent.bid(4L, 4L, 1L, BidType.BUY, 260_000L)
+		);
+		List<Trade> trades = new ArrayList<>();
+
+		// when
+		SimulationReport report = new MatchingSimulator(trades::add).run(events);
+
+		// then
+		assertThat(report.violationCount()).isZero();
+		assertThat(trades).hasSize(1);
+		assertThat(trades.get(0).getPurchaseBidId().getId()).isEqualTo(4L);
+		assertThat(trades.get(0).getSaleBidId().getId()).isEqualTo(3L);
+		assertThat(trades.get(0).getFinalPrice()).isEqualTo(249_000L);
+	}
+}
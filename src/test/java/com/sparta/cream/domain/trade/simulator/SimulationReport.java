@@ -0,0 +1,57 @@
+package com.sparta.cream.domain.trade.simulator;
+
+import java.util.List;
+
+/**
+ * 매칭 시뮬레이션 결과입니다.
+ * 처리량과 입찰당 매칭 지연 분포, 생성된 거래 수와 거래 순서 요약값(digest), 불변식 위반 내역을 담습니다.
+ * 같은 입력에 대해 digest가 다르면 매칭 결과(체결 상대 또는 체결 가격)가 달라진 것입니다.
+ * SimulationReport.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+public record SimulationReport(
+	long events,
+	long bids,
+	long cancels,
+	long skippedCancels,
+	long trades,
+	long elapsedNanos,
+	long[] sortedLatencyNanos,
+	long tradeDigest,
+	long violationCount,
+	List<String> violations
+) {
+
+	public double eventsPerSecond() {
+		return elapsedNanos == 0 ? 0 : events * 1_000_000_000.0 / elapsedNanos;
+	}
+
+	/**
+	 * 입찰 한 건의 매칭 지연 백분위수를 조회합니다.
+	 * @param percentile 0 초과 100 이하의 백분위
+	 * @return 지연 시간(나노초), 측정값이 없으면 0
+	 */
+	public long latencyPercentile(double percentile) {
+		if (sortedLatencyNanos.length == 0) {
+			return 0;
+		}
+		int rank = (int)Math.ceil(percentile / 100.0 * sortedLatencyNanos.length);
+		return sortedLatencyNanos[Math.min(Math.max(rank, 1), sortedLatencyNanos.length) - 1];
+	}
+
+	public String format() {
+		StringBuilder report = new StringBuilder()
+			.append("=== 매칭 시뮬레이션 결과 ===\n")
+			.append(String.format("이벤트: %,d (입찰 %,d / 취소 %,d, 무시된 취소 %,d)%n", events, bids, cancels, skippedCancels))
+			.append(String.format("소요 시간: %,.1f ms%n", elapsedNanos / 1_000_000.0))
+			.append(String.format("처리량: %,.0f events/s (%,.0f events/min)%n", eventsPerSecond(), eventsPerSecond() * 60))
+			.append(String.format("매칭 지연: p50 %,d ns / p99 %,d ns / p99.9 %,d ns / max %,d ns%n",
+				latencyPercentile(50), latencyPercentile(99), latencyPercentile(99.9), latencyPercentile(100)))
+			.append(String.format("거래: %,d건, digest %016x%n", trades, tradeDigest))
+			.append(String.format("불변식 위반: %,d건%n", violationCount));
+		violations.forEach(violation -> report.append("  - ").append(violation).append('\n'));
+		return report.toString();
+	}
+}
@@ -0,0 +1,61 @@
+package com.sparta.cream.domain.trade.simulator;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 시뮬레이터에서 Redis/DB 의존성을 대체하는 인메모리 구현을 만들기 위한 보조 기능입니다.
+ * 리포지토리와 Redisson 인터페이스는 메서드 수가 많으므로, 매칭 경로에서 실제로 호출되는 메서드만
+ * 이름 기준으로 구현하는 동적 프록시를 생성하고 나머지 호출은 즉시 실패시킵니다.
+ * StandIns.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+final class StandIns {
+
+	private StandIns() {
+	}
+
+	/**
+	 * 메서드 이름별 구현만 가진 인터페이스 프록시를 생성합니다.
+	 * @param type 구현할 인터페이스
+	 * @param handlers 메서드 이름별 구현 (인자 배열을 받아 반환값을 돌려줌)
+	 * @return 프록시 인스턴스
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> T proxy(Class<T> type, Map<String, Function<Object[], Object>> handlers) {
+		InvocationHandler invocationHandler = (proxy, method, args) -> {
+			Function<Object[], Object> handler = handlers.get(method.getName());
+			if (handler != null) {
+				return handler.apply(args == null ? new Object[0] : args);
+			}
+			return switch (method.getName()) {
+				case "toString" -> "InMemory" + type.getSimpleName();
+				case "hashCode" -> System.identityHashCode(proxy);
+				case "equals" -> proxy == args[0];
+				default -> throw new UnsupportedOperationException(
+					"시뮬레이터에서 지원하지 않는 호출입니다: " + type.getSimpleName() + "." + method.getName());
+			};
+		};
+		return (T)Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, invocationHandler);
+	}
+
+	/**
+	 * DB가 발급하는 엔티티 식별자를 직접 지정합니다.
+	 * @param entity 대상 엔티티
+	 * @param id 지정할 식별자
+	 */
+	static void assignId(Object entity, Long id) {
+		try {
+			Field field = entity.getClass().getDeclaredField("id");
+			field.setAccessible(true);
+			field.set(entity, id);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("엔티티 식별자를 지정할 수 없습니다: " + entity.getClass().getSimpleName(), e);
+		}
+	}
+}
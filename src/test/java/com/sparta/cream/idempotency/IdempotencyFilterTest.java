@@ -0,0 +1,144 @@
+package com.sparta.cream.idempotency;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.cream.entity.UserRole;
+import com.sparta.cream.security.CustomUserDetails;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * IdempotencyFilter의 중복 요청 처리를 검증하는 테스트 클래스입니다.
+ * 1. 처음 보는 키는 선점 후 요청을 실행하고 성공 응답을 저장하는지
+ * 2. 완료된 키의 재시도는 컨트롤러를 실행하지 않고 저장된 응답을 돌려주는지
+ * 3. 같은 키에 다른 본문이 오면 422로 거절하는지
+ * IdempotencyFilterTest.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@ExtendWith(MockitoExtension.class)
+class IdempotencyFilterTest {
+
+	private static final String BODY = "{\"productOptionId\":1,\"price\":150000,\"type\":\"SELL\"}";
+	private static final String STORE_KEY = "7:retry-1";
+
+	@Mock
+	private IdempotencyStore idempotencyStore;
+
+	private IdempotencyFilter idempotencyFilter;
+
+	@BeforeEach
+	void setUp() {
+		idempotencyFilter = new IdempotencyFilter(idempotencyStore, new ObjectMapper());
+		CustomUserDetails principal = new CustomUserDetails(7L, "seller@cream.com", UserRole.USER);
+		SecurityContextHolder.getContext().setAuthentication(
+			new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	@DisplayName("처음 보는 키는 선점 후 요청을 실행하고, 본문을 다시 읽을 수 있으며 성공 응답이 저장된다")
+	void firstRequestStoresResponseTest() throws Exception {
+		// given
+		given(idempotencyStore.find(STORE_KEY)).willReturn(Optional.empty());
+		given(idempotencyStore.tryClaim(eq(STORE_KEY), anyString())).willReturn(true);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		// when
+		idempotencyFilter.doFilter(bidRequest(BODY), response, new MockFilterChain(new EchoServlet()));
+
+		// then
+		ArgumentCaptor<IdempotentRecord> captor = ArgumentCaptor.forClass(IdempotentRecord.class);
+		verify(idempotencyStore).complete(eq(STORE_KEY), captor.capture());
+		verify(idempotencyStore, never()).release(anyString());
+		assertThat(captor.getValue().completed()).isTrue();
+		assertThat(captor.getValue().body()).isEqualTo(BODY);
+		assertThat(response.getContentAsString()).isEqualTo(BODY);
+	}
+
+	@Test
+	@DisplayName("완료된 키로 같은 요청을 재시도하면 컨트롤러를 실행하지 않고 저장된 응답을 돌려준다")
+	void duplicateRequestReplaysTest() throws Exception {
+		// given
+		String fingerprint = IdempotencyFilter.fingerprint("POST", "/v1/bids", BODY.getBytes(StandardCharsets.UTF_8));
+		given(idempotencyStore.find(STORE_KEY)).willReturn(Optional.of(
+			IdempotentRecord.completed(fingerprint, 200, MediaType.APPLICATION_JSON_VALUE, "{\"id\":10}")));
+		MockFilterChain chain = new MockFilterChain();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		// when
+		idempotencyFilter.doFilter(bidRequest(BODY), response, chain);
+
+		// then
+		assertThat(chain.getRequest()).isNull();
+		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(response.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+		assertThat(response.getContentAsString()).isEqualTo("{\"id\":10}");
+		verify(idempotencyStore, never()).tryClaim(anyString(), anyString());
+	}
+
+	@Test
+	@DisplayName("같은 키에 다른 본문을 보내면 422로 거절한다")
+	void reusedKeyWithDifferentBodyTest() throws Exception {
+		// given
+		String fingerprint = IdempotencyFilter.fingerprint("POST", "/v1/bids", BODY.getBytes(StandardCharsets.UTF_8));
+		given(idempotencyStore.find(STORE_KEY)).willReturn(Optional.of(
+			IdempotentRecord.completed(fingerprint, 200, MediaType.APPLICATION_JSON_VALUE, "{\"id\":10}")));
+		MockFilterChain chain = new MockFilterChain();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		// when
+		idempotencyFilter.doFilter(bidRequest("{\"productOptionId\":1,\"price\":1,\"type\":\"SELL\"}"), response, chain);
+
+		// then
+		assertThat(chain.getRequest()).isNull();
+		assertThat(response.getStatus()).isEqualTo(422);
+	}
+
+	private MockHttpServletRequest bidRequest(String body) {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/v1/bids");
+		request.addHeader(IdempotencyFilter.HEADER, "retry-1");
+		request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		request.setContent(body.getBytes(StandardCharsets.UTF_8));
+		return request;
+	}
+
+	/**
+	 * 요청 본문을 그대로 응답하는 테스트용 서블릿입니다.
+	 */
+	private static class EchoServlet extends HttpServlet {
+		@Override
+		protected void service(HttpServletRequest request, HttpServletResponse response) throws java.io.IOException {
+			response.setStatus(200);
+			response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+			response.getOutputStream().write(request.getInputStream().readAllBytes());
+		}
+	}
+}
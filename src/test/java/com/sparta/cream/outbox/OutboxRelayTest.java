@@ -0,0 +1,142 @@
+package com.sparta.cream.outbox;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.cream.domain.event.PaymentCompletedEvent;
+import com.sparta.cream.domain.notification.entity.NotificationType;
+import com.sparta.cream.domain.notification.listener.NotificationEventListener;
+import com.sparta.cream.domain.notification.service.NotificationService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * OutboxRelay의 전달, 완료, 재시도 처리를 검증하는 테스트 클래스입니다.
+ * 1. 선점한 행을 원래 이벤트로 복원하여 전달하고, 성공한 행만 한 번에 완료 처리하는지
+ * 2. 소비자가 실패한 행은 재시도 대상으로 기록하는지
+ * 3. 가득 찬 배치를 받으면 이어서 다음 배치를 선점하는지
+ * 4. 두 소비자 중 하나가 실패해 다시 전달될 때 알림 소비자가 같은 아웃박스 행 ID로 멱등하게 처리되는지
+ * OutboxRelayTest.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 17.
+ */
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+	private static final int BATCH_SIZE = 2;
+
+	@Mock
+	private OutboxService outboxService;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Mock
+	private NotificationService notificationService;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private SimpleMeterRegistry meterRegistry;
+	private OutboxRelay outboxRelay;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		outboxRelay = new OutboxRelay(outboxService, eventPublisher, objectMapper, meterRegistry, BATCH_SIZE, 5);
+	}
+
+	@Test
+	@DisplayName("선점한 행은 원래 이벤트로 전달되고, 성공한 행만 한 번에 완료 처리된다")
+	void deliverAndCompleteTest() throws Exception {
+		// given
+		PaymentCompletedEvent paid = new PaymentCompletedEvent(1L, "덩크 로우", 150000L, 30L);
+		given(outboxService.claim(BATCH_SIZE)).willReturn(List.of(row(10L, paid)));
+
+		// when
+		outboxRelay.relay();
+
+		// then
+		ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+		verify(eventPublisher).publishEvent(captor.capture());
+		assertThat(captor.getValue()).isEqualTo(new OutboxDelivery<>(10L, paid));
+		verify(outboxService).complete(List.of(10L));
+		verify(outboxService, never()).fail(anyLong());
+		assertThat(meterRegistry.get("cream.outbox.delivered").counter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("소비자가 실패한 행은 재시도 대상으로 기록되고, 가득 찬 배치 뒤에는 다음 배치를 이어서 선점한다")
+	void failAndContinueTest() throws Exception {
+		// given
+		PaymentCompletedEvent paid = new PaymentCompletedEvent(1L, "덩크 로우", 150000L, 30L);
+		PaymentCompletedEvent broken = new PaymentCompletedEvent(2L, "조던 1", 210000L, 31L);
+		given(outboxService.claim(BATCH_SIZE))
+			.willReturn(List.of(row(10L, paid), row(11L, broken)))
+			.willReturn(List.of());
+		willThrow(new IllegalStateException("알림 저장 실패"))
+			.given(eventPublisher).publishEvent(new OutboxDelivery<>(11L, broken));
+
+		// when
+		outboxRelay.relay();
+
+		// then
+		verify(outboxService).complete(List.of(10L));
+		verify(outboxService).fail(11L);
+		verify(outboxService, times(2)).claim(BATCH_SIZE);
+		verify(outboxService, times(1)).complete(anyList());
+		assertThat(meterRegistry.get("cream.outbox.failures").counter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("두 소비자 중 하나가 실패하면 행이 다시 전달되고, 알림 소비자는 같은 아웃박스 행 ID로 중복 저장을 건너뛸 수 있다")
+	void oneOfTwoConsumersFailsTest() throws Exception {
+		// given
+		PaymentCompletedEvent paid = new PaymentCompletedEvent(1L, "덩크 로우", 150000L, 30L);
+		given(outboxService.claim(BATCH_SIZE)).willReturn(List.of(row(10L, paid)));
+		NotificationEventListener notificationConsumer = new NotificationEventListener(notificationService);
+		AtomicInteger queueConsumerCalls = new AtomicInteger();
+		ApplicationEventPublisher fanOut = event -> {
+			@SuppressWarnings("unchecked")
+			OutboxDelivery<PaymentCompletedEvent> delivery = (OutboxDelivery<PaymentCompletedEvent>)event;
+			notificationConsumer.handlePaymentCompletedNotification(delivery);
+			if (queueConsumerCalls.incrementAndGet() == 1) {
+				throw new IllegalStateException("대기열 정리 실패");
+			}
+		};
+		OutboxRelay fanOutRelay = new OutboxRelay(outboxService, fanOut, objectMapper, meterRegistry, BATCH_SIZE, 5);
+
+		// when
+		fanOutRelay.relay();
+		fanOutRelay.relay();
+
+		// then
+		verify(outboxService).fail(10L);
+		verify(outboxService).complete(List.of(10L));
+		verify(notificationService, times(2)).createNotificationOnce(
+			eq(10L), eq(1L), eq(NotificationType.PAYMENT_COMPLETE), anyString(), anyString(), isNull());
+		verify(notificationService, never())
+			.createNotification(anyLong(), any(), anyString(), anyString(), any());
+	}
+
+	private OutboxEvent row(Long id, PaymentCompletedEvent event) throws Exception {
+		OutboxEvent row = new OutboxEvent(
+			OutboxEventType.PAYMENT_COMPLETED, objectMapper.writeValueAsString(event), LocalDateTime.now());
+		ReflectionTestUtils.setField(row, "id", id);
+		return row;
+	}
+}